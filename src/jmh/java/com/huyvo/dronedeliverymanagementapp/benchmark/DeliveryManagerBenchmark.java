@@ -0,0 +1,79 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.DroneBase;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DeliveryManager;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DistanceCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single calls of {@link DeliveryManager#calculateDistance} and {@link DeliveryManager#canDeliver},
+ * cycling through a set of packages that either fits in the distance cache or does not.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeliveryManagerBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int packageCount;
+
+    private static final int CACHE_SIZE = 100_000;
+
+    private DeliveryManager deliveryManager;
+    private Drone drone;
+    private ShippingPackage[] packages;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ValidationException {
+        Random random = new Random(42);
+        Location baseLocation = newLocation(52.3738f, 9.7312f);
+        Customer sender = new Customer("Sender", "sender@gmail.com", "200-200-2000", "password", baseLocation);
+
+        List<ShippingPackage> packageList = new ArrayList<>(packageCount);
+        for (int i = 0; i < packageCount; i++) {
+            Location location = newLocation(52f + random.nextFloat(), 9f + random.nextFloat());
+            Customer recipient = new Customer("Recipient", "recipient@gmail.com", "200-200-2000", "password", location);
+            packageList.add(new ShippingPackage(1.0, "benchmark", sender, recipient));
+        }
+        packages = packageList.toArray(ShippingPackage[]::new);
+        drone = new Drone(10f, 80, 50f);
+        deliveryManager = new DeliveryManager(new DroneBase(baseLocation, "base1", 10),
+                                              List.of(drone),
+                                              packageList,
+                                              new DistanceCache(CACHE_SIZE));
+    }
+
+    @Benchmark
+    public float calculateDistance() {
+        return deliveryManager.calculateDistance(nextPackage());
+    }
+
+    @Benchmark
+    public boolean canDeliver() {
+        return deliveryManager.canDeliver(drone, nextPackage());
+    }
+
+    private ShippingPackage nextPackage() {
+        ShippingPackage shippingPackage = packages[next];
+        next = next + 1 == packages.length ? 0 : next + 1;
+        return shippingPackage;
+    }
+
+    private static Location newLocation(float latitude, float longitude) {
+        return new Location("1 Benchmark St", "", "Hannover", "NRW", "22459", "Germany", latitude, longitude);
+    }
+}
@@ -0,0 +1,66 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.DroneValidator;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-object costs of the domain classes: ID generation, drone validation and the
+ * {@link Location} value methods. Run with {@code -prof gc} (the profile default) for allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainBenchmark {
+    private final DroneValidator droneValidator = new DroneValidator();
+    private Drone drone;
+    private Location location;
+    private Location sameAddressOtherId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ValidationException {
+        drone = new Drone(10f, 80, 50f);
+        location = new Location("12 Hanna St", "Apt 3", "Hannover", "NRW", "22459", "Germany", 52.3738f, 9.7312f);
+        sameAddressOtherId = new Location("12 Hanna St", "Apt 3", "Hannover", "NRW", "22459", "Germany", 52.3738f, 9.7312f);
+    }
+
+    @Benchmark
+    public IdentificationNumber identificationNumber() {
+        return new IdentificationNumber(IdType.PACKAGE);
+    }
+
+    @Benchmark
+    public Drone validateDrone() throws ValidationException {
+        droneValidator.validate(drone);
+        return drone;
+    }
+
+    @Benchmark
+    public boolean locationEqualsSelf() {
+        return location.equals(location);
+    }
+
+    @Benchmark
+    public boolean locationEqualsOther() {
+        return location.equals(sameAddressOtherId);
+    }
+
+    @Benchmark
+    public int locationHashCode() {
+        return location.hashCode();
+    }
+
+    @Benchmark
+    public String locationFormattedAddress() {
+        return location.getFormattedAddress();
+    }
+}
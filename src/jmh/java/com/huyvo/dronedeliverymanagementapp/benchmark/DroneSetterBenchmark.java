@@ -0,0 +1,57 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a telemetry tick applied through the {@link Drone} setters: a new position, battery level
+ * and mileage, validated as each setter is called ({@code telemetryTick}) or once for the three
+ * fields together ({@code telemetryTickDeferred}), and of a single setter on its own.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DroneSetterBenchmark {
+    private Drone drone;
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ValidationException {
+        drone = new Drone(10f, 80, 50f);
+        drone.setCurrentLocation(52.4f, 9.7f);
+        drone.setStatus(DroneStatus.IN_TRANSIT);
+    }
+
+    @Benchmark
+    public Drone setBatteryLevel() throws ValidationException {
+        drone.setBatteryLevel(++tick & 63);
+        return drone;
+    }
+
+    @Benchmark
+    public Drone telemetryTick() throws ValidationException {
+        int step = ++tick & 63;
+        drone.setCurrentLocation(52.4f + step * 1e-4f, 9.7f + step * 1e-4f);
+        drone.setBatteryLevel(step);
+        drone.setMileage(50f + step);
+        return drone;
+    }
+
+    @Benchmark
+    public Drone telemetryTickDeferred() throws ValidationException {
+        int step = ++tick & 63;
+        drone.deferValidation();
+        drone.setCurrentLocation(52.4f + step * 1e-4f, 9.7f + step * 1e-4f);
+        drone.setBatteryLevel(step);
+        drone.setMileage(50f + step);
+        drone.validateChanges();
+        return drone;
+    }
+}
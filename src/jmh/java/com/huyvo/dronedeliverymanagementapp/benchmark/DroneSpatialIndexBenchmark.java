@@ -0,0 +1,118 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DeliveryManager;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DroneSpatialIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the grid index against a linear scan over every drone when looking up
+ * the k nearest IDLE drones to a random pickup point around the Hannover base.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class DroneSpatialIndexBenchmark {
+    private static final float BASE_LATITUDE = 52.3738f;
+    private static final float BASE_LONGITUDE = 9.7312f;
+    private static final float SPREAD_DEGREES = 1.0f;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    public int droneCount;
+
+    @Param({"5"})
+    public int k;
+
+    private List<Drone> drones;
+    private DroneSpatialIndex index;
+    private float[] queryLatitudes;
+    private float[] queryLongitudes;
+    private int queryCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ValidationException {
+        Random random = new Random(42);
+        drones = new ArrayList<>(droneCount);
+        for (int i = 0; i < droneCount; i++) {
+            Drone drone = new Drone(10f, 80, 30f);
+            drone.setCurrentLocation(randomLatitude(random), randomLongitude(random));
+            if (random.nextBoolean()) {
+                drone.setStatus(DroneStatus.IN_TRANSIT);
+            }
+            drones.add(drone);
+        }
+        index = new DroneSpatialIndex();
+        index.addAll(drones);
+
+        queryLatitudes = new float[QUERY_COUNT];
+        queryLongitudes = new float[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryLatitudes[i] = randomLatitude(random);
+            queryLongitudes[i] = randomLongitude(random);
+        }
+    }
+
+    @Benchmark
+    public List<Drone> spatialIndex() {
+        int query = nextQuery();
+        return index.findNearestIdle(queryLatitudes[query], queryLongitudes[query], k);
+    }
+
+    @Benchmark
+    public List<Drone> linearScan() {
+        int query = nextQuery();
+        float latitude = queryLatitudes[query];
+        float longitude = queryLongitudes[query];
+        // Bounded max-heap so the baseline is O(n log k) rather than a full sort
+        PriorityQueue<Candidate> best = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble(Candidate::distance).reversed());
+        for (Drone drone : drones) {
+            if (drone.getStatus() != DroneStatus.IDLE) {
+                continue;
+            }
+            best.add(new Candidate(drone, distanceTo(drone, latitude, longitude)));
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+        List<Drone> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            result.add(best.poll().drone());
+        }
+        return result.reversed();
+    }
+
+    private int nextQuery() {
+        queryCursor = (queryCursor + 1) & (QUERY_COUNT - 1);
+        return queryCursor;
+    }
+
+    private static double distanceTo(Drone drone, float latitude, float longitude) {
+        Location location = drone.getCurrentLocation();
+        return DeliveryManager.haversineDistance(latitude, longitude, location.getLatitude(), location.getLongitude());
+    }
+
+    private static float randomLatitude(Random random) {
+        return BASE_LATITUDE + (random.nextFloat() * 2 - 1) * SPREAD_DEGREES;
+    }
+
+    private static float randomLongitude(Random random) {
+        return BASE_LONGITUDE + (random.nextFloat() * 2 - 1) * SPREAD_DEGREES;
+    }
+
+    private record Candidate(Drone drone, double distance) {}
+}
@@ -0,0 +1,49 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.simulation.FleetSimulation;
+import com.huyvo.dronedeliverymanagementapp.simulation.SimulationConfig;
+import com.huyvo.dronedeliverymanagementapp.simulation.SimulationReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full run of a {@link FleetSimulation} scenario seeded from the generators. Scenario generation
+ * happens in the per-invocation setup; the events per second of the last run are printed on tear-down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"})
+public class FleetSimulationBenchmark {
+
+    @Param({"50", "2000"})
+    public int droneCount;
+
+    @Param({"200000"})
+    public int deliveryCount;
+
+    private FleetSimulation simulation;
+    private SimulationReport report;
+
+    @Setup(Level.Invocation)
+    public void setUp() throws ValidationException {
+        simulation = FleetSimulation.generateScenario(droneCount, deliveryCount, 10f, 50f, 0.1f,
+                                                      new Random(42), SimulationConfig.defaults());
+    }
+
+    @Benchmark
+    public SimulationReport run() {
+        report = simulation.run();
+        return report;
+    }
+
+    @TearDown(Level.Trial)
+    public void printThroughput() {
+        System.out.printf("%n%s%n", report);
+    }
+}
@@ -0,0 +1,99 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.services.FleetStateStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares fleet-wide scans over the columns of {@link FleetStateStore} against iterating the
+ * {@link Drone} entities: every drone below 20% battery, and every IDLE drone in a box around
+ * the Hannover base. The drones are shuffled before loading, as a fleet built up over time is
+ * not laid out in memory in list order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class FleetStateStoreBenchmark {
+    private static final float BASE_LATITUDE = 52.3738f;
+    private static final float BASE_LONGITUDE = 9.7312f;
+    private static final float SPREAD_DEGREES = 1.0f;
+    private static final float BOX_DEGREES = 0.25f;
+    private static final int LOW_BATTERY = 20;
+
+    @Param({"100000", "1000000"})
+    public int droneCount;
+
+    private List<Drone> drones;
+    private FleetStateStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ValidationException {
+        Random random = new Random(42);
+        drones = new ArrayList<>(droneCount);
+        for (int i = 0; i < droneCount; i++) {
+            Drone drone = new Drone(10f, random.nextInt(101), 30f);
+            drone.setCurrentLocation(BASE_LATITUDE + (random.nextFloat() * 2 - 1) * SPREAD_DEGREES,
+                                     BASE_LONGITUDE + (random.nextFloat() * 2 - 1) * SPREAD_DEGREES);
+            if (random.nextBoolean()) {
+                drone.setStatus(DroneStatus.IN_TRANSIT);
+            }
+            drones.add(drone);
+        }
+        Collections.shuffle(drones, random);
+        store = new FleetStateStore(droneCount);
+        store.loadAll(drones);
+    }
+
+    @Benchmark
+    public List<Drone> lowBatteryEntities() {
+        List<Drone> matches = new ArrayList<>();
+        for (Drone drone : drones) {
+            if (drone.getBatteryLevel() < LOW_BATTERY) {
+                matches.add(drone);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int[] lowBatteryColumns() {
+        return store.withBatteryBelow(LOW_BATTERY);
+    }
+
+    @Benchmark
+    public List<Drone> idleInBoxEntities() {
+        List<Drone> matches = new ArrayList<>();
+        for (Drone drone : drones) {
+            Location location = drone.getCurrentLocation();
+            if (drone.getStatus() == DroneStatus.IDLE
+                    && location.getLatitude() >= BASE_LATITUDE - BOX_DEGREES
+                    && location.getLatitude() <= BASE_LATITUDE + BOX_DEGREES
+                    && location.getLongitude() >= BASE_LONGITUDE - BOX_DEGREES
+                    && location.getLongitude() <= BASE_LONGITUDE + BOX_DEGREES) {
+                matches.add(drone);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int[] idleInBoxColumns() {
+        return store.withStatusInBox(DroneStatus.IDLE,
+                                     BASE_LATITUDE - BOX_DEGREES,
+                                     BASE_LONGITUDE - BOX_DEGREES,
+                                     BASE_LATITUDE + BOX_DEGREES,
+                                     BASE_LONGITUDE + BOX_DEGREES);
+    }
+}
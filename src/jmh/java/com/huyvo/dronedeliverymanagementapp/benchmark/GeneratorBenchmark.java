@@ -0,0 +1,67 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Delivery;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.generator.CustomerGenerator;
+import com.huyvo.dronedeliverymanagementapp.generator.DeliveryGenerator;
+import com.huyvo.dronedeliverymanagementapp.generator.PackageGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each stage of the generator pipeline on its own, fed with the output of the previous stage,
+ * and the whole pipeline end to end. Sizes stay below the ~1400 distinct names
+ * {@code RandomNameGenerator} can produce.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+    private static final float MAX_WEIGHT = 22.7f;
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private Random random;
+    private List<Customer> senders;
+    private List<Customer> recipients;
+    private List<ShippingPackage> packages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new Random(42);
+        senders = new CustomerGenerator(size, random).getCustomerList();
+        recipients = new CustomerGenerator(size, random).getCustomerList();
+        packages = new PackageGenerator(size, MAX_WEIGHT, senders, recipients, random).getPackageList();
+    }
+
+    @Benchmark
+    public List<Customer> customers() {
+        return new CustomerGenerator(size, random).getCustomerList();
+    }
+
+    @Benchmark
+    public List<ShippingPackage> packages() {
+        return new PackageGenerator(size, MAX_WEIGHT, senders, recipients, random).getPackageList();
+    }
+
+    @Benchmark
+    public List<Delivery> deliveries() {
+        return new DeliveryGenerator(packages, random).getDeliveryList();
+    }
+
+    @Benchmark
+    public List<Delivery> pipeline() {
+        List<Customer> pipelineSenders = new CustomerGenerator(size, random).getCustomerList();
+        List<Customer> pipelineRecipients = new CustomerGenerator(size, random).getCustomerList();
+        List<ShippingPackage> pipelinePackages = new PackageGenerator(size, MAX_WEIGHT, pipelineSenders, pipelineRecipients, random).getPackageList();
+        return new DeliveryGenerator(pipelinePackages, random).getDeliveryList();
+    }
+}
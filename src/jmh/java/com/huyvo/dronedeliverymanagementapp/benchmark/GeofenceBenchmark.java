@@ -0,0 +1,104 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.geofence.AirspaceRoute;
+import com.huyvo.dronedeliverymanagementapp.geofence.Geofence;
+import com.huyvo.dronedeliverymanagementapp.geofence.GeofenceIndex;
+import com.huyvo.dronedeliverymanagementapp.geofence.NoFlyZone;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checking delivery flights of 1 to 10 km against {@code zoneCount} random polygons spread over
+ * Germany: the first zone crossed through the STR-packed {@link GeofenceIndex} against a scan of
+ * every zone, a full {@link Geofence#route} including detours, and bulk loading the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class GeofenceBenchmark {
+    private static final int FLIGHTS = 4096;
+
+    @Param({"10000", "100000"})
+    public int zoneCount;
+
+    private List<NoFlyZone> zones;
+    private NoFlyZone[] zoneArray;
+    private GeofenceIndex index;
+    private Geofence geofence;
+    private double[] flights;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        zones = new ArrayList<>(zoneCount);
+        for (int i = 0; i < zoneCount; i++) {
+            double centerLatitude = random.nextDouble(47, 55);
+            double centerLongitude = random.nextDouble(6, 15);
+            int vertices = 4 + random.nextInt(9);
+            double[] latitudes = new double[vertices];
+            double[] longitudes = new double[vertices];
+            for (int v = 0; v < vertices; v++) {
+                double angle = 2 * Math.PI * v / vertices;
+                double radius = random.nextDouble(0.001, 0.01);
+                latitudes[v] = centerLatitude + radius * Math.sin(angle);
+                longitudes[v] = centerLongitude + radius * Math.cos(angle);
+            }
+            zones.add(new NoFlyZone("zone-" + i, latitudes, longitudes));
+        }
+        zoneArray = zones.toArray(new NoFlyZone[0]);
+        index = GeofenceIndex.build(zones);
+        geofence = new Geofence();
+        geofence.setIndex(index);
+
+        flights = new double[4 * FLIGHTS];
+        for (int i = 0; i < FLIGHTS; i++) {
+            double latitude = random.nextDouble(47.5, 54.5);
+            double longitude = random.nextDouble(6.5, 14.5);
+            double bearing = random.nextDouble(2 * Math.PI);
+            double length = random.nextDouble(0.01, 0.1);
+            flights[4 * i] = latitude;
+            flights[4 * i + 1] = longitude;
+            flights[4 * i + 2] = latitude + length * Math.sin(bearing);
+            flights[4 * i + 3] = longitude + length * Math.cos(bearing);
+        }
+    }
+
+    @Benchmark
+    public NoFlyZone firstCrossingIndexed() {
+        int flight = 4 * (next++ & (FLIGHTS - 1));
+        return index.firstCrossing(flights[flight], flights[flight + 1], flights[flight + 2], flights[flight + 3]);
+    }
+
+    @Benchmark
+    public NoFlyZone firstCrossingScan() {
+        int flight = 4 * (next++ & (FLIGHTS - 1));
+        for (NoFlyZone zone : zoneArray) {
+            if (zone.crosses(flights[flight], flights[flight + 1], flights[flight + 2], flights[flight + 3])) {
+                return zone;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public AirspaceRoute route() {
+        int flight = 4 * (next++ & (FLIGHTS - 1));
+        return geofence.route(flights[flight], flights[flight + 1], flights[flight + 2], flights[flight + 3]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public GeofenceIndex build() {
+        return GeofenceIndex.build(zones);
+    }
+}
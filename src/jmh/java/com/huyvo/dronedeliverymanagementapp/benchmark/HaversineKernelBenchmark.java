@@ -0,0 +1,88 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.DroneBase;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.services.CoordinateArrays;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DeliveryManager;
+import com.huyvo.dronedeliverymanagementapp.classes.services.HaversineKernel;
+import com.huyvo.dronedeliverymanagementapp.classes.services.ScalarHaversineKernel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base-to-customer distances for a batch of packages: {@link DeliveryManager#calculateDistance}
+ * called once per package, against the scalar and Vector API batch kernels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class HaversineKernelBenchmark {
+
+    @Param({"1000", "100000"})
+    public int packageCount;
+
+    private DeliveryManager deliveryManager;
+    private List<ShippingPackage> packages;
+    private CoordinateArrays base;
+    private CoordinateArrays destinations;
+    private HaversineKernel scalarKernel;
+    private HaversineKernel vectorKernel;
+    private double[] distances;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Location baseLocation = newLocation(52.3738f, 9.7312f);
+        Customer sender = new Customer("Sender", "sender@gmail.com", "200-200-2000", "password", baseLocation);
+
+        packages = new ArrayList<>(packageCount);
+        List<Location> deliveryLocations = new ArrayList<>(packageCount);
+        for (int i = 0; i < packageCount; i++) {
+            Location location = newLocation(random.nextFloat() * 180f - 90f, random.nextFloat() * 360f - 180f);
+            Customer recipient = new Customer("Recipient", "recipient@gmail.com", "200-200-2000", "password", location);
+            packages.add(new ShippingPackage(1.0, "benchmark", sender, recipient));
+            deliveryLocations.add(location);
+        }
+
+        deliveryManager = new DeliveryManager(new DroneBase(baseLocation, "base1", 10), List.of(), packages);
+        base = CoordinateArrays.of(List.of(baseLocation));
+        destinations = CoordinateArrays.of(deliveryLocations);
+        scalarKernel = new ScalarHaversineKernel();
+        vectorKernel = HaversineKernel.create();
+        distances = new double[packageCount];
+    }
+
+    @Benchmark
+    public double[] calculateDistance() {
+        for (int i = 0; i < packageCount; i++) {
+            distances[i] = deliveryManager.calculateDistance(packages.get(i));
+        }
+        return distances;
+    }
+
+    @Benchmark
+    public double[] scalarKernel() {
+        scalarKernel.oneToMany(base, 0, destinations, distances);
+        return distances;
+    }
+
+    @Benchmark
+    public double[] vectorKernel() {
+        vectorKernel.oneToMany(base, 0, destinations, distances);
+        return distances;
+    }
+
+    private static Location newLocation(float latitude, float longitude) {
+        return new Location("TEST_ADDRESS_LINE1", "TEST_ADDRESS_LINE2", "TEST_CITY",
+                            "TEST_STATE", "TEST_ZIPCODE", "TEST_COUNTRY", latitude, longitude);
+    }
+}
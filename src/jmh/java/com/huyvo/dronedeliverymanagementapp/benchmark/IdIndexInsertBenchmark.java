@@ -0,0 +1,96 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primary key insert rate into Postgres for the original random string IDs, rendered time-ordered
+ * IDs and the compact numeric form. Each operation inserts one batch into a table that keeps
+ * growing over the trial, so B-tree page splits from random keys show up as the index gets large.
+ * <p>
+ * Needs the database from docker-compose.yml; override the connection with
+ * {@code -Djdbc.url}, {@code -Djdbc.user} and {@code -Djdbc.password} in the fork's JVM arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdIndexInsertBenchmark {
+    private static final int BATCH_SIZE = 1_000;
+
+    private Connection connection;
+    private PreparedStatement insertText;
+    private PreparedStatement insertNumeric;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(System.getProperty("jdbc.url", "jdbc:postgresql://localhost:5332/huy12"),
+                                                 System.getProperty("jdbc.user", "huy12"),
+                                                 System.getProperty("jdbc.password", "Huyclo05@"));
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS id_bench_text");
+            statement.execute("DROP TABLE IF EXISTS id_bench_numeric");
+            statement.execute("CREATE TABLE id_bench_text (id varchar(32) PRIMARY KEY)");
+            statement.execute("CREATE TABLE id_bench_numeric (id bigint PRIMARY KEY)");
+        }
+        connection.commit();
+        insertText = connection.prepareStatement("INSERT INTO id_bench_text (id) VALUES (?)");
+        insertNumeric = connection.prepareStatement("INSERT INTO id_bench_numeric (id) VALUES (?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS id_bench_text");
+            statement.execute("DROP TABLE IF EXISTS id_bench_numeric");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void legacyRandomText() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insertText.setString(1, IdStrategyBenchmark.legacyId(IdType.PACKAGE));
+            insertText.addBatch();
+        }
+        flush(insertText);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void timeOrderedText() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insertText.setString(1, new IdentificationNumber(IdType.PACKAGE).getId());
+            insertText.addBatch();
+        }
+        flush(insertText);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void timeOrderedNumeric() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insertNumeric.setLong(1, new IdentificationNumber(IdType.PACKAGE).getValue());
+            insertNumeric.addBatch();
+        }
+        flush(insertNumeric);
+    }
+
+    private void flush(PreparedStatement statement) throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+    }
+}
@@ -0,0 +1,72 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdStrategy;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.RandomIdStrategy;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.TimeOrderedIdStrategy;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID generation throughput: the original scheme (8 characters, one shared {@link SecureRandom}
+ * call per character), the random strategy and the time-ordered strategy, on one and on four threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdStrategyBenchmark {
+    private static final String ALPHANUMERIC_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final SecureRandom legacyRandom = new SecureRandom();
+
+    private final IdStrategy random = new RandomIdStrategy();
+    private final IdStrategy timeOrdered = new TimeOrderedIdStrategy(0);
+
+    @Benchmark
+    public String legacyString() {
+        return legacyId(IdType.PACKAGE);
+    }
+
+    @Benchmark
+    public long randomStrategy() {
+        return random.nextPayload();
+    }
+
+    @Benchmark
+    public long timeOrderedStrategy() {
+        return timeOrdered.nextPayload();
+    }
+
+    @Benchmark
+    public IdentificationNumber timeOrderedIdentificationNumber() {
+        return new IdentificationNumber(IdType.PACKAGE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String legacyStringFourThreads() {
+        return legacyId(IdType.PACKAGE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long timeOrderedStrategyFourThreads() {
+        return timeOrdered.nextPayload();
+    }
+
+    /**
+     * The ID scheme IdentificationNumber used before pluggable strategies.
+     */
+    static String legacyId(IdType type) {
+        StringBuilder sb = new StringBuilder(8);
+        for (int i = 0; i < 8; i++) {
+            sb.append(ALPHANUMERIC_CHARS.charAt(legacyRandom.nextInt(ALPHANUMERIC_CHARS.length())));
+        }
+        return type.getPrefix() + sb;
+    }
+}
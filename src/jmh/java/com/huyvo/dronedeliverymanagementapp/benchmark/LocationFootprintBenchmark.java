@@ -0,0 +1,129 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.FixedPointCoordinates;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retained heap of {@code count} customer addresses as they are held after loading from the database:
+ * <ul>
+ *     <li>{@code UNPOOLED}: every row has its own copy of each address string, which is what Hibernate
+ *     hydrates before {@code @PostLoad} runs</li>
+ *     <li>{@code POOLED}: the same rows after {@link Location} pools the city, state, ZIP code and country</li>
+ *     <li>{@code PACKED}: coordinates only, as microdegrees packed into a {@code long[]} by
+ *     {@link FixedPointCoordinates}, for code that needs positions but not addresses</li>
+ * </ul>
+ * The bytes per location of the last invocation are printed on tear-down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class LocationFootprintBenchmark {
+    private static final String[] CITIES = {"Hannover", "Hamburg", "Berlin", "Bremen", "Kassel", "Celle", "Hildesheim", "Goslar"};
+    private static final String[] STATES = {"NDS", "HH", "BE", "HB", "HE"};
+    private static final String[] COUNTRIES = {"Germany"};
+    private static final VarHandle CITY;
+    private static final VarHandle STATE;
+    private static final VarHandle ZIPCODE;
+    private static final VarHandle COUNTRY;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(Location.class, MethodHandles.lookup());
+            CITY = lookup.findVarHandle(Location.class, "city", String.class);
+            STATE = lookup.findVarHandle(Location.class, "state", String.class);
+            ZIPCODE = lookup.findVarHandle(Location.class, "zipcode", String.class);
+            COUNTRY = lookup.findVarHandle(Location.class, "country", String.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public enum Layout { UNPOOLED, POOLED, PACKED }
+
+    @Param({"10000000"})
+    public int count;
+
+    @Param({"UNPOOLED", "POOLED", "PACKED"})
+    public Layout layout;
+
+    private Object retained;
+    private long baselineBytes;
+    private long retainedBytes;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        retained = null;
+        baselineBytes = usedHeapAfterGc();
+    }
+
+    @Benchmark
+    public Object build() {
+        SplittableRandom random = new SplittableRandom(42);
+        if (layout == Layout.PACKED) {
+            long[] coordinates = new long[count];
+            for (int i = 0; i < count; i++) {
+                coordinates[i] = FixedPointCoordinates.pack(latitude(random), longitude(random));
+            }
+            retained = coordinates;
+            return retained;
+        }
+
+        Location[] locations = new Location[count];
+        for (int i = 0; i < count; i++) {
+            Location location = new Location(i + " Hanna St", "Apt " + (i % 100), null, null, null, null,
+                                             (float) latitude(random), (float) longitude(random));
+            // Fresh strings per row, as the JDBC driver returns them
+            CITY.set(location, new String(CITIES[i % CITIES.length]));
+            STATE.set(location, new String(STATES[i % STATES.length]));
+            ZIPCODE.set(location, String.valueOf(30000 + i % 1000));
+            COUNTRY.set(location, new String(COUNTRIES[0]));
+            if (layout == Layout.POOLED) {
+                location.setCity(location.getCity());
+                location.setState(location.getState());
+                location.setZipcode(location.getZipcode());
+                location.setCountry(location.getCountry());
+            }
+            locations[i] = location;
+        }
+        retained = locations;
+        return retained;
+    }
+
+    @TearDown(Level.Invocation)
+    public void measure() {
+        retainedBytes = usedHeapAfterGc() - baselineBytes;
+        retained = null;
+    }
+
+    @TearDown(Level.Trial)
+    public void printFootprint() {
+        System.out.printf("%n%s: %.1f bytes per location, %d MB for %d locations%n",
+                          layout, (double) retainedBytes / count, retainedBytes >> 20, count);
+    }
+
+    // Private Methods
+    private static double latitude(SplittableRandom random) {
+        return random.nextDouble(-90, 90);
+    }
+
+    private static double longitude(SplittableRandom random) {
+        return random.nextDouble(-180, 180);
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,81 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.services.FleetStateStore;
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryFrame;
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryFrameListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frames per second taken by {@link TelemetryFrameListener}, and the heap it allocates per frame
+ * (gc.alloc.rate.norm; the GC profiler counts every thread, so the listener thread is included).
+ * <ul>
+ *     <li>{@code apply}: decoding and applying a batch already in a direct buffer, without the network.</li>
+ *     <li>{@code tcpLoopback}: sending a batch over a loopback TCP connection and waiting until the
+ *     listener has applied it.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class TelemetryFrameBenchmark {
+    private static final int FRAMES = TelemetryFrameLoadGenerator.FRAMES_PER_BATCH;
+
+    @Param({"10000", "1000000"})
+    public int droneCount;
+
+    private TelemetryFrameListener listener;
+    private TelemetryFrameLoadGenerator generator;
+    private ByteBuffer batch;
+    private SocketChannel connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, ValidationException {
+        FleetStateStore store = new FleetStateStore(droneCount);
+        long[] droneIds = new long[droneCount];
+        for (int i = 0; i < droneCount; i++) {
+            Drone drone = new Drone(10f, 100, 30f);
+            store.load(drone);
+            droneIds[i] = IdentificationNumber.parse(drone.getDroneId()).getValue();
+        }
+        listener = new TelemetryFrameListener(store, 0, 4);
+        generator = new TelemetryFrameLoadGenerator(droneIds, 42);
+        batch = ByteBuffer.allocateDirect(FRAMES * TelemetryFrame.SIZE);
+        batch.put(generator.nextBatch());
+        connection = SocketChannel.open(new InetSocketAddress("localhost", listener.getPort()));
+        connection.socket().setTcpNoDelay(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        connection.close();
+        listener.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public int apply() {
+        return listener.apply(batch, 0, batch.limit());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public long tcpLoopback() throws IOException {
+        long target = listener.getAppliedFrames() + generator.send(connection);
+        while (listener.getAppliedFrames() < target) {
+            Thread.yield();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,134 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryFrame;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends binary telemetry frames to a {@link com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryFrameListener}
+ * as fast as it takes them, for load testing by hand:
+ * <pre>
+ * java -cp ... TelemetryFrameLoadGenerator &lt;host&gt; &lt;port&gt; tcp|udp &lt;seconds&gt; [drone ID file]
+ * </pre>
+ * The drone ID file lists rendered drone IDs, one per line; frames of other drones are counted as
+ * unknown by the listener. Without it, 10000 new drone IDs are made up. Frames are written in batches
+ * of {@value #FRAMES_PER_BATCH}, one datagram per batch over UDP.
+ */
+public class TelemetryFrameLoadGenerator {
+    public static final int FRAMES_PER_BATCH = 64;
+
+    private final long[] droneIds;
+    private final SplittableRandom random;
+    private final ByteBuffer batch = ByteBuffer.allocateDirect(FRAMES_PER_BATCH * TelemetryFrame.SIZE);
+
+    public TelemetryFrameLoadGenerator(long[] droneIds, long seed) {
+        if (droneIds.length == 0) {
+            throw new IllegalArgumentException("droneIds must not be empty.");
+        }
+        this.droneIds = droneIds;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.err.println("Usage: TelemetryFrameLoadGenerator <host> <port> tcp|udp <seconds> [drone ID file]");
+            System.exit(2);
+        }
+        InetSocketAddress target = new InetSocketAddress(args[0], Integer.parseInt(args[1]));
+        boolean tcp = args[2].equalsIgnoreCase("tcp");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(Long.parseLong(args[3]));
+        TelemetryFrameLoadGenerator generator = new TelemetryFrameLoadGenerator(
+                args.length > 4 ? readDroneIds(Path.of(args[4])) : newDroneIds(10_000), System.nanoTime());
+
+        long start = System.nanoTime();
+        long frames = 0;
+        if (tcp) {
+            try (SocketChannel channel = SocketChannel.open(target)) {
+                while (System.nanoTime() < deadline) {
+                    frames += generator.send(channel);
+                }
+            }
+        } else {
+            try (DatagramChannel channel = DatagramChannel.open().connect(target)) {
+                while (System.nanoTime() < deadline) {
+                    frames += generator.send(channel);
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d frames in %.1f s, %.0f frames/s%n", frames, seconds, frames / seconds);
+    }
+
+    /**
+     * @return the numeric values of {@code count} new drone IDs
+     */
+    public static long[] newDroneIds(int count) {
+        long[] droneIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            droneIds[i] = new IdentificationNumber(IdType.DRONE).getValue();
+        }
+        return droneIds;
+    }
+
+    /**
+     * Fills the batch buffer with {@value #FRAMES_PER_BATCH} frames of random drones and returns it,
+     * flipped for writing.
+     */
+    public ByteBuffer nextBatch() {
+        ByteBuffer batch = this.batch.clear();
+        for (int i = 0; i < FRAMES_PER_BATCH; i++) {
+            TelemetryFrame.encode(batch,
+                                  this.droneIds[this.random.nextInt(this.droneIds.length)],
+                                  this.random.nextDouble(52, 53),
+                                  this.random.nextDouble(9, 10),
+                                  this.random.nextInt(101),
+                                  DroneStatus.IN_TRANSIT);
+        }
+        return batch.flip();
+    }
+
+    /**
+     * Writes one batch to a connection.
+     *
+     * @return the frames written
+     */
+    public int send(SocketChannel channel) throws IOException {
+        ByteBuffer batch = nextBatch();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        return FRAMES_PER_BATCH;
+    }
+
+    /**
+     * Sends one batch as a datagram to the address the channel is connected to.
+     *
+     * @return the frames sent
+     */
+    public int send(DatagramChannel channel) throws IOException {
+        channel.write(nextBatch());
+        return FRAMES_PER_BATCH;
+    }
+
+    // Private Methods
+    private static long[] readDroneIds(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        return lines.stream()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty())
+                .mapToLong(line -> IdentificationNumber.parse(line).getValue())
+                .toArray();
+    }
+}
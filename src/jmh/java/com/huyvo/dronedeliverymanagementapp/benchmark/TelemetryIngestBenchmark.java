@@ -0,0 +1,64 @@
+package com.huyvo.dronedeliverymanagementapp.benchmark;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryIngestReport;
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Telemetry reports taken per second by {@link TelemetryService#ingest}: parsing a batch of
+ * {@value #BATCH_SIZE} NDJSON reports from random drones of a fleet, validating them and coalescing
+ * them into the buffer. The database is not involved; the buffer is emptied after every batch as the
+ * flush thread would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class TelemetryIngestBenchmark {
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"10000", "100000"})
+    public int droneCount;
+
+    private byte[] batch;
+    private TelemetryService telemetryService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] droneIds = new String[droneCount];
+        for (int i = 0; i < droneCount; i++) {
+            droneIds[i] = new IdentificationNumber(IdType.DRONE).getId();
+        }
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            body.append(String.format(Locale.ROOT, "{\"droneId\":\"%s\",\"latitude\":%.6f,\"longitude\":%.6f,\"batteryLevel\":%d}%n",
+                                      droneIds[random.nextInt(droneCount)],
+                                      random.nextDouble(52, 53),
+                                      random.nextDouble(9, 10),
+                                      random.nextInt(101)));
+        }
+        batch = body.toString().getBytes(StandardCharsets.UTF_8);
+        // Never flushes on its own, so no database is needed
+        telemetryService = new TelemetryService(null, null, droneCount, TimeUnit.DAYS.toMillis(1));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public TelemetryIngestReport ingest() throws IOException {
+        TelemetryIngestReport report = telemetryService.ingest(new ByteArrayInputStream(batch));
+        telemetryService.getBuffer().swap();
+        return report;
+    }
+}
@@ -0,0 +1,19 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Turns request arguments the controllers reject, such as a malformed cursor or CSV header,
+ * into 400 responses carrying the reason. Only {@link BadRequestException} is answered this way;
+ * any other exception is a server error, and its message stays out of the response.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<String> handleBadRequest(BadRequestException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
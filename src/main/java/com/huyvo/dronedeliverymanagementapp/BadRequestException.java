@@ -0,0 +1,13 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+/**
+ * A request argument the client got wrong, such as a malformed cursor or CSV header. The
+ * {@link ApiExceptionHandler} answers it with 400 and the message, so the message must be fit for
+ * the client to read.
+ */
+public class BadRequestException extends IllegalArgumentException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,184 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Delivery;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.generator.DeliveryGenerator;
+import jakarta.persistence.EntityManager;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Loads large generated datasets through Hibernate JDBC batching.
+ * <p>
+ * A virtual thread pulls deliveries from the lazy {@link DeliveryGenerator#stream} one chunk ahead
+ * while the calling thread writes the previous chunk, so generation and database round trips
+ * overlap and no more than two chunks are ever in memory. Every chunk is persisted in its own
+ * transaction and the persistence context is flushed and cleared after it, which keeps heap use
+ * flat however large the dataset is. Entities are persisted, not merged, so Hibernate never
+ * selects before inserting the assigned IDs; with {@code hibernate.jdbc.batch_size},
+ * {@code hibernate.order_inserts} and the driver's {@code reWriteBatchedInserts} a chunk costs a
+ * handful of multi-row INSERTs per table.
+ * <p>
+ * If generation fails, the failure is handed over beside the queue rather than through it, so it
+ * is seen however full the queue is, and the writer also stops if the generator thread dies
+ * without a word.
+ */
+@Component
+public class BulkDataSeeder {
+    private static final Logger log = LoggerFactory.getLogger(BulkDataSeeder.class);
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    // Two addresses, two customers, the package and the delivery
+    private static final int ROWS_PER_DELIVERY = 6;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkDataSeeder(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Generates and stores {@code deliveryCount} deliveries, each with its own package, sender,
+     * recipient and two addresses.
+     *
+     * @param deliveryCount the number of deliveries to load
+     * @param chunkSize the number of deliveries committed together
+     * @param maxWeight the maximum package weight
+     * @param random the source of the generation seed
+     * @return the number of rows inserted over all tables
+     * @throws IllegalArgumentException if a count is not positive
+     */
+    public long seed(int deliveryCount, int chunkSize, float maxWeight, @NotNull Random random) throws InterruptedException {
+        if (deliveryCount <= 0 || chunkSize <= 0) {
+            throw new IllegalArgumentException("Delivery count and chunk size must be positive");
+        }
+
+        long seed = random.nextLong();
+        return seed(deliveryCount, chunkSize, () -> DeliveryGenerator.stream(deliveryCount, maxWeight, seed));
+    }
+
+    /**
+     * Stores the deliveries of a stream, see {@link #seed(int, int, float, Random)}.
+     *
+     * @param source opens the stream of {@code deliveryCount} deliveries, on the generator thread
+     */
+    long seed(int deliveryCount, int chunkSize, @NotNull Supplier<Stream<Delivery>> source) throws InterruptedException {
+        BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread generator = Thread.ofVirtual().name("bulk-seed-generator").start(() -> {
+            try (Stream<Delivery> stream = source.get()) {
+                Iterator<Delivery> generated = stream.iterator();
+                while (generated.hasNext()) {
+                    List<Delivery> deliveries = new ArrayList<>(chunkSize);
+                    while (deliveries.size() < chunkSize && generated.hasNext()) {
+                        deliveries.add(generated.next());
+                    }
+                    chunks.put(new Chunk(deliveries));
+                }
+                chunks.put(Chunk.END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+
+        long started = System.nanoTime();
+        long lastReport = started;
+        long rows = 0;
+        int deliveries = 0;
+        try {
+            while (true) {
+                throwIfFailed(failure.get());
+                Chunk chunk = chunks.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (chunk == null) {
+                    if (!generator.isAlive() && chunks.isEmpty()) {
+                        throwIfFailed(failure.get());
+                        throw new IllegalStateException("Delivery generator stopped before the end of the data.");
+                    }
+                    continue;
+                }
+                if (chunk == Chunk.END) {
+                    break;
+                }
+                this.transactionTemplate.executeWithoutResult(status -> persist(chunk));
+                rows += chunk.rowCount();
+                deliveries += chunk.deliveries.size();
+
+                long now = System.nanoTime();
+                if (now - lastReport >= REPORT_INTERVAL_NANOS) {
+                    lastReport = now;
+                    logProgress(deliveries, deliveryCount, rows, now - started);
+                }
+            }
+        } finally {
+            generator.interrupt();
+        }
+        logProgress(deliveries, deliveryCount, rows, System.nanoTime() - started);
+        return rows;
+    }
+
+    // Private Methods
+    private static void throwIfFailed(Throwable failure) {
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Delivery generation failed.", failure);
+        }
+    }
+
+    private void persist(Chunk chunk) {
+        for (Delivery delivery : chunk.deliveries) {
+            ShippingPackage shippingPackage = delivery.getPackages();
+            this.entityManager.persist(shippingPackage.getPickupLocation());
+            this.entityManager.persist(shippingPackage.getDeliveryLocation());
+            this.entityManager.persist(shippingPackage.getSender());
+            this.entityManager.persist(shippingPackage.getRecipient());
+            this.entityManager.persist(shippingPackage);
+            this.entityManager.persist(delivery);
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    private static void logProgress(int deliveries, int deliveryCount, long rows, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        log.info("Seeded {}/{} deliveries, {} rows in {}s ({} rows/s, {} deliveries/s)",
+                 deliveries,
+                 deliveryCount,
+                 rows,
+                 String.format("%.1f", seconds),
+                 Math.round(rows / seconds),
+                 Math.round(deliveries / seconds));
+    }
+
+    private record Chunk(List<Delivery> deliveries) {
+
+        private static final Chunk END = new Chunk(List.of());
+
+        private long rowCount() {
+            return (long) ROWS_PER_DELIVERY * deliveries.size();
+        }
+    }
+}
@@ -1,57 +1,72 @@
 package com.huyvo.dronedeliverymanagementapp;
 
-import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
 import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
-import com.huyvo.dronedeliverymanagementapp.classes.domains.Delivery;
-import com.huyvo.dronedeliverymanagementapp.generator.PackageGenerator;
-import com.huyvo.dronedeliverymanagementapp.generator.CustomerGenerator;
-import com.huyvo.dronedeliverymanagementapp.generator.DeliveryGenerator;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.UserStatus;
+import com.huyvo.dronedeliverymanagementapp.paging.Keyset;
+import com.huyvo.dronedeliverymanagementapp.paging.KeysetPage;
+import com.huyvo.dronedeliverymanagementapp.readmodel.PackageSummary;
+import com.huyvo.dronedeliverymanagementapp.repository.CustomerRepository;
+import com.huyvo.dronedeliverymanagementapp.repository.ShippingPackageRepository;
 
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
-import java.util.List;
-import java.util.Random;
 
+/**
+ * Lists customers and their packages page by page. Every endpoint takes {@code after}, the
+ * {@code nextCursor} of the previous page, and {@code limit}; see {@link Keyset}.
+ */
 @RestController
 @RequestMapping("/api/v1/customers")
+@Transactional(readOnly = true)
 public class CustomerController {
-    Random random = new Random();
-    int NUM_CUSTOMERS = 1;
+    private final CustomerRepository customerRepository;
+    private final ShippingPackageRepository shippingPackageRepository;
 
-    CustomerGenerator senderGenerator = new CustomerGenerator(NUM_CUSTOMERS, random);
-    CustomerGenerator recipientGenerator = new CustomerGenerator(NUM_CUSTOMERS, random);
-    List<Customer> senderList = senderGenerator.getCustomerList();
-    List<Customer> recipientList = recipientGenerator.getCustomerList();
+    public CustomerController(CustomerRepository customerRepository,
+                              ShippingPackageRepository shippingPackageRepository) {
 
-    PackageGenerator packageGenerator = new PackageGenerator(NUM_CUSTOMERS,
-                                                            22.7f,
-                                                            senderList,
-                                                            recipientList,
-                                                            random);
-    List<ShippingPackage> packageList = packageGenerator.getPackageList();
+        this.customerRepository = customerRepository;
+        this.shippingPackageRepository = shippingPackageRepository;
+    }
+
+    @GetMapping
+    public KeysetPage<Customer> getCustomers(@RequestParam(required = false) String after,
+                                             @RequestParam(required = false) Integer limit,
+                                             @RequestParam(required = false) UserStatus status) {
 
-    DeliveryGenerator deliveryGenerator = new DeliveryGenerator(packageList, random);
-    List<Delivery> deliveryList = deliveryGenerator.getDeliveryList();
+        return Keyset.page(customerRepository, "id", IdType.CUSTOMER, after, limit, Customer::getUserId,
+                           CustomerRepository.hasStatus(status));
+    }
 
     @GetMapping("/senders")
-    public List<Customer> getAllSender() {
-        return senderList;
+    public KeysetPage<Customer> getAllSender(@RequestParam(required = false) String after,
+                                             @RequestParam(required = false) Integer limit,
+                                             @RequestParam(required = false) UserStatus status) {
+
+        return Keyset.page(customerRepository, "id", IdType.CUSTOMER, after, limit, Customer::getUserId,
+                           CustomerRepository.hasStatus(status),
+                           CustomerRepository.hasPackagesAs("sender"));
     }
 
     @GetMapping("/recipients")
-    public List<Customer> getAllRecipient() {
-        return recipientList;
+    public KeysetPage<Customer> getAllRecipient(@RequestParam(required = false) String after,
+                                                @RequestParam(required = false) Integer limit,
+                                                @RequestParam(required = false) UserStatus status) {
+
+        return Keyset.page(customerRepository, "id", IdType.CUSTOMER, after, limit, Customer::getUserId,
+                           CustomerRepository.hasStatus(status),
+                           CustomerRepository.hasPackagesAs("recipient"));
     }
 
     @GetMapping("/packages")
-    public List<ShippingPackage> getAllPackage() {
-        return packageList;
-    }
+    public KeysetPage<PackageSummary> getAllPackage(@RequestParam(required = false) String after,
+                                                    @RequestParam(required = false) Integer limit) {
 
-    @GetMapping("/deliveries")
-    public List<Delivery> getAllDelivery() {
-        return deliveryList;
+        return Keyset.page(IdType.PACKAGE, after, limit, PackageSummary::packageId,
+                           shippingPackageRepository::findSummaries);
     }
 }
-
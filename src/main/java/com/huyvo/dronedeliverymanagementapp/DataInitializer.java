@@ -11,6 +11,7 @@ import com.huyvo.dronedeliverymanagementapp.repository.*;
 
 import java.util.List;
 import java.util.Random;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 import org.jetbrains.annotations.NotNull;
@@ -22,23 +23,45 @@ public class DataInitializer implements CommandLineRunner{
     private final ShippingPackageRepository shippingPackageRepository;
     private final DeliveryRepository deliveryRepository;
     private final DroneRepository droneRepository;
+    private final BulkDataSeeder bulkDataSeeder;
+    private final String seedMode;
+    private final int seedDeliveries;
+    private final int seedChunkSize;
 
     public DataInitializer(LocationRepository locationRepository,
                            CustomerRepository customerRepository,
                            ShippingPackageRepository shippingPackageRepository,
                            DeliveryRepository deliveryRepository,
-                           DroneRepository droneRepository) {
+                           DroneRepository droneRepository,
+                           BulkDataSeeder bulkDataSeeder,
+                           @Value("${app.seed.mode:sample}") String seedMode,
+                           @Value("${app.seed.deliveries:1000000}") int seedDeliveries,
+                           @Value("${app.seed.chunk-size:1000}") int seedChunkSize) {
 
         this.locationRepository = locationRepository;
         this.customerRepository = customerRepository;
         this.shippingPackageRepository = shippingPackageRepository;
         this.deliveryRepository = deliveryRepository;
         this.droneRepository = droneRepository;
+        this.bulkDataSeeder = bulkDataSeeder;
+        this.seedMode = seedMode;
+        this.seedDeliveries = seedDeliveries;
+        this.seedChunkSize = seedChunkSize;
     }
 
+    /**
+     * Seeds the database according to {@code app.seed.mode}: {@code sample} stores a small example
+     * environment, {@code bulk} loads {@code app.seed.deliveries} deliveries through the
+     * {@link BulkDataSeeder} in chunks of {@code app.seed.chunk-size}, and {@code none} stores nothing.
+     */
     @Override
     public void run(String... args) throws Exception {
-        setUpEnvironment(2, 10, 22.7f, 1000000f);
+        switch (seedMode) {
+            case "sample" -> setUpEnvironment(2, 10, 22.7f, 1000000f);
+            case "bulk" -> bulkDataSeeder.seed(seedDeliveries, seedChunkSize, 22.7f, new Random());
+            case "none" -> { }
+            default -> throw new IllegalArgumentException("Unknown app.seed.mode: " + seedMode);
+        }
     }
 
     public void setUpEnvironment(int customerCount,
@@ -59,7 +82,7 @@ public class DataInitializer implements CommandLineRunner{
         locationRepository.saveAll(recipientLocationList);
 
         List<Customer> senderList = senderGenerator.getCustomerList();
-        List<Customer> recipientList = senderGenerator.getCustomerList();
+        List<Customer> recipientList = recipientGenerator.getCustomerList();
         customerRepository.saveAll(senderList);
         customerRepository.saveAll(recipientList);
 
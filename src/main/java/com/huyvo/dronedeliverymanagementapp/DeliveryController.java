@@ -0,0 +1,43 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DeliveryStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import com.huyvo.dronedeliverymanagementapp.paging.Keyset;
+import com.huyvo.dronedeliverymanagementapp.paging.KeysetPage;
+import com.huyvo.dronedeliverymanagementapp.readmodel.DeliverySummary;
+import com.huyvo.dronedeliverymanagementapp.repository.DeliveryRepository;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RequestMapping;
+import java.time.LocalDateTime;
+
+/**
+ * Lists deliveries page by page, optionally filtered by status and by a start time range
+ * ({@code from} inclusive, {@code to} exclusive, ISO date-times). See {@link Keyset} for paging.
+ * Each page is read as flat {@link DeliverySummary} rows in one statement.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@Transactional(readOnly = true)
+public class DeliveryController {
+    private final DeliveryRepository deliveryRepository;
+
+    public DeliveryController(DeliveryRepository deliveryRepository) {
+        this.deliveryRepository = deliveryRepository;
+    }
+
+    @GetMapping({"/deliveries", "/customers/deliveries"})
+    public KeysetPage<DeliverySummary> getDeliveries(@RequestParam(required = false) String after,
+                                                     @RequestParam(required = false) Integer limit,
+                                                     @RequestParam(required = false) DeliveryStatus status,
+                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        return Keyset.page(IdType.DELIVERY_HISTORY, after, limit, DeliverySummary::deliveryId,
+                           (cursor, fetchLimit) -> deliveryRepository.findSummaries(cursor, status, from, to, fetchLimit));
+    }
+}
@@ -0,0 +1,107 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.huyvo.dronedeliverymanagementapp.export.DeliveryExportService;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the full delivery history as NDJSON ({@code format=ndjson}, the default) or CSV
+ * ({@code format=csv}), gzip-compressed when the client accepts it. An interrupted export is resumed
+ * by passing the last exported delivery ID as {@code after}; {@code since} limits it to deliveries
+ * started at or after an ISO date-time.
+ */
+@RestController
+@RequestMapping("/api/v1/deliveries/export")
+public class DeliveryExportController {
+    private static final int GZIP_BUFFER_BYTES = 1 << 16;
+
+    private final DeliveryExportService deliveryExportService;
+
+    public DeliveryExportController(DeliveryExportService deliveryExportService) {
+        this.deliveryExportService = deliveryExportService;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        @RequestParam(required = false) String after,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        // Validated before the response starts, so that bad arguments still get a 400
+        DeliveryExportService.Format exportFormat = DeliveryExportService.Format.byName(format);
+        long resumeAfter = DeliveryExportService.resumeAfter(after);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (OutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_BYTES)) {
+                    deliveryExportService.export(compressed, exportFormat, resumeAfter, since);
+                }
+            } else {
+                deliveryExportService.export(out, exportFormat, resumeAfter, since);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"deliveries." + exportFormat.getFileExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    // Private Methods
+    /**
+     * Reads an {@code Accept-Encoding} header as RFC 9110 does: a comma-separated list of codings,
+     * each with an optional {@code q} weight from 0 to 1, where 0 means "not acceptable". An entry
+     * naming gzip outranks {@code *}. A weight that cannot be read makes its entry unacceptable.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parameters = entry.split(";");
+            String coding = parameters[0].strip().toLowerCase(Locale.ROOT);
+            double weight = 1;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].strip();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    weight = weight(parameter.substring(2));
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = Math.max(gzip, weight);
+            } else if (coding.equals("*")) {
+                any = Math.max(any, weight);
+            }
+        }
+        return (gzip >= 0 ? gzip : any) > 0;
+    }
+
+    private static double weight(String text) {
+        try {
+            double weight = Double.parseDouble(text.strip());
+            return weight >= 0 && weight <= 1 ? weight : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import com.huyvo.dronedeliverymanagementapp.paging.Keyset;
+import com.huyvo.dronedeliverymanagementapp.paging.KeysetPage;
+import com.huyvo.dronedeliverymanagementapp.repository.DroneRepository;
+
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Lists drones page by page, optionally filtered by status. See {@link Keyset} for paging.
+ */
+@RestController
+@RequestMapping("/api/v1/drones")
+@Transactional(readOnly = true)
+public class DroneController {
+    private final DroneRepository droneRepository;
+
+    public DroneController(DroneRepository droneRepository) {
+        this.droneRepository = droneRepository;
+    }
+
+    @GetMapping
+    public KeysetPage<Drone> getDrones(@RequestParam(required = false) String after,
+                                       @RequestParam(required = false) Integer limit,
+                                       @RequestParam(required = false) DroneStatus status) {
+
+        return Keyset.page(droneRepository, "droneId", IdType.DRONE, after, limit, Drone::getDroneId,
+                           DroneRepository.hasStatus(status));
+    }
+}
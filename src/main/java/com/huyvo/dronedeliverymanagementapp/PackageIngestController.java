@@ -0,0 +1,36 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.huyvo.dronedeliverymanagementapp.ingest.PackageIngestReport;
+import com.huyvo.dronedeliverymanagementapp.ingest.PackageIngestService;
+import com.huyvo.dronedeliverymanagementapp.ingest.PackageRowReader;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+
+/**
+ * Bulk ingest of shipping packages. The body is streamed into the database as it arrives; rows that
+ * fail validation are listed in the response and do not stop the others from being stored.
+ */
+@RestController
+@RequestMapping("/api/v1/packages/ingest")
+public class PackageIngestController {
+    private final PackageIngestService packageIngestService;
+
+    public PackageIngestController(PackageIngestService packageIngestService) {
+        this.packageIngestService = packageIngestService;
+    }
+
+    @PostMapping(consumes = "text/csv")
+    public PackageIngestReport ingestCsv(InputStream body) throws IOException, SQLException {
+        return packageIngestService.ingest(body, PackageRowReader.Format.CSV);
+    }
+
+    @PostMapping(consumes = {"application/x-ndjson", "application/ndjson"})
+    public PackageIngestReport ingestNdjson(InputStream body) throws IOException, SQLException {
+        return packageIngestService.ingest(body, PackageRowReader.Format.NDJSON);
+    }
+}
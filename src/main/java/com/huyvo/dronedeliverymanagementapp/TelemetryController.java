@@ -0,0 +1,39 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryIngestReport;
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryService;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Batched drone telemetry. Reports are buffered and written to the database shortly after, so a
+ * batch is answered with 202 Accepted. If the buffer was full and reports were dropped, the answer
+ * is 503 with a {@code Retry-After} header; the report lists what was dropped.
+ */
+@RestController
+@RequestMapping("/api/v1/drones/telemetry")
+public class TelemetryController {
+    private final TelemetryService telemetryService;
+
+    public TelemetryController(TelemetryService telemetryService) {
+        this.telemetryService = telemetryService;
+    }
+
+    @PostMapping(consumes = {"application/x-ndjson", "application/ndjson"})
+    public ResponseEntity<TelemetryIngestReport> ingest(InputStream body) throws IOException {
+        TelemetryIngestReport report = telemetryService.ingest(body);
+        if (report.updatesDropped() > 0) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(telemetryService.getRetryAfterSeconds()))
+                    .body(report);
+        }
+        return ResponseEntity.accepted().body(report);
+    }
+}
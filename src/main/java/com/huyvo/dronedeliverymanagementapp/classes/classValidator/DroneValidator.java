@@ -17,10 +17,31 @@ public class DroneValidator implements Validator<Drone> {
             throw new ValidationException("Drone ID must not be null.");
         }
 
-        validatePayload(drone);
-        validateLocation(drone);
-        validateBatteryAndMileage(drone);
-        validateStatus(drone);
+        validate(drone, Drone.ALL_FIELDS);
+    }
+
+    /**
+     * Validates only the rules that read the changed fields, assuming the rest of the drone was
+     * valid before they changed.
+     *
+     * @param changedFields the changed fields, as a mask of the field bits of {@link Drone}
+     */
+    public void validate(@NotNull Drone drone, int changedFields) throws ValidationException {
+        if ((changedFields & (Drone.EMPTY | Drone.ASSIGNED_PACKAGE)) != 0) {
+            validatePayload(drone);
+        }
+        if ((changedFields & Drone.CURRENT_LOCATION) != 0) {
+            validateLocation(drone);
+        }
+        if ((changedFields & Drone.BATTERY_LEVEL) != 0) {
+            validateBatteryLevel(drone);
+        }
+        if ((changedFields & Drone.MILEAGE) != 0) {
+            validateMileage(drone);
+        }
+        if ((changedFields & (Drone.STATUS | Drone.ASSIGNED_PACKAGE)) != 0) {
+            validateStatus(drone);
+        }
     }
 
     private void validatePayload(@NotNull Drone drone) throws ValidationException {
@@ -35,16 +56,21 @@ public class DroneValidator implements Validator<Drone> {
 
     private void validateLocation(@NotNull Drone drone) throws ValidationException {
         // currentLocation validation
-        if (drone.getCurrentLocation() == null || drone.getCurrentLocation().getCoordinates() == null) {
+        // getCoordinates() is never null, and copies the coordinates on every call
+        if (drone.getCurrentLocation() == null) {
             throw new ValidationException("Drone location or coordinates must not be null.");
         }
     }
 
-    private void validateBatteryAndMileage(@NotNull Drone drone) throws ValidationException {
-        // Battery level and mileage validation
+    private void validateBatteryLevel(@NotNull Drone drone) throws ValidationException {
+        // Battery level validation
         if (drone.getBatteryLevel() < 0 || drone.getBatteryLevel() > 100) {
             throw new ValidationException("Battery level must be between 0 and 100.");
         }
+    }
+
+    private void validateMileage(@NotNull Drone drone) throws ValidationException {
+        // Mileage validation
         if (drone.getMileage() < 0) {
             throw new ValidationException("Mileage must be non-negative.");
         }
@@ -69,7 +95,7 @@ public class DroneValidator implements Validator<Drone> {
         if (drone.getCurrentLocation() == null || drone.getCurrentLocation().getCoordinates() == null) {
             throw new IllegalArgumentException("Drone current location cannot be null for Location validation.");
         }
-        if (!location.equals(drone.getCurrentLocation())) {
+        if (!location.isAt(drone.getCurrentLocation())) {
             throw new IllegalStateException("Drone must be at " + location.getLocationId() + " to " + action + ".");
         }
     }
@@ -6,7 +6,10 @@ import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "delivery")
+@Table(name = "delivery", indexes = {
+        @Index(name = "idx_delivery_status_id", columnList = "status, id"),
+        @Index(name = "idx_delivery_start_time", columnList = "start_time")
+})
 public class Delivery {
     @EmbeddedId
     private IdentificationNumber deliveryId;
@@ -0,0 +1,60 @@
+package com.huyvo.dronedeliverymanagementapp.classes.domains;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A planned multi-stop tour for one drone: take off from the base with every package loaded,
+ * visit each delivery location in order, and fly back to the base.
+ */
+public class DeliveryRoute {
+    private final Drone drone;
+    private final List<ShippingPackage> stops;
+    private final float totalDistance;
+    private final double totalWeight;
+
+    /**
+     * Constructs a planned route.
+     *
+     * @param drone the drone that flies the route
+     * @param stops the packages in delivery order
+     * @param totalDistance the length of base -> stops -> base in kilometers
+     * @param totalWeight the sum of the package weights
+     */
+    public DeliveryRoute(Drone drone, List<ShippingPackage> stops, float totalDistance, double totalWeight) {
+        this.drone = drone;
+        this.stops = Collections.unmodifiableList(new ArrayList<>(stops));
+        this.totalDistance = totalDistance;
+        this.totalWeight = totalWeight;
+    }
+
+    // Getters
+    public Drone getDrone() { return this.drone; }
+    public List<ShippingPackage> getStops() { return this.stops; }
+    public float getTotalDistance() { return this.totalDistance; }
+    public double getTotalWeight() { return this.totalWeight; }
+
+    // Public Methods
+    /**
+     * Gives out the locations the drone visits, in order, without the base at either end
+     *
+     * @return the delivery location of every stop
+     */
+    public List<Location> getStopLocations() {
+        List<Location> locations = new ArrayList<>(this.stops.size());
+        for (ShippingPackage stop : this.stops) {
+            locations.add(stop.getDeliveryLocation());
+        }
+        return locations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DeliveryRoute[drone=%s, stops=%d, distance=%.2fkm, weight=%.2f]",
+                drone.getDroneId(),
+                stops.size(),
+                totalDistance,
+                totalWeight);
+    }
+}
@@ -1,36 +1,86 @@
 package com.huyvo.dronedeliverymanagementapp.classes.domains;
 
 import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DeliveryStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneEventType;
 import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
 import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
 import com.huyvo.dronedeliverymanagementapp.classes.classValidator.DroneValidator;
 import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.services.FleetStateStore;
+import com.huyvo.dronedeliverymanagementapp.eventlog.DroneEventLog;
+import com.huyvo.dronedeliverymanagementapp.metrics.FleetMetrics;
 import jakarta.persistence.*;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
 /**
  * Represents a drone with specific attributes and functionality.
  * This class provides methods to manage and retrieve the state of a drone,
  * including its name, id, availability, battery level, and load capacity.
+ * <p>
+ * A new drone refers to the base location shared through {@link LocationPool} rather than a copy
+ * of it, so a fleet that has not flown yet holds a single base location however many drones it
+ * has. A drone gets a location of its own the first time it moves and keeps moving that one, back
+ * to the base included, so no location row is ever left behind unreferenced.
+ * <p>
+ * Each setter marks its field as changed and validates only the rules that read it, see
+ * {@link DroneValidator#validate(Drone, int)}. Several fields changed together, such as a telemetry
+ * tick, can be validated once: after {@link #deferValidation()} the setters only mark their fields,
+ * and {@link #validateChanges()} checks the rules of every field changed since. Changes still
+ * pending when the drone is saved are validated before it is written. Deferring is not thread-safe;
+ * one thread changes the drone between the two calls.
+ * <p>
+ * A drone is added to {@link FleetStateStore#shared()} once it is first saved, so telemetry for it is
+ * taken from then on without waiting for the fleet to be loaded again.
  */
 @Entity
-@Table(name = "drone")
+@Table(name = "drone", indexes = @Index(name = "idx_drone_status_id", columnList = "status, id"))
 public class Drone implements Comparable<Drone>{
     private final static DroneValidator droneValidator = new DroneValidator();
-    private final static Location base = new Location("base1",
-                                                    "HannaSt",
-                                                    "Hannover",
-                                                    "NRW",
-                                                    "22459",
-                                                    "Germany",
-                                                    52.3738f,
-                                                    9.7312f);
+    private final static Location base = LocationPool.shared("base1",
+                                                             "HannaSt",
+                                                             "Hannover",
+                                                             "NRW",
+                                                             "22459",
+                                                             "Germany",
+                                                             52.3738f,
+                                                             9.7312f);
+    // Fields tracked by the setters, as bits of a changed-fields mask
+    public static final int EMPTY = 1;
+    public static final int CURRENT_LOCATION = 1 << 1;
+    public static final int BATTERY_LEVEL = 1 << 2;
+    public static final int MILEAGE = 1 << 3;
+    public static final int STATUS = 1 << 4;
+    public static final int ASSIGNED_PACKAGE = 1 << 5;
+    public static final int ALL_FIELDS = (1 << 6) - 1;
+
+    private static final DroneMovementListener[] NO_LISTENERS = {};
+    private static final VarHandle STATUS_HANDLE;
+    private static final VarHandle EMPTY_HANDLE;
+    private static final VarHandle LISTENERS_HANDLE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            STATUS_HANDLE = lookup.findVarHandle(Drone.class, "status", DroneStatus.class);
+            EMPTY_HANDLE = lookup.findVarHandle(Drone.class, "isEmpty", boolean.class);
+            LISTENERS_HANDLE = lookup.findVarHandle(Drone.class, "movementListeners", DroneMovementListener[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     @Id
     private IdentificationNumber droneId;
     private float maxPayload;
-    private boolean isEmpty;
+    private volatile boolean isEmpty;
 
-    @OneToOne
+    // A location of its own is saved with the drone; see moveTo
+    @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(name = "current_location_id")
     private Location currentLocation;
 
@@ -38,12 +88,21 @@ public class Drone implements Comparable<Drone>{
     private float mileage;
 
     @Enumerated(EnumType.STRING)
-    private DroneStatus status;
+    private volatile DroneStatus status;
 
     @OneToOne
     @JoinColumn(name = "assigned_package_id")
     private ShippingPackage assignedPackage;
 
+    // Copied on every change, so notifying reads one array without locking or allocating
+    @Transient
+    private volatile DroneMovementListener[] movementListeners = NO_LISTENERS;
+
+    @Transient
+    private int changedFields;
+    @Transient
+    private boolean validationDeferred;
+
     public Drone(){}
 
     public Drone(float maxPayload, int batteryLevel, float mileage) throws ValidationException {
@@ -51,14 +110,7 @@ public class Drone implements Comparable<Drone>{
         this.droneId = new IdentificationNumber(IdType.DRONE);
         this.maxPayload = maxPayload;
         this.isEmpty = true;
-        this.currentLocation = new Location("base1",
-                                            "HannaSt",
-                                            "Hannover",
-                                            "NRW",
-                                            "22459",
-                                            "Germany",
-                                            52.3738f,
-                                            9.7312f);
+        this.currentLocation = base;
         this.batteryLevel = batteryLevel;
         this.mileage = mileage;
         this.status = DroneStatus.IDLE;
@@ -76,41 +128,141 @@ public class Drone implements Comparable<Drone>{
     public float getMileage() { return this.mileage; }
     public DroneStatus getStatus() { return this.status; }
     public ShippingPackage getAssignedPackage() { return assignedPackage; }
+    public int getChangedFields() { return this.changedFields; }
+    public boolean isValidationDeferred() { return this.validationDeferred; }
 
     // Setters
     public void setEmpty(boolean isEmpty) throws ValidationException {
         this.isEmpty = isEmpty;
-        droneValidator.validate(this);
+        changed(EMPTY);
     }
 
     public void setCurrentLocation(float latitude, float longitude) throws ValidationException {
-        this.currentLocation.setLatitude(latitude);
-        this.currentLocation.setLongitude(longitude);
-        droneValidator.validate(this);
+        moveTo(latitude, longitude);
+        changed(CURRENT_LOCATION);
+        notifyMoved();
     }
 
     public void setBatteryLevel(int batteryLevel) throws ValidationException {
         this.batteryLevel = batteryLevel;
-        droneValidator.validate(this);
+        changed(BATTERY_LEVEL);
     }
 
     public void setMileage(float mileage) throws ValidationException {
         this.mileage = mileage;
-        droneValidator.validate(this);
+        changed(MILEAGE);
+    }
+
+    /**
+     * Moves the drone to a new status along its life cycle, see {@link DroneStatus#canTransitionTo}.
+     *
+     * @throws IllegalStateException if the drone may not go from its status to {@code status}, or
+     *                               another thread changed the status meanwhile
+     */
+    public void setStatus(@NotNull DroneStatus status) throws ValidationException {
+        DroneStatus current = this.status;
+        if (current != status && !compareAndSetStatus(current, status)) {
+            throw new IllegalStateException("Drone " + getDroneId() + " changed status concurrently.");
+        }
+        changed(STATUS);
     }
 
-    public void setStatus(DroneStatus status) throws ValidationException {
+    /**
+     * Takes over a status observed outside this entity, such as one a drone reported by telemetry.
+     * The drone may have gone through several statuses since this entity last saw it, so the
+     * transition is not checked; anything that changes the status itself goes through
+     * {@link #setStatus} or {@link #compareAndSetStatus}.
+     */
+    public void restoreStatus(@NotNull DroneStatus status) throws ValidationException {
         this.status = status;
-        droneValidator.validate(this);
+        changed(STATUS);
     }
 
     public void setAssignedPackage(ShippingPackage assignedPackage) throws ValidationException {
         this.assignedPackage = assignedPackage;
-        droneValidator.validate(this);
+        changed(ASSIGNED_PACKAGE);
+    }
+
+    /**
+     * Registers a listener that is told every time this drone changes position, after the
+     * listeners registered before it. A listener already registered is not added again.
+     *
+     * @param movementListener the listener to notify
+     */
+    public void addMovementListener(@NotNull DroneMovementListener movementListener) {
+        DroneMovementListener[] listeners;
+        DroneMovementListener[] updated;
+        do {
+            listeners = this.movementListeners;
+            if (Arrays.asList(listeners).contains(movementListener)) {
+                return;
+            }
+            updated = Arrays.copyOf(listeners, listeners.length + 1);
+            updated[listeners.length] = movementListener;
+        } while (!LISTENERS_HANDLE.compareAndSet(this, listeners, updated));
+    }
+
+    /**
+     * Stops telling a listener about this drone's movements.
+     *
+     * @param movementListener the listener to remove; nothing happens if it is not registered
+     */
+    public void removeMovementListener(@NotNull DroneMovementListener movementListener) {
+        DroneMovementListener[] listeners;
+        DroneMovementListener[] updated;
+        do {
+            listeners = this.movementListeners;
+            int index = Arrays.asList(listeners).indexOf(movementListener);
+            if (index < 0) {
+                return;
+            }
+            updated = new DroneMovementListener[listeners.length - 1];
+            System.arraycopy(listeners, 0, updated, 0, index);
+            System.arraycopy(listeners, index + 1, updated, index, updated.length - index);
+        } while (!LISTENERS_HANDLE.compareAndSet(this, listeners, updated));
     }
 
 
     // Public Methods
+    /**
+     * Stops the setters from validating until {@link #validateChanges()} is called. Fields changed
+     * in the meantime may leave the drone invalid.
+     */
+    public void deferValidation() {
+        this.validationDeferred = true;
+    }
+
+    /**
+     * Validates the rules of every field changed since the last successful validation and ends
+     * deferred validation. If a rule fails, the fields stay marked as changed and validation stays
+     * deferred, so they can be corrected and validated again.
+     *
+     * @throws ValidationException if a changed field breaks a rule
+     */
+    public void validateChanges() throws ValidationException {
+        if (this.changedFields != 0) {
+            droneValidator.validate(this, this.changedFields);
+            this.changedFields = 0;
+        }
+        this.validationDeferred = false;
+    }
+
+    /**
+     * Atomically moves the drone from one status to another without locking.
+     * Of several threads racing on the same transition exactly one succeeds.
+     *
+     * @param expected the status the drone must currently be in
+     * @param next the status to move to
+     * @return true if the status was changed, false if the drone was not in {@code expected}
+     * @throws IllegalStateException if {@code expected -> next} is not a legal transition
+     */
+    public boolean compareAndSetStatus(@NotNull DroneStatus expected, @NotNull DroneStatus next) {
+        if (!expected.canTransitionTo(next)) {
+            throw new IllegalStateException("Drone cannot go from " + expected + " to " + next + ".");
+        }
+        return STATUS_HANDLE.compareAndSet(this, expected, next);
+    }
+
     // Utility Methods
     @Override
     public int compareTo(Drone other) {
@@ -119,40 +271,34 @@ public class Drone implements Comparable<Drone>{
 
     // Action Methods
     public void chargeBattery() {
-        String DRONE_ID = this.getDroneId();
-
         droneValidator.validateDroneAtLocation(this, base, "charge");
-        this.status = DroneStatus.CHARGING;
-        System.out.printf("Drone %s is charging\n", DRONE_ID);
+        transition(DroneStatus.IDLE, DroneStatus.CHARGING, "charge");
+        logEvent(DroneEventType.CHARGING, null);
     }
 
     public void maintenance() {
-        String DRONE_ID = this.getDroneId();
-
         droneValidator.validateDroneAtLocation(this, base, "perform maintenance");
-        this.status = DroneStatus.MAINTENANCE;
-        System.out.printf("Drone %s is under maintenance\n", DRONE_ID);
+        transition(DroneStatus.IDLE, DroneStatus.MAINTENANCE, "perform maintenance");
+        logEvent(DroneEventType.MAINTENANCE, null);
     }
 
+    /**
+     * Loads a package onto an idle drone at the base. Of several threads loading the same drone at
+     * once exactly one succeeds; the others fail as if the drone were already loaded.
+     *
+     * @throws IllegalStateException if the drone is not idle at the base or already carries a package
+     */
     public void loadPackage(@NotNull ShippingPackage apackage) {
-        String DRONE_ID = this.getDroneId();
-        String PACKAGE_ID = apackage.getPackage_id();
-
-        try {
-            droneValidator.validateDroneAtLocation(this, base, "load a package");
-            droneValidator.validateDroneStatus(this, DroneStatus.IDLE, "load a package");
-            droneValidator.validateLoadedPackage(this, apackage);
-        } catch (IllegalArgumentException | IllegalStateException e) {
-            System.err.printf("Error loading package: %s", e.getMessage());
-            throw e;
-        }
-        this.isEmpty = false;
-        System.out.printf("Drone %s loaded package %s\n", DRONE_ID, PACKAGE_ID);
+        load(apackage, DroneStatus.IDLE);
     }
 
+    /**
+     * Unloads the assigned package at its recipient. Of several threads unloading the same drone at
+     * once exactly one succeeds.
+     *
+     * @throws IllegalStateException if the drone is not in transit at the recipient or carries no package
+     */
     public void unloadPackage() {
-        String DRONE_ID = this.getDroneId();
-        String CUSTOMER_PACKAGE_ID = this.assignedPackage.getPackage_id();
         Location customerDestination = this.assignedPackage.getRecipient().getAddress();
         ShippingPackage customerPackage = this.assignedPackage;
 
@@ -160,42 +306,142 @@ public class Drone implements Comparable<Drone>{
             droneValidator.validateDroneAtLocation(this, customerDestination, "unload a package");
             droneValidator.validateDroneStatus(this, DroneStatus.IN_TRANSIT, "unload a package");
             droneValidator.validateUnloadedPackage(this, customerPackage);
+            if (!EMPTY_HANDLE.compareAndSet(this, false, true)) {
+                throw new IllegalStateException("Drone is empty");
+            }
         } catch (IllegalStateException e) {
-            System.err.printf("Error unloading package: %s", e.getMessage());
+            logEvent(DroneEventType.UNLOAD_FAILED, customerPackage, e.getMessage());
             throw e;
         }
-        this.isEmpty = true;
-        System.out.printf("\nDrone %s unloaded package %s\n", DRONE_ID, CUSTOMER_PACKAGE_ID);
+        logEvent(DroneEventType.PACKAGE_UNLOADED, customerPackage);
     }
 
     public void goTo(@NotNull Location destination) {
-        String DRONE_ID = this.getDroneId();
-        String DESTINATION_ADDRESS = destination.getLocationId();
-
-        this.currentLocation.setLatitude(destination.getLatitude());
-        this.currentLocation.setLongitude(destination.getLongitude());
-        System.out.printf("Drone %s is going to %s", DRONE_ID, DESTINATION_ADDRESS);
+        moveTo(destination.getLatitude(), destination.getLongitude());
+        notifyMoved();
+        logEvent(DroneEventType.MOVED, this.assignedPackage);
     }
 
+    /**
+     * Flies the assigned package to its recipient and returns to the base. The drone is claimed
+     * with a status compare-and-set before anything else is touched, so of several threads
+     * delivering with the same drone exactly one loads it; the others fail without logging or
+     * changing anything. If there is no package to deliver or loading fails, the drone is handed
+     * back idle.
+     *
+     * @throws IllegalStateException if the drone is not idle at the base or a step of the delivery fails
+     */
     public void performDelivery(@NotNull Customer assignedCustomer) {
-        String DRONE_ID = this.getDroneId();
-        String PACKAGE_ID = this.assignedPackage.getPackage_id();
-        String CUSTOMER_ID = this.assignedPackage.getRecipient().getUserId();
-
-        System.out.printf("\nDrone %s started deliver package %s to customer %s\n", DRONE_ID, PACKAGE_ID, CUSTOMER_ID);
         droneValidator.validateDroneAtLocation(this, base, "start delivering");
-        droneValidator.validateDroneStatus(this, DroneStatus.IDLE, "start delivering");
-
-        loadPackage(this.assignedPackage);
-        this.status = DroneStatus.IN_TRANSIT;
-        goTo(assignedCustomer.getAddress());
-        unloadPackage();
+        transition(DroneStatus.IDLE, DroneStatus.IN_TRANSIT, "start delivering");
+        // Read once claimed: a delivery that finished meanwhile has cleared it
+        ShippingPackage customerPackage = this.assignedPackage;
+        if (customerPackage == null) {
+            compareAndSetStatus(DroneStatus.IN_TRANSIT, DroneStatus.IDLE);
+            throw new IllegalStateException("Drone " + getDroneId() + " has no package to deliver.");
+        }
+        logEvent(DroneEventType.DELIVERY_STARTED, customerPackage);
+        long start = System.nanoTime();
+        FleetMetrics.recordDeliveryStatus(DeliveryStatus.STARTED);
+        try {
+            load(customerPackage, DroneStatus.IN_TRANSIT);
+        } catch (RuntimeException e) {
+            FleetMetrics.recordDeliveryStatus(DeliveryStatus.FAILED);
+            compareAndSetStatus(DroneStatus.IN_TRANSIT, DroneStatus.IDLE);
+            throw e;
+        }
+        try {
+            FleetMetrics.recordDeliveryStatus(DeliveryStatus.IN_PROGRESS);
+            goTo(assignedCustomer.getAddress());
+            unloadPackage();
+        } catch (RuntimeException e) {
+            FleetMetrics.recordDeliveryStatus(DeliveryStatus.FAILED);
+            throw e;
+        }
+        FleetMetrics.recordDeliveryCompleted(System.nanoTime() - start);
         goTo(base);
         this.assignedPackage = null;
 
         droneValidator.validateDroneAtLocation(this, base, "finish delivering");
-        droneValidator.validateDroneStatus(this, DroneStatus.IN_TRANSIT, "finish delivering");
-        this.status = DroneStatus.IDLE;
-        System.out.printf("\nDrone %s finished deliver package %s to customer %s\n", DRONE_ID, PACKAGE_ID, CUSTOMER_ID);
+        transition(DroneStatus.IN_TRANSIT, DroneStatus.IDLE, "finish delivering");
+        logEvent(DroneEventType.DELIVERY_FINISHED, customerPackage);
+    }
+
+    // Private Methods
+    private void changed(int field) throws ValidationException {
+        this.changedFields |= field;
+        if (!this.validationDeferred) {
+            validateChanges();
+        }
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void validatePendingChanges() {
+        try {
+            validateChanges();
+        } catch (ValidationException e) {
+            throw new IllegalStateException("Drone " + getDroneId() + " cannot be saved: " + e.getMessage(), e);
+        }
+    }
+
+    @PostPersist
+    private void registerInFleetState() {
+        FleetStateStore.shared().load(this);
+    }
+
+    private void moveTo(float latitude, float longitude) {
+        // Moving a shared location in place, a base row loaded from the database included, would
+        // move every drone at the base
+        if (this.currentLocation.isShared()) {
+            this.currentLocation = this.currentLocation.copyAt(latitude, longitude);
+            return;
+        }
+        this.currentLocation.setLatitude(latitude);
+        this.currentLocation.setLongitude(longitude);
+    }
+
+    /**
+     * Loads a package onto a drone at the base that is in {@code required}, either idle or already
+     * claimed for a delivery. Loading is a compare-and-set of the empty flag.
+     */
+    private void load(ShippingPackage apackage, DroneStatus required) {
+        try {
+            droneValidator.validateDroneAtLocation(this, base, "load a package");
+            droneValidator.validateDroneStatus(this, required, "load a package");
+            droneValidator.validateLoadedPackage(this, apackage);
+            if (!EMPTY_HANDLE.compareAndSet(this, true, false)) {
+                throw new IllegalStateException("Drone must be empty to load a package");
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            logEvent(DroneEventType.LOAD_FAILED, apackage, e.getMessage());
+            throw e;
+        }
+        logEvent(DroneEventType.PACKAGE_LOADED, apackage);
+    }
+
+    private void transition(DroneStatus expected, DroneStatus next, String action) {
+        if (!compareAndSetStatus(expected, next)) {
+            throw new IllegalStateException("Drone must be " + expected + " to " + action + ".");
+        }
+    }
+
+    private void logEvent(DroneEventType type, ShippingPackage shippingPackage) {
+        logEvent(type, shippingPackage, null);
+    }
+
+    private void logEvent(DroneEventType type, ShippingPackage shippingPackage, String reason) {
+        DroneEventLog.shared().record(type,
+                                      this.getDroneId(),
+                                      shippingPackage == null ? null : shippingPackage.getPackage_id(),
+                                      this.currentLocation.getLatitude(),
+                                      this.currentLocation.getLongitude(),
+                                      reason);
+    }
+
+    private void notifyMoved() {
+        for (DroneMovementListener listener : this.movementListeners) {
+            listener.onDroneMoved(this);
+        }
     }
 }
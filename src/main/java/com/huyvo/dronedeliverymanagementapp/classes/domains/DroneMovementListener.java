@@ -0,0 +1,10 @@
+package com.huyvo.dronedeliverymanagementapp.classes.domains;
+
+/**
+ * Callback used by {@link Drone} to report that its current location has changed,
+ * so that structures keyed on drone coordinates can stay up to date.
+ */
+@FunctionalInterface
+public interface DroneMovementListener {
+    void onDroneMoved(Drone drone);
+}
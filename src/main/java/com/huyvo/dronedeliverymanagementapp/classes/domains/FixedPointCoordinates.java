@@ -0,0 +1,53 @@
+package com.huyvo.dronedeliverymanagementapp.classes.domains;
+
+/**
+ * Fixed-point encoding of coordinates as whole microdegrees (about 11 cm at the equator).
+ * <p>
+ * A microdegree fits an {@code int} for any latitude or longitude, and a latitude and longitude
+ * pack into one {@code long}, latitude in the high half. A packed pair needs no object: 10M
+ * coordinates take 80 MB in a {@code long[]}, and two points are at the same place exactly when
+ * their packed values are equal. Unlike {@code float} degrees, the precision does not depend on how
+ * far the point is from the origin.
+ */
+public final class FixedPointCoordinates {
+    public static final double MICRODEGREES_PER_DEGREE = 1_000_000d;
+
+    private FixedPointCoordinates() {}
+
+    /**
+     * @param degrees a latitude or longitude in degrees
+     * @return the nearest whole number of microdegrees
+     */
+    public static int toMicrodegrees(double degrees) {
+        return (int) Math.round(degrees * MICRODEGREES_PER_DEGREE);
+    }
+
+    public static double toDegrees(int microdegrees) {
+        return microdegrees / MICRODEGREES_PER_DEGREE;
+    }
+
+    /**
+     * @param latitude latitude in degrees
+     * @param longitude longitude in degrees
+     * @return both rounded to microdegrees and packed into one value
+     */
+    public static long pack(double latitude, double longitude) {
+        return ((long) toMicrodegrees(latitude) << 32) | (toMicrodegrees(longitude) & 0xFFFF_FFFFL);
+    }
+
+    public static int latitudeMicrodegrees(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int longitudeMicrodegrees(long packed) {
+        return (int) packed;
+    }
+
+    public static double latitude(long packed) {
+        return toDegrees(latitudeMicrodegrees(packed));
+    }
+
+    public static double longitude(long packed) {
+        return toDegrees(longitudeMicrodegrees(packed));
+    }
+}
@@ -0,0 +1,13 @@
+package com.huyvo.dronedeliverymanagementapp.classes.domains;
+
+/**
+ * Produces the numeric part of new {@link IdentificationNumber}s.
+ */
+@FunctionalInterface
+public interface IdStrategy {
+
+    /**
+     * @return a new identifier; only the lower 60 bits are used, the ID type goes in the bits above
+     */
+    long nextPayload();
+}
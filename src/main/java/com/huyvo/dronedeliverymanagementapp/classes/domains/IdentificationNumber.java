@@ -1,59 +1,163 @@
 package com.huyvo.dronedeliverymanagementapp.classes.domains;
 
 import java.io.Serializable;
-import java.security.SecureRandom;
 import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import org.jetbrains.annotations.NotNull;
 
+/**
+ * An entity ID stored in its compact numeric form: one 64-bit value whose top bits hold the
+ * {@link IdType} and whose lower 60 bits come from the configured {@link IdStrategy}.
+ * The type prefix is only applied when the ID is rendered, as the prefix followed by the 60 bits in
+ * 12 Crockford base32 characters (e.g. {@code DR_01HZX3K7M2QA}), so rendered IDs of one type sort
+ * the same way as their numbers.
+ * <p>
+ * The default strategy is {@link TimeOrderedIdStrategy}, so new primary keys arrive in roughly
+ * ascending order and are appended to the right edge of a B-tree index instead of splitting pages
+ * all over it.
+ */
 @Embeddable
-public class IdentificationNumber implements Serializable {
-    // Character pool for generating the ID
-    private static final String ALPHANUMERIC_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-    private static final int ID_LENGTH = 8;
-    private static final SecureRandom random = new SecureRandom(); // Use SecureRandom for better randomness
+public class IdentificationNumber implements Serializable, Comparable<IdentificationNumber> {
+    private static final String CROCKFORD_BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final int TYPE_SHIFT = 60;
+    private static final long PAYLOAD_MASK = (1L << TYPE_SHIFT) - 1;
+    private static final int RENDERED_CHARS = 12;
+    private static final IdType[] TYPES = IdType.values();
+    private static volatile IdStrategy strategy = TimeOrderedIdStrategy.fromSystemProperties();
 
-    @Column
-    private String id;
+    static {
+        if (TYPES.length > 1 << (63 - TYPE_SHIFT)) {
+            throw new ExceptionInInitializerError("Too many ID types for the type bits");
+        }
+    }
+
+    @Column(name = "id")
+    private long value;
+
+    private transient String rendered;
 
     protected IdentificationNumber() {
         // JPA requires a no-arg constructor
     }
 
     public IdentificationNumber(IdType type) {
-        this.id = type.getPrefix() + generateRandomId();
+        this.value = compose(type, strategy.nextPayload());
     }
 
-    private String generateRandomId() {
-        StringBuilder sb = new StringBuilder(ID_LENGTH);
-        for (int i = 0; i < ID_LENGTH; i++) {
-            int randomIndex = random.nextInt(ALPHANUMERIC_CHARS.length());
-            sb.append(ALPHANUMERIC_CHARS.charAt(randomIndex));
+    private IdentificationNumber(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Rebuilds an ID from its numeric form.
+     *
+     * @param value a value returned by {@link #getValue()}
+     * @return the ID
+     * @throws IllegalArgumentException if the type bits do not name an {@link IdType}
+     */
+    public static @NotNull IdentificationNumber fromValue(long value) {
+        if (value < 0 || (value >>> TYPE_SHIFT) >= TYPES.length) {
+            throw new IllegalArgumentException("Not an ID value: " + value);
         }
-        return sb.toString();
+        return new IdentificationNumber(value);
+    }
+
+    /**
+     * Rebuilds an ID from its rendered form.
+     *
+     * @param id a value returned by {@link #getId()}
+     * @return the ID
+     * @throws IllegalArgumentException if the text is not a rendered ID
+     */
+    public static @NotNull IdentificationNumber parse(@NotNull String id) {
+        for (IdType type : TYPES) {
+            String prefix = type.getPrefix();
+            if (id.length() == prefix.length() + RENDERED_CHARS && id.startsWith(prefix)) {
+                long payload = 0;
+                for (int i = prefix.length(); i < id.length(); i++) {
+                    int digit = CROCKFORD_BASE32.indexOf(Character.toUpperCase(id.charAt(i)));
+                    if (digit < 0) {
+                        throw new IllegalArgumentException("Not an ID: " + id);
+                    }
+                    payload = (payload << 5) | digit;
+                }
+                return new IdentificationNumber(compose(type, payload));
+            }
+        }
+        throw new IllegalArgumentException("Not an ID: " + id);
+    }
+
+    /**
+     * Replaces the strategy used by every ID created from now on.
+     *
+     * @param idStrategy the new strategy
+     */
+    public static void setStrategy(@NotNull IdStrategy idStrategy) {
+        strategy = idStrategy;
+    }
+
+    public static @NotNull IdStrategy getStrategy() {
+        return strategy;
     }
 
+    // Getters
     public String getId() {
+        String id = this.rendered;
+        if (id == null) {
+            id = render();
+            this.rendered = id;
+        }
         return id;
     }
 
+    public long getValue() {
+        return this.value;
+    }
+
+    public IdType getType() {
+        return TYPES[(int) (this.value >>> TYPE_SHIFT)];
+    }
+
+    @Override
+    public int compareTo(@NotNull IdentificationNumber other) {
+        return Long.compare(this.value, other.value);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         IdentificationNumber that = (IdentificationNumber) o;
-        return id.equals(that.id);
+        return value == that.value;
     }
 
     @Override
     public int hashCode() {
-        return id.hashCode();
+        return Long.hashCode(value);
     }
 
     @Override
     public String toString() {
         return "domain.IdentificationNumber{" +
-                "id='" + id + '\'' +
+                "id='" + getId() + '\'' +
                 '}';
     }
-}
\ No newline at end of file
+
+    // Private Methods
+    private static long compose(IdType type, long payload) {
+        return ((long) type.ordinal() << TYPE_SHIFT) | (payload & PAYLOAD_MASK);
+    }
+
+    private String render() {
+        String prefix = getType().getPrefix();
+        char[] chars = new char[prefix.length() + RENDERED_CHARS];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        long payload = this.value & PAYLOAD_MASK;
+        for (int i = chars.length - 1; i >= prefix.length(); i--) {
+            chars[i] = CROCKFORD_BASE32.charAt((int) (payload & 31));
+            payload >>>= 5;
+        }
+        return new String(chars);
+    }
+}
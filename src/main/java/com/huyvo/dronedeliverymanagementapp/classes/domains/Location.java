@@ -1,16 +1,30 @@
 package com.huyvo.dronedeliverymanagementapp.classes.domains;
 
-import java.util.Objects;
-
 import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Represents a geographic location with detailed address information
  * including latitude and longitude coordinates.
+ * <p>
+ * Locations are kept in the {@code location} second-level cache region, so the addresses that
+ * every package and customer points to are usually resolved without a query.
+ * <p>
+ * The repetitive address components are taken from {@link LocationPool} whenever a location is
+ * built, changed or loaded. Locations handed out by {@link LocationPool#shared} are shared by
+ * many owners and cannot be changed, and neither can a loaded row with the address and
+ * coordinates of one: every drone loaded at its base points at that row.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "location")
 public class Location {
     @EmbeddedId
     private IdentificationNumber locationId;
@@ -23,6 +37,9 @@ public class Location {
     private float latitude;
     private float longitude;
 
+    @Transient
+    private boolean shared;
+
     public Location(){}
 
     public Location(String addressLine1,
@@ -37,16 +54,16 @@ public class Location {
         this.locationId = new IdentificationNumber(IdType.LOCATION);
         this.addressLine1 = addressLine1;
         this.addressLine2 = addressLine2;
-        this.city = city;
-        this.state = state;
-        this.zipcode = zipcode;
-        this.country = country;
+        this.city = LocationPool.component(city);
+        this.state = LocationPool.component(state);
+        this.zipcode = LocationPool.component(zipcode);
+        this.country = LocationPool.component(country);
         this.latitude = latitude;
         this.longitude = longitude;
     }
 
     // Getters
-    public String getLocationId() { return this.locationId.getId(); }
+    public String getLocationId() { return this.locationId != null ? this.locationId.getId() : null; }
     public String getAddressLine1() { return this.addressLine1; }
     public String getAddressLine2() { return this.addressLine2; }
     public String getCity() { return this.city; }
@@ -55,37 +72,46 @@ public class Location {
     public String getCountry() { return this.country; }
     public float getLatitude() { return this.latitude; }
     public float getLongitude() { return this.longitude; }
+    public boolean isShared() { return this.shared; }
 
     // Setters
     public void setAddressLine1(String addressLine1) {
+        requireNotShared();
         this.addressLine1 = addressLine1;
     }
 
     public void setAddressLine2(String addressLine2) {
+        requireNotShared();
         this.addressLine2 = addressLine2;
     }
 
     public void setCity(String city) {
-        this.city = city;
+        requireNotShared();
+        this.city = LocationPool.component(city);
     }
 
     public void setState(String state) {
-        this.state = state;
+        requireNotShared();
+        this.state = LocationPool.component(state);
     }
 
     public void setZipcode(String zipcode) {
-        this.zipcode = zipcode;
+        requireNotShared();
+        this.zipcode = LocationPool.component(zipcode);
     }
 
     public void setCountry(String country) {
-        this.country = country;
+        requireNotShared();
+        this.country = LocationPool.component(country);
     }
 
     public void setLatitude(float latitude) {
+        requireNotShared();
         this.latitude = latitude;
     }
 
     public void setLongitude(float longitude) {
+        requireNotShared();
         this.longitude = longitude;
     }
 
@@ -99,6 +125,24 @@ public class Location {
         return new float[]{this.latitude, this.longitude};
     }
 
+    /**
+     * @return the coordinates in microdegrees packed by {@link FixedPointCoordinates#pack}
+     */
+    public long getPackedCoordinates() {
+        return FixedPointCoordinates.pack(this.latitude, this.longitude);
+    }
+
+    /**
+     * Tells whether two locations are at the same place, to the microdegree, whatever their IDs
+     * and addresses.
+     *
+     * @param other the location to compare with
+     * @return true if both coordinates round to the same microdegrees
+     */
+    public boolean isAt(@NotNull Location other) {
+        return this == other || getPackedCoordinates() == other.getPackedCoordinates();
+    }
+
     /**
      * Returns the full address as a formatted string
      *
@@ -126,24 +170,56 @@ public class Location {
                 longitude);
     }
 
+    /**
+     * Locations are equal when they have the same ID, so a pooled or shared instance compares in
+     * constant time and the same row loaded twice is one location. A location without an ID is
+     * only equal to itself. Use {@link #isAt} to compare places.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Location location = (Location) o;
-        return Float.compare(location.latitude, latitude) == 0 &&
-                Float.compare(location.longitude, longitude) == 0 &&
-                Objects.equals(locationId, location.locationId) &&
-                Objects.equals(addressLine1, location.addressLine1) &&
-                Objects.equals(addressLine2, location.addressLine2) &&
-                Objects.equals(city, location.city) &&
-                Objects.equals(state, location.state) &&
-                Objects.equals(zipcode, location.zipcode) &&
-                Objects.equals(country, location.country);
+        if (!(o instanceof Location location)) return false;
+        return this.locationId != null && this.locationId.equals(location.locationId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(locationId, addressLine1, addressLine2, city, state, zipcode, country, latitude, longitude);
+        return this.locationId != null ? this.locationId.hashCode() : System.identityHashCode(this);
+    }
+
+    /**
+     * @return a new, unshared location with this address at other coordinates
+     */
+    @NotNull Location copyAt(float latitude, float longitude) {
+        return new Location(this.addressLine1,
+                            this.addressLine2,
+                            this.city,
+                            this.state,
+                            this.zipcode,
+                            this.country,
+                            latitude,
+                            longitude);
+    }
+
+    void markShared() {
+        this.shared = true;
+    }
+
+    // Private Methods
+    @PostLoad
+    private void poolComponents() {
+        this.city = LocationPool.component(this.city);
+        this.state = LocationPool.component(this.state);
+        this.zipcode = LocationPool.component(this.zipcode);
+        this.country = LocationPool.component(this.country);
+        if (LocationPool.matchesShared(this)) {
+            markShared();
+        }
+    }
+
+    private void requireNotShared() {
+        if (this.shared) {
+            throw new IllegalStateException("Shared location " + getLocationId() + " cannot be changed");
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.huyvo.dronedeliverymanagementapp.classes.domains;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonical instances of what many {@link Location}s have in common.
+ * <p>
+ * Address components that repeat across customers (city, state, ZIP code and country) are kept
+ * once: every location built or loaded through {@link Location} points at the pooled string
+ * instead of its own copy. Address lines are left alone, as they are mostly unique and pooling
+ * them would only add map entries. The pool holds at most {@value #MAX_COMPONENTS} components and
+ * evicts the least useful ones beyond that, so a long-running application reading ever new
+ * addresses does not grow it without end; an evicted component is simply no longer shared.
+ * <p>
+ * Well-known places such as drone bases are shared flyweights: {@link #shared} returns the same
+ * immutable {@link Location} for the same address and coordinates, however many drones refer to it.
+ */
+public final class LocationPool {
+    private static final int MAX_COMPONENTS = 65_536;
+    private static final Cache<String, String> components = Caffeine.newBuilder()
+            .maximumSize(MAX_COMPONENTS)
+            .build();
+    private static final ConcurrentMap<SharedKey, Location> sharedLocations = new ConcurrentHashMap<>();
+
+    private LocationPool() {}
+
+    /**
+     * @param value an address component, or {@code null}
+     * @return the pooled instance equal to {@code value}
+     */
+    public static String component(String value) {
+        if (value == null) {
+            return null;
+        }
+        return components.get(value, v -> v);
+    }
+
+    /**
+     * Returns the shared location for an address and coordinates, creating it on first use.
+     * Its setters throw {@link IllegalStateException}.
+     *
+     * @return the same immutable location for equal arguments
+     */
+    public static @NotNull Location shared(String addressLine1,
+                                           String addressLine2,
+                                           String city,
+                                           String state,
+                                           String zipcode,
+                                           String country,
+                                           float latitude,
+                                           float longitude) {
+
+        SharedKey key = new SharedKey(addressLine1, addressLine2, city, state, zipcode, country, latitude, longitude);
+        return sharedLocations.computeIfAbsent(key, k -> {
+            Location location = new Location(addressLine1, addressLine2, city, state, zipcode, country, latitude, longitude);
+            location.markShared();
+            return location;
+        });
+    }
+
+    /**
+     * Tells whether a location has the address and coordinates of a shared location, such as a
+     * drone base row loaded from the database.
+     */
+    static boolean matchesShared(@NotNull Location location) {
+        return !sharedLocations.isEmpty()
+                && sharedLocations.containsKey(new SharedKey(location.getAddressLine1(),
+                                                             location.getAddressLine2(),
+                                                             location.getCity(),
+                                                             location.getState(),
+                                                             location.getZipcode(),
+                                                             location.getCountry(),
+                                                             location.getLatitude(),
+                                                             location.getLongitude()));
+    }
+
+    public static long componentCount() {
+        components.cleanUp();
+        return components.estimatedSize();
+    }
+
+    public static int sharedLocationCount() {
+        return sharedLocations.size();
+    }
+
+    // Private Methods
+    private record SharedKey(String addressLine1,
+                             String addressLine2,
+                             String city,
+                             String state,
+                             String zipcode,
+                             String country,
+                             float latitude,
+                             float longitude) {}
+}
@@ -0,0 +1,17 @@
+package com.huyvo.dronedeliverymanagementapp.classes.domains;
+
+import java.security.SecureRandom;
+
+/**
+ * The original ID scheme: every ID is random, drawn from one shared {@link SecureRandom}.
+ * IDs are unordered, so inserts land all over a primary key index, and every thread contends on
+ * the same generator. Kept for comparison and for callers that want IDs that reveal nothing.
+ */
+public final class RandomIdStrategy implements IdStrategy {
+    private static final SecureRandom random = new SecureRandom();
+
+    @Override
+    public long nextPayload() {
+        return random.nextLong();
+    }
+}
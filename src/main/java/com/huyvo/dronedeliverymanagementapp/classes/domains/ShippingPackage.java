@@ -5,7 +5,10 @@ import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "shipping_package")
+@Table(name = "shipping_package", indexes = {
+        @Index(name = "idx_shipping_package_sender", columnList = "sender_id"),
+        @Index(name = "idx_shipping_package_recipient", columnList = "recipient_id")
+})
 public class ShippingPackage {
     @EmbeddedId
     private IdentificationNumber packageId;
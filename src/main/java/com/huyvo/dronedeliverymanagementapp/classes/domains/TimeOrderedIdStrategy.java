@@ -0,0 +1,81 @@
+package com.huyvo.dronedeliverymanagementapp.classes.domains;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Clock;
+
+/**
+ * Snowflake-style IDs that grow with time: 40 bits of milliseconds since 2024-01-01 UTC (good until
+ * 2058), 4 bits of node ID, 4 bits of stripe and a 12-bit sequence.
+ * <p>
+ * Each thread draws from one of 16 stripes chosen by its thread ID, so threads rarely touch the
+ * same state. A stripe is a single long holding its last timestamp and sequence, advanced with a
+ * compare-and-set and never locked. When a stripe uses up its 4096 IDs within a millisecond it
+ * borrows the next millisecond instead of waiting, and a clock that steps back never makes
+ * a stripe repeat itself. IDs are therefore unique per node and roughly sorted by creation time.
+ */
+public final class TimeOrderedIdStrategy implements IdStrategy {
+    public static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    public static final int MAX_NODE_ID = 15;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int STRIPE_BITS = 4;
+    private static final int NODE_BITS = 4;
+    private static final int TIME_BITS = 40;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int STRIPE_MASK = (1 << STRIPE_BITS) - 1;
+    // One stripe per 128 bytes so stripes never share a cache line
+    private static final int PADDING = 16;
+    private static final VarHandle STATE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] stripes = new long[(STRIPE_MASK + 1) * PADDING];
+    private final int nodeId;
+    private final Clock clock;
+
+    /**
+     * @param nodeId distinguishes application instances writing to the same database; 0 to {@value #MAX_NODE_ID}
+     */
+    public TimeOrderedIdStrategy(int nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    TimeOrderedIdStrategy(int nodeId, @NotNull Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * @return a strategy for the node ID in the {@code drone.id.node} system property, 0 by default
+     */
+    public static @NotNull TimeOrderedIdStrategy fromSystemProperties() {
+        return new TimeOrderedIdStrategy(Integer.getInteger("drone.id.node", 0));
+    }
+
+    @Override
+    public long nextPayload() {
+        int stripe = (int) Thread.currentThread().threadId() & STRIPE_MASK;
+        int index = stripe * PADDING;
+        long next;
+        while (true) {
+            long current = (long) STATE.getVolatile(this.stripes, index);
+            long now = (this.clock.millis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            next = Math.max(current + 1, now);
+            if (STATE.compareAndSet(this.stripes, index, current, next)) {
+                break;
+            }
+        }
+
+        long time = next >>> SEQUENCE_BITS;
+        if (time >= 1L << TIME_BITS) {
+            throw new IllegalStateException("Time-ordered IDs ran out of timestamp bits");
+        }
+        return (time << (NODE_BITS + STRIPE_BITS + SEQUENCE_BITS))
+                | ((long) this.nodeId << (STRIPE_BITS + SEQUENCE_BITS))
+                | ((long) stripe << SEQUENCE_BITS)
+                | (next & SEQUENCE_MASK);
+    }
+}
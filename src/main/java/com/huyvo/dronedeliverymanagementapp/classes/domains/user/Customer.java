@@ -2,8 +2,20 @@ package com.huyvo.dronedeliverymanagementapp.classes.domains.user;
 
 import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+/**
+ * A customer, sending or receiving packages. Customers are kept in the {@code customer}
+ * second-level cache region, like their {@link Location} addresses.
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "customer")
+@Table(indexes = {
+        @Index(name = "idx_customer_email", columnList = "email"),
+        @Index(name = "idx_customer_status_id", columnList = "user_status, id")
+})
 public class Customer extends User {
     @OneToOne
     @JoinColumn(name = "address_id", nullable = false)
@@ -0,0 +1,13 @@
+package com.huyvo.dronedeliverymanagementapp.classes.enums;
+
+public enum DroneEventType {
+    DELIVERY_STARTED,
+    PACKAGE_LOADED,
+    LOAD_FAILED,
+    MOVED,
+    PACKAGE_UNLOADED,
+    UNLOAD_FAILED,
+    DELIVERY_FINISHED,
+    CHARGING,
+    MAINTENANCE
+}
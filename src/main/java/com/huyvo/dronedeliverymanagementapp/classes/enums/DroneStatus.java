@@ -4,5 +4,21 @@ public enum DroneStatus {
     IDLE,
     IN_TRANSIT,
     CHARGING,
-    MAINTENANCE
+    MAINTENANCE;
+
+    /**
+     * Checks the drone life cycle: an idle drone may take off, charge or go into maintenance,
+     * a drone in transit comes back idle or docks straight onto a charger,
+     * and charging or maintenance always ends idle.
+     *
+     * @param next the status to move to
+     * @return true if a drone in this status may move to {@code next}
+     */
+    public boolean canTransitionTo(DroneStatus next) {
+        return switch (this) {
+            case IDLE -> next == IN_TRANSIT || next == CHARGING || next == MAINTENANCE;
+            case IN_TRANSIT -> next == IDLE || next == CHARGING;
+            case CHARGING, MAINTENANCE -> next == IDLE;
+        };
+    }
 }
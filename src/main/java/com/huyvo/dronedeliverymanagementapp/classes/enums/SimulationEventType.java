@@ -0,0 +1,11 @@
+package com.huyvo.dronedeliverymanagementapp.classes.enums;
+
+public enum SimulationEventType {
+    PACKAGE_READY,
+    LOAD_COMPLETE,
+    TAKE_OFF,
+    ARRIVE_AT_CUSTOMER,
+    UNLOAD_COMPLETE,
+    ARRIVE_AT_BASE,
+    CHARGE_COMPLETE
+}
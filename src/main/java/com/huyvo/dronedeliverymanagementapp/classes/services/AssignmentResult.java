@@ -0,0 +1,45 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a batch package-to-drone assignment.
+ * Each assigned package maps to exactly one drone and no drone is used twice.
+ */
+public class AssignmentResult {
+    private final Map<ShippingPackage, Drone> assignments;
+    private final List<ShippingPackage> unassignedPackages;
+    private final double totalCost;
+    private final boolean optimal;
+
+    public AssignmentResult(Map<ShippingPackage, Drone> assignments,
+                            List<ShippingPackage> unassignedPackages,
+                            double totalCost,
+                            boolean optimal) {
+
+        this.assignments = Collections.unmodifiableMap(assignments);
+        this.unassignedPackages = Collections.unmodifiableList(unassignedPackages);
+        this.totalCost = totalCost;
+        this.optimal = optimal;
+    }
+
+    // Getters
+    public Map<ShippingPackage, Drone> getAssignments() { return this.assignments; }
+    public List<ShippingPackage> getUnassignedPackages() { return this.unassignedPackages; }
+
+    /**
+     * @return the sum of the flight distances, in kilometers, of every assigned trip
+     */
+    public double getTotalCost() { return this.totalCost; }
+
+    /**
+     * @return true if the optimizer converged within its time budget, false if this is
+     *         the best assignment found before the budget ran out
+     */
+    public boolean isOptimal() { return this.optimal; }
+}
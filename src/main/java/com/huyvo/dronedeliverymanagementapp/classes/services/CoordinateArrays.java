@@ -0,0 +1,56 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Structure-of-arrays view of a set of coordinates for {@link HaversineKernel}.
+ * Latitudes and longitudes are stored in radians and the cosine of every latitude is
+ * cached, so none of them has to be recomputed per distance.
+ */
+public final class CoordinateArrays {
+    final double[] latitudes;
+    final double[] longitudes;
+    final double[] cosLatitudes;
+
+    public CoordinateArrays(int size) {
+        this.latitudes = new double[size];
+        this.longitudes = new double[size];
+        this.cosLatitudes = new double[size];
+    }
+
+    /**
+     * Copies the coordinates of the given locations, in list order.
+     *
+     * @param locations the locations to copy
+     * @return the coordinates of every location
+     */
+    public static @NotNull CoordinateArrays of(@NotNull List<Location> locations) {
+        CoordinateArrays coordinates = new CoordinateArrays(locations.size());
+        for (int i = 0; i < locations.size(); i++) {
+            Location location = locations.get(i);
+            coordinates.set(i, location.getLatitude(), location.getLongitude());
+        }
+        return coordinates;
+    }
+
+    /**
+     * Sets one point.
+     *
+     * @param index the position of the point
+     * @param latitude latitude in degrees
+     * @param longitude longitude in degrees
+     */
+    public void set(int index, double latitude, double longitude) {
+        double latitudeRadians = Math.toRadians(latitude);
+        this.latitudes[index] = latitudeRadians;
+        this.longitudes[index] = Math.toRadians(longitude);
+        this.cosLatitudes[index] = Math.cos(latitudeRadians);
+    }
+
+    public int size() {
+        return this.latitudes.length;
+    }
+}
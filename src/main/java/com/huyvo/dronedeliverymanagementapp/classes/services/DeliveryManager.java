@@ -4,43 +4,81 @@ import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
 import com.huyvo.dronedeliverymanagementapp.classes.domains.DroneBase;
 import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
 import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.geofence.AirspaceRoute;
+import com.huyvo.dronedeliverymanagementapp.geofence.Geofence;
+import com.huyvo.dronedeliverymanagementapp.metrics.FleetMetrics;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
-public class DeliveryManager {
+/**
+ * Plans deliveries from one drone base. The manager follows its drones' movements to find the
+ * nearest idle ones, so a manager that is no longer needed should be {@link #close() closed}.
+ */
+public class DeliveryManager implements AutoCloseable {
+    // Radius of the Earth in kilometers
+    public static final int EARTH_RADIUS_KM = 6371;
+
     private final DroneBase droneBase;
     private final List<Drone> droneList;
     private final List<ShippingPackage> packageList;
+    private final DroneSpatialIndex droneIndex;
+    private final DistanceCache distanceCache;
+    private final Geofence geofence;
 
     public DeliveryManager(DroneBase dronebase, List<Drone> droneList, List<ShippingPackage> packageList) {
+        this(dronebase, droneList, packageList, DistanceCache.shared());
+    }
+
+    public DeliveryManager(DroneBase dronebase,
+                           List<Drone> droneList,
+                           List<ShippingPackage> packageList,
+                           DistanceCache distanceCache) {
+        this(dronebase, droneList, packageList, distanceCache, Geofence.shared());
+    }
+
+    public DeliveryManager(DroneBase dronebase,
+                           List<Drone> droneList,
+                           List<ShippingPackage> packageList,
+                           DistanceCache distanceCache,
+                           Geofence geofence) {
         this.droneBase = dronebase;
         this.droneList = droneList;
         this.packageList = packageList;
+        this.droneIndex = new DroneSpatialIndex();
+        this.droneIndex.addAll(droneList);
+        this.distanceCache = distanceCache;
+        this.geofence = geofence;
+        FleetMetrics.trackFleet(this, dronebase, droneList);
     }
 
     public float calculateDistance(@NotNull ShippingPackage shippingPackage){
         Location baseLocation = this.droneBase.getLocation();
         Location finalLocation = shippingPackage.getDeliveryLocation();
 
-        double lat1 = baseLocation.getLatitude();
-        double lon1 = baseLocation.getLongitude();
-        double lat2 = finalLocation.getLatitude();
-        double lon2 = finalLocation.getLongitude();
-
-        // Radius of the Earth in kilometers
-        final int R = 6371;
+        FleetMetrics.recordDistanceCalculation();
+        return this.distanceCache.distance(baseLocation, finalLocation);
+    }
 
+    /**
+     * Great-circle distance between two coordinates using the haversine formula.
+     *
+     * @param lat1 latitude of the first point in degrees
+     * @param lon1 longitude of the first point in degrees
+     * @param lat2 latitude of the second point in degrees
+     * @param lon2 longitude of the second point in degrees
+     * @return the distance in kilometers
+     */
+    public static double haversineDistance(double lat1, double lon1, double lat2, double lon2) {
         double latDistance = Math.toRadians(lat2 - lat1);
         double lonDistance = Math.toRadians(lon2 - lon1);
         double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
                 + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
                 * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
         double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        double distance = R * c; // in kilometers
-
-        return (float) distance;
+        return EARTH_RADIUS_KM * c; // in kilometers
     }
 
     public float distanceDroneHasLeft(@NotNull Drone drone){
@@ -50,11 +88,131 @@ public class DeliveryManager {
     }
 
     public boolean canDeliver(Drone drone, ShippingPackage customerPackage){
-        return distanceDroneHasLeft(drone) <= calculateDistance(customerPackage);
+        FleetMetrics.recordCanDeliverCheck();
+        return distanceDroneHasLeft(drone) <= calculateDistance(customerPackage)
+                && checkAirspace(drone, customerPackage).isFlyable();
     }
 
+    /**
+     * Checks the flight from where a drone is to the delivery location of a package against the
+     * no-fly zones, and finds a way around them if they are in the way.
+     *
+     * @return the route to fly, or a rejection if the package cannot be delivered without entering a zone
+     */
+    public AirspaceRoute checkAirspace(@NotNull Drone drone, @NotNull ShippingPackage shippingPackage) {
+        return checkAirspace(drone.getCurrentLocation(), shippingPackage.getDeliveryLocation());
+    }
 
+    /**
+     * Finds the idle drones closest to the pickup location of a package.
+     *
+     * @param shippingPackage the package that needs a drone
+     * @param k the maximum number of drones to return; must be positive
+     * @return up to {@code k} IDLE drones ordered from nearest to farthest
+     */
+    public List<Drone> findNearestIdleDrones(@NotNull ShippingPackage shippingPackage, int k) {
+        long start = System.nanoTime();
+        Location pickup = shippingPackage.getPickupLocation();
+        List<Drone> nearest = this.droneIndex.findNearestIdle(pickup.getLatitude(), pickup.getLongitude(), k);
+        FleetMetrics.recordDispatch(FleetMetrics.DispatchDecision.NEAREST_IDLE, System.nanoTime() - start);
+        return nearest;
+    }
 
+    /**
+     * Assigns the whole package backlog to IDLE drones at once, minimising total flight distance
+     * while respecting each drone's max payload and remaining range. Packages that cannot be
+     * reached from the base without entering a no-fly zone, or whose detour around the zones is
+     * longer out and back than any drone's remaining range, are left unassigned.
+     *
+     * @param timeBudget the maximum wall-clock time to spend; if it runs out, the best
+     *                   assignment found so far is returned
+     * @return the assignment of packages to drones
+     */
+    public AssignmentResult assignPackages(@NotNull Duration timeBudget) {
+        long start = System.nanoTime();
+        List<ShippingPackage> rejected = new ArrayList<>();
+        float maxRange = 0;
+        for (Drone drone : this.droneList) {
+            maxRange = Math.max(maxRange, distanceDroneHasLeft(drone));
+        }
+        List<ShippingPackage> flyable = packagesInAirspace(maxRange, rejected);
+        DroneAssignmentOptimizer optimizer = new DroneAssignmentOptimizer(this.droneBase.getLocation());
+        AssignmentResult result = optimizer.optimize(flyable, this.droneList, timeBudget);
+        if (!rejected.isEmpty()) {
+            rejected.addAll(0, result.getUnassignedPackages());
+            result = new AssignmentResult(result.getAssignments(), rejected, result.getTotalCost(), result.isOptimal());
+        }
+        FleetMetrics.recordDispatch(FleetMetrics.DispatchDecision.BATCH_ASSIGNMENT, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Plans multi-stop tours that deliver the whole package backlog, each tour within the
+     * max payload and full-battery range of the drone that flies it. Packages that cannot be
+     * reached from the base without entering a no-fly zone, or whose detour around the zones is
+     * longer out and back than any drone's full-battery range, are left unplanned.
+     *
+     * @return the planned tours and the packages no drone can carry
+     */
+    public RoutePlan planRoutes() {
+        long start = System.nanoTime();
+        List<ShippingPackage> rejected = new ArrayList<>();
+        float maxRange = 0;
+        for (Drone drone : this.droneList) {
+            maxRange = Math.max(maxRange, drone.getMileage());
+        }
+        List<ShippingPackage> flyable = packagesInAirspace(maxRange, rejected);
+        RoutePlanner planner = new RoutePlanner(this.droneBase.getLocation());
+        RoutePlan plan = planner.plan(flyable, this.droneList);
+        if (!rejected.isEmpty()) {
+            rejected.addAll(0, plan.getUnplannedPackages());
+            plan = new RoutePlan(plan.getRoutes(), rejected);
+        }
+        FleetMetrics.recordDispatch(FleetMetrics.DispatchDecision.ROUTE_PLANNING, System.nanoTime() - start);
+        return plan;
+    }
+
+    /**
+     * Stops following the drones' movements.
+     */
+    @Override
+    public void close() {
+        this.droneIndex.clear();
+    }
+
+    // Private Methods
+    private AirspaceRoute checkAirspace(Location from, Location to) {
+        long start = System.nanoTime();
+        AirspaceRoute route = this.geofence.route(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+        FleetMetrics.recordDispatch(FleetMetrics.DispatchDecision.AIRSPACE_CHECK, System.nanoTime() - start);
+        return route;
+    }
+
+    /**
+     * The optimizer and the planner cost straight legs, so a detour is only accounted for here: a
+     * package is dropped if the detour there and back is longer than the best drone can fly.
+     *
+     * @param maxRange the longest distance any drone can fly, in kilometers
+     * @param rejected receives the packages whose delivery location cannot be reached from the base
+     * @return the other packages
+     */
+    private List<ShippingPackage> packagesInAirspace(float maxRange, List<ShippingPackage> rejected) {
+        if (this.geofence.getIndex().size() == 0) {
+            return this.packageList;
+        }
+        Location base = this.droneBase.getLocation();
+        List<ShippingPackage> flyable = new ArrayList<>(this.packageList.size());
+        for (ShippingPackage shippingPackage : this.packageList) {
+            AirspaceRoute route = checkAirspace(base, shippingPackage.getDeliveryLocation());
+            if (route.verdict() == AirspaceRoute.Verdict.CLEAR
+                    || route.isFlyable() && 2 * route.distanceKm() <= maxRange) {
+                flyable.add(shippingPackage);
+            } else {
+                rejected.add(shippingPackage);
+            }
+        }
+        return flyable;
+    }
 
     //Getters
     public List<Drone> getDroneList() {
@@ -0,0 +1,86 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A concurrent, size-bounded cache of great-circle distances keyed by the
+ * (from locationId, to locationId) pair. Eviction is Caffeine's W-TinyLFU policy and
+ * hit, miss and eviction counts are recorded for the actuator.
+ * <p>
+ * Every key also carries the exact coordinates of both locations. Once a location moves, the
+ * distances cached for its old coordinates no longer match and age out through normal eviction,
+ * so nothing has to be tracked per location and the cache holds no more than its maximum size.
+ * This holds for every instance of a location, however many persistence contexts loaded it.
+ */
+public final class DistanceCache {
+    private static final long DEFAULT_MAXIMUM_SIZE = 100_000;
+    private static final DistanceCache SHARED = new DistanceCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final Cache<LocationPair, Float> cache;
+
+    /**
+     * @param maximumSize the maximum number of cached distances
+     */
+    public DistanceCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return the application-wide cache
+     */
+    public static @NotNull DistanceCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the distance between two locations, computing and caching it on a miss.
+     * Locations without an ID (not yet constructed through the domain constructor) are never cached.
+     *
+     * @param from the start location
+     * @param to the end location
+     * @return the distance in kilometers
+     */
+    public float distance(@NotNull Location from, @NotNull Location to) {
+        String fromId = from.getLocationId();
+        String toId = to.getLocationId();
+        if (fromId == null || toId == null) {
+            return compute(from, to);
+        }
+        // Read the coordinates once, so the key and the distance computed under it always agree
+        float fromLatitude = from.getLatitude();
+        float fromLongitude = from.getLongitude();
+        float toLatitude = to.getLatitude();
+        float toLongitude = to.getLongitude();
+        LocationPair key = new LocationPair(fromId, coordinateBits(fromLatitude, fromLongitude),
+                                            toId, coordinateBits(toLatitude, toLongitude));
+        return this.cache.get(key, pair -> compute(fromLatitude, fromLongitude, toLatitude, toLongitude));
+    }
+
+    /**
+     * @return the underlying Caffeine cache, for binding its statistics to a meter registry
+     */
+    public @NotNull Cache<?, ?> nativeCache() {
+        return this.cache;
+    }
+
+    // Private Methods
+    private static long coordinateBits(float latitude, float longitude) {
+        return (long) Float.floatToIntBits(latitude) << 32 | Float.floatToIntBits(longitude) & 0xFFFFFFFFL;
+    }
+
+    private static float compute(Location from, Location to) {
+        return compute(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+    }
+
+    private static float compute(float fromLatitude, float fromLongitude, float toLatitude, float toLongitude) {
+        return (float) DeliveryManager.haversineDistance(fromLatitude, fromLongitude, toLatitude, toLongitude);
+    }
+
+    private record LocationPair(String fromId, long fromCoordinates, String toId, long toCoordinates) {}
+}
@@ -0,0 +1,397 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Assigns a backlog of packages to IDLE drones in one batch, minimising the total flight
+ * distance with the auction algorithm (Bertsekas) and epsilon scaling.
+ * <p>
+ * The cost of giving package p to drone d is the trip drone -> pickup -> delivery -> base.
+ * A pair is only feasible if the package weight fits the drone's max payload and the trip
+ * fits the drone's remaining range ({@link DeliveryManager#distanceDroneHasLeft(Drone)}).
+ * <p>
+ * The cost matrix is evaluated in parallel, one package row per task, with the drone legs of a
+ * row computed by a {@link HaversineKernel} in one batch. Only the cheapest
+ * {@code maxCandidates} feasible drones of each row are kept, so memory stays
+ * O(packages * maxCandidates) instead of O(packages * drones).
+ * <p>
+ * Prices carry over from one scaling phase to the next, so a drone priced up in an earlier phase
+ * may end the last one without an owner and still priced too high for the packages that should
+ * have it. As there are rarely as many packages as drones, the last phase is followed by a
+ * reverse auction in which such drones bid for packages until every drone left over is free
+ * again; only then is the assignment within {@code packages * epsilon} of the optimum.
+ * <p>
+ * The auction stops when its time budget runs out. It then returns the assignment of the last
+ * completed scaling phase (or the current partial one) and greedily gives any remaining
+ * package its cheapest free candidate drone.
+ */
+public class DroneAssignmentOptimizer {
+    private static final int DEFAULT_MAX_CANDIDATES = 32;
+    private static final float FINAL_EPSILON_KM = 0.01f;
+    private static final float EPSILON_SCALING_FACTOR = 5f;
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final Location baseLocation;
+    private final int maxCandidates;
+    private final HaversineKernel kernel = HaversineKernel.create();
+
+    public DroneAssignmentOptimizer(Location baseLocation) {
+        this(baseLocation, DEFAULT_MAX_CANDIDATES);
+    }
+
+    /**
+     * Constructs an optimizer for drones that return to the given base after each delivery.
+     *
+     * @param baseLocation the location every drone flies back to
+     * @param maxCandidates how many of the cheapest feasible drones to keep per package; must be positive
+     * @throws IllegalArgumentException if maxCandidates is not positive
+     */
+    public DroneAssignmentOptimizer(@NotNull Location baseLocation, int maxCandidates) {
+        if (maxCandidates <= 0) {
+            throw new IllegalArgumentException("maxCandidates must be positive");
+        }
+        this.baseLocation = baseLocation;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Computes a minimum-cost assignment of packages to IDLE drones.
+     *
+     * @param packages the packages to assign
+     * @param drones the fleet; drones that are not IDLE are ignored
+     * @param timeBudget the wall-clock time the optimizer may spend, including the cost matrix build
+     * @return the assignment; packages without any feasible free drone are reported as unassigned
+     */
+    public @NotNull AssignmentResult optimize(@NotNull List<ShippingPackage> packages,
+                                              @NotNull List<Drone> drones,
+                                              @NotNull Duration timeBudget) {
+
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        List<Drone> idleDrones = drones.stream()
+                .filter(drone -> drone.getStatus() == DroneStatus.IDLE)
+                .toList();
+
+        CandidateTable candidates = buildCandidates(packages, idleDrones, deadline);
+        AuctionOutcome outcome = runAuction(candidates, idleDrones.size(), deadline);
+        int[] droneOfPackage = outcome.droneOfPackage();
+        if (!outcome.converged()) {
+            fillGreedily(candidates, droneOfPackage, idleDrones.size());
+        }
+
+        Map<ShippingPackage, Drone> assignments = new HashMap<>();
+        List<ShippingPackage> unassigned = new ArrayList<>();
+        double totalCost = 0;
+        for (int p = 0; p < packages.size(); p++) {
+            int slot = droneOfPackage[p];
+            if (slot < 0) {
+                unassigned.add(packages.get(p));
+                continue;
+            }
+            assignments.put(packages.get(p), idleDrones.get(candidates.droneAt(p, slot)));
+            totalCost += candidates.costAt(p, slot);
+        }
+        boolean optimal = outcome.converged() && !candidates.incomplete;
+        return new AssignmentResult(assignments, unassigned, totalCost, optimal);
+    }
+
+    // Private Methods
+    private @NotNull CandidateTable buildCandidates(List<ShippingPackage> packages, List<Drone> drones, long deadline) {
+        int droneCount = drones.size();
+        CoordinateArrays droneCoordinates = new CoordinateArrays(droneCount);
+        float[] droneRanges = new float[droneCount];
+        float[] dronePayloads = new float[droneCount];
+        for (int d = 0; d < droneCount; d++) {
+            Drone drone = drones.get(d);
+            droneCoordinates.set(d, drone.getCurrentLocation().getLatitude(), drone.getCurrentLocation().getLongitude());
+            droneRanges[d] = (drone.getBatteryLevel() / 100f) * drone.getMileage();
+            dronePayloads[d] = drone.getMaxPayload();
+        }
+
+        CandidateTable table = new CandidateTable(packages.size(), maxCandidates);
+        ThreadLocal<double[]> rowBuffers = ThreadLocal.withInitial(() -> new double[droneCount]);
+        IntStream.range(0, packages.size()).parallel().forEach(p -> {
+            if (System.nanoTime() > deadline) {
+                table.incomplete = true;
+                return; // out of time: this package keeps no candidates and stays unassigned
+            }
+            ShippingPackage shippingPackage = packages.get(p);
+            Location pickup = shippingPackage.getPickupLocation();
+            Location delivery = shippingPackage.getDeliveryLocation();
+            double deliveryLeg = DeliveryManager.haversineDistance(pickup.getLatitude(), pickup.getLongitude(),
+                                                                   delivery.getLatitude(), delivery.getLongitude());
+            double returnLeg = DeliveryManager.haversineDistance(delivery.getLatitude(), delivery.getLongitude(),
+                                                                 baseLocation.getLatitude(), baseLocation.getLongitude());
+            double fixedLegs = deliveryLeg + returnLeg;
+
+            double pickupLatitude = Math.toRadians(pickup.getLatitude());
+            double[] approachLegs = rowBuffers.get();
+            kernel.oneToMany(pickupLatitude, Math.toRadians(pickup.getLongitude()), Math.cos(pickupLatitude),
+                             droneCoordinates, approachLegs);
+            for (int d = 0; d < droneCount; d++) {
+                if (shippingPackage.getWeight() > dronePayloads[d]) {
+                    continue;
+                }
+                double trip = fixedLegs + approachLegs[d];
+                if (trip <= droneRanges[d]) {
+                    table.offer(p, d, (float) trip);
+                }
+            }
+        });
+        table.computeMaxCost();
+        return table;
+    }
+
+    /**
+     * Runs the auction with epsilon scaling. Packages bid for candidate drones; every package
+     * may also stay unassigned at a fixed cost higher than any feasible trip, which keeps the
+     * auction finite when there are more packages than drones.
+     *
+     * @return the slot of the assigned candidate for every package (-1 if unassigned); if the
+     *         deadline passed first, the last completed phase or else the current partial one
+     */
+    private @NotNull AuctionOutcome runAuction(CandidateTable candidates, int droneCount, long deadline) {
+        int packageCount = candidates.packageCount;
+        float unassignedValue = -(candidates.maxCost * 2 + 1);
+        float[] prices = new float[droneCount];
+        int[] ownerOfDrone = new int[droneCount];
+        int[] droneOfPackage = new int[packageCount];
+        ArrayDeque<Integer> biddingQueue = new ArrayDeque<>();
+        float epsilon = Math.max(candidates.maxCost / EPSILON_SCALING_FACTOR, FINAL_EPSILON_KM);
+        int iterations = 0;
+        int[] lastCompletedPhase = null;
+
+        while (true) {
+            Arrays.fill(ownerOfDrone, -1);
+            Arrays.fill(droneOfPackage, -1);
+            for (int p = 0; p < packageCount; p++) {
+                if (candidates.sizes[p] > 0) {
+                    biddingQueue.add(p);
+                }
+            }
+
+            while (!biddingQueue.isEmpty()) {
+                if (++iterations % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                    int[] bestSoFar = lastCompletedPhase != null ? lastCompletedPhase : droneOfPackage;
+                    return new AuctionOutcome(bestSoFar, false);
+                }
+
+                int p = biddingQueue.poll();
+                float best = unassignedValue;
+                float second = unassignedValue;
+                int bestSlot = -1;
+                for (int slot = 0; slot < candidates.sizes[p]; slot++) {
+                    float value = -candidates.costAt(p, slot) - prices[candidates.droneAt(p, slot)];
+                    if (value > best) {
+                        second = best;
+                        best = value;
+                        bestSlot = slot;
+                    } else if (value > second) {
+                        second = value;
+                    }
+                }
+                if (bestSlot < 0) {
+                    continue; // staying unassigned is at least as good as any drone at current prices
+                }
+
+                int drone = candidates.droneAt(p, bestSlot);
+                prices[drone] += best - second + epsilon;
+                int previousOwner = ownerOfDrone[drone];
+                if (previousOwner >= 0) {
+                    droneOfPackage[previousOwner] = -1;
+                    biddingQueue.add(previousOwner);
+                }
+                ownerOfDrone[drone] = p;
+                droneOfPackage[p] = bestSlot;
+            }
+
+            if (epsilon <= FINAL_EPSILON_KM) {
+                boolean converged = lowerUnownedPrices(candidates, prices, ownerOfDrone, droneOfPackage,
+                                                       unassignedValue, epsilon, deadline);
+                return new AuctionOutcome(droneOfPackage, converged);
+            }
+            lastCompletedPhase = droneOfPackage.clone();
+            epsilon = Math.max(epsilon / EPSILON_SCALING_FACTOR, FINAL_EPSILON_KM);
+        }
+    }
+
+    /**
+     * Runs the reverse auction: every drone without an owner but with a price above zero takes
+     * the package that gains the most from it, at a price epsilon below what the runner-up
+     * package would gain, or drops its price to zero if no package gains from it. The package
+     * leaves its previous drone, which may then have to do the same. Every package keeps within
+     * epsilon of its best value, as in the forward auction.
+     *
+     * @return false if the deadline passed first; the assignment is valid either way
+     */
+    private boolean lowerUnownedPrices(CandidateTable candidates, float[] prices, int[] ownerOfDrone,
+                                       int[] droneOfPackage, float unassignedValue, float epsilon, long deadline) {
+        int droneCount = prices.length;
+        int packageCount = candidates.packageCount;
+
+        // The candidate table by drone: the packages, and their slots, that each drone may take
+        int[] starts = new int[droneCount + 1];
+        for (int p = 0; p < packageCount; p++) {
+            for (int slot = 0; slot < candidates.sizes[p]; slot++) {
+                starts[candidates.droneAt(p, slot) + 1]++;
+            }
+        }
+        for (int d = 0; d < droneCount; d++) {
+            starts[d + 1] += starts[d];
+        }
+        int[] packagesOfDrone = new int[starts[droneCount]];
+        int[] slotsOfDrone = new int[starts[droneCount]];
+        int[] filled = Arrays.copyOf(starts, droneCount);
+        for (int p = 0; p < packageCount; p++) {
+            for (int slot = 0; slot < candidates.sizes[p]; slot++) {
+                int entry = filled[candidates.droneAt(p, slot)]++;
+                packagesOfDrone[entry] = p;
+                slotsOfDrone[entry] = slot;
+            }
+        }
+
+        float[] values = new float[packageCount];
+        for (int p = 0; p < packageCount; p++) {
+            int slot = droneOfPackage[p];
+            values[p] = slot < 0 ? unassignedValue : -candidates.costAt(p, slot) - prices[candidates.droneAt(p, slot)];
+        }
+        ArrayDeque<Integer> unowned = new ArrayDeque<>();
+        for (int d = 0; d < droneCount; d++) {
+            if (ownerOfDrone[d] < 0 && prices[d] > 0) {
+                unowned.add(d);
+            }
+        }
+
+        int iterations = 0;
+        while (!unowned.isEmpty()) {
+            if (++iterations % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                return false;
+            }
+
+            int drone = unowned.poll();
+            float best = Float.NEGATIVE_INFINITY;
+            float second = Float.NEGATIVE_INFINITY;
+            int bestEntry = -1;
+            for (int entry = starts[drone]; entry < starts[drone + 1]; entry++) {
+                int p = packagesOfDrone[entry];
+                float gain = -candidates.costAt(p, slotsOfDrone[entry]) - values[p];
+                if (gain > best) {
+                    second = best;
+                    best = gain;
+                    bestEntry = entry;
+                } else if (gain > second) {
+                    second = gain;
+                }
+            }
+            if (bestEntry < 0 || best - epsilon <= 0) {
+                prices[drone] = 0;
+                continue;
+            }
+
+            int p = packagesOfDrone[bestEntry];
+            int slot = slotsOfDrone[bestEntry];
+            prices[drone] = Math.max(0, second - epsilon);
+            if (droneOfPackage[p] >= 0) {
+                int previousDrone = candidates.droneAt(p, droneOfPackage[p]);
+                ownerOfDrone[previousDrone] = -1;
+                if (prices[previousDrone] > 0) {
+                    unowned.add(previousDrone);
+                }
+            }
+            ownerOfDrone[drone] = p;
+            droneOfPackage[p] = slot;
+            values[p] = -candidates.costAt(p, slot) - prices[drone];
+        }
+        return true;
+    }
+
+    private void fillGreedily(CandidateTable candidates, int[] droneOfPackage, int droneCount) {
+        boolean[] taken = new boolean[droneCount];
+        for (int p = 0; p < candidates.packageCount; p++) {
+            if (droneOfPackage[p] >= 0) {
+                taken[candidates.droneAt(p, droneOfPackage[p])] = true;
+            }
+        }
+        for (int p = 0; p < candidates.packageCount; p++) {
+            if (droneOfPackage[p] >= 0) {
+                continue;
+            }
+            // Slots are kept sorted by cost, so the first free one is the cheapest
+            for (int slot = 0; slot < candidates.sizes[p]; slot++) {
+                int drone = candidates.droneAt(p, slot);
+                if (!taken[drone]) {
+                    taken[drone] = true;
+                    droneOfPackage[p] = slot;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * The cheapest feasible drones of every package, stored row-major in flat arrays and
+     * kept sorted by ascending cost. Each row is written by exactly one thread.
+     */
+    private static final class CandidateTable {
+        private final int packageCount;
+        private final int width;
+        private final int[] drones;
+        private final float[] costs;
+        private final int[] sizes;
+        private float maxCost;
+        // Set if the deadline passed before every row was built
+        private volatile boolean incomplete;
+
+        private CandidateTable(int packageCount, int width) {
+            this.packageCount = packageCount;
+            this.width = width;
+            this.drones = new int[packageCount * width];
+            this.costs = new float[packageCount * width];
+            this.sizes = new int[packageCount];
+        }
+
+        private void offer(int p, int drone, float cost) {
+            int offset = p * width;
+            int size = sizes[p];
+            if (size == width && cost >= costs[offset + size - 1]) {
+                return;
+            }
+            int position = size == width ? size - 1 : size;
+            while (position > 0 && costs[offset + position - 1] > cost) {
+                costs[offset + position] = costs[offset + position - 1];
+                drones[offset + position] = drones[offset + position - 1];
+                position--;
+            }
+            costs[offset + position] = cost;
+            drones[offset + position] = drone;
+            if (size < width) {
+                sizes[p] = size + 1;
+            }
+        }
+
+        private void computeMaxCost() {
+            for (int p = 0; p < packageCount; p++) {
+                if (sizes[p] > 0) {
+                    maxCost = Math.max(maxCost, costAt(p, sizes[p] - 1));
+                }
+            }
+        }
+
+        private int droneAt(int p, int slot) { return drones[p * width + slot]; }
+        private float costAt(int p, int slot) { return costs[p * width + slot]; }
+    }
+
+    private record AuctionOutcome(int[] droneOfPackage, boolean converged) {}
+}
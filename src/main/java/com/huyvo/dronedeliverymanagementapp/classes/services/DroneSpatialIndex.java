@@ -0,0 +1,295 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.DroneMovementListener;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A uniform latitude/longitude grid over drone positions, used to answer
+ * "k nearest IDLE drones to this point" without scanning the whole fleet.
+ * <p>
+ * The index registers itself as a {@link DroneMovementListener} of every drone it holds, next to
+ * any other listeners, so calls to {@link Drone#goTo(Location)} and
+ * {@link Drone#setCurrentLocation(float, float)} move the drone to its new cell automatically.
+ * An index that is no longer used should be {@link #clear() cleared}, or its drones keep it alive
+ * and keep telling it about every move. Drone status is not cached; it is read at query time.
+ * <p>
+ * Queries search the cell containing the point, then rings of neighbouring cells, and stop
+ * once the nearest unsearched cell is farther away than the k-th best drone found so far.
+ * Longitude does not wrap around the antimeridian, so fleets operating across it may get
+ * slightly suboptimal results near ±180°.
+ */
+public class DroneSpatialIndex implements DroneMovementListener {
+    private static final float DEFAULT_CELL_SIZE_DEGREES = 0.02f;
+
+    private final float cellSizeDegrees;
+    private final int rowCount;
+    private final int columnCount;
+    private final Map<Long, List<Drone>> cells = new HashMap<>();
+    private final Map<Drone, Long> cellOfDrone = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public DroneSpatialIndex() {
+        this(DEFAULT_CELL_SIZE_DEGREES);
+    }
+
+    /**
+     * Constructs an empty index with square cells of the given size.
+     *
+     * @param cellSizeDegrees the width and height of a grid cell in degrees; must be positive
+     * @throws IllegalArgumentException if the cell size is not positive
+     */
+    public DroneSpatialIndex(float cellSizeDegrees) {
+        if (cellSizeDegrees <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.rowCount = (int) Math.ceil(180f / cellSizeDegrees);
+        this.columnCount = (int) Math.ceil(360f / cellSizeDegrees);
+    }
+
+    /**
+     * Adds a drone to the index and starts following its movements.
+     *
+     * @param drone the drone to index
+     */
+    public void add(@NotNull Drone drone) {
+        lock.writeLock().lock();
+        try {
+            if (cellOfDrone.containsKey(drone)) {
+                return;
+            }
+            long cell = cellOf(drone.getCurrentLocation());
+            cells.computeIfAbsent(cell, key -> new ArrayList<>()).add(drone);
+            cellOfDrone.put(drone, cell);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        drone.addMovementListener(this);
+    }
+
+    public void addAll(@NotNull Collection<Drone> drones) {
+        for (Drone drone : drones) {
+            add(drone);
+        }
+    }
+
+    /**
+     * Removes a drone from the index and stops following its movements.
+     *
+     * @param drone the drone to remove
+     */
+    public void remove(@NotNull Drone drone) {
+        lock.writeLock().lock();
+        try {
+            Long cell = cellOfDrone.remove(drone);
+            if (cell == null) {
+                return;
+            }
+            removeFromCell(cell, drone);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        drone.removeMovementListener(this);
+    }
+
+    /**
+     * Removes every drone from the index and stops following their movements.
+     */
+    public void clear() {
+        List<Drone> drones;
+        lock.writeLock().lock();
+        try {
+            drones = new ArrayList<>(cellOfDrone.keySet());
+            cellOfDrone.clear();
+            cells.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (Drone drone : drones) {
+            drone.removeMovementListener(this);
+        }
+    }
+
+    @Override
+    public void onDroneMoved(Drone drone) {
+        long newCell = cellOf(drone.getCurrentLocation());
+        lock.writeLock().lock();
+        try {
+            Long oldCell = cellOfDrone.get(drone);
+            if (oldCell == null || oldCell == newCell) {
+                return;
+            }
+            removeFromCell(oldCell, drone);
+            cells.computeIfAbsent(newCell, key -> new ArrayList<>()).add(drone);
+            cellOfDrone.put(drone, newCell);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the IDLE drones closest to the given point.
+     *
+     * @param latitude latitude of the point in degrees
+     * @param longitude longitude of the point in degrees
+     * @param k the maximum number of drones to return; must be positive
+     * @return up to {@code k} IDLE drones ordered from nearest to farthest
+     * @throws IllegalArgumentException if k is not positive
+     */
+    public @NotNull List<Drone> findNearestIdle(float latitude, float longitude, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+
+        // Max-heap on distance so the current k-th best is always on top
+        PriorityQueue<Candidate> best = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(b.distance, a.distance));
+        int centerRow = rowOf(latitude);
+        int centerColumn = columnOf(longitude);
+
+        lock.readLock().lock();
+        try {
+            int indexedCount = cellOfDrone.size();
+            int visitedCount = 0;
+            int maxRing = Math.max(rowCount, columnCount);
+
+            for (int ring = 0; ring <= maxRing && visitedCount < indexedCount; ring++) {
+                for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                    if (row < 0 || row >= rowCount) {
+                        continue;
+                    }
+                    boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                    int step = edgeRow ? 1 : 2 * ring;
+                    for (int column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+                        if (column < 0 || column >= columnCount) {
+                            continue;
+                        }
+                        visitedCount += scanCell(cellKey(row, column), latitude, longitude, k, best);
+                    }
+                }
+
+                if (best.size() == k && best.peek().distance <= distanceBeyondRing(latitude, longitude, centerRow, centerColumn, ring)) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Drone> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            result.add(best.poll().drone);
+        }
+        return result.reversed();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellOfDrone.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Private Methods
+    private int scanCell(long cell, float latitude, float longitude, int k, PriorityQueue<Candidate> best) {
+        List<Drone> drones = cells.get(cell);
+        if (drones == null) {
+            return 0;
+        }
+        for (Drone drone : drones) {
+            if (drone.getStatus() != DroneStatus.IDLE) {
+                continue;
+            }
+            Location location = drone.getCurrentLocation();
+            double distance = DeliveryManager.haversineDistance(latitude, longitude,
+                                                                location.getLatitude(), location.getLongitude());
+            if (best.size() < k) {
+                best.add(new Candidate(drone, distance));
+            } else if (distance < best.peek().distance) {
+                best.poll();
+                best.add(new Candidate(drone, distance));
+            }
+        }
+        return drones.size();
+    }
+
+    /**
+     * Lower bound, in kilometers, on the distance from the query point to any cell outside
+     * the square of rings already searched. Sides of the square that reach the edge of the
+     * grid have nothing beyond them and are ignored.
+     */
+    private double distanceBeyondRing(float latitude, float longitude, int centerRow, int centerColumn, int ring) {
+        double bound = Double.POSITIVE_INFINITY;
+        double southEdge = (centerRow - ring) * cellSizeDegrees - 90.0;
+        double northEdge = (centerRow + ring + 1) * cellSizeDegrees - 90.0;
+        double westEdge = (centerColumn - ring) * cellSizeDegrees - 180.0;
+        double eastEdge = (centerColumn + ring + 1) * cellSizeDegrees - 180.0;
+
+        if (centerRow - ring > 0) {
+            bound = Math.min(bound, Math.toRadians(latitude - southEdge) * DeliveryManager.EARTH_RADIUS_KM);
+        }
+        if (centerRow + ring + 1 < rowCount) {
+            bound = Math.min(bound, Math.toRadians(northEdge - latitude) * DeliveryManager.EARTH_RADIUS_KM);
+        }
+
+        // Points beyond the east or west edge but inside the searched latitude band are at least
+        // as far as the haversine distance at the band's most poleward latitude.
+        double maxAbsLatitude = Math.min(90.0, Math.max(Math.abs(southEdge), Math.abs(northEdge)));
+        double cosMaxLatitude = Math.cos(Math.toRadians(maxAbsLatitude));
+        if (centerColumn - ring > 0) {
+            bound = Math.min(bound, longitudeGapDistance(longitude - westEdge, cosMaxLatitude));
+        }
+        if (centerColumn + ring + 1 < columnCount) {
+            bound = Math.min(bound, longitudeGapDistance(eastEdge - longitude, cosMaxLatitude));
+        }
+        return bound;
+    }
+
+    private double longitudeGapDistance(double longitudeGapDegrees, double cosMaxLatitude) {
+        double halfGap = Math.sin(Math.toRadians(longitudeGapDegrees) / 2);
+        return 2 * DeliveryManager.EARTH_RADIUS_KM * Math.asin(Math.min(1.0, cosMaxLatitude * halfGap));
+    }
+
+    private void removeFromCell(long cell, Drone drone) {
+        List<Drone> drones = cells.get(cell);
+        if (drones == null) {
+            return;
+        }
+        drones.remove(drone);
+        if (drones.isEmpty()) {
+            cells.remove(cell);
+        }
+    }
+
+    private long cellOf(@NotNull Location location) {
+        return cellKey(rowOf(location.getLatitude()), columnOf(location.getLongitude()));
+    }
+
+    private int rowOf(float latitude) {
+        int row = (int) ((latitude + 90f) / cellSizeDegrees);
+        return Math.min(Math.max(row, 0), rowCount - 1);
+    }
+
+    private int columnOf(float longitude) {
+        int column = (int) ((longitude + 180f) / cellSizeDegrees);
+        return Math.min(Math.max(column, 0), columnCount - 1);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    private record Candidate(Drone drone, double distance) {}
+}
@@ -0,0 +1,202 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DeliveryStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import com.huyvo.dronedeliverymanagementapp.metrics.FleetMetrics;
+import com.huyvo.dronedeliverymanagementapp.simulation.SimulationConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs drone workflows concurrently, each on its own virtual thread, so a fleet of hundreds of
+ * thousands of drones can be in the air at once while a waiting drone costs no platform thread.
+ * <p>
+ * A workflow owns its drone from the moment it wins the status compare-and-set that starts it
+ * until it moves the drone back to {@link DroneStatus#IDLE}. Work submitted for a drone that is
+ * not idle is rejected at once. Phases take the time given by the {@link SimulationConfig},
+ * divided by the time scale, so a scale of 60 runs one simulated minute per real second.
+ */
+public class FleetExecutor implements AutoCloseable {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimulationConfig config;
+    private final double timeScale;
+
+    /**
+     * Constructs an executor for the given timing.
+     *
+     * @param config timing and energy parameters of every workflow
+     * @param timeScale simulated seconds per real second; {@code Double.POSITIVE_INFINITY} skips all waiting
+     * @throws IllegalArgumentException if the time scale is not positive
+     */
+    public FleetExecutor(@NotNull SimulationConfig config, double timeScale) {
+        if (!(timeScale > 0)) {
+            throw new IllegalArgumentException("Time scale must be positive");
+        }
+        this.config = config;
+        this.timeScale = timeScale;
+    }
+
+    // Public Methods
+    /**
+     * Flies one package from the drone's base to its recipient and back: load, take-off, flight,
+     * unload and return flight. A drone that lands below the charge threshold docks straight onto
+     * a charger and only becomes idle again once it is full.
+     *
+     * @param drone the drone to fly; must be idle
+     * @param shippingPackage the package to deliver; must not exceed the drone's payload
+     * @return a future completed with the package once the drone is idle again
+     */
+    public CompletableFuture<ShippingPackage> deliver(@NotNull Drone drone, @NotNull ShippingPackage shippingPackage) {
+        if (shippingPackage.getWeight() > drone.getMaxPayload()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Package weight exceeds max payload"));
+        }
+        if (!drone.compareAndSetStatus(DroneStatus.IDLE, DroneStatus.IN_TRANSIT)) {
+            return CompletableFuture.failedFuture(rejected(drone, "deliver"));
+        }
+        FleetMetrics.recordDeliveryStatus(DeliveryStatus.STARTED);
+        return runOwned(drone, shippingPackage, () -> flyDelivery(drone, shippingPackage));
+    }
+
+    /**
+     * Charges the drone to full.
+     *
+     * @param drone the drone to charge; must be idle
+     * @return a future completed once the drone is idle again
+     */
+    public CompletableFuture<Drone> charge(@NotNull Drone drone) {
+        if (!drone.compareAndSetStatus(DroneStatus.IDLE, DroneStatus.CHARGING)) {
+            return CompletableFuture.failedFuture(rejected(drone, "charge"));
+        }
+        return runOwned(drone, drone, () -> chargeToFull(drone));
+    }
+
+    /**
+     * Takes the drone out of service for the given time.
+     *
+     * @param drone the drone to service; must be idle
+     * @param duration the simulated length of the maintenance
+     * @return a future completed once the drone is idle again
+     */
+    public CompletableFuture<Drone> maintain(@NotNull Drone drone, @NotNull Duration duration) {
+        if (!drone.compareAndSetStatus(DroneStatus.IDLE, DroneStatus.MAINTENANCE)) {
+            return CompletableFuture.failedFuture(rejected(drone, "perform maintenance"));
+        }
+        return runOwned(drone, drone, () -> {
+            pause(duration.toNanos() / 1e9);
+            release(drone, DroneStatus.MAINTENANCE);
+        });
+    }
+
+    /**
+     * Stops accepting work and waits for every running workflow to finish.
+     */
+    @Override
+    public void close() {
+        this.executor.close();
+    }
+
+    // Private Methods
+    private void flyDelivery(Drone drone, ShippingPackage shippingPackage) throws InterruptedException, ValidationException {
+        Location base = drone.getBase();
+        Location destination = shippingPackage.getDeliveryLocation();
+        double legKm = DeliveryManager.haversineDistance(base.getLatitude(), base.getLongitude(),
+                                                         destination.getLatitude(), destination.getLongitude());
+        double flightSeconds = legKm / config.cruiseSpeedKmh() * 3600;
+
+        try {
+            drone.setAssignedPackage(shippingPackage);
+            pause(config.loadSeconds() + config.takeOffSeconds());
+            FleetMetrics.recordDeliveryStatus(DeliveryStatus.IN_PROGRESS);
+            pause(flightSeconds + config.unloadSeconds());
+        } catch (InterruptedException | ValidationException | RuntimeException e) {
+            FleetMetrics.recordDeliveryStatus(DeliveryStatus.FAILED);
+            throw e;
+        }
+        // From take-off to unloaded, in simulated time like a simulated delivery
+        FleetMetrics.recordDeliveryCompleted((long) ((flightSeconds + config.unloadSeconds()) * 1e9));
+        drone.setAssignedPackage(null);
+        pause(flightSeconds);
+
+        double usedPercent = drone.getMileage() > 0 ? 2 * legKm * 100 / drone.getMileage() : 100;
+        drone.setBatteryLevel((int) Math.max(0, Math.round(drone.getBatteryLevel() - usedPercent)));
+
+        if (drone.getBatteryLevel() < config.chargeThresholdPercent()) {
+            move(drone, DroneStatus.IN_TRANSIT, DroneStatus.CHARGING);
+            chargeToFull(drone);
+        } else {
+            release(drone, DroneStatus.IN_TRANSIT);
+        }
+    }
+
+    private void chargeToFull(Drone drone) throws InterruptedException, ValidationException {
+        pause((100 - drone.getBatteryLevel()) / config.chargePercentPerMinute() * 60);
+        drone.setBatteryLevel(100);
+        release(drone, DroneStatus.CHARGING);
+    }
+
+    /**
+     * Runs work on a drone this executor already took out of IDLE. If the work fails, the drone is
+     * handed back idle so it is not stuck in a status nobody will ever leave.
+     */
+    private <T> CompletableFuture<T> runOwned(Drone drone, T result, OwnedWork work) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                work.run();
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abandon(drone);
+                throw new IllegalStateException("Drone " + drone.getDroneId() + " was interrupted", e);
+            } catch (ValidationException | RuntimeException e) {
+                abandon(drone);
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }, executor);
+    }
+
+    private static void abandon(Drone drone) {
+        DroneStatus owned = drone.getStatus();
+        if (owned != DroneStatus.IDLE) {
+            drone.compareAndSetStatus(owned, DroneStatus.IDLE);
+        }
+    }
+
+    private void pause(double simulatedSeconds) throws InterruptedException {
+        long nanos = (long) (simulatedSeconds / timeScale * 1e9);
+        if (nanos > 0) {
+            Thread.sleep(Duration.ofNanos(nanos));
+        }
+    }
+
+    private static void release(Drone drone, DroneStatus owned) {
+        move(drone, owned, DroneStatus.IDLE);
+    }
+
+    /**
+     * Moves a drone this workflow owns. Failing here means another thread changed the status
+     * of a drone it did not own, so the transition would otherwise be lost.
+     */
+    private static void move(Drone drone, DroneStatus owned, DroneStatus next) {
+        if (!drone.compareAndSetStatus(owned, next)) {
+            throw new IllegalStateException("Drone " + drone.getDroneId() + " left " + owned + " outside its workflow");
+        }
+    }
+
+    private static IllegalStateException rejected(Drone drone, String action) {
+        return new IllegalStateException("Drone " + drone.getDroneId() + " must be IDLE to " + action
+                                         + " but is " + drone.getStatus());
+    }
+
+    @FunctionalInterface
+    private interface OwnedWork {
+        void run() throws InterruptedException, ValidationException;
+    }
+}
@@ -0,0 +1,483 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Live state of a whole fleet as parallel primitive arrays, one column per field, so that
+ * fleet-wide scans such as "every drone below 20% battery" read a few contiguous arrays
+ * instead of chasing a {@link Drone}, its {@link Location} and its ID for every drone.
+ * <p>
+ * Every drone loaded into the store gets a dense handle, {@code 0} to {@code size() - 1},
+ * which indexes its row in every column. Handles are stable; drones are never removed. The handle
+ * of a drone is found through an open-addressing index over the numeric drone IDs, so looking one
+ * up by {@link #handleOf(long)} does not allocate.
+ * {@link #load(Drone)} copies an entity into its row and {@link #writeTo(Drone)} copies the
+ * row back, so the store can take telemetry for the fleet while the entities are only
+ * brought up to date when they are needed.
+ * <p>
+ * Loading drones takes a write lock. Row updates and scans share a read lock, so updates to
+ * different rows run concurrently; a scan racing an update of the same row may see the row
+ * half updated.
+ */
+public class FleetStateStore {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final DroneStatus[] STATUSES = DroneStatus.values();
+    private static final FleetStateStore SHARED = new FleetStateStore();
+
+    private long[] droneIds;
+    private float[] latitudes;
+    private float[] longitudes;
+    private byte[] batteryLevels;
+    private float[] mileages;
+    private float[] maxPayloads;
+    private byte[] statuses;
+    private int size;
+    // Handle + 1 of the drone hashed to each entry, 0 if free; at most half full
+    private int[] index;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Tests one row of the store.
+     */
+    @FunctionalInterface
+    public interface RowFilter {
+        boolean test(float latitude, float longitude, int batteryLevel, float mileage, float maxPayload, DroneStatus status);
+    }
+
+    public FleetStateStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of drones to make room for up front
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public FleetStateStore(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * @return the application-wide store
+     */
+    public static @NotNull FleetStateStore shared() {
+        return SHARED;
+    }
+
+    // Getters
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return this.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param droneId the ID of a drone
+     * @return the handle of the drone, or -1 if it has not been loaded
+     * @throws IllegalArgumentException if the text is not a rendered ID
+     */
+    public int handleOf(@NotNull String droneId) {
+        return handleOf(IdentificationNumber.parse(droneId).getValue());
+    }
+
+    /**
+     * @param droneId the numeric ID of a drone, as returned by {@link IdentificationNumber#getValue()}
+     * @return the handle of the drone, or -1 if it has not been loaded
+     */
+    public int handleOf(long droneId) {
+        lock.readLock().lock();
+        try {
+            int entry = this.index[indexEntryOf(droneId)];
+            return entry - 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public String droneIdOf(int handle) { return read(handle, () -> IdentificationNumber.fromValue(this.droneIds[handle]).getId()); }
+    public float latitudeOf(int handle) { return read(handle, () -> this.latitudes[handle]); }
+    public float longitudeOf(int handle) { return read(handle, () -> this.longitudes[handle]); }
+    public int batteryLevelOf(int handle) { return read(handle, () -> (int) this.batteryLevels[handle]); }
+    public float mileageOf(int handle) { return read(handle, () -> this.mileages[handle]); }
+    public float maxPayloadOf(int handle) { return read(handle, () -> this.maxPayloads[handle]); }
+    public DroneStatus statusOf(int handle) { return read(handle, () -> STATUSES[this.statuses[handle]]); }
+
+    // Public Methods
+    /**
+     * Copies a drone into the store, adding a row for it the first time it is loaded.
+     *
+     * @param drone the drone to copy
+     * @return the handle of the drone
+     */
+    public int load(@NotNull Drone drone) {
+        long droneId = IdentificationNumber.parse(drone.getDroneId()).getValue();
+        lock.writeLock().lock();
+        try {
+            int entry = indexEntryOf(droneId);
+            int handle = this.index[entry] - 1;
+            if (handle < 0) {
+                if (this.size == this.droneIds.length) {
+                    grow();
+                    entry = indexEntryOf(droneId);
+                }
+                handle = this.size++;
+                this.droneIds[handle] = droneId;
+                this.index[entry] = handle + 1;
+            }
+            copyIn(handle, drone);
+            return handle;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void loadAll(@NotNull Collection<Drone> drones) {
+        for (Drone drone : drones) {
+            load(drone);
+        }
+    }
+
+    /**
+     * Copies the row of a drone back into the entity. The position is only set if it changed,
+     * so a drone at its base keeps the shared base location.
+     *
+     * @param drone the drone to update
+     * @throws IllegalArgumentException if the drone has not been loaded
+     * @throws ValidationException if the row does not make a valid drone
+     */
+    public void writeTo(@NotNull Drone drone) throws ValidationException {
+        float latitude;
+        float longitude;
+        int batteryLevel;
+        float mileage;
+        DroneStatus status;
+        int handle = handleOf(drone.getDroneId());
+        lock.readLock().lock();
+        try {
+            if (handle < 0) {
+                throw new IllegalArgumentException("Drone " + drone.getDroneId() + " is not in the store");
+            }
+            latitude = this.latitudes[handle];
+            longitude = this.longitudes[handle];
+            batteryLevel = this.batteryLevels[handle];
+            mileage = this.mileages[handle];
+            status = STATUSES[this.statuses[handle]];
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Location location = drone.getCurrentLocation();
+        if (location.getLatitude() != latitude || location.getLongitude() != longitude) {
+            drone.setCurrentLocation(latitude, longitude);
+        }
+        drone.setBatteryLevel(batteryLevel);
+        drone.setMileage(mileage);
+        if (drone.getStatus() != status) {
+            drone.restoreStatus(status);
+        }
+    }
+
+    /**
+     * Applies a whole telemetry report to a row at once.
+     *
+     * @throws IllegalArgumentException if the battery level is not between 0 and 100
+     * @throws IndexOutOfBoundsException if there is no drone with the handle
+     */
+    public void update(int handle, float latitude, float longitude, int batteryLevel, @NotNull DroneStatus status) {
+        if (batteryLevel < 0 || batteryLevel > 100) {
+            throw new IllegalArgumentException("Battery level must be between 0 and 100.");
+        }
+        lock.readLock().lock();
+        try {
+            checkHandle(handle);
+            this.latitudes[handle] = latitude;
+            this.longitudes[handle] = longitude;
+            this.batteryLevels[handle] = (byte) batteryLevel;
+            this.statuses[handle] = (byte) status.ordinal();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if there is no drone with the handle
+     */
+    public void updatePosition(int handle, float latitude, float longitude) {
+        lock.readLock().lock();
+        try {
+            checkHandle(handle);
+            this.latitudes[handle] = latitude;
+            this.longitudes[handle] = longitude;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the battery level is not between 0 and 100
+     * @throws IndexOutOfBoundsException if there is no drone with the handle
+     */
+    public void updateBatteryLevel(int handle, int batteryLevel) {
+        if (batteryLevel < 0 || batteryLevel > 100) {
+            throw new IllegalArgumentException("Battery level must be between 0 and 100.");
+        }
+        lock.readLock().lock();
+        try {
+            checkHandle(handle);
+            this.batteryLevels[handle] = (byte) batteryLevel;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the mileage is negative
+     * @throws IndexOutOfBoundsException if there is no drone with the handle
+     */
+    public void updateMileage(int handle, float mileage) {
+        if (mileage < 0) {
+            throw new IllegalArgumentException("Mileage must be non-negative.");
+        }
+        lock.readLock().lock();
+        try {
+            checkHandle(handle);
+            this.mileages[handle] = mileage;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if there is no drone with the handle
+     */
+    public void updateStatus(int handle, @NotNull DroneStatus status) {
+        lock.readLock().lock();
+        try {
+            checkHandle(handle);
+            this.statuses[handle] = (byte) status.ordinal();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param batteryLevel the exclusive upper bound
+     * @return the handles of every drone whose battery level is below the bound, in handle order
+     */
+    public int[] withBatteryBelow(int batteryLevel) {
+        lock.readLock().lock();
+        try {
+            HandleBuffer matches = new HandleBuffer();
+            byte[] column = this.batteryLevels;
+            for (int handle = 0, size = this.size; handle < size; handle++) {
+                if (column[handle] < batteryLevel) {
+                    matches.add(handle);
+                }
+            }
+            return matches.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the handles of every drone in the status, in handle order
+     */
+    public int[] withStatus(@NotNull DroneStatus status) {
+        lock.readLock().lock();
+        try {
+            HandleBuffer matches = new HandleBuffer();
+            byte[] column = this.statuses;
+            byte ordinal = (byte) status.ordinal();
+            for (int handle = 0, size = this.size; handle < size; handle++) {
+                if (column[handle] == ordinal) {
+                    matches.add(handle);
+                }
+            }
+            return matches.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the drones in a status inside a latitude/longitude box, bounds included.
+     *
+     * @return the handles of the matching drones, in handle order
+     */
+    public int[] withStatusInBox(@NotNull DroneStatus status,
+                                 float minLatitude,
+                                 float minLongitude,
+                                 float maxLatitude,
+                                 float maxLongitude) {
+
+        lock.readLock().lock();
+        try {
+            HandleBuffer matches = new HandleBuffer();
+            byte[] statusColumn = this.statuses;
+            float[] latitudeColumn = this.latitudes;
+            float[] longitudeColumn = this.longitudes;
+            byte ordinal = (byte) status.ordinal();
+            for (int handle = 0, size = this.size; handle < size; handle++) {
+                float latitude = latitudeColumn[handle];
+                float longitude = longitudeColumn[handle];
+                if (statusColumn[handle] == ordinal
+                        & latitude >= minLatitude & latitude <= maxLatitude
+                        & longitude >= minLongitude & longitude <= maxLongitude) {
+                    matches.add(handle);
+                }
+            }
+            return matches.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the drones in every status.
+     *
+     * @return the count of each status, indexed by its ordinal
+     */
+    public int[] countByStatus() {
+        lock.readLock().lock();
+        try {
+            int[] counts = new int[STATUSES.length];
+            for (int handle = 0; handle < this.size; handle++) {
+                counts[this.statuses[handle]]++;
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scans every row with an arbitrary filter. The dedicated scans above are faster because
+     * they only read the columns they test.
+     *
+     * @return the handles of the matching drones, in handle order
+     */
+    public int[] select(@NotNull RowFilter filter) {
+        lock.readLock().lock();
+        try {
+            HandleBuffer matches = new HandleBuffer();
+            for (int handle = 0; handle < this.size; handle++) {
+                if (filter.test(this.latitudes[handle],
+                                this.longitudes[handle],
+                                this.batteryLevels[handle],
+                                this.mileages[handle],
+                                this.maxPayloads[handle],
+                                STATUSES[this.statuses[handle]])) {
+                    matches.add(handle);
+                }
+            }
+            return matches.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Private Methods
+    private void allocate(int capacity) {
+        this.index = new int[indexSizeFor(capacity)];
+        this.droneIds = new long[capacity];
+        this.latitudes = new float[capacity];
+        this.longitudes = new float[capacity];
+        this.batteryLevels = new byte[capacity];
+        this.mileages = new float[capacity];
+        this.maxPayloads = new float[capacity];
+        this.statuses = new byte[capacity];
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, this.droneIds.length * 2);
+        this.droneIds = Arrays.copyOf(this.droneIds, capacity);
+        this.latitudes = Arrays.copyOf(this.latitudes, capacity);
+        this.longitudes = Arrays.copyOf(this.longitudes, capacity);
+        this.batteryLevels = Arrays.copyOf(this.batteryLevels, capacity);
+        this.mileages = Arrays.copyOf(this.mileages, capacity);
+        this.maxPayloads = Arrays.copyOf(this.maxPayloads, capacity);
+        this.statuses = Arrays.copyOf(this.statuses, capacity);
+
+        this.index = new int[indexSizeFor(capacity)];
+        for (int handle = 0; handle < this.size; handle++) {
+            this.index[indexEntryOf(this.droneIds[handle])] = handle + 1;
+        }
+    }
+
+    private static int indexSizeFor(int capacity) {
+        return Integer.highestOneBit(Math.max(capacity, 1)) << 2;
+    }
+
+    /**
+     * @return the index entry holding the drone, or the free entry it would be added to
+     */
+    private int indexEntryOf(long droneId) {
+        int mask = this.index.length - 1;
+        int entry = (int) ((droneId * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        while (this.index[entry] != 0 && this.droneIds[this.index[entry] - 1] != droneId) {
+            entry = (entry + 1) & mask;
+        }
+        return entry;
+    }
+
+    private void copyIn(int handle, Drone drone) {
+        Location location = drone.getCurrentLocation();
+        this.latitudes[handle] = location.getLatitude();
+        this.longitudes[handle] = location.getLongitude();
+        this.batteryLevels[handle] = (byte) drone.getBatteryLevel();
+        this.mileages[handle] = drone.getMileage();
+        this.maxPayloads[handle] = drone.getMaxPayload();
+        this.statuses[handle] = (byte) drone.getStatus().ordinal();
+    }
+
+    private void checkHandle(int handle) {
+        if (handle < 0 || handle >= this.size) {
+            throw new IndexOutOfBoundsException("No drone with handle " + handle);
+        }
+    }
+
+    private <T> T read(int handle, Supplier<T> column) {
+        lock.readLock().lock();
+        try {
+            checkHandle(handle);
+            return column.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A growable int array for scan results.
+     */
+    private static final class HandleBuffer {
+        private int[] handles = new int[64];
+        private int count;
+
+        private void add(int handle) {
+            if (this.count == this.handles.length) {
+                this.handles = Arrays.copyOf(this.handles, this.count * 2);
+            }
+            this.handles[this.count++] = handle;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(this.handles, this.count);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.stream.IntStream;
+
+/**
+ * Batch great-circle distances over {@link CoordinateArrays}, in kilometers.
+ * <p>
+ * Uses the haversine formula in the form
+ * {@code 2R * asin(sqrt(sin²(Δφ/2) + cos φ1 * cos φ2 * sin²(Δλ/2)))}
+ * so that the cached cosines can be reused.
+ * <p>
+ * {@link #create()} returns a JDK Vector API implementation when the
+ * {@code jdk.incubator.vector} module is present (start the JVM with
+ * {@code --add-modules jdk.incubator.vector}) and a scalar one otherwise.
+ */
+public abstract class HaversineKernel {
+    private static final String VECTOR_KERNEL_CLASS =
+            "com.huyvo.dronedeliverymanagementapp.classes.services.VectorHaversineKernel";
+
+    /**
+     * @return the fastest kernel available in this JVM
+     */
+    public static @NotNull HaversineKernel create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Loaded reflectively so that nothing references the incubator module when it is absent
+                return (HaversineKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return new ScalarHaversineKernel();
+            }
+        }
+        return new ScalarHaversineKernel();
+    }
+
+    /**
+     * Computes the distance from one point to every point of {@code to}.
+     *
+     * @param latitude latitude of the source point in radians
+     * @param longitude longitude of the source point in radians
+     * @param cosLatitude cosine of the source latitude
+     * @param to the destination points
+     * @param out receives the distance to {@code to[i]} at index i; must hold at least {@code to.size()} values
+     */
+    public abstract void oneToMany(double latitude, double longitude, double cosLatitude,
+                                   @NotNull CoordinateArrays to, double @NotNull [] out);
+
+    public void oneToMany(@NotNull CoordinateArrays from, int index, @NotNull CoordinateArrays to, double @NotNull [] out) {
+        oneToMany(from.latitudes[index], from.longitudes[index], from.cosLatitudes[index], to, out);
+    }
+
+    /**
+     * Computes the full distance matrix between two point sets. Rows are computed in parallel.
+     *
+     * @param from the source points (rows)
+     * @param to the destination points (columns)
+     * @return the row-major matrix; the distance from {@code from[i]} to {@code to[j]} is at {@code i * to.size() + j}
+     */
+    public double @NotNull [] manyToMany(@NotNull CoordinateArrays from, @NotNull CoordinateArrays to) {
+        int columns = to.size();
+        double[] matrix = new double[from.size() * columns];
+        IntStream.range(0, from.size()).parallel().forEach(row -> {
+            double[] rowDistances = new double[columns];
+            oneToMany(from, row, to, rowDistances);
+            System.arraycopy(rowDistances, 0, matrix, row * columns, columns);
+        });
+        return matrix;
+    }
+
+    /**
+     * Scalar haversine on precomputed radians and cosines.
+     *
+     * @return the distance in kilometers
+     */
+    static double distance(double latitude1, double longitude1, double cosLatitude1,
+                           double latitude2, double longitude2, double cosLatitude2) {
+        double sinLatitude = Math.sin((latitude2 - latitude1) * 0.5);
+        double sinLongitude = Math.sin((longitude2 - longitude1) * 0.5);
+        double a = sinLatitude * sinLatitude + cosLatitude1 * cosLatitude2 * sinLongitude * sinLongitude;
+        return 2 * DeliveryManager.EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(a, 1.0)));
+    }
+}
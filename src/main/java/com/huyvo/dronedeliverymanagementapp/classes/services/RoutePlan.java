@@ -0,0 +1,35 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.DeliveryRoute;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of multi-stop route planning: the tours to fly, and the packages no drone can carry.
+ */
+public class RoutePlan {
+    private final List<DeliveryRoute> routes;
+    private final List<ShippingPackage> unplannedPackages;
+
+    public RoutePlan(List<DeliveryRoute> routes, List<ShippingPackage> unplannedPackages) {
+        this.routes = Collections.unmodifiableList(routes);
+        this.unplannedPackages = Collections.unmodifiableList(unplannedPackages);
+    }
+
+    // Getters
+    public List<DeliveryRoute> getRoutes() { return this.routes; }
+    public List<ShippingPackage> getUnplannedPackages() { return this.unplannedPackages; }
+
+    /**
+     * @return the flight distance of all routes together, in kilometers
+     */
+    public double getTotalDistance() {
+        double total = 0;
+        for (DeliveryRoute route : this.routes) {
+            total += route.getTotalDistance();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,479 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.DeliveryRoute;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Plans multi-stop delivery tours (base -> several customers -> base) for a whole day of packages,
+ * a capacitated vehicle routing problem solved heuristically:
+ * <ol>
+ *     <li>Clarke-Wright savings construction. Savings are only evaluated between each delivery
+ *         location and its nearest neighbours, so the savings list grows linearly with the number
+ *         of packages. Tours are merged while they fit the largest payload and the longest
+ *         full-battery range in the fleet.</li>
+ *     <li>2-opt and or-opt improvement of every tour, tours being improved in parallel.</li>
+ *     <li>Assignment of tours to IDLE drones, heaviest tour first, each to the least busy drone whose
+ *         {@code maxPayload} and {@code mileage} fit it. A tour that fits no drone is split into
+ *         single-stop tours; packages no drone can carry at all are reported as unplanned.</li>
+ * </ol>
+ * Drones recharge at the base between tours, so ranges are taken at full battery and a drone may
+ * fly several tours in one plan.
+ */
+public class RoutePlanner {
+    private static final int DEFAULT_NEIGHBOR_COUNT = 20;
+    private static final int MAX_OR_OPT_SEGMENT = 3;
+    private static final double IMPROVEMENT_EPSILON_KM = 1e-6;
+    private static final int BASE = -1;
+
+    private final Location baseLocation;
+    private final int neighborCount;
+
+    public RoutePlanner(Location baseLocation) {
+        this(baseLocation, DEFAULT_NEIGHBOR_COUNT);
+    }
+
+    /**
+     * Constructs a planner for drones operating from the given base.
+     *
+     * @param baseLocation the location every tour starts and ends at
+     * @param neighborCount how many nearby delivery locations to consider merging with; must be positive
+     * @throws IllegalArgumentException if neighborCount is not positive
+     */
+    public RoutePlanner(@NotNull Location baseLocation, int neighborCount) {
+        if (neighborCount <= 0) {
+            throw new IllegalArgumentException("neighborCount must be positive");
+        }
+        this.baseLocation = baseLocation;
+        this.neighborCount = neighborCount;
+    }
+
+    /**
+     * Plans tours for the given packages using the IDLE drones of the fleet.
+     *
+     * @param packages the packages to deliver
+     * @param drones the fleet; drones that are not IDLE are ignored
+     * @return the planned tours and the packages that could not be planned
+     */
+    public @NotNull RoutePlan plan(@NotNull List<ShippingPackage> packages, @NotNull List<Drone> drones) {
+        List<Drone> idleDrones = drones.stream()
+                .filter(drone -> drone.getStatus() == DroneStatus.IDLE)
+                .toList();
+        if (idleDrones.isEmpty() || packages.isEmpty()) {
+            return new RoutePlan(new ArrayList<>(), new ArrayList<>(packages));
+        }
+
+        float maxPayload = 0;
+        float maxRange = 0;
+        for (Drone drone : idleDrones) {
+            maxPayload = Math.max(maxPayload, drone.getMaxPayload());
+            maxRange = Math.max(maxRange, drone.getMileage());
+        }
+
+        Tours tours = new Tours(packages, baseLocation);
+        boolean[] routable = new boolean[tours.size];
+        for (int i = 0; i < tours.size; i++) {
+            routable[i] = tours.weights[i] <= maxPayload && 2 * tours.baseLegs[i] <= maxRange;
+        }
+
+        List<int[]> routes = buildSavingsRoutes(tours, routable, maxPayload, maxRange);
+        routes.parallelStream().forEach(route -> improve(route, tours));
+        return assignToDrones(routes, tours, packages, idleDrones, routable);
+    }
+
+    // Private Methods
+    private @NotNull List<int[]> buildSavingsRoutes(Tours tours, boolean[] routable, float maxPayload, float maxRange) {
+        int n = tours.size;
+        int[][] neighbors = tours.nearestNeighbors(neighborCount);
+
+        // Savings sorted in descending order, encoded as (inverted saving bits << 32 | pair index)
+        int pairCount = 0;
+        for (int[] list : neighbors) {
+            pairCount += list.length;
+        }
+        int[] pairFrom = new int[pairCount];
+        int[] pairTo = new int[pairCount];
+        long[] keys = new long[pairCount];
+        int keyCount = 0;
+        for (int i = 0, p = 0; i < n; i++) {
+            for (int j : neighbors[i]) {
+                float saving = (float) (tours.baseLegs[i] + tours.baseLegs[j] - tours.distance(i, j));
+                pairFrom[p] = i;
+                pairTo[p] = j;
+                if (saving > 0 && routable[i] && routable[j]) {
+                    keys[keyCount++] = ((long) (Integer.MAX_VALUE - Float.floatToIntBits(saving)) << 32) | p;
+                }
+                p++;
+            }
+        }
+        keys = Arrays.copyOf(keys, keyCount);
+        Arrays.parallelSort(keys);
+
+        // Every package starts as its own tour; tours are doubly linked lists of packages
+        int[] next = new int[n];
+        int[] prev = new int[n];
+        int[] routeOf = new int[n];
+        int[] head = new int[n];
+        int[] tail = new int[n];
+        double[] load = new double[n];
+        double[] length = new double[n];
+        Arrays.fill(next, BASE);
+        Arrays.fill(prev, BASE);
+        for (int i = 0; i < n; i++) {
+            routeOf[i] = i;
+            head[i] = i;
+            tail[i] = i;
+            load[i] = tours.weights[i];
+            length[i] = 2 * tours.baseLegs[i];
+        }
+
+        for (long key : keys) {
+            int pair = (int) key;
+            int i = pairFrom[pair];
+            int j = pairTo[pair];
+            // Only the ends of a tour are linked to the base and can be joined to another tour
+            if ((prev[i] != BASE && next[i] != BASE) || (prev[j] != BASE && next[j] != BASE)) {
+                continue;
+            }
+            int routeI = routeOf[i];
+            int routeJ = routeOf[j];
+            if (routeI == routeJ) {
+                continue;
+            }
+            double mergedLoad = load[routeI] + load[routeJ];
+            double mergedLength = length[routeI] + length[routeJ]
+                    - tours.baseLegs[i] - tours.baseLegs[j] + tours.distance(i, j);
+            if (mergedLoad > maxPayload || mergedLength > maxRange) {
+                continue;
+            }
+
+            if (tail[routeI] != i) {
+                reverse(routeI, next, prev, head, tail);
+            }
+            if (head[routeJ] != j) {
+                reverse(routeJ, next, prev, head, tail);
+            }
+            next[i] = j;
+            prev[j] = i;
+            tail[routeI] = tail[routeJ];
+            routeOf[tail[routeI]] = routeI;
+            load[routeI] = mergedLoad;
+            length[routeI] = mergedLength;
+        }
+
+        List<int[]> routes = new ArrayList<>();
+        int[] buffer = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (!routable[i] || prev[i] != BASE) {
+                continue;
+            }
+            int size = 0;
+            for (int node = i; node != BASE; node = next[node]) {
+                buffer[size++] = node;
+            }
+            routes.add(Arrays.copyOf(buffer, size));
+        }
+        return routes;
+    }
+
+    private static void reverse(int route, int[] next, int[] prev, int[] head, int[] tail) {
+        int node = head[route];
+        while (node != BASE) {
+            int following = next[node];
+            next[node] = prev[node];
+            prev[node] = following;
+            node = following;
+        }
+        int oldHead = head[route];
+        head[route] = tail[route];
+        tail[route] = oldHead;
+    }
+
+    /**
+     * Applies 2-opt and or-opt moves to one tour, in place, until neither finds an improvement.
+     * Neither move changes the packages of the tour, so load stays feasible and length only shrinks.
+     */
+    private static void improve(int[] route, Tours tours) {
+        boolean improved = true;
+        while (improved) {
+            improved = twoOpt(route, tours) | orOpt(route, tours);
+        }
+    }
+
+    private static boolean twoOpt(int[] route, Tours tours) {
+        boolean improved = false;
+        int m = route.length;
+        for (int i = 0; i < m - 1; i++) {
+            for (int j = i + 1; j < m; j++) {
+                int before = i == 0 ? BASE : route[i - 1];
+                int after = j == m - 1 ? BASE : route[j + 1];
+                double delta = tours.distance(before, route[j]) + tours.distance(route[i], after)
+                        - tours.distance(before, route[i]) - tours.distance(route[j], after);
+                if (delta < -IMPROVEMENT_EPSILON_KM) {
+                    for (int low = i, high = j; low < high; low++, high--) {
+                        int swap = route[low];
+                        route[low] = route[high];
+                        route[high] = swap;
+                    }
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    private static boolean orOpt(int[] route, Tours tours) {
+        boolean improved = false;
+        int m = route.length;
+        for (int segmentLength = 1; segmentLength <= Math.min(MAX_OR_OPT_SEGMENT, m - 1); segmentLength++) {
+            for (int start = 0; start + segmentLength <= m; start++) {
+                int end = start + segmentLength - 1;
+                int before = start == 0 ? BASE : route[start - 1];
+                int after = end == m - 1 ? BASE : route[end + 1];
+                double removalGain = tours.distance(before, route[start]) + tours.distance(route[end], after)
+                        - tours.distance(before, after);
+
+                // Try every edge (x, y) outside the segment, where position k means "insert before route[k]"
+                for (int k = 0; k <= m; k++) {
+                    if (k >= start && k <= end + 1) {
+                        continue;
+                    }
+                    int x = k == 0 ? BASE : route[k - 1];
+                    int y = k == m ? BASE : route[k];
+                    double insertionCost = tours.distance(x, route[start]) + tours.distance(route[end], y)
+                            - tours.distance(x, y);
+                    if (insertionCost - removalGain < -IMPROVEMENT_EPSILON_KM) {
+                        moveSegment(route, start, segmentLength, k);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    private static void moveSegment(int[] route, int start, int segmentLength, int insertBefore) {
+        int[] segment = Arrays.copyOfRange(route, start, start + segmentLength);
+        if (insertBefore > start) {
+            // Shift the elements between the segment and the insertion point to the left
+            System.arraycopy(route, start + segmentLength, route, start, insertBefore - start - segmentLength);
+            System.arraycopy(segment, 0, route, insertBefore - segmentLength, segmentLength);
+        } else {
+            System.arraycopy(route, insertBefore, route, insertBefore + segmentLength, start - insertBefore);
+            System.arraycopy(segment, 0, route, insertBefore, segmentLength);
+        }
+    }
+
+    private @NotNull RoutePlan assignToDrones(List<int[]> routes,
+                                              Tours tours,
+                                              List<ShippingPackage> packages,
+                                              List<Drone> drones,
+                                              boolean[] routable) {
+
+        List<ShippingPackage> unplanned = new ArrayList<>();
+        for (int i = 0; i < tours.size; i++) {
+            if (!routable[i]) {
+                unplanned.add(packages.get(i));
+            }
+        }
+
+        routes.sort(Comparator.comparingDouble((int[] route) -> tours.load(route)).reversed());
+        Map<Drone, Double> assignedDistance = new HashMap<>();
+        List<DeliveryRoute> planned = new ArrayList<>(routes.size());
+        for (int[] route : routes) {
+            if (tryAssign(route, tours, packages, drones, assignedDistance, planned)) {
+                continue;
+            }
+            for (int stop : route) {
+                if (!tryAssign(new int[]{stop}, tours, packages, drones, assignedDistance, planned)) {
+                    unplanned.add(packages.get(stop));
+                }
+            }
+        }
+        return new RoutePlan(planned, unplanned);
+    }
+
+    private static boolean tryAssign(int[] route,
+                                     Tours tours,
+                                     List<ShippingPackage> packages,
+                                     List<Drone> drones,
+                                     Map<Drone, Double> assignedDistance,
+                                     List<DeliveryRoute> planned) {
+
+        double load = tours.load(route);
+        double length = tours.length(route);
+        Drone leastBusy = null;
+        double leastDistance = Double.POSITIVE_INFINITY;
+        for (Drone drone : drones) {
+            if (drone.getMaxPayload() < load || drone.getMileage() < length) {
+                continue;
+            }
+            double distance = assignedDistance.getOrDefault(drone, 0.0);
+            if (distance < leastDistance) {
+                leastDistance = distance;
+                leastBusy = drone;
+            }
+        }
+        if (leastBusy == null) {
+            return false;
+        }
+
+        List<ShippingPackage> stops = new ArrayList<>(route.length);
+        for (int stop : route) {
+            stops.add(packages.get(stop));
+        }
+        assignedDistance.put(leastBusy, leastDistance + length);
+        planned.add(new DeliveryRoute(leastBusy, stops, (float) length, load));
+        return true;
+    }
+
+    /**
+     * Delivery coordinates, weights and base distances of the packages being planned, indexed
+     * like the package list. Index {@link #BASE} stands for the drone base.
+     */
+    private static final class Tours {
+        private final int size;
+        private final CoordinateArrays coordinates;
+        private final double[] weights;
+        private final double[] baseLegs;
+
+        private Tours(List<ShippingPackage> packages, Location baseLocation) {
+            this.size = packages.size();
+            List<Location> deliveryLocations = new ArrayList<>(size);
+            this.weights = new double[size];
+            for (int i = 0; i < size; i++) {
+                deliveryLocations.add(packages.get(i).getDeliveryLocation());
+                weights[i] = packages.get(i).getWeight();
+            }
+            this.coordinates = CoordinateArrays.of(deliveryLocations);
+            this.baseLegs = new double[size];
+            HaversineKernel.create().oneToMany(CoordinateArrays.of(List.of(baseLocation)), 0, coordinates, baseLegs);
+        }
+
+        private double distance(int from, int to) {
+            if (from == BASE) {
+                return to == BASE ? 0 : baseLegs[to];
+            }
+            if (to == BASE) {
+                return baseLegs[from];
+            }
+            return HaversineKernel.distance(coordinates.latitudes[from], coordinates.longitudes[from], coordinates.cosLatitudes[from],
+                                            coordinates.latitudes[to], coordinates.longitudes[to], coordinates.cosLatitudes[to]);
+        }
+
+        private double length(int[] route) {
+            double length = distance(BASE, route[0]) + distance(route[route.length - 1], BASE);
+            for (int k = 0; k + 1 < route.length; k++) {
+                length += distance(route[k], route[k + 1]);
+            }
+            return length;
+        }
+
+        private double load(int[] route) {
+            double load = 0;
+            for (int stop : route) {
+                load += weights[stop];
+            }
+            return load;
+        }
+
+        /**
+         * Approximate nearest delivery locations of every package, found with a uniform grid
+         * sized to hold a few locations per cell. Rows are computed in parallel.
+         */
+        private int[][] nearestNeighbors(int k) {
+            int count = Math.min(k, size - 1);
+            int[][] neighbors = new int[size][];
+            if (count <= 0) {
+                Arrays.fill(neighbors, new int[0]);
+                return neighbors;
+            }
+
+            double minLatitude = Double.POSITIVE_INFINITY, maxLatitude = Double.NEGATIVE_INFINITY;
+            double minLongitude = Double.POSITIVE_INFINITY, maxLongitude = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                minLatitude = Math.min(minLatitude, coordinates.latitudes[i]);
+                maxLatitude = Math.max(maxLatitude, coordinates.latitudes[i]);
+                minLongitude = Math.min(minLongitude, coordinates.longitudes[i]);
+                maxLongitude = Math.max(maxLongitude, coordinates.longitudes[i]);
+            }
+            int side = Math.max(1, (int) Math.sqrt(size / 4.0));
+            double cellHeight = Math.max((maxLatitude - minLatitude) / side, 1e-9);
+            double cellWidth = Math.max((maxLongitude - minLongitude) / side, 1e-9);
+
+            // Counting sort of points into cells
+            int[] cellOfPoint = new int[size];
+            int[] cellStart = new int[side * side + 1];
+            for (int i = 0; i < size; i++) {
+                int row = Math.min(side - 1, (int) ((coordinates.latitudes[i] - minLatitude) / cellHeight));
+                int column = Math.min(side - 1, (int) ((coordinates.longitudes[i] - minLongitude) / cellWidth));
+                cellOfPoint[i] = row * side + column;
+                cellStart[cellOfPoint[i] + 1]++;
+            }
+            for (int c = 0; c < side * side; c++) {
+                cellStart[c + 1] += cellStart[c];
+            }
+            int[] pointsByCell = new int[size];
+            int[] fill = Arrays.copyOf(cellStart, side * side);
+            for (int i = 0; i < size; i++) {
+                pointsByCell[fill[cellOfPoint[i]]++] = i;
+            }
+
+            IntStream.range(0, size).parallel().forEach(i -> {
+                int row = cellOfPoint[i] / side;
+                int column = cellOfPoint[i] % side;
+                // Candidates as (distance bits << 32 | point), so sorting the keys sorts by distance
+                long[] candidates = new long[Math.max(16, 4 * count)];
+                int candidateCount = 0;
+                // Grow rings until there are enough candidates, then take one more ring for accuracy
+                int ring = 0;
+                int extraRings = 1;
+                while (ring < side) {
+                    for (int r = Math.max(0, row - ring); r <= Math.min(side - 1, row + ring); r++) {
+                        boolean edgeRow = Math.abs(r - row) == ring;
+                        for (int c = Math.max(0, column - ring); c <= Math.min(side - 1, column + ring); c++) {
+                            if (!edgeRow && Math.abs(c - column) != ring) {
+                                continue;
+                            }
+                            int cell = r * side + c;
+                            for (int p = cellStart[cell]; p < cellStart[cell + 1]; p++) {
+                                int j = pointsByCell[p];
+                                if (j == i) {
+                                    continue;
+                                }
+                                if (candidateCount == candidates.length) {
+                                    candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                                }
+                                long distanceBits = Float.floatToIntBits((float) distance(i, j));
+                                candidates[candidateCount++] = (distanceBits << 32) | j;
+                            }
+                        }
+                    }
+                    ring++;
+                    if (candidateCount >= count && extraRings-- == 0) {
+                        break;
+                    }
+                }
+                Arrays.sort(candidates, 0, candidateCount);
+                int[] nearest = new int[Math.min(count, candidateCount)];
+                for (int c = 0; c < nearest.length; c++) {
+                    nearest[c] = (int) candidates[c];
+                }
+                neighbors[i] = nearest;
+            });
+            return neighbors;
+        }
+    }
+}
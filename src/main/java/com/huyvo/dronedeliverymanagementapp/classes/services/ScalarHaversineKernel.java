@@ -0,0 +1,20 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Plain loop implementation of {@link HaversineKernel}, used when the Vector API is unavailable.
+ */
+public final class ScalarHaversineKernel extends HaversineKernel {
+
+    @Override
+    public void oneToMany(double latitude, double longitude, double cosLatitude,
+                          @NotNull CoordinateArrays to, double @NotNull [] out) {
+        double[] latitudes = to.latitudes;
+        double[] longitudes = to.longitudes;
+        double[] cosLatitudes = to.cosLatitudes;
+        for (int i = 0; i < to.size(); i++) {
+            out[i] = distance(latitude, longitude, cosLatitude, latitudes[i], longitudes[i], cosLatitudes[i]);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * JDK Vector API implementation of {@link HaversineKernel}. Processes as many points per step
+ * as the preferred vector width allows and finishes the tail with the scalar formula.
+ * Only instantiated through {@link HaversineKernel#create()}.
+ */
+final class VectorHaversineKernel extends HaversineKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final double DIAMETER_KM = 2.0 * DeliveryManager.EARTH_RADIUS_KM;
+
+    @Override
+    public void oneToMany(double latitude, double longitude, double cosLatitude,
+                          @NotNull CoordinateArrays to, double @NotNull [] out) {
+        double[] latitudes = to.latitudes;
+        double[] longitudes = to.longitudes;
+        double[] cosLatitudes = to.cosLatitudes;
+        int size = to.size();
+        int upperBound = SPECIES.loopBound(size);
+
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector sinLatitude = DoubleVector.fromArray(SPECIES, latitudes, i)
+                    .sub(latitude).mul(0.5).lanewise(VectorOperators.SIN);
+            DoubleVector sinLongitude = DoubleVector.fromArray(SPECIES, longitudes, i)
+                    .sub(longitude).mul(0.5).lanewise(VectorOperators.SIN);
+            DoubleVector cosProduct = DoubleVector.fromArray(SPECIES, cosLatitudes, i).mul(cosLatitude);
+            DoubleVector a = sinLatitude.mul(sinLatitude)
+                    .add(cosProduct.mul(sinLongitude).mul(sinLongitude))
+                    .min(1.0);
+            a.sqrt().lanewise(VectorOperators.ASIN).mul(DIAMETER_KM).intoArray(out, i);
+        }
+        for (; i < size; i++) {
+            out[i] = distance(latitude, longitude, cosLatitude, latitudes[i], longitudes[i], cosLatitudes[i]);
+        }
+    }
+}
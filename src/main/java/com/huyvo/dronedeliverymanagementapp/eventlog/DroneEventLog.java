@@ -0,0 +1,346 @@
+package com.huyvo.dronedeliverymanagementapp.eventlog;
+
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneEventType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A structured log of drone events that never makes the recording thread wait on I/O.
+ * <p>
+ * Events go into a preallocated ring buffer of primitive arrays: recording one claims a slot with a
+ * compare-and-set, copies the fields in and publishes the slot, without allocating and without
+ * taking a lock. A background daemon thread drains published slots in order and appends them as
+ * JSON lines to a {@link RollingFileOutput}, for example:
+ * <pre>{"ts":1718000000000,"type":"PACKAGE_LOADED","drone":"DR_a1B2c3D4","package":"PK_e5F6g7H8","lat":52.3738,"lon":9.7312}</pre>
+ * Drone and package IDs are stored as up to {@value #ID_BYTES} ASCII characters; longer IDs are cut.
+ * An event may carry a reason, such as why a load failed; it is written as a {@code "reason"} field
+ * and only the reference is stored, so recording one allocates nothing either.
+ * <p>
+ * Memory is bounded by the capacity chosen at construction. <b>When the buffer is full the new
+ * event is dropped</b>, counted in {@link #getDroppedEvents()}, and the recording thread carries on:
+ * a slow disk loses log lines rather than slowing drones down. The writer also counts failed writes
+ * in {@link #getFailedWrites()} and keeps draining, so a broken file never fills the buffer for good.
+ */
+public final class DroneEventLog implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    public static final long DEFAULT_MAX_FILE_BYTES = 64L * 1024 * 1024;
+    public static final int DEFAULT_MAX_BACKUP_FILES = 5;
+    private static final int ID_BYTES = 16;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final VarHandle PUBLISHED = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // Ring buffer, one entry per slot; published holds sequence + 1 once the slot is readable
+    private final int mask;
+    private final long[] published;
+    private final long[] timestamps;
+    private final byte[] types;
+    private final float[] latitudes;
+    private final float[] longitudes;
+    private final byte[] droneIds;
+    private final byte[] droneIdLengths;
+    private final byte[] packageIds;
+    private final byte[] packageIdLengths;
+    private final String[] reasons;
+
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder failedWrites = new LongAdder();
+
+    private final RollingFileOutput output;
+    private final Thread writer;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a log and starts its writer thread.
+     *
+     * @param file the JSON lines file to append to
+     * @param capacity the number of events the buffer holds; rounded up to a power of two
+     * @param maxFileBytes the size at which the file is rolled over
+     * @param maxBackupFiles the number of rolled-over files to keep
+     */
+    public DroneEventLog(@NotNull Path file, int capacity, long maxFileBytes, int maxBackupFiles) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int slots = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = slots - 1;
+        this.published = new long[slots];
+        this.timestamps = new long[slots];
+        this.types = new byte[slots];
+        this.latitudes = new float[slots];
+        this.longitudes = new float[slots];
+        this.droneIds = new byte[slots * ID_BYTES];
+        this.droneIdLengths = new byte[slots];
+        this.packageIds = new byte[slots * ID_BYTES];
+        this.packageIdLengths = new byte[slots];
+        this.reasons = new String[slots];
+        this.output = new RollingFileOutput(file, maxFileBytes, maxBackupFiles);
+
+        this.writer = new Thread(this::drain, "drone-event-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * @return the application-wide log, created on first use. It writes to the path in the
+     *         {@code drone.eventlog.path} system property, {@code logs/drone-events.jsonl} by default,
+     *         and is flushed and closed on JVM shutdown.
+     */
+    public static @NotNull DroneEventLog shared() {
+        return Shared.INSTANCE;
+    }
+
+    // Getters
+    public int getCapacity() { return this.mask + 1; }
+    public long getDroppedEvents() { return this.droppedEvents.sum(); }
+    public long getFailedWrites() { return this.failedWrites.sum(); }
+
+    /**
+     * @return the number of recorded events the writer has not written yet
+     */
+    public long getPendingEvents() {
+        return this.claimed.get() - this.consumed;
+    }
+
+    // Public Methods
+    /**
+     * Records an event without blocking or allocating. If the buffer is full the event is dropped.
+     *
+     * @param type what happened
+     * @param droneId the drone it happened to
+     * @param packageId the package involved, or {@code null}
+     * @param latitude where it happened
+     * @param longitude where it happened
+     * @return false if the event was dropped because the buffer was full or the log is closed
+     */
+    public boolean record(@NotNull DroneEventType type, String droneId, String packageId, float latitude, float longitude) {
+        return record(type, droneId, packageId, latitude, longitude, null);
+    }
+
+    /**
+     * Records an event with a reason, see {@link #record(DroneEventType, String, String, float, float)}.
+     *
+     * @param reason why it happened, or {@code null}
+     */
+    public boolean record(@NotNull DroneEventType type,
+                          String droneId,
+                          String packageId,
+                          float latitude,
+                          float longitude,
+                          String reason) {
+        long sequence;
+        do {
+            sequence = this.claimed.get();
+            if (this.closed || sequence - this.consumed > this.mask) {
+                this.droppedEvents.increment();
+                return false;
+            }
+        } while (!this.claimed.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) sequence & this.mask;
+        this.timestamps[slot] = System.currentTimeMillis();
+        this.types[slot] = (byte) type.ordinal();
+        this.latitudes[slot] = latitude;
+        this.longitudes[slot] = longitude;
+        this.droneIdLengths[slot] = copyId(droneId, this.droneIds, slot);
+        this.packageIdLengths[slot] = copyId(packageId, this.packageIds, slot);
+        this.reasons[slot] = reason;
+        PUBLISHED.setRelease(this.published, slot, sequence + 1);
+        return true;
+    }
+
+    /**
+     * Stops accepting events, waits for the writer to drain everything already recorded and closes the file.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.writer);
+        try {
+            this.writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Private Methods
+    private static byte copyId(String id, byte[] ids, int slot) {
+        if (id == null) {
+            return -1;
+        }
+        int length = Math.min(id.length(), ID_BYTES);
+        int offset = slot * ID_BYTES;
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            ids[offset + i] = c >= 0x20 && c < 0x7f && c != '"' && c != '\\' ? (byte) c : (byte) '?';
+        }
+        return (byte) length;
+    }
+
+    private void drain() {
+        DroneEventType[] eventTypes = DroneEventType.values();
+        LineBuilder line = new LineBuilder();
+        long next = this.consumed;
+        boolean unflushed = false;
+
+        while (true) {
+            int slot = (int) next & this.mask;
+            if ((long) PUBLISHED.getAcquire(this.published, slot) == next + 1) {
+                line.reset()
+                    .append("{\"ts\":").append(this.timestamps[slot])
+                    .append(",\"type\":\"").append(eventTypes[this.types[slot]].name())
+                    .append("\",\"drone\":").appendId(this.droneIds, slot, this.droneIdLengths[slot])
+                    .append(",\"package\":").appendId(this.packageIds, slot, this.packageIdLengths[slot])
+                    .append(",\"lat\":").append(this.latitudes[slot])
+                    .append(",\"lon\":").append(this.longitudes[slot]);
+                if (this.reasons[slot] != null) {
+                    line.append(",\"reason\":").appendQuoted(this.reasons[slot]);
+                    this.reasons[slot] = null;
+                }
+                line.append("}\n");
+                this.consumed = ++next;
+                try {
+                    this.output.write(line.bytes(), line.length());
+                    unflushed = true;
+                } catch (IOException e) {
+                    this.failedWrites.increment();
+                }
+                continue;
+            }
+
+            if (unflushed) {
+                flushOutput();
+                unflushed = false;
+            }
+            if (this.closed && this.claimed.get() == next) {
+                break;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+
+        try {
+            this.output.close();
+        } catch (IOException e) {
+            this.failedWrites.increment();
+        }
+    }
+
+    private void flushOutput() {
+        try {
+            this.output.flush();
+        } catch (IOException e) {
+            this.failedWrites.increment();
+        }
+    }
+
+    /**
+     * A reusable ASCII line buffer for the writer thread.
+     */
+    private static final class LineBuilder {
+        private final StringBuilder numbers = new StringBuilder(24);
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        LineBuilder reset() {
+            this.length = 0;
+            return this;
+        }
+
+        LineBuilder append(String ascii) {
+            ensure(ascii.length());
+            for (int i = 0; i < ascii.length(); i++) {
+                this.bytes[this.length++] = (byte) ascii.charAt(i);
+            }
+            return this;
+        }
+
+        LineBuilder append(long value) {
+            this.numbers.setLength(0);
+            this.numbers.append(value);
+            return appendNumber();
+        }
+
+        LineBuilder append(float value) {
+            this.numbers.setLength(0);
+            this.numbers.append(value);
+            return appendNumber();
+        }
+
+        LineBuilder appendId(byte[] ids, int slot, byte idLength) {
+            if (idLength < 0) {
+                return append("null");
+            }
+            ensure(idLength + 2);
+            this.bytes[this.length++] = '"';
+            System.arraycopy(ids, slot * ID_BYTES, this.bytes, this.length, idLength);
+            this.length += idLength;
+            this.bytes[this.length++] = '"';
+            return this;
+        }
+
+        /**
+         * Appends text as a JSON string, escaping quotes, backslashes and anything outside printable ASCII.
+         */
+        LineBuilder appendQuoted(String text) {
+            ensure(text.length() + 2);
+            this.bytes[this.length++] = '"';
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"' || c == '\\') {
+                    ensure(text.length() - i + 2);
+                    this.bytes[this.length++] = '\\';
+                    this.bytes[this.length++] = (byte) c;
+                } else if (c < 0x20 || c >= 0x7f) {
+                    ensure(text.length() - i + 6);
+                    this.bytes[this.length++] = '\\';
+                    this.bytes[this.length++] = 'u';
+                    for (int shift = 12; shift >= 0; shift -= 4) {
+                        this.bytes[this.length++] = (byte) Character.forDigit((c >> shift) & 0xF, 16);
+                    }
+                } else {
+                    this.bytes[this.length++] = (byte) c;
+                }
+            }
+            this.bytes[this.length++] = '"';
+            return this;
+        }
+
+        byte[] bytes() { return this.bytes; }
+        int length() { return this.length; }
+
+        private LineBuilder appendNumber() {
+            ensure(this.numbers.length());
+            for (int i = 0; i < this.numbers.length(); i++) {
+                this.bytes[this.length++] = (byte) this.numbers.charAt(i);
+            }
+            return this;
+        }
+
+        private void ensure(int extra) {
+            if (this.length + extra > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.length + extra));
+            }
+        }
+    }
+
+    private static final class Shared {
+        private static final DroneEventLog INSTANCE = create();
+
+        private static DroneEventLog create() {
+            Path file = Path.of(System.getProperty("drone.eventlog.path", "logs/drone-events.jsonl"));
+            DroneEventLog log = new DroneEventLog(file, DEFAULT_CAPACITY, DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_BACKUP_FILES);
+            Runtime.getRuntime().addShutdownHook(new Thread(log::close, "drone-event-log-shutdown"));
+            return log;
+        }
+    }
+}
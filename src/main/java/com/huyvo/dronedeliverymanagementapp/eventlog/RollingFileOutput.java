@@ -0,0 +1,86 @@
+package com.huyvo.dronedeliverymanagementapp.eventlog;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An append-only file that rolls over by size: when the next write would pass the limit, the file
+ * is renamed to {@code name.1}, older files shift up by one and the oldest beyond the kept count is
+ * deleted. Only the writer thread of a {@link DroneEventLog} touches it.
+ */
+final class RollingFileOutput implements AutoCloseable {
+    private final Path path;
+    private final long maxFileBytes;
+    private final int maxBackupFiles;
+    private OutputStream output;
+    private long size;
+
+    RollingFileOutput(Path path, long maxFileBytes, int maxBackupFiles) {
+        if (maxFileBytes <= 0 || maxBackupFiles < 0) {
+            throw new IllegalArgumentException("File size limit must be positive and backup count non-negative");
+        }
+        this.path = path;
+        this.maxFileBytes = maxFileBytes;
+        this.maxBackupFiles = maxBackupFiles;
+    }
+
+    void write(byte[] bytes, int length) throws IOException {
+        if (output == null) {
+            open();
+        }
+        if (size > 0 && size + length > maxFileBytes) {
+            roll();
+        }
+        output.write(bytes, 0, length);
+        size += length;
+    }
+
+    void flush() throws IOException {
+        if (output != null) {
+            output.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (output != null) {
+            output.close();
+            output = null;
+        }
+    }
+
+    // Private Methods
+    private void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        output = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND), 1 << 16);
+        size = Files.size(path);
+    }
+
+    private void roll() throws IOException {
+        close();
+        if (maxBackupFiles == 0) {
+            Files.delete(path);
+        } else {
+            Files.deleteIfExists(backup(maxBackupFiles));
+            for (int i = maxBackupFiles - 1; i >= 1; i--) {
+                if (Files.exists(backup(i))) {
+                    Files.move(backup(i), backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(path, backup(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path backup(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+}
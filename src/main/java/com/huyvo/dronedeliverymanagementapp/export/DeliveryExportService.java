@@ -0,0 +1,276 @@
+package com.huyvo.dronedeliverymanagementapp.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.huyvo.dronedeliverymanagementapp.BadRequestException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Delivery;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import com.huyvo.dronedeliverymanagementapp.repository.DeliveryRepository;
+import jakarta.persistence.EntityManager;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Exports the delivery history as NDJSON or CSV while reading it, so that memory use does not grow
+ * with the number of deliveries.
+ * <p>
+ * Deliveries come from a server-side cursor ({@link DeliveryRepository#streamForExport}) and are
+ * written out one at a time; the persistence context is cleared after every fetch batch, so loaded
+ * entities are detached and collected as the export moves on. Rows are written in ID order, which
+ * lets a client resume an interrupted export by passing the last ID it received as {@code after}.
+ */
+@Service
+public class DeliveryExportService {
+    private static final int WRITE_BUFFER_CHARS = 1 << 16;
+    private static final String[] COLUMNS = {
+            "deliveryId", "status", "startTime", "endTime",
+            "packageId", "weight", "description", "senderId", "recipientId",
+            "pickupLatitude", "pickupLongitude", "deliveryLatitude", "deliveryLongitude",
+            "droneId"
+    };
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /**
+     * The formats the history can be exported in.
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String fileExtension;
+
+        Format(String contentType, String fileExtension) {
+            this.contentType = contentType;
+            this.fileExtension = fileExtension;
+        }
+
+        /**
+         * @throws BadRequestException if the name is not a format
+         */
+        public static @NotNull Format byName(@NotNull String name) {
+            try {
+                return valueOf(name.strip().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unknown export format: " + name);
+            }
+        }
+
+        public String getContentType() { return contentType; }
+        public String getFileExtension() { return fileExtension; }
+    }
+
+    private final DeliveryRepository deliveryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public DeliveryExportService(DeliveryRepository deliveryRepository,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager) {
+
+        this.deliveryRepository = deliveryRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * @param after a rendered delivery ID, or {@code null}
+     * @return the numeric ID to resume after; 0 to start from the beginning
+     * @throws BadRequestException if {@code after} is not a delivery ID
+     */
+    public static long resumeAfter(String after) {
+        if (after == null) {
+            return 0;
+        }
+        IdentificationNumber id;
+        try {
+            id = IdentificationNumber.parse(after);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+        if (id.getType() != IdType.DELIVERY_HISTORY) {
+            throw new BadRequestException("Not a delivery ID: " + after);
+        }
+        return id.getValue();
+    }
+
+    /**
+     * Writes every delivery after {@code after} that started at or after {@code since}.
+     *
+     * @param out where to write; flushed but not closed
+     * @param format the format to write
+     * @param after the numeric delivery ID to resume after, from {@link #resumeAfter(String)}
+     * @param since the earliest start time, or {@code null} for all
+     * @return the number of deliveries written
+     */
+    public long export(@NotNull OutputStream out, @NotNull Format format, long after, LocalDateTime since) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+        RowWriter rows = format == Format.NDJSON ? new NdjsonRowWriter(writer) : new CsvRowWriter(writer);
+        try {
+            Long written = this.transactionTemplate.execute(status -> {
+                try (Stream<Delivery> deliveries = this.deliveryRepository.streamForExport(after, since)) {
+                    long count = 0;
+                    Iterator<Delivery> iterator = deliveries.iterator();
+                    while (iterator.hasNext()) {
+                        rows.write(iterator.next());
+                        if (++count % DeliveryRepository.EXPORT_FETCH_SIZE == 0) {
+                            this.entityManager.clear();
+                        }
+                    }
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            rows.finish();
+            return written == null ? 0 : written;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Private Methods
+    private static String idOf(IdentificationNumber id) {
+        return id != null ? id.getId() : null;
+    }
+
+    /**
+     * Writes one delivery per line.
+     */
+    private interface RowWriter {
+        void write(Delivery delivery) throws IOException;
+        void finish() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private final JsonGenerator json;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.json = JSON.createGenerator(writer);
+            this.json.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Delivery delivery) throws IOException {
+            ShippingPackage shippingPackage = delivery.getPackages();
+            this.json.writeStartObject();
+            this.json.writeStringField(COLUMNS[0], idOf(delivery.getDeliveryId()));
+            this.json.writeStringField(COLUMNS[1], delivery.getStatus() != null ? delivery.getStatus().name() : null);
+            this.json.writeStringField(COLUMNS[2], delivery.getStartTime() != null ? delivery.getStartTime().toString() : null);
+            this.json.writeStringField(COLUMNS[3], delivery.getEndTime() != null ? delivery.getEndTime().toString() : null);
+            if (shippingPackage != null) {
+                this.json.writeStringField(COLUMNS[4], shippingPackage.getPackage_id());
+                this.json.writeNumberField(COLUMNS[5], shippingPackage.getWeight());
+                this.json.writeStringField(COLUMNS[6], shippingPackage.getDescription());
+                this.json.writeStringField(COLUMNS[7], shippingPackage.getSender().getUserId());
+                this.json.writeStringField(COLUMNS[8], shippingPackage.getRecipient().getUserId());
+                writeCoordinates(COLUMNS[9], COLUMNS[10], shippingPackage.getPickupLocation());
+                writeCoordinates(COLUMNS[11], COLUMNS[12], shippingPackage.getDeliveryLocation());
+            }
+            this.json.writeStringField(COLUMNS[13], delivery.getDrones() != null ? delivery.getDrones().getDroneId() : null);
+            this.json.writeEndObject();
+            this.json.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            this.json.flush();
+            this.writer.flush();
+        }
+
+        private void writeCoordinates(String latitudeField, String longitudeField, Location location) throws IOException {
+            this.json.writeNumberField(latitudeField, location.getLatitude());
+            this.json.writeNumberField(longitudeField, location.getLongitude());
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row; fields containing commas, quotes or line breaks are quoted.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.writer.write(String.join(",", COLUMNS));
+            this.writer.write("\r\n");
+        }
+
+        @Override
+        public void write(Delivery delivery) throws IOException {
+            ShippingPackage shippingPackage = delivery.getPackages();
+            field(idOf(delivery.getDeliveryId()));
+            field(delivery.getStatus());
+            field(delivery.getStartTime());
+            field(delivery.getEndTime());
+            if (shippingPackage != null) {
+                field(shippingPackage.getPackage_id());
+                field(shippingPackage.getWeight());
+                field(shippingPackage.getDescription());
+                field(shippingPackage.getSender().getUserId());
+                field(shippingPackage.getRecipient().getUserId());
+                field(shippingPackage.getPickupLocation().getLatitude());
+                field(shippingPackage.getPickupLocation().getLongitude());
+                field(shippingPackage.getDeliveryLocation().getLatitude());
+                field(shippingPackage.getDeliveryLocation().getLongitude());
+            } else {
+                this.writer.write(",,,,,,,,,");
+            }
+            lastField(delivery.getDrones() != null ? delivery.getDrones().getDroneId() : null);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            this.writer.flush();
+        }
+
+        private void field(Object value) throws IOException {
+            value(value);
+            this.writer.write(',');
+        }
+
+        private void lastField(Object value) throws IOException {
+            value(value);
+            this.writer.write("\r\n");
+        }
+
+        private void value(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            boolean quote = false;
+            for (int i = 0; i < text.length() && !quote; i++) {
+                char c = text.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                this.writer.write(text);
+                return;
+            }
+            this.writer.write('"');
+            this.writer.write(text.replace("\"", "\"\""));
+            this.writer.write('"');
+        }
+    }
+}
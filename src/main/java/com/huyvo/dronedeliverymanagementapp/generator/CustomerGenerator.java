@@ -9,9 +9,10 @@ import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
 
 /**
  * The CustomerGenerator class is responsible for generating an array of sender and recipient
@@ -21,6 +22,11 @@ import java.util.Random;
  * <p>
  * The generated customer instances and their corresponding packages can be accessed via the
  * provided getter methods.
+ * <p>
+ * Customers are generated in parallel by {@link ParallelGenerator}, each from its own random
+ * stream, so a seeded Random always yields the same customers. The static {@code stream} methods
+ * create each customer together with its address only when the stream reaches it, for datasets
+ * too large to hold in memory.
  */
 final public class CustomerGenerator {
     private final List<Customer> customerList;
@@ -37,9 +43,7 @@ final public class CustomerGenerator {
      * @throws IllegalArgumentException if random is null
      */
     public CustomerGenerator (int customerNum, Random random){
-        if (customerNum <= 0) {
-            throw new IllegalArgumentException("customerNum must be positive");
-        }
+        requirePositiveCount(customerNum);
         if (random == null) {
             throw new IllegalArgumentException("Random cannot be null");
         }
@@ -58,37 +62,114 @@ final public class CustomerGenerator {
     }
 
     /**
-     * Generates an array of Customer objects based on the specified number of customers and user type.
+     * Constructs a new CustomerGenerator instance whose customers all live inside a square
+     * service area, for scenarios where drones must actually be able to reach them.
+     *
+     * @param customerNum the number of customers to generate; must be a positive integer
+     * @param serviceCenter the center of the service area, usually the drone base
+     * @param radiusDegrees half the side of the service area in degrees; must be positive
+     * @param random a Random object used for generating random values; must not be null
+     * @throws IllegalArgumentException if customerNum or radiusDegrees is less than or equal to 0
+     * @throws IllegalArgumentException if random is null
+     */
+    public CustomerGenerator (int customerNum, @NotNull Location serviceCenter, float radiusDegrees, Random random){
+        requirePositiveCount(customerNum);
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null");
+        }
+
+        LocationGenerator locationGenerator = new LocationGenerator(customerNum,
+                                                                    serviceCenter.getLatitude(),
+                                                                    serviceCenter.getLongitude(),
+                                                                    radiusDegrees,
+                                                                    random);
+
+        this.customerLocationList = locationGenerator.getLocationList();
+        this.customerList = generateCustomer(customerNum, customerLocationList, random);
+    }
+
+    /**
+     * Streams customers living anywhere on the globe, creating each customer and its address only
+     * when the stream reaches it.
+     *
+     * @param customerNum the number of customers to stream; must be a positive integer
+     * @param seed the seed the customers are derived from
+     * @return a sequential stream of the customers, the same for the same seed
+     * @throws IllegalArgumentException if customerNum is less than or equal to 0
+     */
+    public static @NotNull Stream<Customer> stream(int customerNum, long seed) {
+        requirePositiveCount(customerNum);
+        return ParallelGenerator.stream(customerNum, seed, (index, rowRandom) -> randomCustomer(rowRandom));
+    }
+
+    /**
+     * Streams customers living inside a square service area, creating each customer and its
+     * address only when the stream reaches it.
+     *
+     * @param customerNum the number of customers to stream; must be a positive integer
+     * @param serviceCenter the center of the service area, usually the drone base
+     * @param radiusDegrees half the side of the service area in degrees; must be positive
+     * @param seed the seed the customers are derived from
+     * @return a sequential stream of the customers, the same for the same seed
+     * @throws IllegalArgumentException if customerNum or radiusDegrees is less than or equal to 0
+     */
+    public static @NotNull Stream<Customer> stream(int customerNum,
+                                                   @NotNull Location serviceCenter,
+                                                   float radiusDegrees,
+                                                   long seed) {
+        requirePositiveCount(customerNum);
+        if (radiusDegrees <= 0) {
+            throw new IllegalArgumentException("Service area radius must be positive");
+        }
+        float centerLatitude = serviceCenter.getLatitude();
+        float centerLongitude = serviceCenter.getLongitude();
+        return ParallelGenerator.stream(customerNum, seed, (index, rowRandom) -> {
+            Location address = LocationGenerator.randomLocation(rowRandom, centerLatitude, centerLongitude, radiusDegrees);
+            return newCustomer(rowRandom, address);
+        });
+    }
+
+    /**
+     * Generates an array of Customer objects based on the specified number of customers.
      * Each Customer object is populated with a name, email, phone number, password, and location,
      * which are randomly generated.
      *
      * @param customerNum the number of customers to generate; must be a positive integer
      * @param locationList the list of Location you want to add to the customers
+     * @param random the Random the generation seed is drawn from
      * @return an ArrayList of Customer objects with randomly generated details
-     * @throws IllegalArgumentException if userType is not "sender" or "recipient"
      */
-    private @NotNull List<Customer> generateCustomer (int customerNum, List<Location> locationList, Random random) {
-        RandomNameGenerator nameGenerator = new RandomNameGenerator(customerNum, null, null, random);
-        RandomEmailGenerator emailGenerator = new RandomEmailGenerator(customerNum, nameGenerator.getNameList(), null , random);
-        RandomPhoneGenerator phoneGenerator = new RandomPhoneGenerator(customerNum, random);
-        RandomPasswordGenerator passwordGenerator = new RandomPasswordGenerator(customerNum, random);
-
-        List<Customer> customers = new ArrayList<>(customerNum);
-        for (int i = 0; i < customerNum; i++) {
-            String newName = nameGenerator.getNameList().get(i);
-            String newEmail = emailGenerator.getEmailList().get(i);
-            String newPhone = phoneGenerator.getPhoneList().get(i);
-            String newPassword = passwordGenerator.getPasswordList().get(i);
-            Location newLocation = locationList.get(i);
-
-            Customer newCustomer = new Customer(newName,
-                                                newEmail,
-                                                newPhone,
-                                                newPassword,
-                                                newLocation);
-            customers.add(newCustomer);
+    private @NotNull List<Customer> generateCustomer (int customerNum, List<Location> locationList, @NotNull Random random) {
+        return ParallelGenerator.generate(customerNum,
+                                          random.nextLong(),
+                                          (index, rowRandom) -> newCustomer(rowRandom, locationList.get(index)));
+    }
+
+    /**
+     * @return a customer with a new address anywhere on the globe
+     */
+    static @NotNull Customer randomCustomer(@NotNull RandomGenerator rowRandom) {
+        Location address = LocationGenerator.randomLocation(rowRandom);
+        return newCustomer(rowRandom, address);
+    }
+
+    private static @NotNull Customer newCustomer(@NotNull RandomGenerator rowRandom, Location location) {
+        String newName = RandomNameGenerator.randomName(rowRandom);
+        String newEmail = RandomEmailGenerator.randomEmail(newName, rowRandom);
+        String newPhone = RandomPhoneGenerator.randomPhone(rowRandom);
+        String newPassword = RandomPasswordGenerator.randomPassword(rowRandom);
+
+        return new Customer(newName,
+                            newEmail,
+                            newPhone,
+                            newPassword,
+                            location);
+    }
+
+    private static void requirePositiveCount(int customerNum) {
+        if (customerNum <= 0) {
+            throw new IllegalArgumentException("customerNum must be positive");
         }
-        return customers;
     }
 
     // Getters
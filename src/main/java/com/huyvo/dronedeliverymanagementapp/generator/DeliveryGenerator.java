@@ -6,30 +6,61 @@ import com.huyvo.dronedeliverymanagementapp.generator.Util.RandomStartEndDateGen
 
 import org.jetbrains.annotations.NotNull;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
 
+/**
+ * Generates one delivery per package, each with its own random start and end time on 2021-01-01.
+ * Deliveries are generated in parallel by {@link ParallelGenerator}, so a seeded Random always
+ * yields the same times. {@link #stream} creates each delivery together with its package,
+ * customers and addresses only when the stream reaches it, so a dataset of any size can be
+ * written out with constant memory.
+ */
 public class DeliveryGenerator {
-    private final RandomStartEndDateGenerator startEndDateGenerator;
+    private final Random random;
     private final List<Delivery> deliveryList;
 
     public DeliveryGenerator(List<ShippingPackage> packages, Random random) {
-        this.startEndDateGenerator = new RandomStartEndDateGenerator(2021, 1, 1, random);
+        this.random = random;
         this.deliveryList = generateDeliveries(packages);
     }
 
     public List<Delivery> generateDeliveries(@NotNull List<ShippingPackage> packages) {
-        int deliveryNum = packages.size();
-        List<Delivery> deliveries = new ArrayList<>(deliveryNum);
-
-        for (ShippingPackage newPackage : packages) {
-            LocalDateTime startTime = startEndDateGenerator.getStartTime();
-            LocalDateTime endTime = startEndDateGenerator.getEndTime();
-            Delivery newDelivery = new Delivery(newPackage, startTime, endTime);
-            deliveries.add(newDelivery);
+        return ParallelGenerator.generate(packages.size(),
+                                          this.random.nextLong(),
+                                          (index, rowRandom) -> newDelivery(packages.get(index), rowRandom));
+    }
+
+    /**
+     * Streams deliveries, each of a new package between a new sender and a new recipient.
+     *
+     * @param deliveryNum the number of deliveries to stream; must be positive
+     * @param maxWeight the maximum package weight; must be positive
+     * @param seed the seed the deliveries are derived from
+     * @return a sequential stream of the deliveries, the same for the same seed
+     * @throws IllegalArgumentException if deliveryNum or maxWeight is not positive
+     */
+    public static @NotNull Stream<Delivery> stream(int deliveryNum, float maxWeight, long seed) {
+        if (deliveryNum <= 0) {
+            throw new IllegalArgumentException("Delivery count must be positive");
+        }
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
         }
-        return deliveries;
+        return ParallelGenerator.stream(deliveryNum, seed, (index, rowRandom) -> {
+            ShippingPackage newPackage = PackageGenerator.randomPackage(maxWeight, rowRandom);
+            return newDelivery(newPackage, rowRandom);
+        });
+    }
+
+    // Private Methods
+    private static @NotNull Delivery newDelivery(ShippingPackage shippingPackage, RandomGenerator rowRandom) {
+        RandomStartEndDateGenerator startEndDateGenerator = new RandomStartEndDateGenerator(2021, 1, 1, rowRandom);
+        LocalDateTime startTime = startEndDateGenerator.getStartTime();
+        LocalDateTime endTime = startEndDateGenerator.getEndTime();
+        return new Delivery(shippingPackage, startTime, endTime);
     }
 
     // Getters
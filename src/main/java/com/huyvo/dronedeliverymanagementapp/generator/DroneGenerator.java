@@ -3,12 +3,19 @@ package com.huyvo.dronedeliverymanagementapp.generator;
 import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
 import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
-
+/**
+ * Generates drones with random payloads, mileages and battery levels. Drones are generated in
+ * parallel by {@link ParallelGenerator}, so a seeded Random always yields the same fleet.
+ */
 public class DroneGenerator {
+    private static final float MIN_PAYLOAD = 0.5f;
+    private static final float MIN_MILEAGE = 5.0f;
+    private static final float MAX_MILEAGE = 50.0f;
+
     private final Random random;
     private final List<Drone> droneList;
 
@@ -18,35 +25,26 @@ public class DroneGenerator {
     }
 
     public List<Drone> generateDrones(int droneNum, float maxPayload, float maxMileage) throws ValidationException {
-        float[] payloads = randomPayloads(droneNum, maxPayload);
-        float[] mileages = randomMileages(droneNum, maxMileage);
-        int[] batteryLevels = randomBatteryLevels(droneNum);
-
-        List<Drone> drones = new ArrayList<>(droneNum);
-        for (int i = 0; i < droneNum; i++){
-            float newPayload = payloads[i];
-            float newMileages = mileages[i];
-            int newBatteryLevel = batteryLevels[i];
-            Drone newDrone = new Drone(newPayload, newBatteryLevel, newMileages);
-            drones.add(newDrone);
-        }
-        return drones;
+        return ParallelGenerator.generate(droneNum, random.nextLong(), (index, rowRandom) -> {
+            float newPayload = randomPayload(maxPayload, rowRandom);
+            float newMileages = randomMileage(maxMileage, rowRandom);
+            int newBatteryLevel = randomBatteryLevel(rowRandom);
+            return new Drone(newPayload, newBatteryLevel, newMileages);
+        });
     }
 
     public float[] randomPayloads (int droneNum, float maxPayload) {
         float[] payloads = new float[droneNum];
         for (int i = 0; i < droneNum; i++) {
-            payloads[i] = 0.5f + random.nextFloat() * (maxPayload - 0.5f);
+            payloads[i] = randomPayload(maxPayload, random);
         }
         return payloads;
     }
 
     public float[] randomMileages(int droneNum, float maxMileage) {
         float[] mileages = new float[droneNum];
-        float minMileage = 5.0f;
-        float cappedMax = Math.min(maxMileage, 50.0f); // Ensure max doesn't exceed 50.0f
         for (int i = 0; i < droneNum; i++) {
-            mileages[i] = minMileage + random.nextFloat() * (cappedMax - minMileage);
+            mileages[i] = randomMileage(maxMileage, random);
         }
         return mileages;
     }
@@ -54,11 +52,25 @@ public class DroneGenerator {
     public int[] randomBatteryLevels(int droneNum) {
         int[] batteryLevels = new int[droneNum];
         for (int i = 0; i < droneNum; i++) {
-            batteryLevels[i] = 1 + random.nextInt(100 - 1);
+            batteryLevels[i] = randomBatteryLevel(random);
         }
         return batteryLevels;
     }
 
+    // Private Methods
+    private static float randomPayload(float maxPayload, RandomGenerator random) {
+        return MIN_PAYLOAD + random.nextFloat() * (maxPayload - MIN_PAYLOAD);
+    }
+
+    private static float randomMileage(float maxMileage, RandomGenerator random) {
+        float cappedMax = Math.min(maxMileage, MAX_MILEAGE); // Ensure max doesn't exceed 50.0f
+        return MIN_MILEAGE + random.nextFloat() * (cappedMax - MIN_MILEAGE);
+    }
+
+    private static int randomBatteryLevel(RandomGenerator random) {
+        return 1 + random.nextInt(100 - 1);
+    }
+
     // Getters
     public List<Drone> getDroneList() {
         return this.droneList;
@@ -4,9 +4,10 @@ import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
 
 /**
  * The LocationGenerator class is responsible for generating a list of random locations.
@@ -20,8 +21,19 @@ import java.util.Random;
  * <p>
  * Once the locations are generated, they remain immutable as this class provides
  * only getter access to the generated location list.
+ * <p>
+ * Locations are generated in parallel by {@link ParallelGenerator}, seeded from one draw of the
+ * given {@link Random}, so a seeded Random always yields the same coordinates. The static
+ * {@code stream} methods create locations with the default address one at a time instead, for
+ * datasets too large to hold in memory.
  */
 public final class LocationGenerator {
+    private static final String DEFAULT_ADDRESS_LINE1 = "TEST_ADDRESS_LINE1";
+    private static final String DEFAULT_ADDRESS_LINE2 = "TEST_ADDRESS_LINE2";
+    private static final String DEFAULT_CITY = "TEST_CITY";
+    private static final String DEFAULT_STATE = "TEST_STATE";
+    private static final String DEFAULT_ZIPCODE = "TEST_ZIPCODE";
+    private static final String DEFAULT_COUNTRY = "TEST_COUNTRY";
     private final Random random;
     private String defaultAddressLine1;
     private String defaultAddressLine2;
@@ -57,15 +69,107 @@ public final class LocationGenerator {
                              Random random) {
 
         this.random = random;
-        this.defaultAddressLine1 = addressLine1 != null ? addressLine1 : "TEST_ADDRESS_LINE1";
-        this.defaultAddressLine2 = addressLine2 != null ? addressLine2 : "TEST_ADDRESS_LINE2";
-        this.defaultCity = city != null ? city : "TEST_CITY";
-        this.defaultState = state != null ? state : "TEST_STATE";
-        this.defaultZipCode = zipCode != null ? zipCode : "TEST_ZIPCODE";
-        this.defaultCountry = country != null ? country : "TEST_COUNTRY";
+        this.defaultAddressLine1 = addressLine1 != null ? addressLine1 : DEFAULT_ADDRESS_LINE1;
+        this.defaultAddressLine2 = addressLine2 != null ? addressLine2 : DEFAULT_ADDRESS_LINE2;
+        this.defaultCity = city != null ? city : DEFAULT_CITY;
+        this.defaultState = state != null ? state : DEFAULT_STATE;
+        this.defaultZipCode = zipCode != null ? zipCode : DEFAULT_ZIPCODE;
+        this.defaultCountry = country != null ? country : DEFAULT_COUNTRY;
         this.locationList = generateLocations(locationNum);
     }
 
+    /**
+     * Constructs an instance of the LocationGenerator class that places every location inside a
+     * square service area instead of anywhere on the globe, using the default address attributes.
+     *
+     * @param locationNum the number of Location objects to generate; must be a positive integer.
+     * @param centerLatitude the latitude of the center of the service area.
+     * @param centerLongitude the longitude of the center of the service area.
+     * @param radiusDegrees half the side of the service area in degrees; must be positive.
+     * @param random an instance of {@link Random} used to generate random geographic coordinates.
+     * @throws IllegalArgumentException if locationNum or radiusDegrees is less than or equal to zero.
+     */
+    public LocationGenerator(int locationNum,
+                             float centerLatitude,
+                             float centerLongitude,
+                             float radiusDegrees,
+                             Random random) {
+
+        requirePositiveRadius(radiusDegrees);
+        this.random = random;
+        this.defaultAddressLine1 = DEFAULT_ADDRESS_LINE1;
+        this.defaultAddressLine2 = DEFAULT_ADDRESS_LINE2;
+        this.defaultCity = DEFAULT_CITY;
+        this.defaultState = DEFAULT_STATE;
+        this.defaultZipCode = DEFAULT_ZIPCODE;
+        this.defaultCountry = DEFAULT_COUNTRY;
+        this.locationList = generateLocations(locationNum,
+                                              centerLatitude - radiusDegrees,
+                                              2 * radiusDegrees,
+                                              centerLongitude - radiusDegrees,
+                                              2 * radiusDegrees);
+    }
+
+    /**
+     * Streams random locations anywhere on the globe with the default address, creating each one
+     * only when the stream reaches it.
+     *
+     * @param locationNum the number of locations to stream; must be a positive integer.
+     * @param seed the seed the coordinates are derived from.
+     * @return a sequential stream of the locations, the same for the same seed.
+     * @throws IllegalArgumentException if locationNum is less than or equal to zero.
+     */
+    public static @NotNull Stream<Location> stream(int locationNum, long seed) {
+        requirePositiveCount(locationNum);
+        return ParallelGenerator.stream(locationNum, seed, (index, rowRandom) -> randomLocation(rowRandom));
+    }
+
+    /**
+     * Streams random locations inside a square service area with the default address, creating
+     * each one only when the stream reaches it.
+     *
+     * @param locationNum the number of locations to stream; must be a positive integer.
+     * @param centerLatitude the latitude of the center of the service area.
+     * @param centerLongitude the longitude of the center of the service area.
+     * @param radiusDegrees half the side of the service area in degrees; must be positive.
+     * @param seed the seed the coordinates are derived from.
+     * @return a sequential stream of the locations, the same for the same seed.
+     * @throws IllegalArgumentException if locationNum or radiusDegrees is less than or equal to zero.
+     */
+    public static @NotNull Stream<Location> stream(int locationNum,
+                                                   float centerLatitude,
+                                                   float centerLongitude,
+                                                   float radiusDegrees,
+                                                   long seed) {
+        requirePositiveCount(locationNum);
+        requirePositiveRadius(radiusDegrees);
+        return ParallelGenerator.stream(locationNum, seed, (index, rowRandom) -> randomLocation(rowRandom,
+                                                                                               centerLatitude,
+                                                                                               centerLongitude,
+                                                                                               radiusDegrees));
+    }
+
+    /**
+     * @return a location anywhere on the globe with the default address
+     */
+    static @NotNull Location randomLocation(@NotNull RandomGenerator rowRandom) {
+        return randomLocation(rowRandom, -90f, latitudeRange, -180f, longitudeRange);
+    }
+
+    /**
+     * @return a location inside the square service area with the default address
+     */
+    static @NotNull Location randomLocation(@NotNull RandomGenerator rowRandom,
+                                            float centerLatitude,
+                                            float centerLongitude,
+                                            float radiusDegrees) {
+        return randomLocation(rowRandom,
+                              centerLatitude - radiusDegrees,
+                              2 * radiusDegrees,
+                              centerLongitude - radiusDegrees,
+                              2 * radiusDegrees);
+    }
+
     /**
      * Generates an array of Location objects with random geographic coordinates
      * and default address details.
@@ -76,25 +180,71 @@ public final class LocationGenerator {
      * @throws IllegalArgumentException if locationNum is less than or equal to zero
      */
     private @NotNull List<Location> generateLocations (int locationNum){
+        return generateLocations(locationNum, -90f, latitudeRange, -180f, longitudeRange);
+    }
+
+    private @NotNull List<Location> generateLocations (int locationNum,
+                                                       float minLatitude,
+                                                       float latitudeSpan,
+                                                       float minLongitude,
+                                                       float longitudeSpan){
+        requirePositiveCount(locationNum);
+
+        return ParallelGenerator.generate(locationNum,
+                                          this.random.nextLong(),
+                                          (index, rowRandom) -> newLocation(rowRandom,
+                                                                            minLatitude,
+                                                                            latitudeSpan,
+                                                                            minLongitude,
+                                                                            longitudeSpan));
+    }
+
+    private @NotNull Location newLocation(@NotNull RandomGenerator rowRandom,
+                                          float minLatitude,
+                                          float latitudeSpan,
+                                          float minLongitude,
+                                          float longitudeSpan) {
+        float newLatitude = (rowRandom.nextFloat() * latitudeSpan) + minLatitude;
+        float newLongitude = (rowRandom.nextFloat() * longitudeSpan) + minLongitude;
+
+        return new Location(this.defaultAddressLine1,
+                            this.defaultAddressLine2,
+                            this.defaultCity,
+                            this.defaultState,
+                            this.defaultZipCode,
+                            this.defaultCountry,
+                            newLatitude,
+                            newLongitude);
+    }
+
+    private static @NotNull Location randomLocation(@NotNull RandomGenerator rowRandom,
+                                                    float minLatitude,
+                                                    float latitudeSpan,
+                                                    float minLongitude,
+                                                    float longitudeSpan) {
+        float newLatitude = (rowRandom.nextFloat() * latitudeSpan) + minLatitude;
+        float newLongitude = (rowRandom.nextFloat() * longitudeSpan) + minLongitude;
+
+        return new Location(DEFAULT_ADDRESS_LINE1,
+                            DEFAULT_ADDRESS_LINE2,
+                            DEFAULT_CITY,
+                            DEFAULT_STATE,
+                            DEFAULT_ZIPCODE,
+                            DEFAULT_COUNTRY,
+                            newLatitude,
+                            newLongitude);
+    }
+
+    private static void requirePositiveCount(int locationNum) {
         if (locationNum <= 0) {
             throw new IllegalArgumentException("Number of locations must be positive");
         }
+    }
 
-        List<Location> locations = new ArrayList<>(locationNum);
-        for (int i = 0; i < locationNum; i ++) {
-            float newLatitude = (random.nextFloat() * latitudeRange) - 90f;
-            float newLongitude = (random.nextFloat() * longitudeRange) - 180f;
-
-            locations.add(new Location(this.defaultAddressLine1,
-                                        this.defaultAddressLine2,
-                                        this.defaultCity,
-                                        this.defaultState,
-                                        this.defaultZipCode,
-                                        this.defaultCountry,
-                                        newLatitude,
-                                        newLongitude));
+    private static void requirePositiveRadius(float radiusDegrees) {
+        if (radiusDegrees <= 0) {
+            throw new IllegalArgumentException("Service area radius must be positive");
         }
-        return locations;
     }
 
     // Getters
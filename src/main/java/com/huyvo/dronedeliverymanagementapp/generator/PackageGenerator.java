@@ -5,13 +5,19 @@ import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
 
 /**
  * The PackageGenerator class is responsible for creating an array of random ShippingPackage objects.
  * Each generated package will have a random weight and a randomly generated description string.
+ * <p>
+ * Packages are generated in parallel by {@link ParallelGenerator}, each from its own random
+ * stream, so a seeded Random always yields the same packages. {@link #stream} creates each package
+ * together with a new sender and recipient only when the stream reaches it, for datasets too
+ * large to hold in memory.
  */
 final public class PackageGenerator {
     private final Random random;
@@ -60,44 +66,73 @@ final public class PackageGenerator {
      * @throws IllegalArgumentException if {@code packageNum} or {@code maxWeight} is less than or equal to zero.
      */
     public @NotNull List<ShippingPackage> generatePackages(int packageCount, float maxWeight) {
-        if (packageCount <= 0) { throw new IllegalArgumentException("Package count must be positive"); }
-        if (maxWeight <= 0) { throw new IllegalArgumentException("Maximum weight must be positive"); }
+        requireValid(packageCount, maxWeight);
 
-        List<ShippingPackage> packages = new ArrayList<>(packageCount);
+        return ParallelGenerator.generate(packageCount, this.random.nextLong(), (index, rowRandom) -> {
+            Customer sender = this.sender.get(index);
+            Customer recipient = getRandomRecipientExcluding(sender, rowRandom);
+            return newPackage(sender, recipient, maxWeight, rowRandom);
+        });
+    }
 
-        for (int i = 0; i < packageCount; i++) {
-            Customer sender = this.sender.get(i);
-            Customer recipient = getRandomRecipientExcluding(sender);
+    /**
+     * Streams packages, each between a new sender and a new recipient living anywhere on the globe,
+     * creating every package and its customers only when the stream reaches it.
+     *
+     * @param packageCount the number of packages to stream. Must be a positive integer.
+     * @param maxWeight the maximum allowable weight for each shipping package. Must be a positive value.
+     * @param seed the seed the packages are derived from.
+     * @return a sequential stream of the packages, the same for the same seed.
+     * @throws IllegalArgumentException if {@code packageCount} or {@code maxWeight} is less than or equal to zero.
+     */
+    public static @NotNull Stream<ShippingPackage> stream(int packageCount, float maxWeight, long seed) {
+        requireValid(packageCount, maxWeight);
+        return ParallelGenerator.stream(packageCount, seed, (index, rowRandom) -> randomPackage(maxWeight, rowRandom));
+    }
 
-            float weight = random.nextFloat() * maxWeight;
-            int descriptionLength = random.nextInt(20) + 5;
-            String description = generateRandomString(descriptionLength);
+    /**
+     * @return a package between a new sender and a new recipient
+     */
+    static @NotNull ShippingPackage randomPackage(float maxWeight, @NotNull RandomGenerator rowRandom) {
+        Customer sender = CustomerGenerator.randomCustomer(rowRandom);
+        Customer recipient = CustomerGenerator.randomCustomer(rowRandom);
+        return newPackage(sender, recipient, maxWeight, rowRandom);
+    }
 
-            ShippingPackage newPackage = new ShippingPackage(
-                    weight,
-                    description,
-                    sender,
-                    recipient);
+    private static @NotNull ShippingPackage newPackage(Customer sender,
+                                                       Customer recipient,
+                                                       float maxWeight,
+                                                       RandomGenerator rowRandom) {
+        float weight = rowRandom.nextFloat() * maxWeight;
+        int descriptionLength = rowRandom.nextInt(20) + 5;
+        String description = generateRandomString(descriptionLength, rowRandom);
+
+        return new ShippingPackage(
+                weight,
+                description,
+                sender,
+                recipient);
+    }
 
-            packages.add(newPackage);
-        }
-        return packages;
+    private static void requireValid(int packageCount, float maxWeight) {
+        if (packageCount <= 0) { throw new IllegalArgumentException("Package count must be positive"); }
+        if (maxWeight <= 0) { throw new IllegalArgumentException("Maximum weight must be positive"); }
     }
 
-    private Customer getRandomRecipientExcluding(Customer excludedSender) {
+    private Customer getRandomRecipientExcluding(Customer excludedSender, RandomGenerator rowRandom) {
         Customer recipient;
         do {
-            recipient = this.recipient.get(random.nextInt(this.recipient.size()));
+            recipient = this.recipient.get(rowRandom.nextInt(this.recipient.size()));
         } while (recipient.equals(excludedSender));
 
         return recipient;
     }
 
-    private @NotNull String generateRandomString(int length) {
+    private static @NotNull String generateRandomString(int length, RandomGenerator rowRandom) {
         String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
         StringBuilder sb = new StringBuilder(length);
         for (int i = 0; i < length; i++) {
-            sb.append(characters.charAt(this.random.nextInt(characters.length())));
+            sb.append(characters.charAt(rowRandom.nextInt(characters.length())));
         }
         return sb.toString();
     }
@@ -0,0 +1,275 @@
+package com.huyvo.dronedeliverymanagementapp.generator;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates rows of synthetic data on a fork-join pool, reproducibly.
+ * <p>
+ * The rows are cut into fixed chunks of {@value #CHUNK_SIZE}. The range of chunks is halved
+ * recursively, and each halving hands the right half {@link SplittableRandom#split()} of the left
+ * half's generator before either half runs. The halving depends only on the row count, so every
+ * chunk receives the same random stream for a given seed however many threads the pool has and
+ * whichever thread runs it, and row {@code i} is always stored at index {@code i}. The output is
+ * therefore identical for a seed regardless of parallelism, while chunks share no state and keep
+ * every core busy.
+ * <p>
+ * {@link #stream} produces the same rows lazily: it walks the same tree of chunks depth first,
+ * keeping only the pending right halves, so memory use does not depend on the row count.
+ * <p>
+ * Entity IDs are not part of this guarantee: they come from the {@link
+ * com.huyvo.dronedeliverymanagementapp.classes.domains.IdStrategy} in use when each row is created.
+ */
+public final class ParallelGenerator {
+    public static final int CHUNK_SIZE = 4096;
+
+    private ParallelGenerator() {}
+
+    /**
+     * Creates one row from its own random stream.
+     *
+     * @param <X> the checked exception creating a row may throw
+     */
+    @FunctionalInterface
+    public interface RowFactory<T, X extends Exception> {
+        T create(int index, SplittableRandom random) throws X;
+    }
+
+    /**
+     * Generates rows on the common fork-join pool.
+     *
+     * @see #generate(int, long, RowFactory, ForkJoinPool)
+     */
+    public static <T, X extends Exception> @NotNull List<T> generate(int count, long seed, @NotNull RowFactory<T, X> factory) throws X {
+        return generate(count, seed, factory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates {@code count} rows.
+     *
+     * @param count the number of rows; may be 0
+     * @param seed the seed the rows are derived from
+     * @param factory creates row {@code index}; called concurrently for different rows
+     * @param pool the pool to run on
+     * @return the rows in index order
+     * @throws X the first exception the factory threw; the remaining chunks are skipped
+     * @throws IllegalArgumentException if count is negative
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, X extends Exception> @NotNull List<T> generate(int count,
+                                                                     long seed,
+                                                                     @NotNull RowFactory<T, X> factory,
+                                                                     @NotNull ForkJoinPool pool) throws X {
+        if (count < 0) {
+            throw new IllegalArgumentException("Row count cannot be negative");
+        }
+
+        Object[] rows = new Object[count];
+        int chunkCount = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunkCount > 0) {
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            pool.invoke(new ChunkTask<>(rows, 0, chunkCount, new SplittableRandom(seed), factory, failure));
+            if (failure.get() != null) {
+                throw (X) failure.get();
+            }
+        }
+        return new ArrayList<>((List<T>) Arrays.asList(rows));
+    }
+
+    /**
+     * Streams {@code count} rows, creating each one only when the stream reaches it. The rows are the
+     * same as those {@link #generate} returns for the seed, in index order; a parallel stream splits
+     * along chunk boundaries.
+     *
+     * @param count the number of rows; may be 0
+     * @param seed the seed the rows are derived from
+     * @param factory creates row {@code index}; called concurrently for different rows if the stream is parallel
+     * @return a sequential stream of the rows
+     * @throws IllegalArgumentException if count is negative
+     */
+    public static <T> @NotNull Stream<T> stream(int count,
+                                                long seed,
+                                                @NotNull RowFactory<T, ? extends RuntimeException> factory) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Row count cannot be negative");
+        }
+
+        Deque<ChunkRange> pending = new ArrayDeque<>();
+        if (count > 0) {
+            pending.push(new ChunkRange(0, (count + CHUNK_SIZE - 1) / CHUNK_SIZE, new SplittableRandom(seed)));
+        }
+        return StreamSupport.stream(new RowSpliterator<>(factory, count, pending), false);
+    }
+
+    // Private Methods
+    private record ChunkRange(int firstChunk, int endChunk, SplittableRandom random) {
+
+        private boolean isSingleChunk() {
+            return this.endChunk - this.firstChunk == 1;
+        }
+
+        private long rowCount(int totalRows) {
+            return Math.min(totalRows, (long) this.endChunk * CHUNK_SIZE) - (long) this.firstChunk * CHUNK_SIZE;
+        }
+    }
+
+    /**
+     * Walks the chunk tree of {@link ChunkTask} depth first. {@code pending} holds the ranges still to
+     * be generated, the next one first; the range being generated is held as its remaining rows.
+     */
+    private static final class RowSpliterator<T> implements Spliterator<T> {
+        private final RowFactory<T, ? extends RuntimeException> factory;
+        private final int totalRows;
+        private Deque<ChunkRange> pending;
+        private SplittableRandom chunkRandom;
+        private int nextRow;
+        private int chunkEnd;
+
+        private RowSpliterator(RowFactory<T, ? extends RuntimeException> factory, int totalRows, Deque<ChunkRange> pending) {
+            this.factory = factory;
+            this.totalRows = totalRows;
+            this.pending = pending;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (this.nextRow == this.chunkEnd && !enterNextChunk()) {
+                return false;
+            }
+            action.accept(this.factory.create(this.nextRow++, this.chunkRandom));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Deque<ChunkRange> prefix = new ArrayDeque<>();
+            if (this.nextRow < this.chunkEnd) {
+                // Hand off the rest of the current chunk
+                if (this.pending.isEmpty()) {
+                    return null;
+                }
+                RowSpliterator<T> split = new RowSpliterator<>(this.factory, this.totalRows, prefix);
+                split.chunkRandom = this.chunkRandom;
+                split.nextRow = this.nextRow;
+                split.chunkEnd = this.chunkEnd;
+                this.nextRow = this.chunkEnd = 0;
+                this.chunkRandom = null;
+                return split;
+            }
+            if (this.pending.size() > 1) {
+                // Hand off every pending range but the last
+                ChunkRange last = this.pending.removeLast();
+                prefix = this.pending;
+                this.pending = new ArrayDeque<>();
+                this.pending.push(last);
+            } else if (this.pending.size() == 1 && !this.pending.peek().isSingleChunk()) {
+                ChunkRange range = this.pending.pop();
+                this.pending.push(rightHalf(range));
+                prefix.push(leftHalf(range));
+            } else {
+                return null;
+            }
+            return new RowSpliterator<>(this.factory, this.totalRows, prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = this.chunkEnd - this.nextRow;
+            for (ChunkRange range : this.pending) {
+                size += range.rowCount(this.totalRows);
+            }
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+
+        private boolean enterNextChunk() {
+            ChunkRange range = this.pending.poll();
+            if (range == null) {
+                return false;
+            }
+            while (!range.isSingleChunk()) {
+                this.pending.push(rightHalf(range));
+                range = leftHalf(range);
+            }
+            this.chunkRandom = range.random();
+            this.nextRow = range.firstChunk() * CHUNK_SIZE;
+            this.chunkEnd = (int) Math.min(this.totalRows, (long) range.endChunk() * CHUNK_SIZE);
+            return true;
+        }
+
+        // Splits the range's random for the right half first, exactly as ChunkTask does
+        private static ChunkRange rightHalf(ChunkRange range) {
+            int middle = (range.firstChunk() + range.endChunk()) >>> 1;
+            return new ChunkRange(middle, range.endChunk(), range.random().split());
+        }
+
+        private static ChunkRange leftHalf(ChunkRange range) {
+            int middle = (range.firstChunk() + range.endChunk()) >>> 1;
+            return new ChunkRange(range.firstChunk(), middle, range.random());
+        }
+    }
+
+    private static final class ChunkTask<T, X extends Exception> extends RecursiveAction {
+        private final Object[] rows;
+        private final int firstChunk;
+        private final int endChunk;
+        private final SplittableRandom random;
+        private final RowFactory<T, X> factory;
+        private final AtomicReference<Exception> failure;
+
+        private ChunkTask(Object[] rows,
+                          int firstChunk,
+                          int endChunk,
+                          SplittableRandom random,
+                          RowFactory<T, X> factory,
+                          AtomicReference<Exception> failure) {
+
+            this.rows = rows;
+            this.firstChunk = firstChunk;
+            this.endChunk = endChunk;
+            this.random = random;
+            this.factory = factory;
+            this.failure = failure;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.failure.get() != null) {
+                return;
+            }
+            if (this.endChunk - this.firstChunk > 1) {
+                int middle = (this.firstChunk + this.endChunk) >>> 1;
+                SplittableRandom rightRandom = this.random.split();
+                invokeAll(new ChunkTask<>(this.rows, this.firstChunk, middle, this.random, this.factory, this.failure),
+                          new ChunkTask<>(this.rows, middle, this.endChunk, rightRandom, this.factory, this.failure));
+                return;
+            }
+
+            int end = Math.min(this.rows.length, (this.firstChunk + 1) * CHUNK_SIZE);
+            try {
+                for (int i = this.firstChunk * CHUNK_SIZE; i < end; i++) {
+                    this.rows[i] = this.factory.create(i, this.random);
+                }
+            } catch (Exception e) {
+                this.failure.compareAndSet(null, e);
+            }
+        }
+    }
+}
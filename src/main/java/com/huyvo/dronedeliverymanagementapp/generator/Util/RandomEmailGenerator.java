@@ -6,7 +6,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * RandomEmailGenerator is a utility class designed to generate random email addresses
@@ -16,7 +16,7 @@ public final class RandomEmailGenerator {
     private static final List<String> DEFAULT_DOMAINS = new ArrayList<>(
             Arrays.asList("gmail.com", "yahoo.com", "hotmail.com", "outlook.com", "icloud.com", "aol.com")
     );
-    private final Random random;
+    private final RandomGenerator random;
     private final List<String> emailList;
     private final List<String> domains;
 
@@ -28,10 +28,10 @@ public final class RandomEmailGenerator {
      * @param emailNum the number of email addresses to generate; must be a positive integer
      * @param nameList the list of names to use for generating email addresses; must not be null or empty
      * @param customDomains an optional array of custom domain names; if null or empty, default domains will be used
-     * @param random the Random instance used for generating random indices for domain selection
+     * @param random the random generator used for generating random indices for domain selection
      * @throws IllegalArgumentException if the name list is null or empty, or if the email number is non-positive
      */
-    public RandomEmailGenerator(int emailNum, List<String> nameList, List<String> customDomains, Random random) {
+    public RandomEmailGenerator(int emailNum, List<String> nameList, List<String> customDomains, RandomGenerator random) {
         this.random = random;
         this.domains = customDomains != null && !customDomains.isEmpty() ? customDomains : DEFAULT_DOMAINS;
         this.emailList = generateEmail(emailNum, nameList);
@@ -61,18 +61,29 @@ public final class RandomEmailGenerator {
         List<String> emails = new ArrayList<>(emailNum);
 
         for (int i = 0; i < emailNum; i++) {
-            StringBuilder email = new StringBuilder();
-            String name = nameToEmailUsername(nameList.get(i));
-            int randomDomainIndex = random.nextInt(domains.size());
-            String domain = domains.get(randomDomainIndex);
-            email.append(name).append("@").append(domain);
-            emails.add(email.toString());
+            emails.add(randomEmail(nameList.get(i), this.domains, this.random));
         }
 
         return emails;
     }
 
-    private @NotNull String nameToEmailUsername(@NotNull String name) {
+    /**
+     * Generates a single email address for a name at one of the default domains.
+     *
+     * @param name the name the username is derived from
+     * @param random the random generator used to pick the domain
+     * @return the email address
+     */
+    public static @NotNull String randomEmail(@NotNull String name, @NotNull RandomGenerator random) {
+        return randomEmail(name, DEFAULT_DOMAINS, random);
+    }
+
+    private static @NotNull String randomEmail(String name, List<String> domains, RandomGenerator random) {
+        String domain = domains.get(random.nextInt(domains.size()));
+        return nameToEmailUsername(name) + "@" + domain;
+    }
+
+    private static @NotNull String nameToEmailUsername(@NotNull String name) {
         return name.toLowerCase()
                 .replace(" ", ".")
                 .replaceAll("[^a-zA-Z0-9._-]", "");
@@ -4,6 +4,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * A utility class for generating random names composed of a first name and a last name.
@@ -25,7 +26,7 @@ public final class RandomNameGenerator {
                     "Spark", "Star", "Swift", "Tide", "Wing", "Winter", "Ash", "Cloud",
                     "Ember", "Forest", "Moon", "Rain", "Snow", "Wind", "Claw", "Mountain")
     );
-    private final Random random;
+    private final RandomGenerator random;
     private final List<String> firstNames;
     private final List<String> lastNames;
     private final List<String> nameList;
@@ -39,11 +40,11 @@ public final class RandomNameGenerator {
      * @param nameNum the number of names to generate; must be a positive integer
      * @param customFirstNames an optional array of custom first names; if null or empty, default first names are used
      * @param customLastNames an optional array of custom last names; if null or empty, default last names are used
-     * @param random the Random instance used for generating random indices for name selection
+     * @param random the random generator used for generating random indices for name selection
      * @throws IllegalArgumentException if the number of names is non-positive
      *                                  or exceeds the total possible unique combinations
      */
-    public RandomNameGenerator(int nameNum, List<String> customFirstNames, List<String> customLastNames, Random random) {
+    public RandomNameGenerator(int nameNum, List<String> customFirstNames, List<String> customLastNames, RandomGenerator random) {
         this.random = random;
         this.firstNames = customFirstNames != null && !customFirstNames.isEmpty() ? customFirstNames : DEFAULT_FIRST_NAMES;
         this.lastNames = customLastNames != null && !customLastNames.isEmpty() ? customLastNames : DEFAULT_LAST_NAMES;
@@ -74,14 +75,28 @@ public final class RandomNameGenerator {
         List<String> uniqueNames = new ArrayList<>(nameNum);
 
         while (uniqueNames.size() < nameNum) {
-            int firstIndex = random.nextInt(firstNamesLength);
-            int lastIndex = random.nextInt(lastNamesLength);
-            uniqueNames.add(this.firstNames.get(firstIndex) + " " + this.lastNames.get(lastIndex));
+            uniqueNames.add(randomName(this.firstNames, this.lastNames, this.random));
         }
 
         return uniqueNames;
     }
 
+    /**
+     * Generates a single name from the default first and last names.
+     *
+     * @param random the random generator used to pick the names
+     * @return a name in the format "FirstName LastName"
+     */
+    public static @NotNull String randomName(@NotNull RandomGenerator random) {
+        return randomName(DEFAULT_FIRST_NAMES, DEFAULT_LAST_NAMES, random);
+    }
+
+    private static @NotNull String randomName(List<String> firstNames, List<String> lastNames, RandomGenerator random) {
+        int firstIndex = random.nextInt(firstNames.size());
+        int lastIndex = random.nextInt(lastNames.size());
+        return firstNames.get(firstIndex) + " " + lastNames.get(lastIndex);
+    }
+
     // Getters
     @Contract(value = " -> new", pure = true)
     public @NotNull List<String> getNameList() {
@@ -5,7 +5,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * RandomPasswordGenerator is a utility class for generating a predefined number of random passwords.
@@ -13,7 +13,7 @@ import java.util.Random;
  * The passwords are generated upon object instantiation and stored in an array for retrieval.
  */
 public final class RandomPasswordGenerator {
-    private final Random random;
+    private final RandomGenerator random;
     private static final String ALPHANUMERIC_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
     private final List<String> passwordList;
 
@@ -23,9 +23,9 @@ public final class RandomPasswordGenerator {
      * in an internal list for retrieval.
      *
      * @param passwordNum the number of passwords to generate; must be a positive integer
-     * @param random      an instance of Random used for generating random values
+     * @param random      the random generator used for generating random values
      */
-    public RandomPasswordGenerator(int passwordNum, Random random) {
+    public RandomPasswordGenerator(int passwordNum, RandomGenerator random) {
         this.random = random;
         this.passwordList = generatePassword(passwordNum);
     }
@@ -42,16 +42,26 @@ public final class RandomPasswordGenerator {
         List<String> passwords = new ArrayList<>(passwordNum);
 
         for (int i = 0; i < passwordNum; i++) {
-            StringBuilder password = new StringBuilder();
-            int passwordLength = random.nextInt(10) + 8;
-            for (int j = 0; j < passwordLength; j++) {
-                password.append(ALPHANUMERIC_CHARS.charAt(random.nextInt(ALPHANUMERIC_CHARS.length())));
-            }
-            passwords.add(password.toString());
+            passwords.add(randomPassword(this.random));
         }
         return passwords;
     }
 
+    /**
+     * Generates a single alphanumeric password between 8 and 17 characters long.
+     *
+     * @param random the random generator used to pick the length and characters
+     * @return the password
+     */
+    public static @NotNull String randomPassword(@NotNull RandomGenerator random) {
+        int passwordLength = random.nextInt(10) + 8;
+        StringBuilder password = new StringBuilder(passwordLength);
+        for (int j = 0; j < passwordLength; j++) {
+            password.append(ALPHANUMERIC_CHARS.charAt(random.nextInt(ALPHANUMERIC_CHARS.length())));
+        }
+        return password.toString();
+    }
+
     // Getters
     @Contract(value = " -> new", pure = true)
     public @NotNull List<String> getPasswordList() {
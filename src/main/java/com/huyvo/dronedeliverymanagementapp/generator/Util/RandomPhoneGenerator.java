@@ -4,6 +4,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * RandomPhoneGenerator is a utility class designed to generate random phone numbers
@@ -11,18 +12,18 @@ import java.util.*;
  * It allows the generation of a specific number of random phone numbers in a ten-digit format.
  */
 public final class RandomPhoneGenerator {
-    private final Random random;
+    private final RandomGenerator random;
     private final List<String> phoneList;
 
     /**
      * Constructs a RandomPhoneGenerator object that generates a specified number of random phone numbers
-     * using the provided Random instance for number generation.
+     * using the provided random generator for number generation.
      *
      * @param phoneNum the number of random phone numbers to generate; must be a positive integer
-     * @param random the Random instance used for generating random numbers
+     * @param random the random generator used for generating random numbers
      * @throws IllegalArgumentException if the phone number count is non-positive
      */
-    public RandomPhoneGenerator(int phoneNum, Random random) {
+    public RandomPhoneGenerator(int phoneNum, RandomGenerator random) {
         this.random = random;
         this.phoneList = generatePhone(phoneNum);
     }
@@ -43,15 +44,24 @@ public final class RandomPhoneGenerator {
 
         List<String> phones = new ArrayList<>(phoneNum);
         while (phones.size() < phoneNum) {
-            String areaCode = String.format("%03d", random.nextInt(800) + 200);
-            String prefix = String.format("%03d", random.nextInt(743) + 200);
-            String lineNumber = String.format("%04d", random.nextInt(10000));
-            String newPhoneNumber =  areaCode + "-" + prefix + "-" + lineNumber;
-            phones.add(newPhoneNumber);
+            phones.add(randomPhone(this.random));
         }
         return phones;
     }
 
+    /**
+     * Generates a single phone number in the format "XXX-XXX-XXXX".
+     *
+     * @param random the random generator used to pick the digits
+     * @return the phone number
+     */
+    public static @NotNull String randomPhone(@NotNull RandomGenerator random) {
+        String areaCode = String.format("%03d", random.nextInt(800) + 200);
+        String prefix = String.format("%03d", random.nextInt(743) + 200);
+        String lineNumber = String.format("%04d", random.nextInt(10000));
+        return areaCode + "-" + prefix + "-" + lineNumber;
+    }
+
     // Getters
     @Contract(value = " -> new", pure = true)
     public @NotNull List<String> getPhoneList() {
@@ -3,7 +3,7 @@ package com.huyvo.dronedeliverymanagementapp.generator.Util;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.LocalDateTime;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class RandomStartEndDateGenerator {
     private static final int MIN_HOUR = 0;
@@ -12,11 +12,11 @@ public class RandomStartEndDateGenerator {
     private static final int MAX_DELIVERY_OFFSET_HOURS = 5;
     private static final int MAX_MINUTE = 60;
 
-    private final Random random;
+    private final RandomGenerator random;
     private final LocalDateTime startTime;
     private final LocalDateTime endTime;
 
-    public RandomStartEndDateGenerator(int year, int month, int day, Random random) {
+    public RandomStartEndDateGenerator(int year, int month, int day, RandomGenerator random) {
         this.random = random;
         LocalDateTime[] times = generateStartEndDate(year, month, day);
         this.startTime = times[0];
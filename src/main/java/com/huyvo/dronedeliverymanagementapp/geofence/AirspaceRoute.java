@@ -0,0 +1,30 @@
+package com.huyvo.dronedeliverymanagementapp.geofence;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.FixedPointCoordinates;
+
+/**
+ * The outcome of checking a flight against the no-fly zones.
+ *
+ * @param verdict whether the flight is clear, goes around zones or cannot be flown
+ * @param waypoints the points to fly through, from the start to the destination, packed by
+ *                  {@link FixedPointCoordinates#pack}; empty if rejected
+ * @param blockingZone the zone that was in the way, or {@code null} if the direct flight is clear
+ * @param distanceKm the length of the flight through the waypoints in kilometers; 0 if rejected
+ */
+public record AirspaceRoute(Verdict verdict, long[] waypoints, NoFlyZone blockingZone, double distanceKm) {
+
+    public enum Verdict {
+        /** The direct flight enters no zone. */
+        CLEAR,
+        /** The direct flight enters a zone; the waypoints go around it. */
+        REROUTED,
+        /** The start or destination is inside a zone, or no way around was found. */
+        REJECTED
+    }
+
+    // Getters
+    public boolean isFlyable() { return this.verdict != Verdict.REJECTED; }
+    public int getWaypointCount() { return this.waypoints.length; }
+    public double getLatitude(int waypoint) { return FixedPointCoordinates.latitude(this.waypoints[waypoint]); }
+    public double getLongitude(int waypoint) { return FixedPointCoordinates.longitude(this.waypoints[waypoint]); }
+}
@@ -0,0 +1,228 @@
+package com.huyvo.dronedeliverymanagementapp.geofence;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.FixedPointCoordinates;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DeliveryManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The no-fly zones in force, and the checks flights are planned against.
+ * <p>
+ * The zones are held as one immutable {@link GeofenceIndex}. Reloading builds a new index aside
+ * and swaps it in with a single volatile write, so checks never wait for a reload and each check
+ * sees either the old zones or the new ones, never a mix.
+ * <p>
+ * A flight blocked by zones is rerouted through the corners of their bounding boxes, pushed
+ * {@value #DETOUR_MARGIN_DEGREES}° outward: the shortest path over those corners whose legs are all
+ * clear is taken. Zones in the way of a leg add their own corners, up to {@value #MAX_DETOUR_ZONES}
+ * zones; if no path is found by then, the flight is rejected. The detour is short but not always
+ * the shortest possible.
+ */
+public final class Geofence {
+    private static final Geofence SHARED = new Geofence();
+    private static final double DETOUR_MARGIN_DEGREES = 0.0005;
+    private static final int MAX_DETOUR_ZONES = 32;
+    private static final long[] NO_WAYPOINTS = new long[0];
+
+    private volatile GeofenceIndex index = GeofenceIndex.EMPTY;
+
+    /**
+     * @return the application-wide geofence, empty until zones are loaded into it
+     */
+    public static @NotNull Geofence shared() {
+        return SHARED;
+    }
+
+    // Getters
+    public @NotNull GeofenceIndex getIndex() { return this.index; }
+
+    // Setters
+    /**
+     * Swaps in a new set of zones. Checks already running finish against the previous ones.
+     */
+    public void setIndex(@NotNull GeofenceIndex index) {
+        this.index = index;
+    }
+
+    // Public Methods
+    /**
+     * Reads the zones of a GeoJSON file, see {@link NoFlyZoneReader}, and swaps them in. If the
+     * file cannot be read, the zones in force are kept.
+     *
+     * @return the new index
+     */
+    public @NotNull GeofenceIndex load(@NotNull Path file) throws IOException, ValidationException {
+        GeofenceIndex loaded = GeofenceIndex.build(NoFlyZoneReader.read(file));
+        setIndex(loaded);
+        return loaded;
+    }
+
+    /**
+     * @return a zone the straight flight between the two points enters, or {@code null} if it is clear
+     */
+    public NoFlyZone firstCrossing(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        return this.index.firstCrossing(fromLatitude, fromLongitude, toLatitude, toLongitude);
+    }
+
+    /**
+     * Checks a flight and finds a way around the zones in the way, if any.
+     *
+     * @return the route to fly, or a rejection
+     */
+    public @NotNull AirspaceRoute route(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        GeofenceIndex index = this.index;
+        NoFlyZone blocking = index.zoneContaining(toLatitude, toLongitude);
+        if (blocking == null) {
+            blocking = index.zoneContaining(fromLatitude, fromLongitude);
+        }
+        if (blocking != null) {
+            return new AirspaceRoute(AirspaceRoute.Verdict.REJECTED, NO_WAYPOINTS, blocking, 0);
+        }
+        blocking = index.firstCrossing(fromLatitude, fromLongitude, toLatitude, toLongitude);
+        if (blocking == null) {
+            return new AirspaceRoute(AirspaceRoute.Verdict.CLEAR,
+                                     new long[]{FixedPointCoordinates.pack(fromLatitude, fromLongitude),
+                                                FixedPointCoordinates.pack(toLatitude, toLongitude)},
+                                     null,
+                                     DeliveryManager.haversineDistance(fromLatitude, fromLongitude, toLatitude, toLongitude));
+        }
+        return new Detour(index, fromLatitude, fromLongitude, toLatitude, toLongitude).find(blocking);
+    }
+
+    /**
+     * The search for a way around the zones of one flight. Node 0 is the start, node 1 the
+     * destination, the others are the corners of the zones in the way.
+     */
+    private static final class Detour {
+        private final GeofenceIndex index;
+        private final Set<NoFlyZone> zones = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final List<NoFlyZone> newZones = new ArrayList<>();
+        private double[] latitudes = new double[16];
+        private double[] longitudes = new double[16];
+        private int nodeCount;
+
+        private Detour(GeofenceIndex index, double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+            this.index = index;
+            addNode(fromLatitude, fromLongitude);
+            addNode(toLatitude, toLongitude);
+        }
+
+        private AirspaceRoute find(NoFlyZone blocking) {
+            addZones(this.index.crossings(this.latitudes[0], this.longitudes[0], this.latitudes[1], this.longitudes[1]));
+            while (true) {
+                AirspaceRoute route = shortestClearPath(blocking);
+                if (route != null) {
+                    return route;
+                }
+                if (this.newZones.isEmpty() || this.zones.size() >= MAX_DETOUR_ZONES) {
+                    return new AirspaceRoute(AirspaceRoute.Verdict.REJECTED, NO_WAYPOINTS, blocking, 0);
+                }
+                List<NoFlyZone> found = new ArrayList<>(this.newZones);
+                this.newZones.clear();
+                addZones(found);
+            }
+        }
+
+        /**
+         * Dijkstra over the nodes, testing each leg against the index as it is reached. Zones
+         * found blocking a leg are remembered for the next round.
+         */
+        private AirspaceRoute shortestClearPath(NoFlyZone blocking) {
+            int count = this.nodeCount;
+            double[] distances = new double[count];
+            int[] previous = new int[count];
+            boolean[] settled = new boolean[count];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            distances[0] = 0;
+            while (true) {
+                int node = -1;
+                for (int i = 0; i < count; i++) {
+                    if (!settled[i] && distances[i] < Double.POSITIVE_INFINITY && (node < 0 || distances[i] < distances[node])) {
+                        node = i;
+                    }
+                }
+                if (node < 0) {
+                    return null;
+                }
+                if (node == 1) {
+                    return toRoute(previous, distances[1], blocking);
+                }
+                settled[node] = true;
+                for (int next = 1; next < count; next++) {
+                    if (settled[next]) {
+                        continue;
+                    }
+                    double distance = distances[node] + DeliveryManager.haversineDistance(
+                            this.latitudes[node], this.longitudes[node], this.latitudes[next], this.longitudes[next]);
+                    if (distance >= distances[next]) {
+                        continue;
+                    }
+                    NoFlyZone crossed = this.index.firstCrossing(this.latitudes[node], this.longitudes[node],
+                                                                 this.latitudes[next], this.longitudes[next]);
+                    if (crossed == null) {
+                        distances[next] = distance;
+                        previous[next] = node;
+                    } else if (!this.zones.contains(crossed)) {
+                        this.newZones.add(crossed);
+                    }
+                }
+            }
+        }
+
+        private AirspaceRoute toRoute(int[] previous, double distance, NoFlyZone blocking) {
+            List<Integer> path = new ArrayList<>();
+            for (int node = 1; node != 0; node = previous[node]) {
+                path.add(node);
+            }
+            path.add(0);
+            long[] waypoints = new long[path.size()];
+            for (int i = 0; i < waypoints.length; i++) {
+                int node = path.get(path.size() - 1 - i);
+                waypoints[i] = FixedPointCoordinates.pack(this.latitudes[node], this.longitudes[node]);
+            }
+            return new AirspaceRoute(AirspaceRoute.Verdict.REROUTED, waypoints, blocking, distance);
+        }
+
+        private void addZones(List<NoFlyZone> found) {
+            for (NoFlyZone zone : found) {
+                if (this.zones.size() >= MAX_DETOUR_ZONES || !this.zones.add(zone)) {
+                    continue;
+                }
+                double south = Math.max(-90, zone.getMinLatitude() - DETOUR_MARGIN_DEGREES);
+                double north = Math.min(90, zone.getMaxLatitude() + DETOUR_MARGIN_DEGREES);
+                double west = Math.max(-180, zone.getMinLongitude() - DETOUR_MARGIN_DEGREES);
+                double east = Math.min(180, zone.getMaxLongitude() + DETOUR_MARGIN_DEGREES);
+                addCorner(south, west);
+                addCorner(south, east);
+                addCorner(north, west);
+                addCorner(north, east);
+            }
+        }
+
+        private void addCorner(double latitude, double longitude) {
+            // A corner inside another zone can never be flown through
+            if (this.index.zoneContaining(latitude, longitude) == null) {
+                addNode(latitude, longitude);
+            }
+        }
+
+        private void addNode(double latitude, double longitude) {
+            if (this.nodeCount == this.latitudes.length) {
+                this.latitudes = Arrays.copyOf(this.latitudes, this.nodeCount * 2);
+                this.longitudes = Arrays.copyOf(this.longitudes, this.nodeCount * 2);
+            }
+            this.latitudes[this.nodeCount] = latitude;
+            this.longitudes[this.nodeCount] = longitude;
+            this.nodeCount++;
+        }
+    }
+}
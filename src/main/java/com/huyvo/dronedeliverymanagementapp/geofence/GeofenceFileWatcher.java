@@ -0,0 +1,115 @@
+package com.huyvo.dronedeliverymanagementapp.geofence;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loads the no-fly zones of {@code app.geofence.file} into the {@link Geofence} on startup and
+ * reloads them whenever the file changes. The application does not start if the file cannot be
+ * read; a later change that cannot be read is logged and the zones in force are kept.
+ * <p>
+ * To replace the zones without a reader ever seeing a half-written file, write the new file next
+ * to it and move it over the old one.
+ */
+@Component
+@ConditionalOnProperty(name = "app.geofence.file")
+public class GeofenceFileWatcher implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(GeofenceFileWatcher.class);
+
+    private final Geofence geofence;
+    private final Path file;
+    private final WatchService watchService;
+    private final Thread thread;
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder failedReloads = new LongAdder();
+
+    @Autowired
+    public GeofenceFileWatcher(@Value("${app.geofence.file}") Path file) throws IOException, ValidationException {
+        this(Geofence.shared(), file);
+    }
+
+    /**
+     * Loads the zones and starts watching the file.
+     *
+     * @throws ValidationException if the file is not a valid zone file
+     */
+    public GeofenceFileWatcher(@NotNull Geofence geofence, @NotNull Path file) throws IOException, ValidationException {
+        this.geofence = geofence;
+        this.file = file.toAbsolutePath();
+        GeofenceIndex index = geofence.load(this.file);
+        log.info("Loaded {} no-fly zones from {}", index.size(), this.file);
+
+        this.watchService = this.file.getFileSystem().newWatchService();
+        this.file.getParent().register(this.watchService,
+                                       StandardWatchEventKinds.ENTRY_CREATE,
+                                       StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::watch, "geofence-reloader");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // Getters
+    public long getReloads() { return this.reloads.sum(); }
+    public long getFailedReloads() { return this.failedReloads.sum(); }
+
+    // Public Methods
+    /**
+     * Reloads the zones now.
+     *
+     * @return true if the zones were replaced, false if the file could not be read
+     */
+    public boolean reload() {
+        try {
+            long start = System.nanoTime();
+            GeofenceIndex index = this.geofence.load(this.file);
+            this.reloads.increment();
+            log.info("Reloaded {} no-fly zones from {} in {} ms", index.size(), this.file, (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (IOException | ValidationException | RuntimeException e) {
+            this.failedReloads.increment();
+            log.error("Could not reload no-fly zones from {}; keeping the zones in force", this.file, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.watchService.close();
+    }
+
+    // Private Methods
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = this.watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= this.file.getFileName().equals(event.context());
+                }
+                key.reset();
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Closed with the application
+        }
+    }
+}
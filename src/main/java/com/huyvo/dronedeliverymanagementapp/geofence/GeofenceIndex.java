@@ -0,0 +1,262 @@
+package com.huyvo.dronedeliverymanagementapp.geofence;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable R-tree over {@link NoFlyZone no-fly zones}, bulk loaded with Sort-Tile-Recursive
+ * packing: the zones are sorted into vertical slices by longitude, each slice by latitude, and cut
+ * into full nodes of {@value #NODE_CAPACITY}; the nodes are packed the same way level by level up
+ * to the root. Packed nodes overlap little, so a query for a short flight visits a handful of nodes
+ * whatever the number of zones.
+ * <p>
+ * Each level is kept as flat arrays of bounding boxes rather than node objects. A flight is tested
+ * against a box by clipping the segment, not just by comparing bounding boxes, so long diagonal
+ * flights do not descend into every node their bounding box overlaps.
+ * <p>
+ * The index never changes once built. To change the zones, build a new index and swap it in, see
+ * {@link Geofence#setIndex}.
+ */
+public final class GeofenceIndex {
+    public static final GeofenceIndex EMPTY = build(List.of());
+
+    private static final int NODE_CAPACITY = 16;
+    private static final int MIN_LATITUDE = 0;
+    private static final int MIN_LONGITUDE = 1;
+    private static final int MAX_LATITUDE = 2;
+    private static final int MAX_LONGITUDE = 3;
+
+    // Zones in leaf order; level 0 of the boxes holds their bounding boxes
+    private final NoFlyZone[] zones;
+    // Per level from the zones up to the root: 4 bounds per entry
+    private final double[][] bounds;
+    // Per level above the zones: the first child of each entry, in the level below
+    private final int[][] firstChildren;
+    private final int[][] childCounts;
+
+    private GeofenceIndex(NoFlyZone[] zones, double[][] bounds, int[][] firstChildren, int[][] childCounts) {
+        this.zones = zones;
+        this.bounds = bounds;
+        this.firstChildren = firstChildren;
+        this.childCounts = childCounts;
+    }
+
+    /**
+     * Bulk loads an index over the zones.
+     *
+     * @param zones the zones to index
+     * @return the index
+     */
+    public static @NotNull GeofenceIndex build(@NotNull Collection<NoFlyZone> zones) {
+        int count = zones.size();
+        NoFlyZone[] unsorted = zones.toArray(new NoFlyZone[0]);
+        double[] zoneBounds = new double[4 * count];
+        for (int i = 0; i < count; i++) {
+            NoFlyZone zone = unsorted[i];
+            zoneBounds[4 * i + MIN_LATITUDE] = zone.getMinLatitude();
+            zoneBounds[4 * i + MIN_LONGITUDE] = zone.getMinLongitude();
+            zoneBounds[4 * i + MAX_LATITUDE] = zone.getMaxLatitude();
+            zoneBounds[4 * i + MAX_LONGITUDE] = zone.getMaxLongitude();
+        }
+        int[] order = sortTileRecursive(zoneBounds, count);
+        NoFlyZone[] sortedZones = new NoFlyZone[count];
+        for (int i = 0; i < count; i++) {
+            sortedZones[i] = unsorted[order[i]];
+        }
+
+        List<double[]> bounds = new ArrayList<>();
+        List<int[]> firstChildren = new ArrayList<>();
+        List<int[]> childCounts = new ArrayList<>();
+        bounds.add(permute(zoneBounds, order, 4));
+        firstChildren.add(null);
+        childCounts.add(null);
+
+        int levelCount = count;
+        while (levelCount > 1) {
+            double[] level = bounds.get(bounds.size() - 1);
+            int parentCount = (levelCount + NODE_CAPACITY - 1) / NODE_CAPACITY;
+            double[] parentBounds = new double[4 * parentCount];
+            int[] parentFirstChildren = new int[parentCount];
+            int[] parentChildCounts = new int[parentCount];
+            for (int parent = 0; parent < parentCount; parent++) {
+                int first = parent * NODE_CAPACITY;
+                int end = Math.min(levelCount, first + NODE_CAPACITY);
+                parentFirstChildren[parent] = first;
+                parentChildCounts[parent] = end - first;
+                unionInto(parentBounds, parent, level, first, end);
+            }
+            int[] parentOrder = sortTileRecursive(parentBounds, parentCount);
+            bounds.add(permute(parentBounds, parentOrder, 4));
+            firstChildren.add(permute(parentFirstChildren, parentOrder));
+            childCounts.add(permute(parentChildCounts, parentOrder));
+            levelCount = parentCount;
+        }
+        return new GeofenceIndex(sortedZones,
+                                 bounds.toArray(new double[0][]),
+                                 firstChildren.toArray(new int[0][]),
+                                 childCounts.toArray(new int[0][]));
+    }
+
+    // Getters
+    public int size() { return this.zones.length; }
+
+    /**
+     * @return the height of the tree, counting the level of the zones; 0 if empty
+     */
+    public int getHeight() { return this.zones.length == 0 ? 0 : this.bounds.length; }
+
+    // Public Methods
+    /**
+     * @return a zone the straight flight between the two points enters, or {@code null} if the
+     *         flight is clear
+     */
+    public NoFlyZone firstCrossing(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        if (this.zones.length == 0) {
+            return null;
+        }
+        return search(this.bounds.length - 1, 0, fromLatitude, fromLongitude, toLatitude, toLongitude, null);
+    }
+
+    /**
+     * @return every zone the straight flight between the two points enters
+     */
+    public @NotNull List<NoFlyZone> crossings(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        List<NoFlyZone> crossed = new ArrayList<>();
+        if (this.zones.length > 0) {
+            search(this.bounds.length - 1, 0, fromLatitude, fromLongitude, toLatitude, toLongitude, crossed);
+        }
+        return crossed;
+    }
+
+    /**
+     * @return a zone containing the point, or {@code null} if it is in free airspace
+     */
+    public NoFlyZone zoneContaining(double latitude, double longitude) {
+        if (this.zones.length == 0) {
+            return null;
+        }
+        return search(this.bounds.length - 1, 0, latitude, longitude, latitude, longitude, null);
+    }
+
+    // Private Methods
+    /**
+     * Searches the subtree of an entry. Collects every crossed zone into {@code crossed} if given,
+     * otherwise returns the first one found.
+     */
+    private NoFlyZone search(int level, int entry,
+                             double fromLatitude, double fromLongitude, double toLatitude, double toLongitude,
+                             List<NoFlyZone> crossed) {
+        if (!segmentHitsBox(this.bounds[level], entry, fromLatitude, fromLongitude, toLatitude, toLongitude)) {
+            return null;
+        }
+        if (level == 0) {
+            NoFlyZone zone = this.zones[entry];
+            if (!zone.crosses(fromLatitude, fromLongitude, toLatitude, toLongitude)) {
+                return null;
+            }
+            if (crossed != null) {
+                crossed.add(zone);
+                return null;
+            }
+            return zone;
+        }
+        int first = this.firstChildren[level][entry];
+        int end = first + this.childCounts[level][entry];
+        for (int child = first; child < end; child++) {
+            NoFlyZone found = search(level - 1, child, fromLatitude, fromLongitude, toLatitude, toLongitude, crossed);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Clips the segment against the box (Liang-Barsky).
+     */
+    private static boolean segmentHitsBox(double[] bounds, int entry,
+                                          double fromLatitude, double fromLongitude,
+                                          double toLatitude, double toLongitude) {
+        double minLatitude = bounds[4 * entry + MIN_LATITUDE];
+        double minLongitude = bounds[4 * entry + MIN_LONGITUDE];
+        double maxLatitude = bounds[4 * entry + MAX_LATITUDE];
+        double maxLongitude = bounds[4 * entry + MAX_LONGITUDE];
+        if (Math.max(fromLatitude, toLatitude) < minLatitude || Math.min(fromLatitude, toLatitude) > maxLatitude
+                || Math.max(fromLongitude, toLongitude) < minLongitude || Math.min(fromLongitude, toLongitude) > maxLongitude) {
+            return false;
+        }
+        double enter = 0;
+        double exit = 1;
+        double deltaLatitude = toLatitude - fromLatitude;
+        if (deltaLatitude != 0) {
+            double a = (minLatitude - fromLatitude) / deltaLatitude;
+            double b = (maxLatitude - fromLatitude) / deltaLatitude;
+            enter = Math.max(enter, Math.min(a, b));
+            exit = Math.min(exit, Math.max(a, b));
+        }
+        double deltaLongitude = toLongitude - fromLongitude;
+        if (deltaLongitude != 0) {
+            double a = (minLongitude - fromLongitude) / deltaLongitude;
+            double b = (maxLongitude - fromLongitude) / deltaLongitude;
+            enter = Math.max(enter, Math.min(a, b));
+            exit = Math.min(exit, Math.max(a, b));
+        }
+        return enter <= exit;
+    }
+
+    /**
+     * @return the entries in STR order: slices by center longitude, each sorted by center latitude
+     */
+    private static int[] sortTileRecursive(double[] bounds, int count) {
+        int nodeCount = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceSize = (int) Math.ceil(Math.sqrt(nodeCount)) * NODE_CAPACITY;
+        Integer[] order = IntStream.range(0, count).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingDouble(i -> center(bounds, i, MIN_LONGITUDE)));
+        for (int from = 0; from < count; from += sliceSize) {
+            Arrays.sort(order, from, Math.min(count, from + sliceSize),
+                                  Comparator.comparingDouble(i -> center(bounds, i, MIN_LATITUDE)));
+        }
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static double center(double[] bounds, int entry, int minAxis) {
+        return bounds[4 * entry + minAxis] + bounds[4 * entry + minAxis + 2];
+    }
+
+    private static void unionInto(double[] target, int entry, double[] source, int from, int to) {
+        double minLatitude = Double.POSITIVE_INFINITY, minLongitude = Double.POSITIVE_INFINITY;
+        double maxLatitude = Double.NEGATIVE_INFINITY, maxLongitude = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            minLatitude = Math.min(minLatitude, source[4 * i + MIN_LATITUDE]);
+            minLongitude = Math.min(minLongitude, source[4 * i + MIN_LONGITUDE]);
+            maxLatitude = Math.max(maxLatitude, source[4 * i + MAX_LATITUDE]);
+            maxLongitude = Math.max(maxLongitude, source[4 * i + MAX_LONGITUDE]);
+        }
+        target[4 * entry + MIN_LATITUDE] = minLatitude;
+        target[4 * entry + MIN_LONGITUDE] = minLongitude;
+        target[4 * entry + MAX_LATITUDE] = maxLatitude;
+        target[4 * entry + MAX_LONGITUDE] = maxLongitude;
+    }
+
+    private static double[] permute(double[] values, int[] order, int stride) {
+        double[] permuted = new double[values.length];
+        for (int i = 0; i < order.length; i++) {
+            System.arraycopy(values, order[i] * stride, permuted, i * stride, stride);
+        }
+        return permuted;
+    }
+
+    private static int[] permute(int[] values, int[] order) {
+        int[] permuted = new int[values.length];
+        for (int i = 0; i < order.length; i++) {
+            permuted[i] = values[order[i]];
+        }
+        return permuted;
+    }
+}
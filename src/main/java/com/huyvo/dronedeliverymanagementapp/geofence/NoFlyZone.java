@@ -0,0 +1,151 @@
+package com.huyvo.dronedeliverymanagementapp.geofence;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A restricted area drones must not enter, such as an airport or an event, as a simple polygon.
+ * <p>
+ * Coordinates are treated as planar latitude/longitude, which is exact enough for the few
+ * kilometres of a delivery hop. Longitude does not wrap around the antimeridian. Boundaries count
+ * as inside: a flight that only touches a zone crosses it.
+ */
+public final class NoFlyZone {
+    private final String zoneId;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double minLatitude;
+    private final double minLongitude;
+    private final double maxLatitude;
+    private final double maxLongitude;
+
+    /**
+     * @param zoneId the name the zone is reported by
+     * @param latitudes the latitudes of the vertices in degrees, in ring order; a closing vertex
+     *                  equal to the first one may be given or left out
+     * @param longitudes the longitudes of the vertices in degrees, in the same order
+     * @throws IllegalArgumentException if there are fewer than 3 vertices or a coordinate is out of range
+     */
+    public NoFlyZone(@NotNull String zoneId, double @NotNull [] latitudes, double @NotNull [] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Zone " + zoneId + " has " + latitudes.length
+                                                       + " latitudes but " + longitudes.length + " longitudes.");
+        }
+        int count = latitudes.length;
+        if (count > 0 && latitudes[0] == latitudes[count - 1] && longitudes[0] == longitudes[count - 1]) {
+            count--;
+        }
+        if (count < 3) {
+            throw new IllegalArgumentException("Zone " + zoneId + " must have at least 3 vertices.");
+        }
+        this.zoneId = zoneId;
+        this.latitudes = Arrays.copyOf(latitudes, count);
+        this.longitudes = Arrays.copyOf(longitudes, count);
+
+        double minLatitude = Double.POSITIVE_INFINITY, maxLatitude = Double.NEGATIVE_INFINITY;
+        double minLongitude = Double.POSITIVE_INFINITY, maxLongitude = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            if (!(Math.abs(this.latitudes[i]) <= 90 && Math.abs(this.longitudes[i]) <= 180)) {
+                throw new IllegalArgumentException("Zone " + zoneId + " has a vertex out of range.");
+            }
+            minLatitude = Math.min(minLatitude, this.latitudes[i]);
+            maxLatitude = Math.max(maxLatitude, this.latitudes[i]);
+            minLongitude = Math.min(minLongitude, this.longitudes[i]);
+            maxLongitude = Math.max(maxLongitude, this.longitudes[i]);
+        }
+        this.minLatitude = minLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLatitude = maxLatitude;
+        this.maxLongitude = maxLongitude;
+    }
+
+    // Getters
+    public String getZoneId() { return this.zoneId; }
+    public int getVertexCount() { return this.latitudes.length; }
+    public double getLatitude(int vertex) { return this.latitudes[vertex]; }
+    public double getLongitude(int vertex) { return this.longitudes[vertex]; }
+    public double getMinLatitude() { return this.minLatitude; }
+    public double getMinLongitude() { return this.minLongitude; }
+    public double getMaxLatitude() { return this.maxLatitude; }
+    public double getMaxLongitude() { return this.maxLongitude; }
+
+    // Public Methods
+    /**
+     * @return true if the point is inside the zone or on its boundary
+     */
+    public boolean contains(double latitude, double longitude) {
+        if (latitude < this.minLatitude || latitude > this.maxLatitude
+                || longitude < this.minLongitude || longitude > this.maxLongitude) {
+            return false;
+        }
+        boolean inside = false;
+        int count = this.latitudes.length;
+        for (int i = 0, j = count - 1; i < count; j = i++) {
+            double latI = this.latitudes[i], lonI = this.longitudes[i];
+            double latJ = this.latitudes[j], lonJ = this.longitudes[j];
+            if (onSegment(latitude, longitude, latI, lonI, latJ, lonJ)) {
+                return true;
+            }
+            if ((latI > latitude) != (latJ > latitude)
+                    && longitude < (lonJ - lonI) * (latitude - latI) / (latJ - latI) + lonI) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    /**
+     * @return true if the straight flight between the two points enters the zone
+     */
+    public boolean crosses(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        if (Math.max(fromLatitude, toLatitude) < this.minLatitude || Math.min(fromLatitude, toLatitude) > this.maxLatitude
+                || Math.max(fromLongitude, toLongitude) < this.minLongitude
+                || Math.min(fromLongitude, toLongitude) > this.maxLongitude) {
+            return false;
+        }
+        // A flight that enters without starting inside must cross an edge
+        if (contains(fromLatitude, fromLongitude)) {
+            return true;
+        }
+        int count = this.latitudes.length;
+        for (int i = 0, j = count - 1; i < count; j = i++) {
+            if (segmentsIntersect(fromLatitude, fromLongitude, toLatitude, toLongitude,
+                                  this.latitudes[j], this.longitudes[j], this.latitudes[i], this.longitudes[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "NoFlyZone[" + this.zoneId + "]";
+    }
+
+    // Private Methods
+    private static boolean segmentsIntersect(double ay, double ax, double by, double bx,
+                                             double cy, double cx, double dy, double dx) {
+        double abc = orientation(ay, ax, by, bx, cy, cx);
+        double abd = orientation(ay, ax, by, bx, dy, dx);
+        double cda = orientation(cy, cx, dy, dx, ay, ax);
+        double cdb = orientation(cy, cx, dy, dx, by, bx);
+        if (((abc > 0 && abd < 0) || (abc < 0 && abd > 0)) && ((cda > 0 && cdb < 0) || (cda < 0 && cdb > 0))) {
+            return true;
+        }
+        return (abc == 0 && onSegment(cy, cx, ay, ax, by, bx))
+                || (abd == 0 && onSegment(dy, dx, ay, ax, by, bx))
+                || (cda == 0 && onSegment(ay, ax, cy, cx, dy, dx))
+                || (cdb == 0 && onSegment(by, bx, cy, cx, dy, dx));
+    }
+
+    private static double orientation(double ay, double ax, double by, double bx, double cy, double cx) {
+        return (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+    }
+
+    private static boolean onSegment(double py, double px, double ay, double ax, double by, double bx) {
+        return orientation(ay, ax, by, bx, py, px) == 0
+                && px >= Math.min(ax, bx) && px <= Math.max(ax, bx)
+                && py >= Math.min(ay, by) && py <= Math.max(ay, by);
+    }
+}
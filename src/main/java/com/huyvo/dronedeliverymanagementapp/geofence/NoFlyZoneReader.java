@@ -0,0 +1,118 @@
+package com.huyvo.dronedeliverymanagementapp.geofence;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads no-fly zones from a GeoJSON {@code FeatureCollection}. Every {@code Polygon} feature is a
+ * zone, and every polygon of a {@code MultiPolygon} feature; other geometries are skipped. A zone is
+ * named after the {@code id} of its feature, else its {@code name} property, else its position in
+ * the file. Holes are ignored, so the area inside a hole is restricted too.
+ * <pre>
+ * {"type":"FeatureCollection","features":[
+ *   {"type":"Feature","id":"HAJ","geometry":{"type":"Polygon",
+ *    "coordinates":[[[9.66,52.45],[9.71,52.45],[9.71,52.47],[9.66,52.47],[9.66,52.45]]]}}]}
+ * </pre>
+ * As in GeoJSON, positions are {@code [longitude, latitude]}.
+ */
+public final class NoFlyZoneReader {
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private NoFlyZoneReader() {
+    }
+
+    /**
+     * @throws ValidationException if the file is not a feature collection or a polygon is invalid
+     */
+    public static @NotNull List<NoFlyZone> read(@NotNull Path file) throws IOException, ValidationException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads the features one at a time, so a large file is never held as a whole JSON tree.
+     *
+     * @throws ValidationException if the input is not a feature collection or a polygon is invalid
+     */
+    public static @NotNull List<NoFlyZone> read(@NotNull InputStream in) throws IOException, ValidationException {
+        List<NoFlyZone> zones = new ArrayList<>();
+        try (JsonParser parser = JSON.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ValidationException("Expected a GeoJSON FeatureCollection.");
+            }
+            boolean sawFeatures = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!name.equals("features")) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new ValidationException("features must be an array.");
+                }
+                sawFeatures = true;
+                int feature = 0;
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readFeature(JSON.readTree(parser), feature++, zones);
+                }
+            }
+            if (!sawFeatures) {
+                throw new ValidationException("Expected a GeoJSON FeatureCollection.");
+            }
+        }
+        return zones;
+    }
+
+    // Private Methods
+    private static void readFeature(JsonNode feature, int position, List<NoFlyZone> zones) throws ValidationException {
+        String zoneId = feature.hasNonNull("id") ? feature.get("id").asText()
+                : feature.path("properties").hasNonNull("name") ? feature.path("properties").get("name").asText()
+                : "zone-" + position;
+        JsonNode geometry = feature.path("geometry");
+        JsonNode coordinates = geometry.path("coordinates");
+        switch (geometry.path("type").asText()) {
+            case "Polygon" -> zones.add(toZone(zoneId, coordinates));
+            case "MultiPolygon" -> {
+                for (JsonNode polygon : coordinates) {
+                    zones.add(toZone(zoneId, polygon));
+                }
+            }
+            default -> { }
+        }
+    }
+
+    private static NoFlyZone toZone(String zoneId, JsonNode polygon) throws ValidationException {
+        JsonNode ring = polygon.path(0);
+        if (!ring.isArray()) {
+            throw new ValidationException("Zone " + zoneId + " has no outer ring.");
+        }
+        double[] latitudes = new double[ring.size()];
+        double[] longitudes = new double[ring.size()];
+        for (int i = 0; i < ring.size(); i++) {
+            JsonNode position = ring.get(i);
+            if (!position.path(0).isNumber() || !position.path(1).isNumber()) {
+                throw new ValidationException("Zone " + zoneId + " has a position that is not [longitude, latitude].");
+            }
+            longitudes[i] = position.get(0).asDouble();
+            latitudes[i] = position.get(1).asDouble();
+        }
+        try {
+            return new NoFlyZone(zoneId, latitudes, longitudes);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage());
+        }
+    }
+}
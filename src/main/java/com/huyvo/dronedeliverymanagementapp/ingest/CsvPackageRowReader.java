@@ -0,0 +1,144 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import com.huyvo.dronedeliverymanagementapp.BadRequestException;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads RFC 4180 CSV: a header row naming the columns, fields separated by commas and optionally
+ * enclosed in double quotes, {@code ""} for a quote inside a quoted field, and CRLF or LF line ends.
+ * Quoted fields may span lines. Header names that are not columns are ignored; blank lines are skipped.
+ */
+class CsvPackageRowReader extends PackageRowReader {
+    private final Reader reader;
+    private final PackageIngestColumn[] columnsByPosition;
+    private final List<String> fields = new ArrayList<>(PackageIngestColumn.count());
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private int pushedBack = -2;
+
+    CsvPackageRowReader(@NotNull Reader reader) throws IOException {
+        this.reader = reader;
+        try {
+            if (!readRecord()) {
+                throw new BadRequestException("The CSV body has no header row");
+            }
+        } catch (ValidationException e) {
+            throw new BadRequestException("Malformed CSV header: " + e.getMessage());
+        }
+
+        this.columnsByPosition = new PackageIngestColumn[this.fields.size()];
+        Set<PackageIngestColumn> missing = EnumSet.allOf(PackageIngestColumn.class);
+        for (int i = 0; i < this.fields.size(); i++) {
+            PackageIngestColumn column = PackageIngestColumn.byName(this.fields.get(i));
+            if (column != null && !missing.remove(column)) {
+                throw new BadRequestException("Duplicate CSV column: " + column.getColumnName());
+            }
+            this.columnsByPosition[i] = column;
+        }
+        missing.removeIf(column -> !column.isRequired());
+        if (!missing.isEmpty()) {
+            throw new BadRequestException("Missing CSV columns: " + missing.stream().map(PackageIngestColumn::getColumnName).toList());
+        }
+    }
+
+    @Override
+    protected boolean seekRow(@NotNull PackageIngestRow row) throws IOException {
+        int c = read();
+        while (c == '\n' || c == '\r') {
+            if (c == '\r') {
+                c = read();
+                if (c == '\n') {
+                    c = read();
+                }
+            } else {
+                c = read();
+            }
+            this.line++;
+        }
+        if (c == -1) {
+            return false;
+        }
+        this.pushedBack = c;
+        row.reset(this.line);
+        return true;
+    }
+
+    @Override
+    protected void readRow(@NotNull PackageIngestRow row) throws IOException, ValidationException {
+        readRecord();
+        if (this.fields.size() != this.columnsByPosition.length) {
+            throw new ValidationException("Expected " + this.columnsByPosition.length + " fields but found " + this.fields.size() + ".");
+        }
+        for (int i = 0; i < this.columnsByPosition.length; i++) {
+            if (this.columnsByPosition[i] != null) {
+                row.set(this.columnsByPosition[i], this.fields.get(i));
+            }
+        }
+    }
+
+    // Private Methods
+    private boolean readRecord() throws IOException, ValidationException {
+        this.fields.clear();
+        this.field.setLength(0);
+
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new ValidationException("Unterminated quoted field.");
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    this.line++;
+                }
+                this.field.append((char) c);
+            } else if (c == '"' && this.field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                this.fields.add(this.field.toString());
+                this.field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        this.pushedBack = following;
+                    }
+                }
+                if (c != -1) {
+                    this.line++;
+                }
+                this.fields.add(this.field.toString());
+                return true;
+            } else {
+                this.field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        int c = this.pushedBack;
+        if (c != -2) {
+            this.pushedBack = -2;
+            return c;
+        }
+        return this.reader.read();
+    }
+}
@@ -0,0 +1,68 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads newline-delimited JSON: one object per line whose keys are column names and whose values are
+ * strings, numbers or null. Unknown keys are ignored; blank lines are skipped.
+ */
+class NdjsonPackageRowReader extends PackageRowReader {
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final BufferedReader reader;
+    private long line;
+    private String text;
+
+    NdjsonPackageRowReader(@NotNull Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    @Override
+    protected boolean seekRow(@NotNull PackageIngestRow row) throws IOException {
+        do {
+            this.text = this.reader.readLine();
+            if (this.text == null) {
+                return false;
+            }
+            this.line++;
+        } while (this.text.isBlank());
+
+        row.reset(this.line);
+        return true;
+    }
+
+    @Override
+    protected void readRow(@NotNull PackageIngestRow row) throws IOException, ValidationException {
+        try (JsonParser parser = JSON.createParser(this.text)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ValidationException("Expected a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                PackageIngestColumn column = PackageIngestColumn.byName(parser.currentName());
+                JsonToken value = parser.nextToken();
+                if (value.isStructStart()) {
+                    if (column != null) {
+                        throw new ValidationException(column.getColumnName() + " must be a string or a number.");
+                    }
+                    parser.skipChildren();
+                } else if (column != null && value != JsonToken.VALUE_NULL) {
+                    row.set(column, parser.getText());
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new ValidationException("Unexpected content after the JSON object.");
+            }
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+}
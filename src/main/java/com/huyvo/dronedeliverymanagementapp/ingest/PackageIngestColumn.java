@@ -0,0 +1,95 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The fields of one ingested package row. The column name is both the CSV header and the NDJSON key,
+ * e.g. {@code sender_address_line1}.
+ */
+public enum PackageIngestColumn {
+    DESCRIPTION(Kind.TEXT, false),
+    WEIGHT(Kind.WEIGHT, true),
+    SENDER_NAME(Kind.TEXT, true),
+    SENDER_EMAIL(Kind.EMAIL, true),
+    SENDER_PHONE(Kind.TEXT, false),
+    SENDER_ADDRESS_LINE1(Kind.TEXT, true),
+    SENDER_ADDRESS_LINE2(Kind.TEXT, false),
+    SENDER_CITY(Kind.TEXT, true),
+    SENDER_STATE(Kind.TEXT, false),
+    SENDER_ZIPCODE(Kind.TEXT, false),
+    SENDER_COUNTRY(Kind.TEXT, true),
+    SENDER_LATITUDE(Kind.LATITUDE, true),
+    SENDER_LONGITUDE(Kind.LONGITUDE, true),
+    RECIPIENT_NAME(Kind.TEXT, true),
+    RECIPIENT_EMAIL(Kind.EMAIL, true),
+    RECIPIENT_PHONE(Kind.TEXT, false),
+    RECIPIENT_ADDRESS_LINE1(Kind.TEXT, true),
+    RECIPIENT_ADDRESS_LINE2(Kind.TEXT, false),
+    RECIPIENT_CITY(Kind.TEXT, true),
+    RECIPIENT_STATE(Kind.TEXT, false),
+    RECIPIENT_ZIPCODE(Kind.TEXT, false),
+    RECIPIENT_COUNTRY(Kind.TEXT, true),
+    RECIPIENT_LATITUDE(Kind.LATITUDE, true),
+    RECIPIENT_LONGITUDE(Kind.LONGITUDE, true);
+
+    /**
+     * How a column is validated and which SQL type it is staged as.
+     */
+    public enum Kind {
+        TEXT("varchar(255)"),
+        EMAIL("varchar(255)"),
+        WEIGHT("double precision"),
+        LATITUDE("real"),
+        LONGITUDE("real");
+
+        private final String sqlType;
+
+        Kind(String sqlType) {
+            this.sqlType = sqlType;
+        }
+
+        public String getSqlType() {
+            return sqlType;
+        }
+    }
+
+    private static final PackageIngestColumn[] COLUMNS = values();
+    private static final Map<String, PackageIngestColumn> BY_NAME = new HashMap<>();
+
+    static {
+        for (PackageIngestColumn column : COLUMNS) {
+            BY_NAME.put(column.columnName, column);
+        }
+    }
+
+    private final Kind kind;
+    private final boolean required;
+    private final String columnName;
+
+    PackageIngestColumn(Kind kind, boolean required) {
+        this.kind = kind;
+        this.required = required;
+        this.columnName = name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param name a CSV header or NDJSON key, matched without regard to case and surrounding blanks
+     * @return the column, or {@code null} if the name is not a column
+     */
+    public static @Nullable PackageIngestColumn byName(String name) {
+        return BY_NAME.get(name.strip().toLowerCase(Locale.ROOT));
+    }
+
+    public static int count() {
+        return COLUMNS.length;
+    }
+
+    // Getters
+    public Kind getKind() { return this.kind; }
+    public boolean isRequired() { return this.required; }
+    public String getColumnName() { return this.columnName; }
+}
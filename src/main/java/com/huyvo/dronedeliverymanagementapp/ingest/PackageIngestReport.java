@@ -0,0 +1,27 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import java.util.List;
+
+/**
+ * The outcome of one ingest request.
+ *
+ * @param rowsRead the rows found in the body
+ * @param rowsRejected the rows that failed validation and were skipped
+ * @param locationsInserted the new sender and recipient addresses
+ * @param customersInserted the new customers; senders and recipients whose email is already known are reused
+ * @param packagesInserted the new packages, one per accepted row
+ * @param errors the first rejected rows with the reason, at most {@link PackageIngestService#MAX_REPORTED_ERRORS}
+ */
+public record PackageIngestReport(long rowsRead,
+                                  long rowsRejected,
+                                  long locationsInserted,
+                                  long customersInserted,
+                                  long packagesInserted,
+                                  List<RowError> errors) {
+
+    /**
+     * @param line the line of the body the rejected row starts on
+     * @param message why it was rejected
+     */
+    public record RowError(long line, String message) {}
+}
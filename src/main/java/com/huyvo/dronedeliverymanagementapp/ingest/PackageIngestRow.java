@@ -0,0 +1,49 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * The raw values of one ingested row, keyed by {@link PackageIngestColumn}. Readers refill a single
+ * instance for every row, so a stream of any length allocates only the values themselves.
+ * Values are stripped, and blank values are stored as {@code null}.
+ */
+public class PackageIngestRow {
+    private final String[] values = new String[PackageIngestColumn.count()];
+    private long lineNumber;
+
+    // Getters
+    public String get(@NotNull PackageIngestColumn column) {
+        return this.values[column.ordinal()];
+    }
+
+    /**
+     * @return the line of the request body the row starts on
+     */
+    public long getLineNumber() {
+        return this.lineNumber;
+    }
+
+    // Setters
+    public void set(@NotNull PackageIngestColumn column, String value) {
+        if (value != null) {
+            value = value.strip();
+            if (value.isEmpty()) {
+                value = null;
+            }
+        }
+        this.values[column.ordinal()] = value;
+    }
+
+    // Public Methods
+    /**
+     * Empties every value and moves the row to a new line.
+     *
+     * @param lineNumber the line the next row starts on
+     */
+    public void reset(long lineNumber) {
+        Arrays.fill(this.values, null);
+        this.lineNumber = lineNumber;
+    }
+}
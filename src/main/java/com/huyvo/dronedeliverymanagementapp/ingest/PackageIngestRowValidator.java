@@ -0,0 +1,82 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.Validator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Checks an ingested row against everything the target tables would reject, so that a bad row is
+ * reported on its own instead of failing the COPY for the whole upload.
+ */
+public class PackageIngestRowValidator implements Validator<PackageIngestRow> {
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    @Override
+    public void validate(PackageIngestRow row) throws ValidationException {
+        if (row == null) {
+            throw new ValidationException("Row cannot be null.");
+        }
+        for (PackageIngestColumn column : PackageIngestColumn.values()) {
+            String value = row.get(column);
+            if (value == null) {
+                if (column.isRequired()) {
+                    throw new ValidationException(column.getColumnName() + " must not be blank.");
+                }
+                continue;
+            }
+            validateValue(column, value);
+        }
+    }
+
+    // Private Methods
+    private void validateValue(@NotNull PackageIngestColumn column, @NotNull String value) throws ValidationException {
+        switch (column.getKind()) {
+            case TEXT -> validateText(column, value);
+            case EMAIL -> {
+                validateText(column, value);
+                int at = value.indexOf('@');
+                if (at <= 0 || at == value.length() - 1) {
+                    throw new ValidationException(column.getColumnName() + " must be an email address.");
+                }
+            }
+            case WEIGHT -> {
+                double weight = parseDouble(column, value);
+                if (!(weight > 0) || Double.isInfinite(weight)) {
+                    throw new ValidationException(column.getColumnName() + " must be a positive number.");
+                }
+            }
+            case LATITUDE -> validateRange(column, parseDouble(column, value), 90);
+            case LONGITUDE -> validateRange(column, parseDouble(column, value), 180);
+        }
+    }
+
+    /**
+     * Postgres text cannot hold NUL, so a COPY containing one fails as a whole. Tabs and line breaks
+     * are escaped on the way into COPY and may stay, as in a quoted CSV field spanning lines.
+     */
+    private void validateText(PackageIngestColumn column, String value) throws ValidationException {
+        if (value.length() > MAX_TEXT_LENGTH) {
+            throw new ValidationException(column.getColumnName() + " must be at most " + MAX_TEXT_LENGTH + " characters.");
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isISOControl(c) && c != '\t' && c != '\n' && c != '\r') {
+                throw new ValidationException(column.getColumnName() + " must not contain control characters.");
+            }
+        }
+    }
+
+    private void validateRange(PackageIngestColumn column, double value, double limit) throws ValidationException {
+        if (!(value >= -limit && value <= limit)) {
+            throw new ValidationException(column.getColumnName() + " must be between " + -limit + " and " + limit + ".");
+        }
+    }
+
+    private double parseDouble(PackageIngestColumn column, String value) throws ValidationException {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new ValidationException(column.getColumnName() + " must be a number.");
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import com.huyvo.dronedeliverymanagementapp.BadRequestException;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import org.jetbrains.annotations.NotNull;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Bulk-loads shipping packages, with their senders, recipients and addresses, from CSV or NDJSON.
+ * <p>
+ * The body is read one row at a time and every valid row is streamed straight into a temporary
+ * staging table with Postgres {@code COPY}, so neither the body nor the rows are ever held in heap.
+ * Invalid rows are skipped and reported. Once the body is exhausted, three set-based statements
+ * merge the staging table into {@code location}, {@code customer} and {@code shipping_package}:
+ * a sender or recipient is matched to an existing customer by email, and a new customer is created
+ * with a new address otherwise, once per email. Each package is picked up from its sender's address and
+ * delivered to its recipient's, as in {@link com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage}.
+ * The whole request is one transaction.
+ * <p>
+ * Emails are not unique in {@code customer}, as generated and seeded customers may repeat them, so
+ * the merge takes a transaction-scoped advisory lock first: two uploads naming the same new email
+ * copy their rows concurrently, but the second one merges only after the first has committed and
+ * then finds its customer. Customers created at the same moment through other paths do not take
+ * the lock.
+ */
+@Service
+public class PackageIngestService {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int COPY_BUFFER_BYTES = 1 << 16;
+    private static final String STAGING_TABLE = "package_ingest_staging";
+    private static final String CUSTOMER_STAGING_TABLE = "customer_ingest_staging";
+    private static final String[] PARTIES = {"sender", "recipient"};
+
+    private static final String CREATE_STAGING_SQL = createStagingSql();
+    private static final String COPY_SQL = "COPY " + STAGING_TABLE + " FROM STDIN";
+    // Held until commit, so concurrent ingests create customers one after another
+    private static final String LOCK_CUSTOMERS_SQL = "SELECT pg_advisory_xact_lock(hashtext('" + CUSTOMER_STAGING_TABLE + "'))";
+    private static final String STAGE_CUSTOMERS_SQL = """
+            CREATE TEMP TABLE %2$s ON COMMIT DROP AS
+            SELECT DISTINCT ON (email) *
+            FROM (%3$s UNION ALL %4$s) party
+            WHERE NOT EXISTS (SELECT 1 FROM customer c WHERE c.email = party.email)
+            ORDER BY email, line_number
+            """.formatted(STAGING_TABLE, CUSTOMER_STAGING_TABLE, partySql(PARTIES[0]), partySql(PARTIES[1]));
+    private static final String INSERT_LOCATIONS_SQL = """
+            INSERT INTO location (id, address_line1, address_line2, city, state, zipcode, country, latitude, longitude)
+            SELECT location_id, address_line1, address_line2, city, state, zipcode, country, latitude, longitude
+            FROM %s
+            """.formatted(CUSTOMER_STAGING_TABLE);
+    private static final String INSERT_CUSTOMERS_SQL = """
+            INSERT INTO customer (id, name, email, phone, address_id)
+            SELECT customer_id, name, email, phone, location_id
+            FROM %s
+            """.formatted(CUSTOMER_STAGING_TABLE);
+    private static final String INSERT_PACKAGES_SQL = """
+            INSERT INTO shipping_package (id, weight, description, sender_id, recipient_id, pickup_location_id, delivery_location_id)
+            SELECT s.package_id, s.weight, s.description, sc.id, rc.id, sc.address_id, rc.address_id
+            FROM %s s
+            CROSS JOIN LATERAL (SELECT id, address_id FROM customer WHERE email = s.sender_email ORDER BY id LIMIT 1) sc
+            CROSS JOIN LATERAL (SELECT id, address_id FROM customer WHERE email = s.recipient_email ORDER BY id LIMIT 1) rc
+            """.formatted(STAGING_TABLE);
+
+    private final DataSource dataSource;
+    private final PackageIngestRowValidator validator = new PackageIngestRowValidator();
+
+    public PackageIngestService(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Ingests a UTF-8 request body.
+     *
+     * @param body the body, read to its end but not closed
+     * @param format the format of the body
+     * @return how many rows were read, rejected and inserted
+     * @throws BadRequestException if the body cannot be read at all, e.g. a CSV header lacks a required column
+     */
+    public @NotNull PackageIngestReport ingest(@NotNull InputStream body, @NotNull PackageRowReader.Format format) throws IOException, SQLException {
+        PackageRowReader rows = PackageRowReader.open(format,
+                                                      new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), COPY_BUFFER_BYTES));
+        try (Connection connection = this.dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGING_SQL);
+                }
+                List<PackageIngestReport.RowError> errors = new ArrayList<>();
+                long[] readAndRejected = copyRows(connection, rows, errors);
+
+                long locations;
+                long customers;
+                long packages;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ANALYZE " + STAGING_TABLE);
+                    statement.execute(LOCK_CUSTOMERS_SQL);
+                    statement.execute(STAGE_CUSTOMERS_SQL);
+                    locations = statement.executeUpdate(INSERT_LOCATIONS_SQL);
+                    customers = statement.executeUpdate(INSERT_CUSTOMERS_SQL);
+                    packages = statement.executeUpdate(INSERT_PACKAGES_SQL);
+                }
+                connection.commit();
+                return new PackageIngestReport(readAndRejected[0], readAndRejected[1], locations, customers, packages, errors);
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    // Private Methods
+    /**
+     * @return the rows read and the rows rejected
+     */
+    private long[] copyRows(Connection connection,
+                            PackageRowReader rows,
+                            List<PackageIngestReport.RowError> errors) throws IOException, SQLException {
+
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL, COPY_BUFFER_BYTES);
+        long rejected = 0;
+        try {
+            CopyTextWriter writer = new CopyTextWriter(new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), COPY_BUFFER_BYTES));
+            PackageIngestRow row = new PackageIngestRow();
+            while (true) {
+                try {
+                    if (!rows.next(row)) {
+                        break;
+                    }
+                    this.validator.validate(row);
+                } catch (ValidationException e) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new PackageIngestReport.RowError(row.getLineNumber(), e.getMessage()));
+                    }
+                    continue;
+                }
+                writeRow(writer, row);
+            }
+            writer.flush();
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+        return new long[]{rows.getRowsRead(), rejected};
+    }
+
+    private static void writeRow(CopyTextWriter writer, PackageIngestRow row) throws IOException {
+        writer.value(row.getLineNumber());
+        writer.value(new IdentificationNumber(IdType.PACKAGE).getValue());
+        for (int i = 0; i < PARTIES.length; i++) {
+            writer.value(new IdentificationNumber(IdType.CUSTOMER).getValue());
+            writer.value(new IdentificationNumber(IdType.LOCATION).getValue());
+        }
+        for (PackageIngestColumn column : PackageIngestColumn.values()) {
+            String value = row.get(column);
+            if (value == null) {
+                writer.nullValue();
+                continue;
+            }
+            // Numbers are written back in Java's own notation, which Postgres accepts for every value Java parses
+            switch (column.getKind()) {
+                case WEIGHT -> writer.value(Double.toString(Double.parseDouble(value)));
+                case LATITUDE, LONGITUDE -> writer.value(Float.toString(Float.parseFloat(value)));
+                default -> writer.value(value);
+            }
+        }
+        writer.endRow();
+    }
+
+    private static String createStagingSql() {
+        StringJoiner columns = new StringJoiner(", ", "CREATE TEMP TABLE " + STAGING_TABLE + " (", ") ON COMMIT DROP");
+        columns.add("line_number bigint").add("package_id bigint");
+        for (String party : PARTIES) {
+            columns.add(party + "_customer_id bigint").add(party + "_location_id bigint");
+        }
+        for (PackageIngestColumn column : PackageIngestColumn.values()) {
+            columns.add(column.getColumnName() + " " + column.getKind().getSqlType());
+        }
+        return columns.toString();
+    }
+
+    private static String partySql(String party) {
+        return """
+                SELECT line_number, %1$s_customer_id AS customer_id, %1$s_location_id AS location_id,
+                       %1$s_name AS name, %1$s_email AS email, %1$s_phone AS phone,
+                       %1$s_address_line1 AS address_line1, %1$s_address_line2 AS address_line2,
+                       %1$s_city AS city, %1$s_state AS state, %1$s_zipcode AS zipcode, %1$s_country AS country,
+                       %1$s_latitude AS latitude, %1$s_longitude AS longitude
+                FROM %2$s
+                """.formatted(party, STAGING_TABLE);
+    }
+
+    /**
+     * Writes rows in the text format of {@code COPY}: tab-separated values, {@code \N} for null,
+     * and backslash escapes for backslashes, tabs and line breaks.
+     */
+    private static final class CopyTextWriter {
+        private final Writer out;
+        private boolean firstValue = true;
+
+        private CopyTextWriter(Writer out) {
+            this.out = out;
+        }
+
+        void value(long value) throws IOException {
+            separate();
+            this.out.write(Long.toString(value));
+        }
+
+        void value(String value) throws IOException {
+            separate();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> this.out.write("\\\\");
+                    case '\t' -> this.out.write("\\t");
+                    case '\n' -> this.out.write("\\n");
+                    case '\r' -> this.out.write("\\r");
+                    default -> this.out.write(c);
+                }
+            }
+        }
+
+        void nullValue() throws IOException {
+            separate();
+            this.out.write("\\N");
+        }
+
+        void endRow() throws IOException {
+            this.out.write('\n');
+            this.firstValue = true;
+        }
+
+        void flush() throws IOException {
+            this.out.flush();
+        }
+
+        private void separate() throws IOException {
+            if (!this.firstValue) {
+                this.out.write('\t');
+            }
+            this.firstValue = false;
+        }
+    }
+}
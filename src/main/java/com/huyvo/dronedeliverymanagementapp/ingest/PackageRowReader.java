@@ -0,0 +1,80 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import com.huyvo.dronedeliverymanagementapp.BadRequestException;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads package rows one at a time from a request body, so that only the current row is held in
+ * memory however large the body is.
+ */
+public abstract class PackageRowReader {
+
+    /**
+     * The body formats rows can be read from.
+     */
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * @param format the format of the body
+     * @param reader the body; should be buffered
+     * @return a reader positioned at the first row
+     * @throws BadRequestException if the body cannot be read at all, e.g. a CSV header lacks a required column
+     */
+    public static @NotNull PackageRowReader open(@NotNull Format format, @NotNull Reader reader) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvPackageRowReader(reader);
+            case NDJSON -> new NdjsonPackageRowReader(reader);
+        };
+    }
+
+    private long rowsRead;
+
+    // Getters
+    /**
+     * @return the rows found so far, malformed ones included; blank lines are not rows
+     */
+    public long getRowsRead() {
+        return this.rowsRead;
+    }
+
+    // Public Methods
+    /**
+     * Reads the next row into {@code row}. The row is counted before it is parsed, so a malformed
+     * row is counted too; it is consumed and reported with a {@link ValidationException}, and the
+     * next call continues with the row after it.
+     *
+     * @param row the row to fill
+     * @return false once the body is exhausted
+     * @throws ValidationException if the next row is malformed
+     */
+    public final boolean next(@NotNull PackageIngestRow row) throws IOException, ValidationException {
+        if (!seekRow(row)) {
+            return false;
+        }
+        this.rowsRead++;
+        readRow(row);
+        return true;
+    }
+
+    // Protected Methods
+    /**
+     * Skips blank lines up to the start of the next row and resets {@code row} to the line it starts on.
+     *
+     * @return false once the body is exhausted
+     */
+    protected abstract boolean seekRow(@NotNull PackageIngestRow row) throws IOException;
+
+    /**
+     * Parses the row {@link #seekRow} found into {@code row}, consuming all of it even if it is malformed.
+     *
+     * @throws ValidationException if the row is malformed
+     */
+    protected abstract void readRow(@NotNull PackageIngestRow row) throws IOException, ValidationException;
+}
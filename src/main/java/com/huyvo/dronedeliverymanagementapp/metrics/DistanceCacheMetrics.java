@@ -0,0 +1,21 @@
+package com.huyvo.dronedeliverymanagementapp.metrics;
+
+import com.huyvo.dronedeliverymanagementapp.classes.services.DistanceCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the hit, miss, eviction and size statistics of the shared {@link DistanceCache}
+ * as {@code cache.*} meters tagged {@code cache=distance}, visible under /actuator/metrics.
+ */
+@Component
+public class DistanceCacheMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, DistanceCache.shared().nativeCache(), "distance");
+    }
+}
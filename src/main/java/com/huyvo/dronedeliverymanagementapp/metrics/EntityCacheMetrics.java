@@ -0,0 +1,51 @@
+package com.huyvo.dronedeliverymanagementapp.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes the statistics of the second-level cache regions of {@code Location} and {@code Customer}
+ * as {@code cache.*} meters tagged with the region name, plus a {@code cache.hit.ratio} gauge per region.
+ */
+@Component
+public class EntityCacheMetrics implements MeterBinder {
+    private static final List<String> REGIONS = List.of("location", "customer");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EntityCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        RegionFactory regionFactory = this.entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                                                               .getCache()
+                                                               .getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jCacheRegionFactory)) {
+            return;
+        }
+        for (String region : REGIONS) {
+            javax.cache.Cache<Object, Object> cache = jCacheRegionFactory.getCacheManager().getCache(region);
+            if (cache == null) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache = cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            CaffeineCacheMetrics.monitor(registry, nativeCache, region);
+            Gauge.builder("cache.hit.ratio", nativeCache, c -> c.stats().hitRate())
+                    .description("Share of lookups answered from the cache")
+                    .tag("cache", region)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.huyvo.dronedeliverymanagementapp.metrics;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Delivery;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.DroneBase;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DeliveryStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatch and delivery metrics recorded from the domain classes, which are not Spring beans.
+ * <p>
+ * Call counts and delivery status counts live in striped {@link LongAdder}s that Micrometer reads
+ * at scrape time, and latencies go to histogram timers that record without allocating, so the
+ * recording path is cheap enough to leave on. Until {@link FleetMetricsBinder} binds a registry,
+ * counts still accumulate but latencies are not recorded.
+ * <p>
+ * Deliveries are counted as they go through their statuses in {@code Drone.performDelivery}, in
+ * {@code FleetExecutor} workflows and in {@code FleetSimulation} runs.
+ * <p>
+ * Fleets are tracked weakly: drone counts per status and the average battery per base are sampled
+ * from every fleet still in use when the metrics are scraped. The battery gauge of a base reads all
+ * fleets of that base, so it outlives any one of them.
+ */
+public final class FleetMetrics {
+    private static final LongAdder distanceCalculations = new LongAdder();
+    private static final LongAdder canDeliverChecks = new LongAdder();
+    private static final LongAdder[] deliveriesByStatus = newAdders(DeliveryStatus.values().length);
+    private static final Timer[] dispatchTimers = new Timer[DispatchDecision.values().length];
+    private static volatile Timer deliveryDurationTimer;
+
+    private static final List<TrackedFleet> fleets = new CopyOnWriteArrayList<>();
+    private static volatile MeterRegistry registry;
+
+    /**
+     * The dispatch decisions whose latency is recorded.
+     */
+    public enum DispatchDecision {
+        NEAREST_IDLE,
+        BATCH_ASSIGNMENT,
+        ROUTE_PLANNING,
+        AIRSPACE_CHECK;
+
+        private String tagValue() {
+            return name().toLowerCase().replace('_', '-');
+        }
+    }
+
+    private FleetMetrics() {}
+
+    // Public Methods
+    public static void recordDistanceCalculation() {
+        distanceCalculations.increment();
+    }
+
+    public static void recordCanDeliverCheck() {
+        canDeliverChecks.increment();
+    }
+
+    /**
+     * @param decision the kind of decision made
+     * @param nanos how long it took, from {@link System#nanoTime()}
+     */
+    public static void recordDispatch(@NotNull DispatchDecision decision, long nanos) {
+        Timer timer = dispatchTimers[decision.ordinal()];
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Counts a delivery entering a status. Called where a delivery really changes status, never when
+     * one is constructed, so generated and seeded deliveries are not counted.
+     *
+     * @param status the status the delivery entered
+     */
+    public static void recordDeliveryStatus(@NotNull DeliveryStatus status) {
+        deliveriesByStatus[status.ordinal()].increment();
+    }
+
+    /**
+     * Counts a delivery entering {@link DeliveryStatus#COMPLETED} and records its end-to-end duration.
+     *
+     * @param nanos the time from the start of the delivery to its end; negative times are only counted
+     */
+    public static void recordDeliveryCompleted(long nanos) {
+        deliveriesByStatus[DeliveryStatus.COMPLETED.ordinal()].increment();
+        Timer timer = deliveryDurationTimer;
+        if (timer != null && nanos >= 0) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Counts a delivery entering the status it is in. A completed delivery with a start and an end
+     * time also records its end-to-end duration.
+     *
+     * @param delivery the delivery, already in its new status
+     */
+    public static void recordDeliveryStatus(@NotNull Delivery delivery) {
+        DeliveryStatus status = delivery.getStatus();
+        LocalDateTime startTime = delivery.getStartTime();
+        LocalDateTime endTime = delivery.getEndTime();
+        if (status == DeliveryStatus.COMPLETED && startTime != null && endTime != null) {
+            recordDeliveryCompleted(ChronoUnit.NANOS.between(startTime, endTime));
+        } else if (status != null) {
+            recordDeliveryStatus(status);
+        }
+    }
+
+    /**
+     * Includes a fleet in the per-status drone gauges and in the average battery of its base.
+     * The fleet is dropped from the gauges once {@code owner} is garbage collected.
+     *
+     * @param owner the object whose lifetime bounds the tracking, usually the DeliveryManager
+     * @param droneBase the base the fleet belongs to
+     * @param drones the fleet's drones; read at scrape time, so later changes to the list show up
+     */
+    public static void trackFleet(@NotNull Object owner, @NotNull DroneBase droneBase, @NotNull List<Drone> drones) {
+        TrackedFleet fleet = new TrackedFleet(owner, droneBase.getName(), drones);
+        fleets.removeIf(TrackedFleet::isReleased);
+        fleets.add(fleet);
+        MeterRegistry bound = registry;
+        if (bound != null) {
+            registerBatteryGauge(bound, fleet.baseName);
+        }
+    }
+
+    /**
+     * Registers every fleet meter with the registry and starts recording latencies into it.
+     *
+     * @param meterRegistry the registry to publish to
+     */
+    static void bindTo(@NotNull MeterRegistry meterRegistry) {
+        FunctionCounter.builder("delivery.distance.calculations", distanceCalculations, LongAdder::sum)
+                .description("Base-to-customer distance calculations")
+                .register(meterRegistry);
+        FunctionCounter.builder("delivery.can.deliver.checks", canDeliverChecks, LongAdder::sum)
+                .description("Checks whether a drone has the range for a package")
+                .register(meterRegistry);
+        for (DeliveryStatus status : DeliveryStatus.values()) {
+            FunctionCounter.builder("deliveries", deliveriesByStatus[status.ordinal()], LongAdder::sum)
+                    .description("Deliveries that entered a status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        for (DroneStatus status : DroneStatus.values()) {
+            Gauge.builder("drones", () -> countDrones(status))
+                    .description("Drones in tracked fleets per status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        for (DispatchDecision decision : DispatchDecision.values()) {
+            dispatchTimers[decision.ordinal()] = Timer.builder("dispatch.decision")
+                    .description("Time to decide which drone delivers which package")
+                    .tag("decision", decision.tagValue())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(500))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry);
+        }
+        deliveryDurationTimer = Timer.builder("delivery.duration")
+                .description("End-to-end time from delivery start to end")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMinutes(1))
+                .maximumExpectedValue(Duration.ofDays(2))
+                .register(meterRegistry);
+
+        registry = meterRegistry;
+        for (TrackedFleet fleet : fleets) {
+            registerBatteryGauge(meterRegistry, fleet.baseName);
+        }
+    }
+
+    // Private Methods
+    /**
+     * Registering a base again returns the gauge already registered, which is fine: it reads the
+     * fleets of the base by name, not the fleet it was first registered for.
+     */
+    private static void registerBatteryGauge(MeterRegistry meterRegistry, String baseName) {
+        Gauge.builder("drone.base.battery.average", () -> averageBattery(baseName))
+                .description("Average battery level of the drones of a base")
+                .tag("base", baseName)
+                .baseUnit("percent")
+                .register(meterRegistry);
+    }
+
+    private static double averageBattery(String baseName) {
+        long total = 0;
+        int count = 0;
+        for (TrackedFleet fleet : fleets) {
+            if (fleet.isReleased() || !fleet.baseName.equals(baseName)) {
+                continue;
+            }
+            for (Drone drone : fleet.drones) {
+                total += drone.getBatteryLevel();
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : (double) total / count;
+    }
+
+    private static double countDrones(DroneStatus status) {
+        fleets.removeIf(TrackedFleet::isReleased);
+        int count = 0;
+        for (TrackedFleet fleet : fleets) {
+            for (Drone drone : fleet.drones) {
+                if (drone.getStatus() == status) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * A fleet that counts for as long as its owner is alive.
+     */
+    private static final class TrackedFleet {
+        private final WeakReference<Object> owner;
+        private final String baseName;
+        private final List<Drone> drones;
+
+        private TrackedFleet(Object owner, String baseName, List<Drone> drones) {
+            this.owner = new WeakReference<>(owner);
+            this.baseName = baseName;
+            this.drones = drones;
+        }
+
+        private boolean isReleased() {
+            return this.owner.get() == null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.huyvo.dronedeliverymanagementapp.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the {@link FleetMetrics} dispatch, delivery and fleet meters, visible under
+ * /actuator/metrics and scrapeable as Prometheus text from /actuator/prometheus.
+ */
+@Component
+public class FleetMetricsBinder implements MeterBinder {
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        FleetMetrics.bindTo(registry);
+    }
+}
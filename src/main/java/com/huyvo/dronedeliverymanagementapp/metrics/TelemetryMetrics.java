@@ -0,0 +1,53 @@
+package com.huyvo.dronedeliverymanagementapp.metrics;
+
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryBuffer;
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the state of the {@link TelemetryService}: the drones waiting to be flushed and the
+ * capacity they are bounded by, the reports taken, coalesced and dropped, and the outcome of flushes.
+ * A rising {@code telemetry.updates.dropped} means the flush is falling behind.
+ */
+@Component
+public class TelemetryMetrics implements MeterBinder {
+    private final TelemetryService telemetryService;
+
+    public TelemetryMetrics(TelemetryService telemetryService) {
+        this.telemetryService = telemetryService;
+    }
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        TelemetryBuffer buffer = this.telemetryService.getBuffer();
+        Gauge.builder("telemetry.pending.drones", buffer, TelemetryBuffer::getPendingDrones)
+                .description("Drones with telemetry waiting to be flushed")
+                .register(registry);
+        Gauge.builder("telemetry.capacity.drones", buffer, TelemetryBuffer::getCapacity)
+                .description("Drones the buffer holds between two flushes")
+                .register(registry);
+        FunctionCounter.builder("telemetry.updates.recorded", buffer, TelemetryBuffer::getRecordedUpdates)
+                .description("Telemetry reports taken into the buffer")
+                .register(registry);
+        FunctionCounter.builder("telemetry.updates.coalesced", buffer, TelemetryBuffer::getCoalescedUpdates)
+                .description("Telemetry reports that overwrote a pending report of the same drone")
+                .register(registry);
+        FunctionCounter.builder("telemetry.updates.dropped", buffer, TelemetryBuffer::getDroppedUpdates)
+                .description("Telemetry reports dropped because the buffer was full")
+                .register(registry);
+        FunctionCounter.builder("telemetry.drones.flushed", this.telemetryService, TelemetryService::getFlushedDrones)
+                .description("Drones updated in the database")
+                .register(registry);
+        FunctionCounter.builder("telemetry.drones.unknown", this.telemetryService, TelemetryService::getUnknownDrones)
+                .description("Drones that reported but are not in the database")
+                .register(registry);
+        FunctionCounter.builder("telemetry.flush.failures", this.telemetryService, TelemetryService::getFailedFlushes)
+                .description("Flushes that failed and discarded their batch")
+                .register(registry);
+    }
+}
@@ -0,0 +1,127 @@
+package com.huyvo.dronedeliverymanagementapp.paging;
+
+import com.huyvo.dronedeliverymanagementapp.BadRequestException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) pagination over the numeric ID column.
+ * <p>
+ * A page is the first {@code limit} rows whose ID is greater than the cursor, in ID order, which the
+ * database answers by seeking into the primary key index and reading {@code limit + 1} entries. Unlike
+ * {@code OFFSET}, the cost does not depend on how deep the page is or how large the table is. The
+ * cursor is the rendered ID of the last item of the previous page.
+ */
+public final class Keyset {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private Keyset() {}
+
+    /**
+     * A query that reads the rows of a page: those whose numeric ID is greater than {@code after},
+     * in ID order, at most {@code limit} of them.
+     */
+    @FunctionalInterface
+    public interface PageQuery<T> {
+        List<T> fetch(long after, Limit limit);
+    }
+
+    /**
+     * Fetches one page.
+     *
+     * @param repository the repository to query
+     * @param idAttribute the entity's {@link IdentificationNumber} attribute
+     * @param type the type of ID the cursor must have
+     * @param after the cursor, or {@code null} for the first page
+     * @param limit the page size, or {@code null} for {@link #DEFAULT_LIMIT}
+     * @param filters the filters to apply; {@code null} entries are ignored
+     * @param idOf the rendered ID of an item
+     * @return the page
+     * @throws BadRequestException if the cursor is not an ID of the given type or the limit is out of range
+     */
+    @SafeVarargs
+    public static <T> @NotNull KeysetPage<T> page(@NotNull JpaSpecificationExecutor<T> repository,
+                                                  @NotNull String idAttribute,
+                                                  @NotNull IdType type,
+                                                  String after,
+                                                  Integer limit,
+                                                  @NotNull Function<T, String> idOf,
+                                                  Specification<T>... filters) {
+
+        int pageSize = pageSize(limit);
+        List<Specification<T>> conditions = new ArrayList<>(filters.length + 1);
+        if (after != null) {
+            long cursor = parseCursor(after, type);
+            conditions.add((root, query, cb) -> cb.greaterThan(root.get(idAttribute).get("value"), cursor));
+        }
+        for (Specification<T> filter : filters) {
+            if (filter != null) {
+                conditions.add(filter);
+            }
+        }
+
+        List<T> fetched = repository.findBy(Specification.allOf(conditions),
+                                            query -> query.sortBy(Sort.by(idAttribute + ".value"))
+                                                          .limit(pageSize + 1)
+                                                          .all());
+        return KeysetPage.of(fetched, pageSize, idOf);
+    }
+
+    /**
+     * Fetches one page through a repository query, typically one that selects a projection rather
+     * than entities.
+     *
+     * @param type the type of ID the cursor must have
+     * @param after the cursor, or {@code null} for the first page
+     * @param limit the page size, or {@code null} for {@link #DEFAULT_LIMIT}
+     * @param idOf the rendered ID of an item
+     * @param query the query reading the page
+     * @return the page
+     * @throws BadRequestException if the cursor is not an ID of the given type or the limit is out of range
+     */
+    public static <T> @NotNull KeysetPage<T> page(@NotNull IdType type,
+                                                  String after,
+                                                  Integer limit,
+                                                  @NotNull Function<T, String> idOf,
+                                                  @NotNull PageQuery<T> query) {
+
+        int pageSize = pageSize(limit);
+        long cursor = after != null ? parseCursor(after, type) : 0;
+        return KeysetPage.of(query.fetch(cursor, Limit.of(pageSize + 1)), pageSize, idOf);
+    }
+
+    // Private Methods
+    private static int pageSize(Integer limit) {
+        int pageSize = limit == null ? DEFAULT_LIMIT : limit;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return pageSize;
+    }
+
+    private static long parseCursor(String after, IdType type) {
+        IdentificationNumber cursor = parseId(after);
+        if (cursor.getType() != type) {
+            throw new BadRequestException("Not a " + type.name().toLowerCase() + " ID: " + after);
+        }
+        return cursor.getValue();
+    }
+
+    private static IdentificationNumber parseId(String after) {
+        try {
+            return IdentificationNumber.parse(after);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.huyvo.dronedeliverymanagementapp.paging;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param items the items of the page, in ascending ID order
+ * @param nextCursor the value to pass as {@code after} for the next page, or {@code null} on the last page
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Builds a page from a query that fetched one row more than the page size, which tells whether
+     * another page follows without counting the table.
+     *
+     * @param fetched up to {@code limit + 1} items in ascending ID order
+     * @param limit the page size
+     * @param idOf the rendered ID of an item
+     * @return the page
+     */
+    public static <T> @NotNull KeysetPage<T> of(@NotNull List<T> fetched, int limit, @NotNull Function<T, String> idOf) {
+        if (fetched.size() <= limit) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new KeysetPage<>(items, idOf.apply(items.getLast()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.huyvo.dronedeliverymanagementapp.readmodel;
+
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DeliveryStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A delivery flattened together with its package, customers, locations and drone, as listed by the
+ * read API. Built straight from query columns by
+ * {@link com.huyvo.dronedeliverymanagementapp.repository.DeliveryRepository#findSummaries}, so listing
+ * deliveries loads no entities and walks no associations.
+ * <p>
+ * Package and drone fields are {@code null} for a delivery that has none.
+ */
+public record DeliverySummary(String deliveryId,
+                              DeliveryStatus status,
+                              LocalDateTime startTime,
+                              LocalDateTime endTime,
+                              String packageId,
+                              Double weight,
+                              String description,
+                              String senderId,
+                              String senderName,
+                              String recipientId,
+                              String recipientName,
+                              Float pickupLatitude,
+                              Float pickupLongitude,
+                              Float deliveryLatitude,
+                              Float deliveryLongitude,
+                              String droneId) {
+
+    /**
+     * The constructor the query calls, with IDs as their numeric column values.
+     */
+    public DeliverySummary(long deliveryId, DeliveryStatus status, LocalDateTime startTime, LocalDateTime endTime,
+                           Long packageId, Double weight, String description,
+                           Long senderId, String senderName, Long recipientId, String recipientName,
+                           Float pickupLatitude, Float pickupLongitude, Float deliveryLatitude, Float deliveryLongitude,
+                           Long droneId) {
+
+        this(Ids.render(deliveryId), status, startTime, endTime,
+             Ids.render(packageId), weight, description,
+             Ids.render(senderId), senderName, Ids.render(recipientId), recipientName,
+             pickupLatitude, pickupLongitude, deliveryLatitude, deliveryLongitude,
+             Ids.render(droneId));
+    }
+}
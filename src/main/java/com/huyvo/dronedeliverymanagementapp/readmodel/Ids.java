@@ -0,0 +1,14 @@
+package com.huyvo.dronedeliverymanagementapp.readmodel;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+
+final class Ids {
+    private Ids() {}
+
+    /**
+     * @return the rendered form of a numeric ID column, or {@code null} if the column is null
+     */
+    static String render(Long value) {
+        return value != null ? IdentificationNumber.fromValue(value).getId() : null;
+    }
+}
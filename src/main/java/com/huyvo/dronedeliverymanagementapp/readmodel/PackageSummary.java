@@ -0,0 +1,31 @@
+package com.huyvo.dronedeliverymanagementapp.readmodel;
+
+/**
+ * A shipping package flattened together with its customers and locations, as listed by the read
+ * API. Built straight from query columns by
+ * {@link com.huyvo.dronedeliverymanagementapp.repository.ShippingPackageRepository#findSummaries}.
+ */
+public record PackageSummary(String packageId,
+                             double weight,
+                             String description,
+                             String senderId,
+                             String senderName,
+                             String recipientId,
+                             String recipientName,
+                             Float pickupLatitude,
+                             Float pickupLongitude,
+                             Float deliveryLatitude,
+                             Float deliveryLongitude) {
+
+    /**
+     * The constructor the query calls, with IDs as their numeric column values.
+     */
+    public PackageSummary(long packageId, double weight, String description,
+                          Long senderId, String senderName, Long recipientId, String recipientName,
+                          Float pickupLatitude, Float pickupLongitude, Float deliveryLatitude, Float deliveryLongitude) {
+
+        this(Ids.render(packageId), weight, description,
+             Ids.render(senderId), senderName, Ids.render(recipientId), recipientName,
+             pickupLatitude, pickupLongitude, deliveryLatitude, deliveryLongitude);
+    }
+}
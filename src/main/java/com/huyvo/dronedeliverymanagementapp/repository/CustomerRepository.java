@@ -1,9 +1,35 @@
 package com.huyvo.dronedeliverymanagementapp.repository;
 
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
 import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.UserStatus;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, String>{
+public interface CustomerRepository extends JpaRepository<Customer, String>, JpaSpecificationExecutor<Customer> {
+
+    /**
+     * @return customers in the given status, or {@code null} (no filter) if {@code status} is null
+     */
+    static Specification<Customer> hasStatus(UserStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("userStatus"), status);
+    }
+
+    /**
+     * @param role {@code "sender"} or {@code "recipient"}
+     * @return customers that are the sender, or the recipient, of at least one package
+     */
+    static Specification<Customer> hasPackagesAs(String role) {
+        return (root, query, cb) -> {
+            Subquery<Integer> packages = query.subquery(Integer.class);
+            Root<ShippingPackage> shippingPackage = packages.from(ShippingPackage.class);
+            packages.select(cb.literal(1)).where(cb.equal(shippingPackage.get(role), root));
+            return cb.exists(packages);
+        };
+    }
 }
@@ -1,9 +1,83 @@
 package com.huyvo.dronedeliverymanagementapp.repository;
 
 import com.huyvo.dronedeliverymanagementapp.classes.domains.Delivery;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DeliveryStatus;
+import com.huyvo.dronedeliverymanagementapp.readmodel.DeliverySummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface DeliveryRepository extends JpaRepository<Delivery, String>{
+public interface DeliveryRepository extends JpaRepository<Delivery, String>, JpaSpecificationExecutor<Delivery> {
+    int EXPORT_FETCH_SIZE = 1000;
+
+    /**
+     * Streams deliveries in ID order from a server-side cursor, {@value #EXPORT_FETCH_SIZE} rows per
+     * round trip, with their package, customers, locations and drone fetched in the same query.
+     * Must be consumed inside a transaction, which keeps the cursor open.
+     *
+     * @param after only deliveries with a greater numeric ID; 0 for all
+     * @param since only deliveries started at or after this time, or {@code null} for all
+     * @return the deliveries, loaded read-only
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select d from Delivery d
+            left join fetch d.packages p
+            left join fetch p.sender s left join fetch s.address
+            left join fetch p.recipient r left join fetch r.address
+            left join fetch p.pickupLocation left join fetch p.deliveryLocation
+            left join fetch d.drones dr left join fetch dr.currentLocation left join fetch dr.assignedPackage
+            where d.deliveryId.value > :after and (cast(:since as LocalDateTime) is null or d.startTime >= :since)
+            order by d.deliveryId.value
+            """)
+    Stream<Delivery> streamForExport(@Param("after") long after, @Param("since") LocalDateTime since);
+
+    /**
+     * Reads one keyset page of delivery summaries in ID order, joined with their package, customers,
+     * locations and drone in a single statement.
+     *
+     * @param after only deliveries with a greater numeric ID; 0 for all
+     * @param status only deliveries in this status, or {@code null} for all
+     * @param from the earliest start time, inclusive, or {@code null} for no lower bound
+     * @param to the latest start time, exclusive, or {@code null} for no upper bound
+     * @param limit the number of rows to read
+     * @return the summaries
+     */
+    @Query("""
+            select new com.huyvo.dronedeliverymanagementapp.readmodel.DeliverySummary(
+                d.deliveryId.value, d.status, d.startTime, d.endTime,
+                p.packageId.value, p.weight, p.description,
+                s.id.value, s.name, r.id.value, r.name,
+                pl.latitude, pl.longitude, dl.latitude, dl.longitude,
+                dr.droneId.value)
+            from Delivery d
+            left join d.packages p
+            left join p.sender s left join p.recipient r
+            left join p.pickupLocation pl left join p.deliveryLocation dl
+            left join d.drones dr
+            where d.deliveryId.value > :after
+              and (:status is null or d.status = :status)
+              and (cast(:from as LocalDateTime) is null or d.startTime >= :from)
+              and (cast(:to as LocalDateTime) is null or d.startTime < :to)
+            order by d.deliveryId.value
+            """)
+    List<DeliverySummary> findSummaries(@Param("after") long after,
+                                        @Param("status") DeliveryStatus status,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        Limit limit);
 }
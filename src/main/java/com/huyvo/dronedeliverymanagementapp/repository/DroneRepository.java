@@ -1,9 +1,19 @@
 package com.huyvo.dronedeliverymanagementapp.repository;
 
 import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface DroneRepository extends JpaRepository<Drone, String>{
+public interface DroneRepository extends JpaRepository<Drone, String>, JpaSpecificationExecutor<Drone> {
+
+    /**
+     * @return drones in the given status, or {@code null} (no filter) if {@code status} is null
+     */
+    static Specification<Drone> hasStatus(DroneStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
 }
@@ -1,9 +1,37 @@
 package com.huyvo.dronedeliverymanagementapp.repository;
 
 import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.readmodel.PackageSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface ShippingPackageRepository extends JpaRepository<ShippingPackage, String>{
+public interface ShippingPackageRepository extends JpaRepository<ShippingPackage, String>, JpaSpecificationExecutor<ShippingPackage> {
+
+    /**
+     * Reads one keyset page of package summaries in ID order, joined with their customers and
+     * locations in a single statement.
+     *
+     * @param after only packages with a greater numeric ID; 0 for all
+     * @param limit the number of rows to read
+     * @return the summaries
+     */
+    @Query("""
+            select new com.huyvo.dronedeliverymanagementapp.readmodel.PackageSummary(
+                p.packageId.value, p.weight, p.description,
+                s.id.value, s.name, r.id.value, r.name,
+                pl.latitude, pl.longitude, dl.latitude, dl.longitude)
+            from ShippingPackage p
+            left join p.sender s left join p.recipient r
+            left join p.pickupLocation pl left join p.deliveryLocation dl
+            where p.packageId.value > :after
+            order by p.packageId.value
+            """)
+    List<PackageSummary> findSummaries(@Param("after") long after, Limit limit);
 }
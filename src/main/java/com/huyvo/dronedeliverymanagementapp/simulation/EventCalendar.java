@@ -0,0 +1,128 @@
+package com.huyvo.dronedeliverymanagementapp.simulation;
+
+import java.util.Arrays;
+
+/**
+ * The future event list of a {@link FleetSimulation}: a binary min-heap of (time, subject, type)
+ * events stored in parallel primitive arrays, so scheduling and polling never allocate once the
+ * arrays have grown to the peak number of pending events.
+ * <p>
+ * Events at the same time are delivered in the order they were scheduled.
+ */
+final class EventCalendar {
+    private double[] times;
+    private long[] sequences;
+    private int[] subjects;
+    private byte[] types;
+    private int size;
+    private long nextSequence;
+
+    // Fields of the event returned by the last poll()
+    private double polledTime;
+    private int polledSubject;
+    private int polledType;
+
+    EventCalendar(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.times = new double[capacity];
+        this.sequences = new long[capacity];
+        this.subjects = new int[capacity];
+        this.types = new byte[capacity];
+    }
+
+    void schedule(double time, int subject, int type) {
+        if (size == times.length) {
+            grow();
+        }
+        int position = size++;
+        long sequence = nextSequence++;
+        // Sift up
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!before(time, sequence, times[parent], sequences[parent])) {
+                break;
+            }
+            move(parent, position);
+            position = parent;
+        }
+        set(position, time, sequence, subject, type);
+    }
+
+    /**
+     * Removes the earliest event; read it with {@link #time()}, {@link #subject()} and {@link #type()}.
+     *
+     * @return false if the calendar is empty
+     */
+    boolean poll() {
+        if (size == 0) {
+            return false;
+        }
+        polledTime = times[0];
+        polledSubject = subjects[0];
+        polledType = types[0];
+
+        int last = --size;
+        if (last > 0) {
+            double time = times[last];
+            long sequence = sequences[last];
+            int subject = subjects[last];
+            byte type = types[last];
+            // Sift down
+            int position = 0;
+            int half = last >>> 1;
+            while (position < half) {
+                int child = 2 * position + 1;
+                int right = child + 1;
+                if (right < last && before(times[right], sequences[right], times[child], sequences[child])) {
+                    child = right;
+                }
+                if (!before(times[child], sequences[child], time, sequence)) {
+                    break;
+                }
+                move(child, position);
+                position = child;
+            }
+            set(position, time, sequence, subject, type);
+        }
+        return true;
+    }
+
+    /**
+     * @return the time of the earliest pending event, or positive infinity if the calendar is empty
+     */
+    double peekTime() {
+        return size == 0 ? Double.POSITIVE_INFINITY : times[0];
+    }
+
+    double time() { return polledTime; }
+    int subject() { return polledSubject; }
+    int type() { return polledType; }
+    int size() { return size; }
+
+    // Private Methods
+    private static boolean before(double time, long sequence, double otherTime, long otherSequence) {
+        return time < otherTime || (time == otherTime && sequence < otherSequence);
+    }
+
+    private void move(int from, int to) {
+        times[to] = times[from];
+        sequences[to] = sequences[from];
+        subjects[to] = subjects[from];
+        types[to] = types[from];
+    }
+
+    private void set(int position, double time, long sequence, int subject, int type) {
+        times[position] = time;
+        sequences[position] = sequence;
+        subjects[position] = subject;
+        types[position] = (byte) type;
+    }
+
+    private void grow() {
+        int capacity = times.length * 2;
+        times = Arrays.copyOf(times, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        subjects = Arrays.copyOf(subjects, capacity);
+        types = Arrays.copyOf(types, capacity);
+    }
+}
@@ -0,0 +1,402 @@
+package com.huyvo.dronedeliverymanagementapp.simulation;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Delivery;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DeliveryStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.SimulationEventType;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DeliveryManager;
+import com.huyvo.dronedeliverymanagementapp.generator.CustomerGenerator;
+import com.huyvo.dronedeliverymanagementapp.generator.DeliveryGenerator;
+import com.huyvo.dronedeliverymanagementapp.generator.DroneGenerator;
+import com.huyvo.dronedeliverymanagementapp.generator.PackageGenerator;
+import com.huyvo.dronedeliverymanagementapp.metrics.FleetMetrics;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Discrete-event simulation of a drone fleet working through a list of deliveries.
+ * <p>
+ * Simulated time advances from event to event, never in real time. Delivery releases are known up
+ * front and are merged in from a sorted order; every other event goes through an {@link EventCalendar},
+ * which therefore never holds more than one pending event per drone. Every delivery goes through the timed steps
+ * load -> take-off -> flight -> unload -> return flight, and a drone that comes back below the
+ * charge threshold (or is too low for the next trip) spends time charging before it is idle again.
+ * Flight time follows from the base-to-customer distance and the cruise speed; battery use follows
+ * from the distance and the drone's mileage, which is its range on a full battery.
+ * <p>
+ * Deliveries are served first come, first served. The head of the queue waits until an idle drone
+ * can carry it; a delivery no drone in the fleet could ever carry fails when it becomes ready.
+ * <p>
+ * The simulation keeps its own primitive copy of the drone state and does not modify the
+ * {@link Drone} entities. When the run ends it writes the simulated drone, start time, end time
+ * and status back into every {@link Delivery}, and counts the deliveries in the fleet metrics with
+ * their simulated durations. A simulation can only be run once.
+ */
+public class FleetSimulation {
+    private static final int PACKAGE_READY = SimulationEventType.PACKAGE_READY.ordinal();
+    private static final int LOAD_COMPLETE = SimulationEventType.LOAD_COMPLETE.ordinal();
+    private static final int TAKE_OFF = SimulationEventType.TAKE_OFF.ordinal();
+    private static final int ARRIVE_AT_CUSTOMER = SimulationEventType.ARRIVE_AT_CUSTOMER.ordinal();
+    private static final int UNLOAD_COMPLETE = SimulationEventType.UNLOAD_COMPLETE.ordinal();
+    private static final int ARRIVE_AT_BASE = SimulationEventType.ARRIVE_AT_BASE.ordinal();
+    private static final int CHARGE_COMPLETE = SimulationEventType.CHARGE_COMPLETE.ordinal();
+    private static final int NONE = -1;
+    // RandomNameGenerator can only make about 1400 distinct customer names
+    private static final int CUSTOMERS_PER_BATCH = 1000;
+
+    private final SimulationConfig config;
+    private final List<Drone> drones;
+    private final List<Delivery> deliveries;
+    private final LocalDateTime epoch;
+    private final EventCalendar calendar;
+
+    // Drone state, indexed like the drone list
+    private final double[] battery;
+    private final float[] payloads;
+    private final double[] batteryPerKm;
+    private final int[] currentDelivery;
+    private final double[] flownKm;
+    private final int[] idleStack;
+    private int idleCount;
+    // Idle drones at the bottom of the stack already found unable to take the oldest queued delivery
+    private int idleRejected;
+
+    // Delivery state, indexed like the delivery list
+    private final double[] baseLegKm;
+    private final double[] weights;
+    private final double[] readyTimes;
+    private final int[] releaseOrder;
+    private final double[] takeOffTimes;
+    private final double[] unloadTimes;
+    private final int[] assignedDrone;
+    private final boolean[] failed;
+    private final int[] pendingQueue;
+    private int queueHead;
+    private int queueTail;
+
+    // Fleet capability, used to fail deliveries that no drone can ever carry
+    private final float[] payloadsAscending;
+    private final double[] bestMileageFromPayload;
+
+    private boolean ran;
+
+    /**
+     * Constructs a simulation of the given fleet delivering the given deliveries from a base.
+     *
+     * @param drones the fleet; each drone starts idle at the base with its current battery level
+     * @param deliveries the deliveries to perform; each becomes ready at its start time
+     * @param baseLocation the base every drone loads at, returns to and charges at
+     * @param config timing and energy parameters
+     */
+    public FleetSimulation(@NotNull List<Drone> drones,
+                           @NotNull List<Delivery> deliveries,
+                           @NotNull Location baseLocation,
+                           @NotNull SimulationConfig config) {
+
+        this.config = config;
+        this.drones = drones;
+        this.deliveries = deliveries;
+        this.calendar = new EventCalendar(drones.size());
+
+        int droneCount = drones.size();
+        this.battery = new double[droneCount];
+        this.payloads = new float[droneCount];
+        this.batteryPerKm = new double[droneCount];
+        this.currentDelivery = new int[droneCount];
+        this.flownKm = new double[droneCount];
+        this.idleStack = new int[droneCount];
+        for (int d = 0; d < droneCount; d++) {
+            Drone drone = drones.get(d);
+            battery[d] = drone.getBatteryLevel();
+            payloads[d] = drone.getMaxPayload();
+            batteryPerKm[d] = drone.getMileage() > 0 ? 100.0 / drone.getMileage() : Double.POSITIVE_INFINITY;
+            currentDelivery[d] = NONE;
+        }
+
+        int deliveryCount = deliveries.size();
+        this.baseLegKm = new double[deliveryCount];
+        this.weights = new double[deliveryCount];
+        this.readyTimes = new double[deliveryCount];
+        this.takeOffTimes = new double[deliveryCount];
+        this.unloadTimes = new double[deliveryCount];
+        this.assignedDrone = new int[deliveryCount];
+        this.failed = new boolean[deliveryCount];
+        this.pendingQueue = new int[deliveryCount];
+        Arrays.fill(assignedDrone, NONE);
+
+        LocalDateTime earliest = null;
+        for (Delivery delivery : deliveries) {
+            LocalDateTime startTime = delivery.getStartTime();
+            if (startTime != null && (earliest == null || startTime.isBefore(earliest))) {
+                earliest = startTime;
+            }
+        }
+        this.epoch = earliest != null ? earliest : LocalDateTime.now();
+
+        for (int i = 0; i < deliveryCount; i++) {
+            Delivery delivery = deliveries.get(i);
+            ShippingPackage shippingPackage = delivery.getPackages();
+            Location destination = shippingPackage.getDeliveryLocation();
+            baseLegKm[i] = DeliveryManager.haversineDistance(baseLocation.getLatitude(), baseLocation.getLongitude(),
+                                                             destination.getLatitude(), destination.getLongitude());
+            weights[i] = shippingPackage.getWeight();
+            readyTimes[i] = delivery.getStartTime() == null ? 0
+                    : Duration.between(epoch, delivery.getStartTime()).toNanos() / 1e9;
+        }
+
+        // Releases are known up front, so they are merged in from this order instead of the calendar
+        Integer[] byReadyTime = new Integer[deliveryCount];
+        for (int i = 0; i < deliveryCount; i++) {
+            byReadyTime[i] = i;
+        }
+        Arrays.sort(byReadyTime, (a, b) -> Double.compare(readyTimes[a], readyTimes[b]));
+        this.releaseOrder = new int[deliveryCount];
+        for (int i = 0; i < deliveryCount; i++) {
+            releaseOrder[i] = byReadyTime[i];
+        }
+
+        // For every payload threshold, the longest full-battery range among drones that can lift it
+        Integer[] byPayload = new Integer[droneCount];
+        for (int d = 0; d < droneCount; d++) {
+            byPayload[d] = d;
+        }
+        Arrays.sort(byPayload, (a, b) -> Float.compare(payloads[a], payloads[b]));
+        this.payloadsAscending = new float[droneCount];
+        this.bestMileageFromPayload = new double[droneCount];
+        double best = 0;
+        for (int k = droneCount - 1; k >= 0; k--) {
+            payloadsAscending[k] = payloads[byPayload[k]];
+            best = Math.max(best, drones.get(byPayload[k]).getMileage());
+            bestMileageFromPayload[k] = best;
+        }
+    }
+
+    /**
+     * Builds a scenario from the existing generators: a fleet from {@link DroneGenerator}, senders and
+     * recipients living within {@code serviceRadiusDegrees} of the drone base from
+     * {@link CustomerGenerator}, one package per sender from {@link PackageGenerator} and one delivery
+     * per package from {@link DeliveryGenerator}. Customers are generated in batches of at most
+     * 1000, so names repeat across batches in large scenarios.
+     *
+     * @param droneCount the number of drones
+     * @param deliveryCount the number of deliveries, each with its own sender, recipient and package
+     * @param maxWeight the maximum package weight and drone payload
+     * @param maxMileage the maximum drone mileage
+     * @param serviceRadiusDegrees half the side of the square service area around the base
+     * @param random the source of randomness for every generator
+     * @param config timing and energy parameters
+     * @return a simulation ready to run
+     * @throws ValidationException if a generated drone is invalid
+     */
+    public static @NotNull FleetSimulation generateScenario(int droneCount,
+                                                            int deliveryCount,
+                                                            float maxWeight,
+                                                            float maxMileage,
+                                                            float serviceRadiusDegrees,
+                                                            Random random,
+                                                            SimulationConfig config) throws ValidationException {
+
+        List<Drone> drones = new DroneGenerator(droneCount, maxWeight, maxMileage, random).getDroneList();
+        Location base = drones.getFirst().getBase();
+        List<Delivery> deliveries = new ArrayList<>(deliveryCount);
+        for (int generated = 0; generated < deliveryCount; generated += CUSTOMERS_PER_BATCH) {
+            int batch = Math.min(CUSTOMERS_PER_BATCH, deliveryCount - generated);
+            List<Customer> senders = new CustomerGenerator(batch, base, serviceRadiusDegrees, random).getCustomerList();
+            List<Customer> recipients = new CustomerGenerator(batch, base, serviceRadiusDegrees, random).getCustomerList();
+            List<ShippingPackage> packages = new PackageGenerator(batch, maxWeight, senders, recipients, random).getPackageList();
+            deliveries.addAll(new DeliveryGenerator(packages, random).getDeliveryList());
+        }
+        return new FleetSimulation(drones, deliveries, base, config);
+    }
+
+    /**
+     * Runs the simulation until no events are left.
+     *
+     * @return the run summary
+     * @throws IllegalStateException if the simulation has already been run
+     */
+    public @NotNull SimulationReport run() {
+        if (ran) {
+            throw new IllegalStateException("Simulation has already been run");
+        }
+        ran = true;
+
+        long wallClockStart = System.nanoTime();
+        for (int d = 0; d < drones.size(); d++) {
+            idleStack[idleCount++] = d;
+        }
+
+        long events = 0;
+        double now = 0;
+        int released = 0;
+        while (true) {
+            if (released < releaseOrder.length && readyTimes[releaseOrder[released]] <= calendar.peekTime()) {
+                int delivery = releaseOrder[released++];
+                now = readyTimes[delivery];
+                handle(now, delivery, PACKAGE_READY);
+            } else if (calendar.poll()) {
+                now = calendar.time();
+                handle(now, calendar.subject(), calendar.type());
+            } else {
+                break;
+            }
+            events++;
+        }
+        long wallClockNanos = System.nanoTime() - wallClockStart;
+
+        int completed = writeBackDeliveries();
+        double totalFlightKm = 0;
+        for (double km : flownKm) {
+            totalFlightKm += km;
+        }
+        return new SimulationReport(events,
+                                    Duration.ofNanos((long) (now * 1e9)),
+                                    wallClockNanos,
+                                    completed,
+                                    deliveries.size() - completed,
+                                    totalFlightKm);
+    }
+
+    // Getters
+    public List<Drone> getDrones() { return this.drones; }
+    public List<Delivery> getDeliveries() { return this.deliveries; }
+
+    // Private Methods
+    private void handle(double now, int subject, int type) {
+        if (type == PACKAGE_READY) {
+            if (canEverBeCarried(subject)) {
+                pendingQueue[queueTail++] = subject;
+                dispatch(now);
+            } else {
+                failed[subject] = true;
+            }
+        } else if (type == LOAD_COMPLETE) {
+            calendar.schedule(now + config.takeOffSeconds(), subject, TAKE_OFF);
+        } else if (type == TAKE_OFF) {
+            takeOffTimes[currentDelivery[subject]] = now;
+            calendar.schedule(now + flightSeconds(currentDelivery[subject]), subject, ARRIVE_AT_CUSTOMER);
+        } else if (type == ARRIVE_AT_CUSTOMER) {
+            calendar.schedule(now + config.unloadSeconds(), subject, UNLOAD_COMPLETE);
+        } else if (type == UNLOAD_COMPLETE) {
+            unloadTimes[currentDelivery[subject]] = now;
+            calendar.schedule(now + flightSeconds(currentDelivery[subject]), subject, ARRIVE_AT_BASE);
+        } else if (type == ARRIVE_AT_BASE) {
+            double roundTripKm = 2 * baseLegKm[currentDelivery[subject]];
+            battery[subject] = Math.max(0, battery[subject] - roundTripKm * batteryPerKm[subject]);
+            flownKm[subject] += roundTripKm;
+            currentDelivery[subject] = NONE;
+            if (battery[subject] < config.chargeThresholdPercent()) {
+                startCharging(now, subject);
+            } else {
+                idleStack[idleCount++] = subject;
+                dispatch(now);
+            }
+        } else if (type == CHARGE_COMPLETE) {
+            battery[subject] = 100;
+            idleStack[idleCount++] = subject;
+            dispatch(now);
+        }
+    }
+
+    /**
+     * Hands queued deliveries to idle drones, oldest delivery first, until either runs out or the
+     * oldest delivery has to wait for a drone that is not idle yet. Idle drones that could carry
+     * the delivery but lack the battery for it are sent to charge. While the oldest delivery waits,
+     * only drones that became idle since the last attempt are checked again; they are pushed on top
+     * of the rejected ones and removals only swap in from the top.
+     */
+    private void dispatch(double now) {
+        while (queueHead < queueTail && idleCount > 0) {
+            int delivery = pendingQueue[queueHead];
+            int chosen = NONE;
+            int i = idleRejected;
+            while (i < idleCount) {
+                int drone = idleStack[i];
+                double tripPercent = 2 * baseLegKm[delivery] * batteryPerKm[drone];
+                if (payloads[drone] < weights[delivery] || tripPercent > 100 - config.reservePercent()) {
+                    i++;
+                    continue;
+                }
+                idleStack[i] = idleStack[--idleCount];
+                if (battery[drone] - tripPercent >= config.reservePercent()) {
+                    chosen = drone;
+                    break;
+                }
+                startCharging(now, drone);
+            }
+            if (chosen == NONE) {
+                idleRejected = idleCount;
+                return;
+            }
+
+            queueHead++;
+            idleRejected = 0;
+            currentDelivery[chosen] = delivery;
+            assignedDrone[delivery] = chosen;
+            calendar.schedule(now + config.loadSeconds(), chosen, LOAD_COMPLETE);
+        }
+    }
+
+    private void startCharging(double now, int drone) {
+        double chargeSeconds = (100 - battery[drone]) / config.chargePercentPerMinute() * 60;
+        calendar.schedule(now + chargeSeconds, drone, CHARGE_COMPLETE);
+    }
+
+    private double flightSeconds(int delivery) {
+        return baseLegKm[delivery] / config.cruiseSpeedKmh() * 3600;
+    }
+
+    private boolean canEverBeCarried(int delivery) {
+        int first = lowerBound(payloadsAscending, weights[delivery]);
+        if (first == payloadsAscending.length) {
+            return false;
+        }
+        double requiredMileage = 2 * baseLegKm[delivery] * 100 / (100 - config.reservePercent());
+        return bestMileageFromPayload[first] >= requiredMileage;
+    }
+
+    private static int lowerBound(float[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int writeBackDeliveries() {
+        int completed = 0;
+        for (int i = 0; i < deliveries.size(); i++) {
+            Delivery delivery = deliveries.get(i);
+            if (failed[i] || assignedDrone[i] == NONE) {
+                delivery.setStatus(DeliveryStatus.FAILED);
+                FleetMetrics.recordDeliveryStatus(DeliveryStatus.FAILED);
+                continue;
+            }
+            delivery.setDrones(drones.get(assignedDrone[i]));
+            delivery.setStartTime(epoch.plusNanos((long) (takeOffTimes[i] * 1e9)));
+            delivery.setEndTime(epoch.plusNanos((long) (unloadTimes[i] * 1e9)));
+            delivery.setStatus(DeliveryStatus.COMPLETED);
+            FleetMetrics.recordDeliveryStatus(DeliveryStatus.STARTED);
+            FleetMetrics.recordDeliveryStatus(DeliveryStatus.IN_PROGRESS);
+            FleetMetrics.recordDeliveryStatus(delivery);
+            completed++;
+        }
+        return completed;
+    }
+}
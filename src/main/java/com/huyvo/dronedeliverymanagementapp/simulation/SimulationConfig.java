@@ -0,0 +1,41 @@
+package com.huyvo.dronedeliverymanagementapp.simulation;
+
+/**
+ * Timing and energy parameters of a {@link FleetSimulation}.
+ *
+ * @param cruiseSpeedKmh flight speed between the base and a customer
+ * @param loadSeconds time to load a package at the base
+ * @param takeOffSeconds time from the end of loading until the drone is airborne and on course
+ * @param unloadSeconds time to drop a package at the customer
+ * @param chargePercentPerMinute battery percentage gained per minute of charging
+ * @param chargeThresholdPercent a drone returning below this battery level recharges to 100%
+ * @param reservePercent battery that must be left after a full round trip for a drone to take it
+ */
+public record SimulationConfig(double cruiseSpeedKmh,
+                               double loadSeconds,
+                               double takeOffSeconds,
+                               double unloadSeconds,
+                               double chargePercentPerMinute,
+                               double chargeThresholdPercent,
+                               double reservePercent) {
+
+    public SimulationConfig {
+        if (cruiseSpeedKmh <= 0 || chargePercentPerMinute <= 0) {
+            throw new IllegalArgumentException("Speed and charge rate must be positive");
+        }
+        if (loadSeconds < 0 || takeOffSeconds < 0 || unloadSeconds < 0) {
+            throw new IllegalArgumentException("Durations must be non-negative");
+        }
+        if (chargeThresholdPercent < 0 || chargeThresholdPercent > 100 || reservePercent < 0 || reservePercent > 100) {
+            throw new IllegalArgumentException("Battery percentages must be between 0 and 100");
+        }
+    }
+
+    /**
+     * @return 60 km/h cruise, 2 min loading, 1 min take-off, 2 min unloading,
+     *         2% charge per minute, recharge below 30% and keep a 10% reserve
+     */
+    public static SimulationConfig defaults() {
+        return new SimulationConfig(60, 120, 60, 120, 2, 30, 10);
+    }
+}
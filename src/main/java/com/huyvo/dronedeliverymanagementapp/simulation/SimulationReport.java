@@ -0,0 +1,53 @@
+package com.huyvo.dronedeliverymanagementapp.simulation;
+
+import java.time.Duration;
+
+/**
+ * Summary of one {@link FleetSimulation} run.
+ */
+public class SimulationReport {
+    private final long eventsProcessed;
+    private final Duration simulatedTime;
+    private final long wallClockNanos;
+    private final int deliveriesCompleted;
+    private final int deliveriesFailed;
+    private final double totalFlightKm;
+
+    public SimulationReport(long eventsProcessed,
+                            Duration simulatedTime,
+                            long wallClockNanos,
+                            int deliveriesCompleted,
+                            int deliveriesFailed,
+                            double totalFlightKm) {
+
+        this.eventsProcessed = eventsProcessed;
+        this.simulatedTime = simulatedTime;
+        this.wallClockNanos = wallClockNanos;
+        this.deliveriesCompleted = deliveriesCompleted;
+        this.deliveriesFailed = deliveriesFailed;
+        this.totalFlightKm = totalFlightKm;
+    }
+
+    // Getters
+    public long getEventsProcessed() { return this.eventsProcessed; }
+    public Duration getSimulatedTime() { return this.simulatedTime; }
+    public long getWallClockNanos() { return this.wallClockNanos; }
+    public int getDeliveriesCompleted() { return this.deliveriesCompleted; }
+    public int getDeliveriesFailed() { return this.deliveriesFailed; }
+    public double getTotalFlightKm() { return this.totalFlightKm; }
+
+    public double getEventsPerSecond() {
+        return this.wallClockNanos == 0 ? 0 : this.eventsProcessed * 1e9 / this.wallClockNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SimulationReport[events=%d, simulated=%s, events/s=%.0f, completed=%d, failed=%d, flown=%.1fkm]",
+                eventsProcessed,
+                simulatedTime,
+                getEventsPerSecond(),
+                deliveriesCompleted,
+                deliveriesFailed,
+                totalFlightKm);
+    }
+}
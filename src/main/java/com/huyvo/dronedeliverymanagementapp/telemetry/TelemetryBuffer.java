@@ -0,0 +1,194 @@
+package com.huyvo.dronedeliverymanagementapp.telemetry;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces telemetry per drone until it is flushed: a drone that reports many times between two
+ * flushes takes one slot, holding the latest value of each field it reported (last write wins).
+ * <p>
+ * The buffer is two preallocated batches of primitive arrays. Reports go into the active batch;
+ * {@link #swap()} hands the active batch to the flusher and makes the other one active, so
+ * recording never waits for a flush to be written. Memory is bounded by the capacity chosen at
+ * construction: <b>when the active batch already holds that many drones, a report for a further
+ * drone is dropped</b> and counted in {@link #getDroppedUpdates()}. Reports for drones already in
+ * the batch are always taken, as they only overwrite their slot. Drops mean the flush is falling
+ * behind and callers should back off.
+ */
+public final class TelemetryBuffer {
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Batch active;
+    private Batch standby;
+
+    private final LongAdder recordedUpdates = new LongAdder();
+    private final LongAdder coalescedUpdates = new LongAdder();
+    private final LongAdder droppedUpdates = new LongAdder();
+
+    /**
+     * @param capacity the number of drones a batch holds
+     * @throws IllegalArgumentException if the capacity is not between 1 and 2^28
+     */
+    public TelemetryBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 28) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^28");
+        }
+        this.capacity = capacity;
+        this.active = new Batch(capacity);
+        this.standby = new Batch(capacity);
+    }
+
+    // Getters
+    public int getCapacity() { return this.capacity; }
+    public long getRecordedUpdates() { return this.recordedUpdates.sum(); }
+    public long getCoalescedUpdates() { return this.coalescedUpdates.sum(); }
+    public long getDroppedUpdates() { return this.droppedUpdates.sum(); }
+
+    /**
+     * @return the number of drones waiting to be flushed
+     */
+    public int getPendingDrones() {
+        lock.lock();
+        try {
+            return this.active.size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Public Methods
+    /**
+     * Records a validated report.
+     *
+     * @param droneId the numeric ID of the drone
+     * @param update the report
+     * @return false if the report was dropped because the buffer is full
+     */
+    public boolean record(long droneId, @NotNull TelemetryUpdate update) {
+        lock.lock();
+        try {
+            Batch batch = this.active;
+            int slot = batch.slotOf(droneId);
+            if (slot < 0) {
+                if (batch.size == this.capacity) {
+                    this.droppedUpdates.increment();
+                    return false;
+                }
+                slot = batch.add(droneId, -slot - 1);
+            } else {
+                this.coalescedUpdates.increment();
+            }
+            if (update.has(TelemetryUpdate.POSITION)) {
+                batch.latitudes[slot] = (float) update.getLatitude();
+                batch.longitudes[slot] = (float) update.getLongitude();
+            }
+            if (update.has(TelemetryUpdate.BATTERY_LEVEL)) {
+                batch.batteryLevels[slot] = (byte) update.getBatteryLevel();
+            }
+            batch.fields[slot] |= (byte) update.getFields();
+        } finally {
+            lock.unlock();
+        }
+        this.recordedUpdates.increment();
+        return true;
+    }
+
+    /**
+     * Takes every pending report out of the buffer. Only one thread may flush: the returned batch
+     * stays valid until the next call.
+     *
+     * @return the reports recorded since the previous call, one slot per drone
+     */
+    public @NotNull Batch swap() {
+        this.standby.clear();
+        lock.lock();
+        try {
+            Batch full = this.active;
+            this.active = this.standby;
+            this.standby = full;
+            return full;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The coalesced reports of one flush, one slot per drone in the order the drones first reported.
+     */
+    public static final class Batch {
+        // ID values are never negative
+        private static final long EMPTY = -1;
+
+        private final long[] table;
+        private final int[] tableSlots;
+        private final long[] droneIds;
+        private final float[] latitudes;
+        private final float[] longitudes;
+        private final byte[] batteryLevels;
+        private final byte[] fields;
+        private int size;
+
+        private Batch(int capacity) {
+            // Open addressing at a load factor of at most one half
+            int tableSize = Integer.highestOneBit(capacity) << 2;
+            this.table = new long[tableSize];
+            Arrays.fill(this.table, EMPTY);
+            this.tableSlots = new int[tableSize];
+            this.droneIds = new long[capacity];
+            this.latitudes = new float[capacity];
+            this.longitudes = new float[capacity];
+            this.batteryLevels = new byte[capacity];
+            this.fields = new byte[capacity];
+        }
+
+        // Getters
+        public int size() { return this.size; }
+        public long droneIdAt(int slot) { return this.droneIds[slot]; }
+        public float latitudeAt(int slot) { return this.latitudes[slot]; }
+        public float longitudeAt(int slot) { return this.longitudes[slot]; }
+        public int batteryLevelAt(int slot) { return this.batteryLevels[slot]; }
+
+        public boolean hasPositionAt(int slot) {
+            return (this.fields[slot] & TelemetryUpdate.POSITION) == TelemetryUpdate.POSITION;
+        }
+
+        public boolean hasBatteryLevelAt(int slot) {
+            return (this.fields[slot] & TelemetryUpdate.BATTERY_LEVEL) != 0;
+        }
+
+        // Private Methods
+        /**
+         * @return the slot of the drone, or {@code -(table index) - 1} of the free table entry for it
+         */
+        private int slotOf(long droneId) {
+            int mask = this.table.length - 1;
+            int index = (int) ((droneId * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+            while (this.table[index] != EMPTY) {
+                if (this.table[index] == droneId) {
+                    return this.tableSlots[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return -index - 1;
+        }
+
+        private int add(long droneId, int tableIndex) {
+            int slot = this.size++;
+            this.table[tableIndex] = droneId;
+            this.tableSlots[tableIndex] = slot;
+            this.droneIds[slot] = droneId;
+            this.fields[slot] = 0;
+            return slot;
+        }
+
+        private void clear() {
+            if (this.size > 0) {
+                Arrays.fill(this.table, EMPTY);
+                this.size = 0;
+            }
+        }
+    }
+}
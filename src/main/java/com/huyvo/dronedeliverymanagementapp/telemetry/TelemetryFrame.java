@@ -0,0 +1,87 @@
+package com.huyvo.dronedeliverymanagementapp.telemetry;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.FixedPointCoordinates;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of the binary telemetry frame taken by {@link TelemetryFrameListener}: a full report of
+ * one drone in {@value #SIZE} bytes, big-endian.
+ * <pre>
+ *  0  8  drone ID, as returned by IdentificationNumber#getValue()
+ *  8  4  latitude in microdegrees
+ * 12  4  longitude in microdegrees
+ * 16  1  battery level, 0 to 100
+ * 17  1  status, the ordinal of a DroneStatus
+ * 18  1  version, {@value #VERSION}
+ * 19  1  reserved, 0
+ * </pre>
+ * The accessors read a frame in place with absolute gets, so a frame is decoded without copying it
+ * out of the buffer and without allocating. They do not check the values; see {@link #isValid}.
+ */
+public final class TelemetryFrame {
+    public static final int SIZE = 20;
+    public static final byte VERSION = 1;
+
+    private static final int DRONE_ID = 0;
+    private static final int LATITUDE = 8;
+    private static final int LONGITUDE = 12;
+    private static final int BATTERY_LEVEL = 16;
+    private static final int STATUS = 17;
+    private static final int FRAME_VERSION = 18;
+    private static final int RESERVED = 19;
+    private static final int STATUS_COUNT = DroneStatus.values().length;
+    private static final int MAX_LATITUDE = 90_000_000;
+    private static final int MAX_LONGITUDE = 180_000_000;
+
+    private TelemetryFrame() {
+    }
+
+    // Getters
+    public static long droneId(ByteBuffer buffer, int offset) { return buffer.getLong(offset + DRONE_ID); }
+    public static int latitudeMicrodegrees(ByteBuffer buffer, int offset) { return buffer.getInt(offset + LATITUDE); }
+    public static int longitudeMicrodegrees(ByteBuffer buffer, int offset) { return buffer.getInt(offset + LONGITUDE); }
+    public static int batteryLevel(ByteBuffer buffer, int offset) { return buffer.get(offset + BATTERY_LEVEL); }
+    public static int statusOrdinal(ByteBuffer buffer, int offset) { return buffer.get(offset + STATUS); }
+
+    // Public Methods
+    /**
+     * @return true if the frame at the offset has the current version and every field in range
+     */
+    public static boolean isValid(ByteBuffer buffer, int offset) {
+        int latitude = latitudeMicrodegrees(buffer, offset);
+        int longitude = longitudeMicrodegrees(buffer, offset);
+        int batteryLevel = batteryLevel(buffer, offset);
+        int status = statusOrdinal(buffer, offset);
+        return buffer.get(offset + FRAME_VERSION) == VERSION
+                && buffer.get(offset + RESERVED) == 0
+                && droneId(buffer, offset) >= 0
+                && latitude >= -MAX_LATITUDE && latitude <= MAX_LATITUDE
+                && longitude >= -MAX_LONGITUDE && longitude <= MAX_LONGITUDE
+                && batteryLevel >= 0 && batteryLevel <= 100
+                && status >= 0 && status < STATUS_COUNT;
+    }
+
+    /**
+     * Writes a frame at the position of the buffer and moves the position past it.
+     *
+     * @param droneId the numeric ID of the drone
+     * @throws java.nio.BufferOverflowException if fewer than {@value #SIZE} bytes remain
+     */
+    public static void encode(@NotNull ByteBuffer buffer,
+                              long droneId,
+                              double latitude,
+                              double longitude,
+                              int batteryLevel,
+                              @NotNull DroneStatus status) {
+        buffer.putLong(droneId)
+                .putInt(FixedPointCoordinates.toMicrodegrees(latitude))
+                .putInt(FixedPointCoordinates.toMicrodegrees(longitude))
+                .put((byte) batteryLevel)
+                .put((byte) status.ordinal())
+                .put(VERSION)
+                .put((byte) 0);
+    }
+}
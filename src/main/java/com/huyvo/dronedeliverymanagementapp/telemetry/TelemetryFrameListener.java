@@ -0,0 +1,302 @@
+package com.huyvo.dronedeliverymanagementapp.telemetry;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.FixedPointCoordinates;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.services.FleetStateStore;
+import com.huyvo.dronedeliverymanagementapp.repository.DroneRepository;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Takes binary {@link TelemetryFrame telemetry frames} over UDP and TCP on the same port and applies
+ * them to the in-memory fleet state in the {@link FleetStateStore}. Unlike the batched HTTP endpoint,
+ * nothing is written to the database; the store is what fleet-wide scans read, and
+ * {@link FleetStateStore#writeTo} brings an entity up to date when it is needed.
+ * <p>
+ * One thread serves every channel through a selector. A UDP datagram carries one or more whole
+ * frames. A TCP connection is a stream of frames, read into a direct buffer lent to it from a fixed
+ * pool for as long as it is open; connections beyond the pool are refused. Frames are decoded in
+ * place from those buffers, so a steady stream of frames allocates nothing on the heap.
+ * <p>
+ * Frames that are not {@link TelemetryFrame#isValid valid}, and frames of drones that are not in the
+ * store, are counted and skipped. A datagram whose length is not a multiple of the frame size is
+ * dropped whole.
+ * <p>
+ * Only started if {@code app.telemetry.binary.enabled} is true. Once the application is ready, the
+ * drones in the database are loaded into the store; drones saved after that add themselves to the
+ * shared store as they are saved.
+ */
+@Component
+@ConditionalOnProperty(name = "app.telemetry.binary.enabled", havingValue = "true")
+public class TelemetryFrameListener implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(TelemetryFrameListener.class);
+    private static final DroneStatus[] STATUSES = DroneStatus.values();
+    private static final int CONNECTION_BUFFER_BYTES = 1024 * TelemetryFrame.SIZE;
+    private static final int DATAGRAM_BUFFER_BYTES = 65_536;
+    private static final long SELECT_TIMEOUT_MILLIS = 1000;
+
+    private final FleetStateStore store;
+    private final DroneRepository droneRepository;
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final DatagramChannel datagrams;
+    private final ByteBuffer datagramBuffer = ByteBuffer.allocateDirect(DATAGRAM_BUFFER_BYTES);
+    private final ArrayDeque<ByteBuffer> connectionBuffers;
+    private final Consumer<SelectionKey> onSelected = this::onSelected;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private final LongAdder appliedFrames = new LongAdder();
+    private final LongAdder malformedFrames = new LongAdder();
+    private final LongAdder unknownDrones = new LongAdder();
+    private final LongAdder refusedConnections = new LongAdder();
+
+    @Autowired
+    public TelemetryFrameListener(DroneRepository droneRepository,
+                                  @Value("${app.telemetry.binary.port:7070}") int port,
+                                  @Value("${app.telemetry.binary.max-connections:64}") int maxConnections) throws IOException {
+        this(FleetStateStore.shared(), droneRepository, port, maxConnections);
+    }
+
+    /**
+     * Binds the port and starts serving it.
+     *
+     * @param store the store frames are applied to
+     * @param port the UDP and TCP port, or 0 for any free port
+     * @param maxConnections the TCP connections served at once
+     * @throws IOException if the port cannot be bound
+     */
+    public TelemetryFrameListener(@NotNull FleetStateStore store, int port, int maxConnections) throws IOException {
+        this(store, null, port, maxConnections);
+    }
+
+    private TelemetryFrameListener(FleetStateStore store,
+                                   DroneRepository droneRepository,
+                                   int port,
+                                   int maxConnections) throws IOException {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("maxConnections must be positive.");
+        }
+        this.store = store;
+        this.droneRepository = droneRepository;
+        this.connectionBuffers = new ArrayDeque<>(maxConnections);
+        ByteBuffer pool = ByteBuffer.allocateDirect(CONNECTION_BUFFER_BYTES * maxConnections);
+        for (int i = 0; i < maxConnections; i++) {
+            this.connectionBuffers.push(pool.slice(i * CONNECTION_BUFFER_BYTES, CONNECTION_BUFFER_BYTES));
+        }
+
+        this.selector = Selector.open();
+        ServerSocketChannel server = null;
+        DatagramChannel datagrams = null;
+        try {
+            server = ServerSocketChannel.open();
+            server.bind(new InetSocketAddress(port));
+            server.configureBlocking(false);
+            server.register(this.selector, SelectionKey.OP_ACCEPT);
+
+            // UDP takes the port TCP was given, in case it was picked by the system
+            datagrams = DatagramChannel.open(StandardProtocolFamily.INET);
+            datagrams.bind(new InetSocketAddress(((InetSocketAddress) server.getLocalAddress()).getPort()));
+            datagrams.configureBlocking(false);
+            datagrams.register(this.selector, SelectionKey.OP_READ);
+        } catch (IOException | RuntimeException e) {
+            if (server != null) {
+                server.close();
+            }
+            if (datagrams != null) {
+                datagrams.close();
+            }
+            this.selector.close();
+            throw e;
+        }
+        this.server = server;
+        this.datagrams = datagrams;
+
+        this.thread = new Thread(this::serve, "drone-telemetry-listener");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // Getters
+    public FleetStateStore getStore() { return this.store; }
+    public long getAppliedFrames() { return this.appliedFrames.sum(); }
+    public long getMalformedFrames() { return this.malformedFrames.sum(); }
+    public long getUnknownDrones() { return this.unknownDrones.sum(); }
+    public long getRefusedConnections() { return this.refusedConnections.sum(); }
+
+    /**
+     * @return the port bound for UDP and TCP
+     */
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) this.server.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Public Methods
+    /**
+     * Loads the drones in the database into the store, so that their frames are applied.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFleet() {
+        if (this.droneRepository != null) {
+            this.store.loadAll(this.droneRepository.findAll());
+            log.info("Telemetry listener on port {} serving {} drones", getPort(), this.store.size());
+        }
+    }
+
+    /**
+     * Applies the whole frames between two offsets of a buffer to the store, as if they had been
+     * received. Invalid frames and frames of unknown drones are counted and skipped.
+     *
+     * @return the frames applied
+     */
+    public int apply(@NotNull ByteBuffer buffer, int from, int to) {
+        FleetStateStore store = this.store;
+        int applied = 0;
+        for (int offset = from; offset < to; offset += TelemetryFrame.SIZE) {
+            if (!TelemetryFrame.isValid(buffer, offset)) {
+                this.malformedFrames.increment();
+                continue;
+            }
+            int handle = store.handleOf(TelemetryFrame.droneId(buffer, offset));
+            if (handle < 0) {
+                this.unknownDrones.increment();
+                continue;
+            }
+            store.update(handle,
+                         (float) FixedPointCoordinates.toDegrees(TelemetryFrame.latitudeMicrodegrees(buffer, offset)),
+                         (float) FixedPointCoordinates.toDegrees(TelemetryFrame.longitudeMicrodegrees(buffer, offset)),
+                         TelemetryFrame.batteryLevel(buffer, offset),
+                         STATUSES[TelemetryFrame.statusOrdinal(buffer, offset)]);
+            applied++;
+        }
+        this.appliedFrames.add(applied);
+        return applied;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.running = false;
+        this.selector.wakeup();
+        try {
+            this.thread.join(SELECT_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : this.selector.keys()) {
+            key.channel().close();
+        }
+        this.selector.close();
+    }
+
+    // Private Methods
+    private void serve() {
+        try {
+            while (this.running) {
+                this.selector.select(this.onSelected, SELECT_TIMEOUT_MILLIS);
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (this.running) {
+                log.error("Telemetry listener stopped", e);
+            }
+        }
+    }
+
+    private void onSelected(SelectionKey key) {
+        try {
+            if (key.isAcceptable()) {
+                accept();
+            } else if (key.channel() == this.datagrams) {
+                receive();
+            } else {
+                read(key);
+            }
+        } catch (IOException e) {
+            log.debug("Telemetry channel failed", e);
+            if (key.channel() instanceof SocketChannel) {
+                disconnect(key);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel connection = this.server.accept();
+        if (connection == null) {
+            return;
+        }
+        ByteBuffer buffer = this.connectionBuffers.poll();
+        if (buffer == null) {
+            this.refusedConnections.increment();
+            connection.close();
+            return;
+        }
+        buffer.clear();
+        connection.configureBlocking(false);
+        connection.register(this.selector, SelectionKey.OP_READ, buffer);
+    }
+
+    private void receive() throws IOException {
+        ByteBuffer buffer = this.datagramBuffer;
+        // Drains every datagram waiting, so one wakeup serves a burst
+        while (true) {
+            buffer.clear();
+            if (this.datagrams.receive(buffer) == null) {
+                return;
+            }
+            if (buffer.position() % TelemetryFrame.SIZE != 0) {
+                this.malformedFrames.increment();
+                continue;
+            }
+            apply(buffer, 0, buffer.position());
+        }
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        ByteBuffer buffer = (ByteBuffer) key.attachment();
+        int read = ((SocketChannel) key.channel()).read(buffer);
+        int end = buffer.position();
+        int whole = end - end % TelemetryFrame.SIZE;
+        apply(buffer, 0, whole);
+        // Keeps the start of a frame split across reads
+        buffer.limit(end).position(whole);
+        buffer.compact();
+        if (read < 0) {
+            disconnect(key);
+        }
+    }
+
+    private void disconnect(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            log.debug("Closing telemetry connection failed", e);
+        }
+        this.connectionBuffers.push((ByteBuffer) key.attachment());
+    }
+}
@@ -0,0 +1,24 @@
+package com.huyvo.dronedeliverymanagementapp.telemetry;
+
+import java.util.List;
+
+/**
+ * The outcome of one telemetry batch.
+ *
+ * @param updatesRead the reports found in the body
+ * @param updatesRejected the reports that failed validation and were skipped
+ * @param updatesDropped the valid reports that were not taken because the buffer was full;
+ *                       sending the batch again is safe, as reports are last-write-wins
+ * @param errors the first rejected or dropped reports with the reason, at most {@link TelemetryService#MAX_REPORTED_ERRORS}
+ */
+public record TelemetryIngestReport(long updatesRead,
+                                    long updatesRejected,
+                                    long updatesDropped,
+                                    List<UpdateError> errors) {
+
+    /**
+     * @param line the line of the body the report is on
+     * @param message why it was not taken
+     */
+    public record UpdateError(long line, String message) {}
+}
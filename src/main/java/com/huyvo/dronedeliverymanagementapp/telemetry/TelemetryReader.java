@@ -0,0 +1,83 @@
+package com.huyvo.dronedeliverymanagementapp.telemetry;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads a batch of telemetry reports as newline-delimited JSON, one report per line, for example:
+ * <pre>{"droneId":"DR_01HZX3K7M2QA","latitude":52.3741,"longitude":9.7355,"batteryLevel":87}</pre>
+ * Every key but {@code droneId} is optional. Unknown keys are ignored; blank lines are skipped.
+ */
+public class TelemetryReader {
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final BufferedReader reader;
+    private long line;
+
+    public TelemetryReader(@NotNull Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * Reads the next report.
+     *
+     * @param update the report to refill
+     * @return false at the end of the batch
+     * @throws ValidationException if the line is not a report; the next call moves on to the next line
+     */
+    public boolean next(@NotNull TelemetryUpdate update) throws IOException, ValidationException {
+        String text;
+        do {
+            text = this.reader.readLine();
+            if (text == null) {
+                return false;
+            }
+            this.line++;
+        } while (text.isBlank());
+
+        update.reset(this.line);
+        try (JsonParser parser = JSON.createParser(text)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ValidationException("Expected a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "droneId" -> {
+                        if (value != JsonToken.VALUE_STRING) {
+                            throw new ValidationException("droneId must be a string.");
+                        }
+                        update.setDroneId(parser.getText());
+                    }
+                    case "latitude" -> update.setLatitude(number(parser, value, name));
+                    case "longitude" -> update.setLongitude(number(parser, value, name));
+                    case "batteryLevel" -> update.setBatteryLevel(number(parser, value, name));
+                    default -> parser.skipChildren();
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new ValidationException("Unexpected content after the JSON object.");
+            }
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        return true;
+    }
+
+    // Private Methods
+    private static double number(JsonParser parser, JsonToken value, String name) throws IOException, ValidationException {
+        if (!value.isNumeric()) {
+            throw new ValidationException(name + " must be a number.");
+        }
+        return parser.getDoubleValue();
+    }
+}
@@ -0,0 +1,308 @@
+package com.huyvo.dronedeliverymanagementapp.telemetry;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.jetbrains.annotations.NotNull;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Takes drone telemetry in batches and writes it to the database a few times a second.
+ * <p>
+ * Reports are validated field by field with {@link TelemetryUpdateValidator} and coalesced per
+ * drone in a {@link TelemetryBuffer}, so a drone reporting ten times between two flushes costs one
+ * row. A background thread flushes the buffer every {@code app.telemetry.flush-interval-ms}: the
+ * batch is streamed into a temporary staging table with Postgres {@code COPY}, then merged with a
+ * few set-based UPDATEs, in one transaction:
+ * <ul>
+ *     <li>reports for drones that are not in the database are discarded and counted</li>
+ *     <li>battery levels that changed are set on {@code drone}</li>
+ *     <li>a drone whose location row is not its own, because a base, another drone, a customer or a
+ *     package points at it too, gets a copy of that row first, as {@code Drone} itself does; a lone
+ *     drone at its base is moved off the base row all the same. Positions that changed are then
+ *     set on the drones' own location rows, and those rows are evicted from the second-level cache</li>
+ * </ul>
+ * A failed flush is logged and counted, and its batch is discarded: telemetry is superseded by the
+ * next report anyway.
+ */
+@Service
+public class TelemetryService implements AutoCloseable {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+    private static final Logger log = LoggerFactory.getLogger(TelemetryService.class);
+    private static final int READ_BUFFER_CHARS = 1 << 16;
+    private static final int COPY_BUFFER_BYTES = 1 << 16;
+    private static final String STAGING_TABLE = "drone_telemetry_staging";
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMP TABLE %s (
+                drone_id bigint PRIMARY KEY,
+                spare_location_id bigint,
+                latitude real,
+                longitude real,
+                battery_level integer
+            ) ON COMMIT DROP
+            """.formatted(STAGING_TABLE);
+    private static final String COPY_SQL = "COPY " + STAGING_TABLE + " FROM STDIN";
+    private static final String DISCARD_UNKNOWN_SQL = """
+            DELETE FROM %s s
+            WHERE NOT EXISTS (SELECT 1 FROM drone d WHERE d.id = s.drone_id)
+            """.formatted(STAGING_TABLE);
+    private static final String UPDATE_BATTERY_SQL = """
+            UPDATE drone d SET battery_level = s.battery_level
+            FROM %s s
+            WHERE d.id = s.drone_id AND s.battery_level IS NOT NULL AND d.battery_level <> s.battery_level
+            """.formatted(STAGING_TABLE);
+    private static final String COPY_SHARED_LOCATIONS_SQL = """
+            INSERT INTO location (id, address_line1, address_line2, city, state, zipcode, country, latitude, longitude)
+            SELECT s.spare_location_id, l.address_line1, l.address_line2, l.city, l.state, l.zipcode, l.country, s.latitude, s.longitude
+            FROM %s s
+            JOIN drone d ON d.id = s.drone_id
+            JOIN location l ON l.id = d.current_location_id
+            WHERE s.latitude IS NOT NULL
+              AND (EXISTS (SELECT 1 FROM drone_base b WHERE b.location_id = l.id)
+                   OR EXISTS (SELECT 1 FROM drone o WHERE o.current_location_id = l.id AND o.id <> d.id)
+                   OR EXISTS (SELECT 1 FROM customer c WHERE c.address_id = l.id)
+                   OR EXISTS (SELECT 1 FROM shipping_package p WHERE p.pickup_location_id = l.id OR p.delivery_location_id = l.id))
+            """.formatted(STAGING_TABLE);
+    private static final String MOVE_TO_COPIES_SQL = """
+            UPDATE drone d SET current_location_id = s.spare_location_id
+            FROM %s s
+            WHERE d.id = s.drone_id AND EXISTS (SELECT 1 FROM location l WHERE l.id = s.spare_location_id)
+            """.formatted(STAGING_TABLE);
+    private static final String UPDATE_POSITIONS_SQL = """
+            UPDATE location l SET latitude = s.latitude, longitude = s.longitude
+            FROM drone d
+            JOIN %s s ON s.drone_id = d.id
+            WHERE l.id = d.current_location_id AND s.latitude IS NOT NULL
+              AND (l.latitude IS DISTINCT FROM s.latitude OR l.longitude IS DISTINCT FROM s.longitude)
+            RETURNING l.id
+            """.formatted(STAGING_TABLE);
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TelemetryBuffer buffer;
+    private final TelemetryUpdateValidator validator = new TelemetryUpdateValidator();
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService flusher;
+
+    private final LongAdder flushedDrones = new LongAdder();
+    private final LongAdder unknownDrones = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+
+    /**
+     * Constructs the service and starts flushing.
+     *
+     * @param capacity the number of drones the buffer holds between two flushes
+     * @param flushIntervalMillis the pause between the end of one flush and the start of the next
+     */
+    public TelemetryService(DataSource dataSource,
+                            EntityManagerFactory entityManagerFactory,
+                            @Value("${app.telemetry.capacity:65536}") int capacity,
+                            @Value("${app.telemetry.flush-interval-ms:250}") long flushIntervalMillis) {
+
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.buffer = new TelemetryBuffer(capacity);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "drone-telemetry-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Getters
+    public TelemetryBuffer getBuffer() { return this.buffer; }
+    public long getFlushedDrones() { return this.flushedDrones.sum(); }
+    public long getUnknownDrones() { return this.unknownDrones.sum(); }
+    public long getFailedFlushes() { return this.failedFlushes.sum(); }
+
+    /**
+     * @return how long a client whose reports were dropped should wait before sending them again
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(this.flushIntervalMillis + 999));
+    }
+
+    // Public Methods
+    /**
+     * Validates and buffers a UTF-8 batch of reports; see {@link TelemetryReader} for the format.
+     *
+     * @param body the body, read to its end but not closed
+     * @return how many reports were read, rejected and dropped
+     */
+    public @NotNull TelemetryIngestReport ingest(@NotNull InputStream body) throws IOException {
+        TelemetryReader reader = new TelemetryReader(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), READ_BUFFER_CHARS));
+        TelemetryUpdate update = new TelemetryUpdate();
+        List<TelemetryIngestReport.UpdateError> errors = new ArrayList<>();
+        long read = 0;
+        long rejected = 0;
+        long dropped = 0;
+        while (true) {
+            boolean more;
+            try {
+                more = reader.next(update);
+                if (more) {
+                    this.validator.validate(update);
+                }
+            } catch (ValidationException e) {
+                read++;
+                rejected++;
+                addError(errors, update.getLineNumber(), e.getMessage());
+                continue;
+            }
+            if (!more) {
+                break;
+            }
+            read++;
+            if (!this.buffer.record(IdentificationNumber.parse(update.getDroneId()).getValue(), update)) {
+                dropped++;
+                addError(errors, update.getLineNumber(), "Dropped: the telemetry buffer is full.");
+            }
+        }
+        return new TelemetryIngestReport(read, rejected, dropped, errors);
+    }
+
+    /**
+     * Writes everything buffered so far. Called by the flush thread; callers may flush early.
+     *
+     * @return the number of drones in the batch that are in the database
+     */
+    public synchronized int flush() throws IOException, SQLException {
+        TelemetryBuffer.Batch batch = this.buffer.swap();
+        if (batch.size() == 0) {
+            return 0;
+        }
+
+        List<Long> updatedLocations = new ArrayList<>();
+        int updated;
+        try (Connection connection = this.dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGING_SQL);
+                }
+                copyBatch(connection, batch);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ANALYZE " + STAGING_TABLE);
+                    int unknown = statement.executeUpdate(DISCARD_UNKNOWN_SQL);
+                    updated = batch.size() - unknown;
+                    this.unknownDrones.add(unknown);
+                    statement.executeUpdate(UPDATE_BATTERY_SQL);
+                    statement.executeUpdate(COPY_SHARED_LOCATIONS_SQL);
+                    statement.executeUpdate(MOVE_TO_COPIES_SQL);
+                    try (ResultSet locations = statement.executeQuery(UPDATE_POSITIONS_SQL)) {
+                        while (locations.next()) {
+                            updatedLocations.add(locations.getLong(1));
+                        }
+                    }
+                }
+                connection.commit();
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+
+        Cache cache = this.entityManagerFactory.getCache();
+        for (long location : updatedLocations) {
+            cache.evict(Location.class, IdentificationNumber.fromValue(location));
+        }
+        this.flushedDrones.add(updated);
+        return updated;
+    }
+
+    /**
+     * Stops the flush thread and flushes what is left.
+     */
+    @Override
+    public void close() {
+        this.flusher.shutdown();
+        try {
+            this.flusher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    // Private Methods
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException | SQLException | RuntimeException e) {
+            this.failedFlushes.increment();
+            log.warn("Telemetry flush failed; its batch was discarded", e);
+        }
+    }
+
+    private static void copyBatch(Connection connection, TelemetryBuffer.Batch batch) throws IOException, SQLException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL, COPY_BUFFER_BYTES);
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.US_ASCII), COPY_BUFFER_BYTES);
+            for (int slot = 0; slot < batch.size(); slot++) {
+                writer.write(Long.toString(batch.droneIdAt(slot)));
+                if (batch.hasPositionAt(slot)) {
+                    writer.write('\t');
+                    writer.write(Long.toString(new IdentificationNumber(IdType.LOCATION).getValue()));
+                    writer.write('\t');
+                    writer.write(Float.toString(batch.latitudeAt(slot)));
+                    writer.write('\t');
+                    writer.write(Float.toString(batch.longitudeAt(slot)));
+                } else {
+                    writer.write("\t\\N\t\\N\t\\N");
+                }
+                writer.write('\t');
+                writer.write(batch.hasBatteryLevelAt(slot) ? Integer.toString(batch.batteryLevelAt(slot)) : "\\N");
+                writer.write('\n');
+            }
+            writer.flush();
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    private static void addError(List<TelemetryIngestReport.UpdateError> errors, long line, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new TelemetryIngestReport.UpdateError(line, message));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.huyvo.dronedeliverymanagementapp.telemetry;
+
+/**
+ * One telemetry report of a drone: its position, its battery level, or both. Readers refill a single
+ * instance for every report, so a batch of any length allocates only the drone IDs.
+ * <p>
+ * Only the fields a report carries are marked in {@link #getFields()}; the others keep whatever
+ * value the drone already has.
+ */
+public class TelemetryUpdate {
+    public static final int LATITUDE = 1;
+    public static final int LONGITUDE = 1 << 1;
+    public static final int BATTERY_LEVEL = 1 << 2;
+    public static final int POSITION = LATITUDE | LONGITUDE;
+
+    private long lineNumber;
+    private String droneId;
+    private double latitude;
+    private double longitude;
+    private double batteryLevel;
+    private int fields;
+
+    // Getters
+    public long getLineNumber() { return this.lineNumber; }
+    public String getDroneId() { return this.droneId; }
+    public double getLatitude() { return this.latitude; }
+    public double getLongitude() { return this.longitude; }
+    public double getBatteryLevel() { return this.batteryLevel; }
+
+    /**
+     * @return the fields the report carries, a combination of {@link #LATITUDE}, {@link #LONGITUDE}
+     *         and {@link #BATTERY_LEVEL}
+     */
+    public int getFields() { return this.fields; }
+
+    public boolean has(int field) {
+        return (this.fields & field) == field;
+    }
+
+    // Setters
+    public void setDroneId(String droneId) {
+        this.droneId = droneId;
+    }
+
+    public void setLatitude(double latitude) {
+        this.latitude = latitude;
+        this.fields |= LATITUDE;
+    }
+
+    public void setLongitude(double longitude) {
+        this.longitude = longitude;
+        this.fields |= LONGITUDE;
+    }
+
+    public void setBatteryLevel(double batteryLevel) {
+        this.batteryLevel = batteryLevel;
+        this.fields |= BATTERY_LEVEL;
+    }
+
+    // Public Methods
+    /**
+     * Empties every field and moves the report to a new line.
+     *
+     * @param lineNumber the line the next report is on
+     */
+    public void reset(long lineNumber) {
+        this.lineNumber = lineNumber;
+        this.droneId = null;
+        this.fields = 0;
+    }
+}
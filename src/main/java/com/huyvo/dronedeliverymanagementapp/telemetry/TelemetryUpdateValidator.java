@@ -0,0 +1,58 @@
+package com.huyvo.dronedeliverymanagementapp.telemetry;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.Validator;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+
+/**
+ * Checks the fields a telemetry report carries, and only those. The rest of the drone is not
+ * looked at: a report cannot make a valid drone invalid in any other way, so the full
+ * {@link com.huyvo.dronedeliverymanagementapp.classes.classValidator.DroneValidator} is not needed.
+ */
+public class TelemetryUpdateValidator implements Validator<TelemetryUpdate> {
+
+    @Override
+    public void validate(TelemetryUpdate update) throws ValidationException {
+        if (update == null) {
+            throw new ValidationException("Telemetry update cannot be null.");
+        }
+        validateDroneId(update.getDroneId());
+        if (update.getFields() == 0) {
+            throw new ValidationException("Telemetry update must carry a position or a battery level.");
+        }
+        if (update.has(TelemetryUpdate.LATITUDE) != update.has(TelemetryUpdate.LONGITUDE)) {
+            throw new ValidationException("latitude and longitude must be reported together.");
+        }
+        if (update.has(TelemetryUpdate.POSITION)) {
+            validateRange("latitude", update.getLatitude(), 90);
+            validateRange("longitude", update.getLongitude(), 180);
+        }
+        if (update.has(TelemetryUpdate.BATTERY_LEVEL)) {
+            double batteryLevel = update.getBatteryLevel();
+            if (!(batteryLevel >= 0 && batteryLevel <= 100) || batteryLevel != Math.rint(batteryLevel)) {
+                throw new ValidationException("Battery level must be a whole number between 0 and 100.");
+            }
+        }
+    }
+
+    // Private Methods
+    private void validateDroneId(String droneId) throws ValidationException {
+        if (droneId == null) {
+            throw new ValidationException("droneId must not be blank.");
+        }
+        try {
+            if (IdentificationNumber.parse(droneId).getType() != IdType.DRONE) {
+                throw new ValidationException("Not a drone ID: " + droneId);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Not a drone ID: " + droneId);
+        }
+    }
+
+    private void validateRange(String field, double value, double limit) throws ValidationException {
+        if (!(value >= -limit && value <= limit)) {
+            throw new ValidationException(field + " must be between " + -limit + " and " + limit + ".");
+        }
+    }
+}
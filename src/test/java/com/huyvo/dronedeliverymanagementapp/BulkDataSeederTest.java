@@ -0,0 +1,38 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Delivery;
+import com.huyvo.dronedeliverymanagementapp.generator.DeliveryGenerator;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BulkDataSeederTest {
+
+    @Test
+    void generatorFailureWithAFullQueueStopsSeeding() {
+        EntityManager entityManager = mock(EntityManager.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // A slow writer, so the queue is full by the time generation fails
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return null;
+        }).when(entityManager).flush();
+        BulkDataSeeder seeder = new BulkDataSeeder(entityManager, transactionManager);
+
+        OutOfMemoryError failure = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(
+                OutOfMemoryError.class,
+                () -> seeder.seed(100, 10, () -> Stream.concat(
+                        DeliveryGenerator.stream(40, 10f, 1),
+                        Stream.<Delivery>generate(() -> { throw new OutOfMemoryError("generator failed"); })))));
+        assertEquals("generator failed", failure.getMessage());
+    }
+}
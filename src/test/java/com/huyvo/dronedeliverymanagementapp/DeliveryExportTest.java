@@ -0,0 +1,178 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.export.DeliveryExportService;
+import com.huyvo.dronedeliverymanagementapp.repository.DeliveryRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the delivery export writes every delivery once, in ID order, as NDJSON and CSV,
+ * resumes after a given delivery, and is compressed only when the client accepts gzip.
+ */
+@SpringBootTest(properties = {
+        "app.seed.mode=none",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DeliveryExportTest {
+    private static final String DESCRIPTION = "Fragile, \"glass\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private DeliveryExportService deliveryExportService;
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<JsonNode> deliveries;
+
+    @BeforeAll
+    void seed() throws Exception {
+        bulkDataSeeder.seed(60, 20, 10.0f, new Random(23));
+        jdbcTemplate.update("""
+                UPDATE shipping_package SET description = ?
+                WHERE id = (SELECT package_id FROM delivery ORDER BY id LIMIT 1)
+                """, DESCRIPTION);
+        deliveries = ndjson(export(DeliveryExportService.Format.NDJSON, 0));
+    }
+
+    @Test
+    void everyDeliveryIsExportedOnceInIdOrder() {
+        assertEquals(deliveryRepository.count(), deliveries.size());
+        assertTrue(deliveries.size() >= 60);
+        long previous = 0;
+        for (JsonNode delivery : deliveries) {
+            long id = IdentificationNumber.parse(delivery.get("deliveryId").textValue()).getValue();
+            assertTrue(id > previous);
+            previous = id;
+            assertNotNull(delivery.get("packageId").textValue());
+            assertNotNull(delivery.get("senderId").textValue());
+            assertTrue(delivery.get("weight").isNumber());
+        }
+        assertEquals(DESCRIPTION, deliveries.getFirst().get("description").textValue());
+    }
+
+    @Test
+    void anExportResumesAfterTheLastDeliveryReceived() throws IOException {
+        String last = deliveries.get(9).get("deliveryId").textValue();
+
+        List<JsonNode> rest = ndjson(export(DeliveryExportService.Format.NDJSON, DeliveryExportService.resumeAfter(last)));
+
+        assertEquals(deliveries.subList(10, deliveries.size()), rest);
+        assertThrows(BadRequestException.class, () -> DeliveryExportService.resumeAfter(deliveries.getFirst().get("packageId").textValue()));
+        assertThrows(BadRequestException.class, () -> DeliveryExportService.resumeAfter("not-an-id"));
+    }
+
+    @Test
+    void csvHasAHeaderAndOneQuotedRecordPerDelivery() throws IOException {
+        String csv = export(DeliveryExportService.Format.CSV, 0);
+        String[] records = csv.split("\r\n");
+
+        assertTrue(csv.endsWith("\r\n"));
+        assertTrue(records[0].startsWith("deliveryId,status,startTime,endTime,packageId,weight,description,"));
+        assertEquals(deliveries.size() + 1, records.length);
+        for (int i = 0; i < deliveries.size(); i++) {
+            JsonNode delivery = deliveries.get(i);
+            assertTrue(records[i + 1].startsWith(delivery.get("deliveryId").textValue() + "," + delivery.get("status").textValue() + ","));
+        }
+        assertTrue(records[1].contains(",\"Fragile, \"\"glass\"\"\","));
+    }
+
+    @Test
+    void theEndpointCompressesOnlyWhenGzipIsAcceptable() throws Exception {
+        String csv = export(DeliveryExportService.Format.CSV, 0);
+        for (String accepted : new String[]{"gzip", "GZIP;Q=1.0", "br, gzip;q=0.5", "deflate, *", "x-gzip"}) {
+            MockHttpServletResponse response = download("/api/v1/deliveries/export?format=csv", accepted);
+            assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING), accepted);
+            assertEquals(csv, gunzip(response.getContentAsByteArray()), accepted);
+        }
+        for (String refused : new String[]{"gzip;q=0", "identity", "br, gzip ; q=0.000", "gzip;q=0, *", "*;q=0", "gzip;q=bad", "gzipped"}) {
+            MockHttpServletResponse response = download("/api/v1/deliveries/export?format=csv", refused);
+            assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING), refused);
+            assertEquals(csv, response.getContentAsString(StandardCharsets.UTF_8), refused);
+        }
+        assertNull(download("/api/v1/deliveries/export?format=csv", null).getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void theEndpointResumesAfterTheGivenDelivery() throws Exception {
+        String after = deliveries.get(deliveries.size() - 3).get("deliveryId").textValue();
+
+        MockHttpServletResponse response = download("/api/v1/deliveries/export?after=" + after, null);
+
+        assertEquals("application/x-ndjson", response.getContentType());
+        assertEquals(deliveries.subList(deliveries.size() - 2, deliveries.size()),
+                     ndjson(response.getContentAsString(StandardCharsets.UTF_8)));
+        mockMvc.perform(get("/api/v1/deliveries/export").param("after", "PK_000000000001"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/deliveries/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Private Methods
+    private String export(DeliveryExportService.Format format, long after) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        deliveryExportService.export(out, format, after, null);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private List<JsonNode> ndjson(String text) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private MockHttpServletResponse download(String uri, String acceptEncoding) throws Exception {
+        MockHttpServletRequestBuilder builder = get(uri);
+        if (acceptEncoding != null) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MvcResult started = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn().getResponse();
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.huyvo.dronedeliverymanagementapp.ingest.PackageIngestColumn;
+import com.huyvo.dronedeliverymanagementapp.ingest.PackageIngestReport;
+import com.huyvo.dronedeliverymanagementapp.ingest.PackageIngestService;
+import com.huyvo.dronedeliverymanagementapp.ingest.PackageRowReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that ingested rows land in the staging-merged tables with the right counts, and that
+ * concurrent uploads do not duplicate customers.
+ */
+@SpringBootTest(properties = {
+        "app.seed.mode=none",
+        "spring.jpa.show-sql=false"
+})
+class PackageIngestTest {
+    private static final String HEADER = Arrays.stream(PackageIngestColumn.values())
+            .map(PackageIngestColumn::getColumnName)
+            .collect(Collectors.joining(","));
+
+    @Autowired
+    private PackageIngestService packageIngestService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rowsAreCountedAndRejectedRowsReportedOnTheirLine() throws Exception {
+        String sender = UUID.randomUUID() + "@example.com";
+        String body = csv(row("1.0", sender, "a-" + sender),
+                          row("-2", sender, "b-" + sender),
+                          "",
+                          row("2.0", sender, "c-" + sender),
+                          "1.0,short",
+                          row("3.0", sender, "a-" + sender));
+
+        PackageIngestReport report = ingest(body);
+
+        assertEquals(5, report.rowsRead());
+        assertEquals(2, report.rowsRejected());
+        assertEquals(3, report.packagesInserted());
+        assertEquals(3, report.customersInserted());
+        assertEquals(3, report.locationsInserted());
+        assertEquals(List.of(new PackageIngestReport.RowError(3, "weight must be a positive number."),
+                             new PackageIngestReport.RowError(6, "Expected " + PackageIngestColumn.count() + " fields but found 2.")),
+                     report.errors());
+        assertEquals(3, jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM shipping_package p JOIN customer c ON c.id = p.sender_id WHERE c.email = ?
+                """, Long.class, sender));
+
+        // Known emails are reused rather than created again
+        report = ingest(csv(row("4.0", "c-" + sender, sender)));
+        assertEquals(1, report.packagesInserted());
+        assertEquals(0, report.customersInserted());
+        assertEquals(1, customers(sender));
+    }
+
+    @Test
+    void malformedNdjsonLinesAreCounted() throws Exception {
+        String sender = UUID.randomUUID() + "@example.com";
+        StringBuilder body = new StringBuilder("{\"weight\": \n");
+        body.append('{');
+        for (PackageIngestColumn column : PackageIngestColumn.values()) {
+            body.append('"').append(column.getColumnName()).append("\": \"");
+            body.append(switch (column) {
+                case WEIGHT -> "1.0";
+                case SENDER_EMAIL -> sender;
+                case RECIPIENT_EMAIL -> "r-" + sender;
+                case SENDER_LATITUDE, RECIPIENT_LATITUDE -> "52.37";
+                case SENDER_LONGITUDE, RECIPIENT_LONGITUDE -> "9.73";
+                default -> column.getColumnName();
+            });
+            body.append("\", ");
+        }
+        body.setLength(body.length() - 2);
+        body.append("}\n");
+
+        PackageIngestReport report = packageIngestService.ingest(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)),
+                                                                 PackageRowReader.Format.NDJSON);
+
+        assertEquals(2, report.rowsRead());
+        assertEquals(1, report.rowsRejected());
+        assertEquals(1, report.packagesInserted());
+        assertEquals(1, report.errors().getFirst().line());
+    }
+
+    @Test
+    void reportedErrorsAreCapped() throws Exception {
+        String sender = UUID.randomUUID() + "@example.com";
+        int invalid = PackageIngestService.MAX_REPORTED_ERRORS + 5;
+        String[] rows = new String[invalid + 1];
+        Arrays.fill(rows, 0, invalid, row("0", sender, "r-" + sender));
+        rows[invalid] = row("1.0", sender, "r-" + sender);
+
+        PackageIngestReport report = ingest(csv(rows));
+
+        assertEquals(invalid + 1, report.rowsRead());
+        assertEquals(invalid, report.rowsRejected());
+        assertEquals(1, report.packagesInserted());
+        assertEquals(PackageIngestService.MAX_REPORTED_ERRORS, report.errors().size());
+        assertEquals(2, report.errors().getFirst().line());
+        assertEquals(PackageIngestService.MAX_REPORTED_ERRORS + 1, report.errors().getLast().line());
+    }
+
+    @Test
+    void concurrentUploadsCreateANewCustomerOnce() throws Exception {
+        int uploads = 4;
+        try (ExecutorService threads = Executors.newFixedThreadPool(uploads)) {
+            for (int round = 0; round < 10; round++) {
+                String email = UUID.randomUUID() + "@example.com";
+                String body = csv(row("1.0", email, "recipient-" + email));
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<PackageIngestReport>> reports = new ArrayList<>();
+                for (int i = 0; i < uploads; i++) {
+                    reports.add(threads.submit(() -> {
+                        start.await();
+                        return ingest(body);
+                    }));
+                }
+                start.countDown();
+                long created = 0;
+                for (Future<PackageIngestReport> report : reports) {
+                    assertEquals(1, report.get().packagesInserted());
+                    created += report.get().customersInserted();
+                }
+
+                assertEquals(2, created);
+                assertEquals(1, customers(email));
+            }
+        }
+    }
+
+    // Private Methods
+    private PackageIngestReport ingest(String body) throws Exception {
+        return packageIngestService.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                                           PackageRowReader.Format.CSV);
+    }
+
+    private long customers(String email) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM customer WHERE email = ?", Long.class, email);
+    }
+
+    private static String csv(String... rows) {
+        return HEADER + "\n" + String.join("\n", rows) + "\n";
+    }
+
+    /**
+     * @return a CSV row in header order, with both parties in Hannover
+     */
+    private static String row(String weight, String senderEmail, String recipientEmail) {
+        List<String> values = new ArrayList<>();
+        for (PackageIngestColumn column : PackageIngestColumn.values()) {
+            String name = column.getColumnName();
+            values.add(switch (name.substring(name.indexOf('_') + 1)) {
+                case "name" -> name.startsWith("sender") ? "Sender" : "Recipient";
+                case "email" -> name.startsWith("sender") ? senderEmail : recipientEmail;
+                case "address_line1" -> "1 Main St";
+                case "city" -> "Hannover";
+                case "country" -> "Germany";
+                case "latitude" -> "52.37";
+                case "longitude" -> "9.73";
+                default -> name.equals("weight") ? weight : "";
+            });
+        }
+        return String.join(",", values);
+    }
+}
@@ -0,0 +1,112 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the list endpoints read each page in exactly one SQL statement, however many
+ * associations the listed rows have.
+ */
+@SpringBootTest(properties = {
+        "app.seed.mode=none",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadModelStatementCountTest {
+    private static final int DELIVERIES = 120;
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() throws InterruptedException {
+        bulkDataSeeder.seed(DELIVERIES, 40, 10.0f, new Random(17));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    void everyDeliveryPageIsOneStatement() throws Exception {
+        String after = null;
+        int listed = 0;
+        int pages = 0;
+        do {
+            JsonNode page = getPage("/api/v1/deliveries", after);
+            JsonNode first = page.get("items").get(0);
+            assertNotNull(first.get("senderName").textValue());
+            assertNotNull(first.get("packageId").textValue());
+            listed += page.get("items").size();
+            after = page.get("nextCursor").textValue();
+            pages++;
+        } while (after != null);
+
+        assertEquals(DELIVERIES, listed);
+        assertEquals(pages, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void filteredDeliveryPageIsOneStatement() throws Exception {
+        mockMvc.perform(get("/api/v1/deliveries")
+                                .param("status", "COMPLETED")
+                                .param("from", "2020-01-01T00:00:00")
+                                .param("limit", String.valueOf(PAGE_SIZE)))
+               .andExpect(status().isOk());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void packagePageIsOneStatement() throws Exception {
+        JsonNode page = getPage("/api/v1/customers/packages", null);
+
+        assertEquals(PAGE_SIZE, page.get("items").size());
+        assertNotNull(page.get("items").get(0).get("recipientName").textValue());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    // Private Methods
+    private JsonNode getPage(String path, String after) throws Exception {
+        var request = get(path).param("limit", String.valueOf(PAGE_SIZE));
+        if (after != null) {
+            request.param("after", after);
+        }
+        String body = mockMvc.perform(request)
+                             .andExpect(status().isOk())
+                             .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,64 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.services.FleetStateStore;
+import com.huyvo.dronedeliverymanagementapp.repository.DroneRepository;
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryFrame;
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryFrameListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that frames are applied to a drone saved after the listener loaded the fleet.
+ */
+@SpringBootTest(properties = {
+        "app.seed.mode=none",
+        "spring.jpa.show-sql=false",
+        "app.telemetry.binary.enabled=true",
+        "app.telemetry.binary.port=0"
+})
+class TelemetryFrameListenerFleetTest {
+
+    @Autowired
+    private TelemetryFrameListener listener;
+    @Autowired
+    private DroneRepository droneRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void framesOfADroneSavedAfterStartupAreApplied() throws Exception {
+        // The second-level cache outlives the contexts of other tests, whose base row is not in this database
+        entityManagerFactory.getCache().evictAll();
+        Drone drone = droneRepository.save(new Drone(10f, 100, 30f));
+        long droneId = IdentificationNumber.parse(drone.getDroneId()).getValue();
+        long applied = listener.getAppliedFrames();
+
+        ByteBuffer datagram = ByteBuffer.allocate(TelemetryFrame.SIZE);
+        TelemetryFrame.encode(datagram, droneId, 52.5, 9.75, 64, DroneStatus.IN_TRANSIT);
+        try (DatagramChannel channel = DatagramChannel.open()) {
+            channel.send(datagram.flip(), new InetSocketAddress("localhost", listener.getPort()));
+        }
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (listener.getAppliedFrames() == applied && listener.getUnknownDrones() == 0) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(5);
+        }
+        assertEquals(0, listener.getUnknownDrones());
+        FleetStateStore store = listener.getStore();
+        int handle = store.handleOf(droneId);
+        assertEquals(52.5f, store.latitudeOf(handle));
+        assertEquals(64, store.batteryLevelOf(handle));
+    }
+}
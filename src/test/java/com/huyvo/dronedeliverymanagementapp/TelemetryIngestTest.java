@@ -0,0 +1,181 @@
+package com.huyvo.dronedeliverymanagementapp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.DroneBase;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.repository.DroneBaseRepository;
+import com.huyvo.dronedeliverymanagementapp.repository.DroneRepository;
+import com.huyvo.dronedeliverymanagementapp.repository.LocationRepository;
+import com.huyvo.dronedeliverymanagementapp.telemetry.TelemetryService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that batched telemetry is coalesced per drone, validated field by field and flushed into
+ * the drone and location tables without moving the other drones that share the base location,
+ * or the base itself.
+ */
+@SpringBootTest(properties = {
+        "app.seed.mode=none",
+        "spring.jpa.show-sql=false",
+        "app.telemetry.capacity=3",
+        "app.telemetry.flush-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TelemetryIngestTest {
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TelemetryService telemetryService;
+    @Autowired
+    private DroneRepository droneRepository;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private DroneBaseRepository droneBaseRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Drone first;
+    private Drone second;
+    private Drone third;
+
+    @BeforeAll
+    void saveDrones() throws ValidationException {
+        first = new Drone(10f, 100, 30f);
+        second = new Drone(10f, 100, 30f);
+        third = new Drone(10f, 100, 30f);
+        locationRepository.save(first.getBase());
+        droneRepository.save(first);
+        droneRepository.save(second);
+        droneRepository.save(third);
+    }
+
+    @BeforeEach
+    void emptyBuffer() throws Exception {
+        telemetryService.flush();
+    }
+
+    @Test
+    void batchIsCoalescedAndFlushed() throws Exception {
+        String unknown = new Drone(10f, 100, 30f).getDroneId();
+        String body = String.join("\n",
+                "{\"droneId\":\"%s\",\"latitude\":52.40,\"longitude\":9.70,\"batteryLevel\":80}".formatted(first.getDroneId()),
+                "{\"droneId\":\"%s\",\"latitude\":52.41,\"longitude\":9.71}".formatted(first.getDroneId()),
+                "{\"droneId\":\"%s\",\"batteryLevel\":15}".formatted(second.getDroneId()),
+                "{\"droneId\":\"%s\",\"latitude\":95,\"longitude\":9.71}".formatted(second.getDroneId()),
+                "{\"droneId\":",
+                "{\"droneId\":\"%s\",\"latitude\":52.0,\"longitude\":9.0}".formatted(unknown));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/drones/telemetry").contentType(NDJSON).content(body))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        JsonNode report = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertEquals(6, report.get("updatesRead").asLong());
+        assertEquals(2, report.get("updatesRejected").asLong());
+        assertEquals(0, report.get("updatesDropped").asLong());
+        assertEquals(4, report.get("errors").get(0).get("line").asLong());
+        assertEquals(5, report.get("errors").get(1).get("line").asLong());
+
+        long unknownBefore = telemetryService.getUnknownDrones();
+        assertEquals(2, telemetryService.flush());
+        assertEquals(unknownBefore + 1, telemetryService.getUnknownDrones());
+
+        long baseId = IdentificationNumber.parse(first.getBase().getLocationId()).getValue();
+        Map<String, Object> moved = droneRow(first);
+        assertNotEquals(baseId, moved.get("current_location_id"));
+        assertEquals(52.41f, ((Number) moved.get("latitude")).floatValue());
+        assertEquals(9.71f, ((Number) moved.get("longitude")).floatValue());
+        assertEquals(80, moved.get("battery_level"));
+
+        Map<String, Object> charged = droneRow(second);
+        assertEquals(baseId, charged.get("current_location_id"));
+        assertEquals(15, charged.get("battery_level"));
+
+        Map<String, Object> untouched = droneRow(third);
+        assertEquals(baseId, untouched.get("current_location_id"));
+        assertEquals(first.getBase().getLatitude(), ((Number) untouched.get("latitude")).floatValue());
+        assertEquals(100, untouched.get("battery_level"));
+    }
+
+    @Test
+    void fullBufferAsksTheClientToRetry() throws Exception {
+        String body = String.join("\n",
+                "{\"droneId\":\"%s\",\"batteryLevel\":50}".formatted(first.getDroneId()),
+                "{\"droneId\":\"%s\",\"batteryLevel\":50}".formatted(second.getDroneId()),
+                "{\"droneId\":\"%s\",\"batteryLevel\":50}".formatted(third.getDroneId()),
+                "{\"droneId\":\"%s\",\"batteryLevel\":50}".formatted(new Drone(10f, 100, 30f).getDroneId()),
+                "{\"droneId\":\"%s\",\"batteryLevel\":40}".formatted(first.getDroneId()));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/drones/telemetry").contentType(NDJSON).content(body))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andReturn();
+        JsonNode report = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertEquals(1, report.get("updatesDropped").asLong());
+        assertEquals(4, report.get("errors").get(0).get("line").asLong());
+
+        assertEquals(3, telemetryService.flush());
+        assertEquals(40, droneRow(first).get("battery_level"));
+    }
+
+    @Test
+    void aLoneDroneIsMovedOffItsBaseRow() throws Exception {
+        Drone lone = new Drone(10f, 100, 30f);
+        droneRepository.save(lone);
+        Location baseLocation = locationRepository.save(new Location("1 Lone St", null, "Hannover", "NDS", "30159", "Germany", 52.30f, 9.80f));
+        droneBaseRepository.save(new DroneBase(baseLocation, "lone", 1));
+        long baseId = IdentificationNumber.parse(baseLocation.getLocationId()).getValue();
+        jdbcTemplate.update("UPDATE drone SET current_location_id = ? WHERE id = ?",
+                            baseId, IdentificationNumber.parse(lone.getDroneId()).getValue());
+
+        mockMvc.perform(post("/api/v1/drones/telemetry").contentType(NDJSON)
+                                .content("{\"droneId\":\"%s\",\"latitude\":52.35,\"longitude\":9.75}".formatted(lone.getDroneId())))
+                .andExpect(status().isAccepted());
+        assertEquals(1, telemetryService.flush());
+
+        Map<String, Object> moved = droneRow(lone);
+        assertNotEquals(baseId, moved.get("current_location_id"));
+        assertEquals(52.35f, ((Number) moved.get("latitude")).floatValue());
+        Map<String, Object> base = jdbcTemplate.queryForMap("""
+                SELECT l.latitude, l.longitude FROM drone_base b JOIN location l ON l.id = b.location_id
+                WHERE b.location_id = ?
+                """, baseId);
+        assertEquals(52.30f, ((Number) base.get("latitude")).floatValue());
+        assertEquals(9.80f, ((Number) base.get("longitude")).floatValue());
+    }
+
+    // Private Methods
+    private Map<String, Object> droneRow(Drone drone) {
+        return jdbcTemplate.queryForMap("""
+                SELECT d.current_location_id, d.battery_level, l.latitude, l.longitude
+                FROM drone d JOIN location l ON l.id = d.current_location_id
+                WHERE d.id = ?
+                """, IdentificationNumber.parse(drone.getDroneId()).getValue());
+    }
+}
@@ -0,0 +1,84 @@
+package com.huyvo.dronedeliverymanagementapp.classes.domains;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that drones loaded at their base share the base row without being able to move it, and
+ * that a drone that has flown keeps its own location row instead of leaving it behind.
+ */
+@SpringBootTest(properties = "app.seed.mode=none")
+class DroneLocationPersistenceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void movingALoadedDroneLeavesTheBaseInPlace() throws ValidationException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Drone first = new Drone(10f, 80, 50f);
+        Drone second = new Drone(10f, 80, 50f);
+        Location base = first.getBase();
+        // Merged, as the base row may already have been saved with other drones; the cache may
+        // still hold it from another test's database
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        transaction.executeWithoutResult(status -> {
+            entityManager.merge(first);
+            entityManager.merge(second);
+        });
+
+        transaction.executeWithoutResult(status -> {
+            Drone moved = entityManager.find(Drone.class, IdentificationNumber.parse(first.getDroneId()));
+            Drone parked = entityManager.find(Drone.class, IdentificationNumber.parse(second.getDroneId()));
+            assertSame(moved.getCurrentLocation(), parked.getCurrentLocation());
+            assertTrue(parked.getCurrentLocation().isShared());
+            try {
+                moved.setCurrentLocation(52.40f, 9.70f);
+            } catch (ValidationException e) {
+                fail(e);
+            }
+            assertNotSame(moved.getCurrentLocation(), parked.getCurrentLocation());
+        });
+
+        transaction.executeWithoutResult(status -> {
+            entityManager.getEntityManagerFactory().getCache().evictAll();
+            Drone moved = entityManager.find(Drone.class, IdentificationNumber.parse(first.getDroneId()));
+            Drone parked = entityManager.find(Drone.class, IdentificationNumber.parse(second.getDroneId()));
+            assertEquals(52.40f, moved.getCurrentLocation().getLatitude());
+            assertEquals(9.70f, moved.getCurrentLocation().getLongitude());
+            assertTrue(parked.getCurrentLocation().isAt(base));
+            assertEquals(base.getLocationId(), parked.getCurrentLocation().getLocationId());
+        });
+    }
+
+    @Test
+    void aDroneKeepsMovingItsOwnLocation() throws ValidationException {
+        Drone drone = new Drone(10f, 80, 50f);
+        Location base = drone.getBase();
+        Customer recipient = new Customer("Recipient", "recipient@gmail.com", "200-200-2000", "password",
+                                          new Location("2 Recipient St", "", "Hannover", "NRW", "22459", "Germany", 52.38f, 9.74f));
+        ShippingPackage shippingPackage = new ShippingPackage(1.0, "own location", recipient, recipient);
+
+        drone.setAssignedPackage(shippingPackage);
+        drone.performDelivery(recipient);
+        Location own = drone.getCurrentLocation();
+        assertNotSame(base, own);
+        assertFalse(own.isShared());
+        assertTrue(own.isAt(base));
+
+        drone.setAssignedPackage(shippingPackage);
+        drone.performDelivery(recipient);
+        assertSame(own, drone.getCurrentLocation());
+        assertTrue(own.isAt(base));
+    }
+}
@@ -0,0 +1,46 @@
+package com.huyvo.dronedeliverymanagementapp.classes.domains;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DroneValidationTest {
+
+    @Test
+    void settersValidateTheirField() throws ValidationException {
+        Drone drone = new Drone(10f, 80, 50f);
+
+        assertThrows(ValidationException.class, () -> drone.setBatteryLevel(101));
+        assertEquals(Drone.BATTERY_LEVEL, drone.getChangedFields());
+
+        drone.setBatteryLevel(70);
+        drone.setStatus(DroneStatus.MAINTENANCE);
+        assertEquals(0, drone.getChangedFields());
+
+        assertThrows(IllegalStateException.class, () -> drone.setStatus(DroneStatus.IN_TRANSIT));
+        assertEquals(DroneStatus.MAINTENANCE, drone.getStatus());
+        drone.restoreStatus(DroneStatus.IN_TRANSIT);
+        assertEquals(DroneStatus.IN_TRANSIT, drone.getStatus());
+    }
+
+    @Test
+    void deferredChangesAreValidatedTogether() throws ValidationException {
+        Drone drone = new Drone(10f, 80, 50f);
+        drone.deferValidation();
+        drone.setCurrentLocation(52.4f, 9.7f);
+        drone.setBatteryLevel(-1);
+        drone.setMileage(60f);
+        assertEquals(Drone.CURRENT_LOCATION | Drone.BATTERY_LEVEL | Drone.MILEAGE, drone.getChangedFields());
+
+        assertThrows(ValidationException.class, drone::validateChanges);
+        assertTrue(drone.isValidationDeferred());
+
+        drone.setBatteryLevel(40);
+        drone.validateChanges();
+        assertFalse(drone.isValidationDeferred());
+        assertEquals(0, drone.getChangedFields());
+        assertEquals(40, drone.getBatteryLevel());
+    }
+}
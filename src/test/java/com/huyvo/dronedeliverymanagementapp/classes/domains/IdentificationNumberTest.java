@@ -0,0 +1,186 @@
+package com.huyvo.dronedeliverymanagementapp.classes.domains;
+
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentificationNumberTest {
+    private static final long TYPE_BITS_SHIFT = 60;
+
+    @Test
+    void renderedIdsParseBackToTheSameValue() {
+        Random random = new Random(7);
+        for (IdType type : IdType.values()) {
+            for (long payload : new long[]{0, 1, (1L << TYPE_BITS_SHIFT) - 1, random.nextLong() >>> 4}) {
+                IdentificationNumber id = IdentificationNumber.fromValue(((long) type.ordinal() << TYPE_BITS_SHIFT) | payload);
+                String rendered = id.getId();
+
+                assertTrue(rendered.startsWith(type.getPrefix()));
+                assertEquals(type.getPrefix().length() + 12, rendered.length());
+                assertEquals(id, IdentificationNumber.parse(rendered));
+                String prefix = type.getPrefix();
+                assertEquals(id, IdentificationNumber.parse(prefix + rendered.substring(prefix.length()).toLowerCase(Locale.ROOT)));
+                assertEquals(type, IdentificationNumber.parse(rendered).getType());
+            }
+        }
+        assertEquals("DR_000000000001", IdentificationNumber.fromValue(1).getId());
+        assertEquals("DR_ZZZZZZZZZZZZ", IdentificationNumber.fromValue((1L << TYPE_BITS_SHIFT) - 1).getId());
+    }
+
+    @Test
+    void renderedIdsSortLikeTheirValues() {
+        List<IdentificationNumber> ids = new ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 1000; i++) {
+            ids.add(IdentificationNumber.fromValue(random.nextLong() >>> 4));
+        }
+        for (int i = 1; i < ids.size(); i++) {
+            IdentificationNumber a = ids.get(i - 1);
+            IdentificationNumber b = ids.get(i);
+            assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(a.getId().compareTo(b.getId())));
+        }
+    }
+
+    @Test
+    void malformedIdsAreRejected() {
+        for (String id : new String[]{"", "DR_", "DR_00000000000", "DR_0000000000000", "XX_000000000001",
+                                      "DR_00000000000U", "DR_0000000000-1", "DBS_00000000000"}) {
+            assertThrows(IllegalArgumentException.class, () -> IdentificationNumber.parse(id), id);
+        }
+    }
+
+    @Test
+    void valuesWithoutAnIdTypeAreRejected() {
+        int types = IdType.values().length;
+        long lastType = (long) (types - 1) << TYPE_BITS_SHIFT;
+        assertEquals(IdType.values()[types - 1], IdentificationNumber.fromValue(lastType | 42).getType());
+        assertThrows(IllegalArgumentException.class, () -> IdentificationNumber.fromValue((long) types << TYPE_BITS_SHIFT));
+        assertThrows(IllegalArgumentException.class, () -> IdentificationNumber.fromValue(-1));
+        assertThrows(IllegalArgumentException.class, () -> IdentificationNumber.fromValue(Long.MIN_VALUE));
+    }
+
+    @Test
+    void concurrentIdsAreUniqueAndAscendPerThread() throws Exception {
+        TimeOrderedIdStrategy strategy = new TimeOrderedIdStrategy(3);
+        int threadCount = 48;
+        int idsPerThread = 20_000;
+        List<Future<long[]>> batches = new ArrayList<>();
+        try (ExecutorService threads = Executors.newFixedThreadPool(threadCount)) {
+            CountDownLatch start = new CountDownLatch(1);
+            for (int t = 0; t < threadCount; t++) {
+                batches.add(threads.submit(() -> {
+                    start.await();
+                    long[] ids = new long[idsPerThread];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = strategy.nextPayload();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+        }
+
+        Set<Long> unique = new HashSet<>();
+        for (Future<long[]> batch : batches) {
+            long[] ids = batch.get();
+            for (int i = 0; i < ids.length; i++) {
+                assertTrue(unique.add(ids[i]), "Duplicate ID");
+                assertTrue(i == 0 || ids[i] > ids[i - 1], "IDs of a thread must ascend");
+                assertEquals(3, (ids[i] >>> 16) & 15, "Node ID");
+            }
+        }
+        assertEquals(threadCount * idsPerThread, unique.size());
+    }
+
+    @Test
+    void idsFollowTheClockAcrossStripes() throws Exception {
+        MutableClock clock = new MutableClock(TimeOrderedIdStrategy.EPOCH_MILLIS + 1000);
+        TimeOrderedIdStrategy strategy = new TimeOrderedIdStrategy(0, clock);
+        long[] earlier = payloadsOnThreads(strategy, 32);
+        clock.millis.incrementAndGet();
+        long[] later = payloadsOnThreads(strategy, 32);
+
+        long latestEarlier = Long.MIN_VALUE;
+        for (long id : earlier) {
+            latestEarlier = Math.max(latestEarlier, id);
+        }
+        for (long id : later) {
+            assertTrue(id > latestEarlier, "An ID of a later millisecond must sort after every earlier one");
+        }
+    }
+
+    @Test
+    void aFullOrSteppedBackStripeNeverRepeats() {
+        MutableClock clock = new MutableClock(TimeOrderedIdStrategy.EPOCH_MILLIS + 5000);
+        TimeOrderedIdStrategy strategy = new TimeOrderedIdStrategy(0, clock);
+        long previous = strategy.nextPayload();
+        // More than the 4096 IDs of a millisecond, then the clock steps back
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5000) {
+                clock.millis.addAndGet(-2000);
+            }
+            long next = strategy.nextPayload();
+            assertTrue(next > previous);
+            previous = next;
+        }
+    }
+
+    // Private Methods
+    private static long[] payloadsOnThreads(TimeOrderedIdStrategy strategy, int threadCount) throws Exception {
+        long[] ids = new long[threadCount];
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int slot = t;
+            threads.add(Thread.ofPlatform().start(() -> ids[slot] = strategy.nextPayload()));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return ids;
+    }
+
+    private static final class MutableClock extends Clock {
+        private final AtomicLong millis;
+
+        private MutableClock(long millis) {
+            this.millis = new AtomicLong(millis);
+        }
+
+        @Override
+        public long millis() {
+            return this.millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DroneAssignmentOptimizerTest {
+    private static final Location BASE = location(52.3738f, 9.7312f);
+    private static final Duration BUDGET = Duration.ofSeconds(10);
+    // The auction stops within this many kilometers of the optimum per package
+    private static final double EPSILON_KM = 0.01;
+
+    @Test
+    void smallBatchesMatchTheBruteForceOptimum() throws ValidationException {
+        Random random = new Random(17);
+        DroneAssignmentOptimizer optimizer = new DroneAssignmentOptimizer(BASE);
+        for (int instance = 0; instance < 200; instance++) {
+            List<Drone> drones = new ArrayList<>();
+            for (int d = 2 + random.nextInt(5); d > 0; d--) {
+                Drone drone = new Drone(10f, 100, 100f);
+                drone.setCurrentLocation(randomLatitude(random), randomLongitude(random));
+                drones.add(drone);
+            }
+            List<ShippingPackage> packages = new ArrayList<>();
+            for (int p = 1 + random.nextInt(drones.size() + 2); p > 0; p--) {
+                packages.add(shippingPackage(1 + random.nextInt(9),
+                                             location(randomLatitude(random), randomLongitude(random)),
+                                             location(randomLatitude(random), randomLongitude(random))));
+            }
+
+            AssignmentResult result = optimizer.optimize(packages, drones, BUDGET);
+
+            // Every pair is feasible, so every drone that can be used is used
+            assertTrue(result.isOptimal());
+            assertEquals(Math.min(packages.size(), drones.size()), result.getAssignments().size());
+            assertEquals(packages.size() - result.getAssignments().size(), result.getUnassignedPackages().size());
+            assertEquals(tripsOf(result), result.getTotalCost(), 1e-3);
+            double optimum = bruteForce(packages, drones, 0, new boolean[drones.size()]);
+            assertEquals(optimum, result.getTotalCost(), packages.size() * EPSILON_KM + 1e-3, "Instance " + instance);
+        }
+    }
+
+    @Test
+    void theCheapestTotalBeatsTheNearestDrone() throws ValidationException {
+        // Along one meridian: A at 0, B at 2.2, the first pickup at 1.2 and the second at 4
+        Drone a = drone(52.400f);
+        Drone b = drone(52.422f);
+        ShippingPackage first = shippingPackage(1, location(52.412f, 9.7312f), BASE);
+        ShippingPackage second = shippingPackage(1, location(52.440f, 9.7312f), BASE);
+
+        AssignmentResult result = new DroneAssignmentOptimizer(BASE).optimize(List.of(first, second), List.of(a, b), BUDGET);
+
+        // B is nearer the first pickup, but A taking it leaves B a far shorter flight to the second
+        assertEquals(Map.of(first, a, second, b), result.getAssignments());
+        assertEquals(List.of(), result.getUnassignedPackages());
+        assertEquals(trip(a, first) + trip(b, second), result.getTotalCost(), 1e-3);
+    }
+
+    @Test
+    void overweightOutOfRangeAndBusyPairsAreNotUsed() throws ValidationException {
+        Drone light = drone(52.380f);
+        Drone heavy = new Drone(20f, 50, 10f);
+        heavy.setCurrentLocation(52.381f, 9.7312f);
+        Drone busy = new Drone(20f, 100, 100f);
+        busy.setCurrentLocation(52.380f, 9.7312f);
+        busy.compareAndSetStatus(DroneStatus.IDLE, DroneStatus.MAINTENANCE);
+        // Only the heavy drone can lift it, and its 5 km of range reach
+        ShippingPackage bulky = shippingPackage(15, location(52.385f, 9.7312f), BASE);
+        // Too heavy for any idle drone
+        ShippingPackage tooHeavy = shippingPackage(25, location(52.385f, 9.7312f), BASE);
+        // About 30 km away, beyond every idle drone's range
+        ShippingPackage tooFar = shippingPackage(1, location(52.650f, 9.7312f), BASE);
+
+        AssignmentResult result = new DroneAssignmentOptimizer(BASE).optimize(List.of(tooHeavy, bulky, tooFar),
+                                                                              List.of(busy, light, heavy),
+                                                                              BUDGET);
+
+        assertEquals(Map.of(bulky, heavy), result.getAssignments());
+        assertEquals(List.of(tooHeavy, tooFar), result.getUnassignedPackages());
+        assertTrue(result.isOptimal());
+    }
+
+    @Test
+    void anExpiredBudgetIsNotReportedAsOptimal() throws ValidationException {
+        Random random = new Random(5);
+        List<Drone> drones = new ArrayList<>();
+        for (int d = 0; d < 400; d++) {
+            Drone drone = new Drone(10f, 20 + random.nextInt(81), 100f);
+            drone.setCurrentLocation(randomLatitude(random), randomLongitude(random));
+            drones.add(drone);
+        }
+        List<ShippingPackage> packages = new ArrayList<>();
+        for (int p = 0; p < 4000; p++) {
+            packages.add(shippingPackage(1 + random.nextInt(12),
+                                         location(randomLatitude(random), randomLongitude(random)),
+                                         location(randomLatitude(random), randomLongitude(random))));
+        }
+        DroneAssignmentOptimizer optimizer = new DroneAssignmentOptimizer(BASE);
+
+        AssignmentResult expired = optimizer.optimize(packages, drones, Duration.ZERO);
+        assertFalse(expired.isOptimal());
+        assertEquals(Map.of(), expired.getAssignments());
+        assertEquals(packages, expired.getUnassignedPackages());
+
+        // Cut off part way, the result is still a valid assignment
+        AssignmentResult cutOff = optimizer.optimize(packages, drones, Duration.ofMillis(1));
+        assertFalse(cutOff.isOptimal());
+        assertEquals(packages.size(), cutOff.getAssignments().size() + cutOff.getUnassignedPackages().size());
+        assertEquals(cutOff.getAssignments().size(), new HashSet<>(cutOff.getAssignments().values()).size());
+        cutOff.getAssignments().forEach((shippingPackage, drone) -> {
+            assertTrue(shippingPackage.getWeight() <= drone.getMaxPayload());
+            assertTrue(trip(drone, shippingPackage) <= drone.getBatteryLevel() / 100.0 * drone.getMileage() + 1e-3);
+        });
+        assertEquals(tripsOf(cutOff), cutOff.getTotalCost(), 1e-2);
+    }
+
+    // Private Methods
+    private static double bruteForce(List<ShippingPackage> packages, List<Drone> drones, int p, boolean[] used) {
+        if (p == packages.size()) {
+            return 0;
+        }
+        int freeDrones = 0;
+        for (boolean taken : used) {
+            freeDrones += taken ? 0 : 1;
+        }
+        double best = Double.POSITIVE_INFINITY;
+        if (packages.size() - p > freeDrones) {
+            // More packages left than drones: this one may be the one left over
+            best = bruteForce(packages, drones, p + 1, used);
+        }
+        for (int d = 0; d < drones.size(); d++) {
+            if (!used[d]) {
+                used[d] = true;
+                best = Math.min(best, trip(drones.get(d), packages.get(p)) + bruteForce(packages, drones, p + 1, used));
+                used[d] = false;
+            }
+        }
+        return best;
+    }
+
+    private static double tripsOf(AssignmentResult result) {
+        double total = 0;
+        for (Map.Entry<ShippingPackage, Drone> assignment : result.getAssignments().entrySet()) {
+            total += trip(assignment.getValue(), assignment.getKey());
+        }
+        return total;
+    }
+
+    private static double trip(Drone drone, ShippingPackage shippingPackage) {
+        Location pickup = shippingPackage.getPickupLocation();
+        Location delivery = shippingPackage.getDeliveryLocation();
+        return distance(drone.getCurrentLocation(), pickup) + distance(pickup, delivery) + distance(delivery, BASE);
+    }
+
+    private static double distance(Location from, Location to) {
+        return DeliveryManager.haversineDistance(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+    }
+
+    private static Drone drone(float latitude) throws ValidationException {
+        Drone drone = new Drone(10f, 100, 30f);
+        drone.setCurrentLocation(latitude, 9.7312f);
+        return drone;
+    }
+
+    private static ShippingPackage shippingPackage(double weight, Location pickup, Location delivery) {
+        return new ShippingPackage(weight, "Package", customer(pickup), customer(delivery));
+    }
+
+    private static Customer customer(Location address) {
+        return new Customer("Customer", "customer@gmail.com", "200-200-2000", "password", address);
+    }
+
+    private static Location location(float latitude, float longitude) {
+        return new Location("1 Test St", "", "Hannover", "NRW", "22459", "Germany", latitude, longitude);
+    }
+
+    private static float randomLatitude(Random random) {
+        return 52.32f + random.nextFloat() * 0.1f;
+    }
+
+    private static float randomLongitude(Random random) {
+        return 9.68f + random.nextFloat() * 0.1f;
+    }
+}
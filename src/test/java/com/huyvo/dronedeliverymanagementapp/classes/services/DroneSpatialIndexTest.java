@@ -0,0 +1,90 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DroneSpatialIndexTest {
+
+    @Test
+    void nearestIdleDronesMatchALinearScan() throws ValidationException {
+        Random random = new Random(42);
+        List<Drone> fleet = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Drone drone = new Drone(10f, 100, 30f);
+            drone.setCurrentLocation(randomLatitude(random), randomLongitude(random));
+            if (random.nextInt(4) == 0) {
+                drone.compareAndSetStatus(DroneStatus.IDLE, DroneStatus.MAINTENANCE);
+            }
+            fleet.add(drone);
+        }
+        // Two indexes over the same drones, as two delivery managers would keep
+        DroneSpatialIndex fine = new DroneSpatialIndex(0.01f);
+        DroneSpatialIndex coarse = new DroneSpatialIndex(0.5f);
+        fine.addAll(fleet);
+        coarse.addAll(fleet);
+
+        // Moves after indexing have to reach both indexes
+        for (Drone drone : fleet.subList(0, 500)) {
+            drone.setCurrentLocation(randomLatitude(random), randomLongitude(random));
+        }
+
+        for (int query = 0; query < 200; query++) {
+            float latitude = randomLatitude(random);
+            float longitude = randomLongitude(random);
+            int k = 1 + random.nextInt(20);
+            List<Drone> expected = linearScan(fleet, latitude, longitude, k);
+            assertEquals(expected, fine.findNearestIdle(latitude, longitude, k));
+            assertEquals(expected, coarse.findNearestIdle(latitude, longitude, k));
+        }
+    }
+
+    @Test
+    void aClearedIndexStopsFollowingItsDrones() throws ValidationException {
+        Drone drone = new Drone(10f, 100, 30f);
+        DroneSpatialIndex cleared = new DroneSpatialIndex();
+        DroneSpatialIndex kept = new DroneSpatialIndex();
+        cleared.add(drone);
+        kept.add(drone);
+
+        cleared.clear();
+        drone.setCurrentLocation(52.6f, 9.9f);
+
+        assertEquals(0, cleared.size());
+        assertEquals(List.of(), cleared.findNearestIdle(52.6f, 9.9f, 1));
+        assertEquals(List.of(drone), kept.findNearestIdle(52.6f, 9.9f, 1));
+        cleared.add(drone);
+        assertEquals(List.of(drone), cleared.findNearestIdle(52.6f, 9.9f, 1));
+    }
+
+    // Private Methods
+    private static List<Drone> linearScan(List<Drone> fleet, float latitude, float longitude, int k) {
+        return fleet.stream()
+                .filter(drone -> drone.getStatus() == DroneStatus.IDLE)
+                .sorted(Comparator.comparingDouble(drone -> distance(drone, latitude, longitude)))
+                .limit(k)
+                .toList();
+    }
+
+    private static double distance(Drone drone, float latitude, float longitude) {
+        Location location = drone.getCurrentLocation();
+        return DeliveryManager.haversineDistance(latitude, longitude, location.getLatitude(), location.getLongitude());
+    }
+
+    private static float randomLatitude(Random random) {
+        return 52.2f + random.nextFloat() * 0.4f;
+    }
+
+    private static float randomLongitude(Random random) {
+        return 9.5f + random.nextFloat() * 0.5f;
+    }
+}
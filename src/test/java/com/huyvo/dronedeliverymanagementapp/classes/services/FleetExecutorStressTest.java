@@ -0,0 +1,184 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import com.huyvo.dronedeliverymanagementapp.simulation.SimulationConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetExecutorStressTest {
+
+    @Test
+    void racingTransitionsAreNeitherLostNorDuplicated() throws InterruptedException {
+        int droneCount = 64;
+        int threadCount = 10_000;
+        int attemptsPerThread = 200;
+
+        List<Drone> drones = newDrones(droneCount);
+        AtomicIntegerArray owners = new AtomicIntegerArray(droneCount);
+        AtomicIntegerArray claims = new AtomicIntegerArray(droneCount);
+        AtomicIntegerArray releases = new AtomicIntegerArray(droneCount);
+        AtomicLong rejectedClaims = new AtomicLong();
+        AtomicInteger duplicated = new AtomicInteger();
+        AtomicInteger lost = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < threadCount; t++) {
+                threads.submit(() -> {
+                    start.await();
+                    for (int attempt = 0; attempt < attemptsPerThread; attempt++) {
+                        int d = ThreadLocalRandom.current().nextInt(droneCount);
+                        Drone drone = drones.get(d);
+                        if (!drone.compareAndSetStatus(DroneStatus.IDLE, DroneStatus.IN_TRANSIT)) {
+                            rejectedClaims.incrementAndGet();
+                            continue;
+                        }
+                        claims.incrementAndGet(d);
+                        if (owners.incrementAndGet(d) != 1) {
+                            duplicated.incrementAndGet();
+                        }
+                        Thread.yield();
+                        owners.decrementAndGet(d);
+                        if (drone.compareAndSetStatus(DroneStatus.IN_TRANSIT, DroneStatus.IDLE)) {
+                            releases.incrementAndGet(d);
+                        } else {
+                            lost.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        long totalClaims = 0;
+        for (int d = 0; d < droneCount; d++) {
+            assertEquals(claims.get(d), releases.get(d), "claims and releases of drone " + d);
+            assertEquals(DroneStatus.IDLE, drones.get(d).getStatus());
+            totalClaims += claims.get(d);
+        }
+        assertEquals(0, duplicated.get(), "two threads owned the same drone");
+        assertEquals(0, lost.get(), "a release found the drone in another status");
+        assertEquals((long) threadCount * attemptsPerThread, totalClaims + rejectedClaims.get());
+        assertTrue(totalClaims > 0);
+    }
+
+    @Test
+    void illegalTransitionsAreRejected() throws ValidationException {
+        Drone drone = new Drone(5f, 100, 50f);
+
+        assertThrows(IllegalStateException.class,
+                () -> drone.compareAndSetStatus(DroneStatus.MAINTENANCE, DroneStatus.IN_TRANSIT));
+        assertThrows(IllegalStateException.class,
+                () -> drone.compareAndSetStatus(DroneStatus.CHARGING, DroneStatus.MAINTENANCE));
+        assertFalse(drone.compareAndSetStatus(DroneStatus.IN_TRANSIT, DroneStatus.IDLE));
+        assertEquals(DroneStatus.IDLE, drone.getStatus());
+    }
+
+    @Test
+    void racingDeliveriesLoadADroneOnce() throws Exception {
+        int rounds = 200;
+        int threadCount = 16;
+        ShippingPackage shippingPackage = newPackage();
+
+        try (ExecutorService threads = Executors.newFixedThreadPool(threadCount)) {
+            for (int round = 0; round < rounds; round++) {
+                Drone drone = new Drone(5f, 100, 50f);
+                drone.setAssignedPackage(shippingPackage);
+                AtomicInteger delivered = new AtomicInteger();
+                AtomicInteger rejected = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> attempts = new ArrayList<>();
+                for (int t = 0; t < threadCount; t++) {
+                    attempts.add(threads.submit(() -> {
+                        start.await();
+                        try {
+                            drone.performDelivery(shippingPackage.getRecipient());
+                            delivered.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            rejected.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> attempt : attempts) {
+                    attempt.get();
+                }
+
+                assertEquals(1, delivered.get(), "deliveries in round " + round);
+                assertEquals(threadCount - 1, rejected.get());
+                assertEquals(DroneStatus.IDLE, drone.getStatus());
+                assertTrue(drone.isEmpty());
+                assertNull(drone.getAssignedPackage());
+            }
+        }
+    }
+
+    @Test
+    void hundredThousandDroneWorkflowsRunConcurrently() throws ValidationException {
+        int droneCount = 100_000;
+        List<Drone> drones = newDrones(droneCount);
+        ShippingPackage shippingPackage = newPackage();
+        // About 0.4 s of real time per workflow; run one after another this would take 11 hours
+        double timeScale = 1_000;
+
+        long started = System.nanoTime();
+        List<CompletableFuture<ShippingPackage>> deliveries = new ArrayList<>(droneCount);
+        try (FleetExecutor executor = new FleetExecutor(SimulationConfig.defaults(), timeScale)) {
+            for (Drone drone : drones) {
+                deliveries.add(executor.deliver(drone, shippingPackage));
+            }
+            for (Drone drone : drones) {
+                assertTrue(executor.deliver(drone, shippingPackage).isCompletedExceptionally(),
+                           "a second delivery was accepted for a busy drone");
+            }
+            CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+        }
+        long elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000L;
+
+        assertTrue(elapsedSeconds < 60, "workflows did not overlap: " + elapsedSeconds + "s");
+        for (Drone drone : drones) {
+            assertEquals(DroneStatus.IDLE, drone.getStatus());
+            assertNull(drone.getAssignedPackage());
+        }
+    }
+
+    private static List<Drone> newDrones(int count) {
+        List<Drone> drones = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                drones.add(new Drone(5f, 100, 50f));
+            }
+        } catch (ValidationException e) {
+            throw new IllegalStateException(e);
+        }
+        return drones;
+    }
+
+    private static ShippingPackage newPackage() {
+        Location senderAddress = new Location("1 Sender St", "", "Hannover", "NRW", "22459", "Germany", 52.3738f, 9.7312f);
+        Location recipientAddress = new Location("2 Recipient St", "", "Hannover", "NRW", "22459", "Germany", 52.38f, 9.74f);
+        Customer sender = new Customer("Sender", "sender@gmail.com", "200-200-2000", "password", senderAddress);
+        Customer recipient = new Customer("Recipient", "recipient@gmail.com", "200-200-2000", "password", recipientAddress);
+        return new ShippingPackage(1.0, "stress test", sender, recipient);
+    }
+}
@@ -0,0 +1,70 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetStateStoreTest {
+
+    @Test
+    void scansMatchTheEntities() throws ValidationException {
+        List<Drone> drones = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Drone drone = new Drone(10f, i % 101, 30f);
+            drone.setCurrentLocation(52f + (i % 50) * 0.02f, 9f + (i % 70) * 0.02f);
+            if (i % 3 == 0) {
+                drone.setStatus(DroneStatus.IN_TRANSIT);
+            }
+            drones.add(drone);
+        }
+        FleetStateStore store = new FleetStateStore(16);
+        store.loadAll(drones);
+
+        assertEquals(drones.size(), store.size());
+        assertArrayEquals(handlesWhere(store, drones, drone -> drone.getBatteryLevel() < 20), store.withBatteryBelow(20));
+        assertArrayEquals(handlesWhere(store, drones, drone -> drone.getStatus() == DroneStatus.IN_TRANSIT),
+                          store.withStatus(DroneStatus.IN_TRANSIT));
+        assertArrayEquals(handlesWhere(store, drones, drone -> drone.getStatus() == DroneStatus.IDLE
+                                                               && drone.getCurrentLocation().getLatitude() <= 52.3f
+                                                               && drone.getCurrentLocation().getLongitude() >= 9.5f),
+                          store.withStatusInBox(DroneStatus.IDLE, 52f, 9.5f, 52.3f, 10.5f));
+        assertArrayEquals(store.withBatteryBelow(20),
+                          store.select((latitude, longitude, batteryLevel, mileage, maxPayload, status) -> batteryLevel < 20));
+        assertEquals(2000, store.countByStatus()[DroneStatus.IDLE.ordinal()]);
+    }
+
+    @Test
+    void updatesAreWrittenBackToTheEntity() throws ValidationException {
+        Drone drone = new Drone(10f, 90, 30f);
+        FleetStateStore store = new FleetStateStore();
+        int handle = store.load(drone);
+        assertEquals(handle, store.load(drone));
+
+        store.updatePosition(handle, 52.5f, 9.9f);
+        store.updateBatteryLevel(handle, 12);
+        store.updateMileage(handle, 31.5f);
+        store.updateStatus(handle, DroneStatus.IN_TRANSIT);
+        store.writeTo(drone);
+
+        assertEquals(52.5f, drone.getCurrentLocation().getLatitude());
+        assertEquals(9.9f, drone.getCurrentLocation().getLongitude());
+        assertFalse(drone.getCurrentLocation().isShared());
+        assertEquals(12, drone.getBatteryLevel());
+        assertEquals(31.5f, drone.getMileage());
+        assertEquals(DroneStatus.IN_TRANSIT, drone.getStatus());
+        assertThrows(IllegalArgumentException.class, () -> store.updateBatteryLevel(handle, 101));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.updateStatus(handle + 1, DroneStatus.IDLE));
+    }
+
+    // Private Methods
+    private static int[] handlesWhere(FleetStateStore store, List<Drone> drones, Predicate<Drone> filter) {
+        return drones.stream().filter(filter).mapToInt(drone -> store.handleOf(drone.getDroneId())).sorted().toArray();
+    }
+}
@@ -0,0 +1,153 @@
+package com.huyvo.dronedeliverymanagementapp.classes.services;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.DeliveryRoute;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutePlannerTest {
+    private static final Location BASE = location(52.3738f, 9.7312f);
+    private static final double TOLERANCE_KM = 1e-3;
+
+    @Test
+    void routesFitTheirDronesAndOnlyUncarriablePackagesAreUnplanned() throws ValidationException {
+        List<Drone> drones = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            drones.add(new Drone(20f, 100, 15f));
+        }
+        for (int i = 0; i < 5; i++) {
+            drones.add(new Drone(5f, 100, 60f));
+        }
+        for (int i = 0; i < 4; i++) {
+            drones.add(new Drone(10f, 100, 30f));
+        }
+        // Could carry anything, but is not available
+        Drone busy = new Drone(100f, 100, 1000f);
+        busy.compareAndSetStatus(DroneStatus.IDLE, DroneStatus.MAINTENANCE);
+        drones.add(busy);
+
+        Random random = new Random(31);
+        List<ShippingPackage> packages = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            double weight = 0.5 + random.nextDouble() * (random.nextInt(5) == 0 ? 25 : 4);
+            packages.add(shippingPackage(weight, location(52.3738f + (random.nextFloat() - 0.5f) * 0.5f,
+                                                          9.7312f + (random.nextFloat() - 0.5f) * 0.7f)));
+        }
+        // Light enough for the heavy lifters and near enough for the long-range drones, but fits neither
+        ShippingPackage heavyAndFar = shippingPackage(15, location(52.5538f, 9.7312f));
+        packages.add(heavyAndFar);
+
+        RoutePlan plan = new RoutePlanner(BASE).plan(packages, drones);
+
+        Set<ShippingPackage> seen = new HashSet<>();
+        double totalDistance = 0;
+        for (DeliveryRoute route : plan.getRoutes()) {
+            Drone drone = route.getDrone();
+            assertNotSame(busy, drone);
+            double weight = 0;
+            for (ShippingPackage stop : route.getStops()) {
+                assertTrue(seen.add(stop), "A package is planned twice");
+                weight += stop.getWeight();
+            }
+            assertEquals(weight, route.getTotalWeight(), 1e-9);
+            assertEquals(length(route), route.getTotalDistance(), TOLERANCE_KM);
+            assertTrue(weight <= drone.getMaxPayload(), route.toString());
+            assertTrue(route.getTotalDistance() <= drone.getMileage(), route.toString());
+            totalDistance += route.getTotalDistance();
+        }
+        for (ShippingPackage shippingPackage : plan.getUnplannedPackages()) {
+            assertTrue(seen.add(shippingPackage), "An unplanned package is also planned");
+            assertFalse(anyDroneCanCarry(shippingPackage, drones), "An unplanned package fits a drone alone");
+        }
+        assertEquals(packages.size(), seen.size());
+        assertTrue(plan.getUnplannedPackages().contains(heavyAndFar));
+        assertTrue(plan.getUnplannedPackages().size() > 1);
+        assertTrue(plan.getRoutes().stream().anyMatch(route -> route.getStops().size() > 1));
+        assertEquals(totalDistance, plan.getTotalDistance(), TOLERANCE_KM);
+    }
+
+    @Test
+    void nearbyPackagesShareATourUpToThePayload() throws ValidationException {
+        // Four packages at the same address about 5.6 km north of the base
+        Location address = location(52.4238f, 9.7312f);
+        List<ShippingPackage> packages = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            packages.add(shippingPackage(1, address));
+        }
+        double outAndBack = 2 * distance(BASE, address);
+
+        RoutePlan oneTour = new RoutePlanner(BASE).plan(packages, List.of(new Drone(10f, 100, 30f)));
+        assertEquals(1, oneTour.getRoutes().size());
+        assertEquals(new HashSet<>(packages), new HashSet<>(oneTour.getRoutes().getFirst().getStops()));
+        assertEquals(outAndBack, oneTour.getTotalDistance(), TOLERANCE_KM);
+
+        RoutePlan twoTours = new RoutePlanner(BASE).plan(packages, List.of(new Drone(2f, 100, 30f)));
+        assertEquals(2, twoTours.getRoutes().size());
+        for (DeliveryRoute route : twoTours.getRoutes()) {
+            assertEquals(2, route.getStops().size());
+        }
+        assertEquals(List.of(), twoTours.getUnplannedPackages());
+
+        // Out and back is about 11 km, too far for this drone
+        RoutePlan none = new RoutePlanner(BASE).plan(packages, List.of(new Drone(10f, 100, 10f)));
+        assertEquals(List.of(), none.getRoutes());
+        assertEquals(packages, none.getUnplannedPackages());
+    }
+
+    @Test
+    void withoutIdleDronesEveryPackageIsUnplanned() throws ValidationException {
+        Drone drone = new Drone(10f, 100, 30f);
+        drone.compareAndSetStatus(DroneStatus.IDLE, DroneStatus.MAINTENANCE);
+        List<ShippingPackage> packages = List.of(shippingPackage(1, location(52.38f, 9.74f)),
+                                                 shippingPackage(2, location(52.39f, 9.72f)));
+
+        RoutePlan plan = new RoutePlanner(BASE).plan(packages, List.of(drone));
+
+        assertEquals(List.of(), plan.getRoutes());
+        assertEquals(packages, plan.getUnplannedPackages());
+    }
+
+    // Private Methods
+    private static boolean anyDroneCanCarry(ShippingPackage shippingPackage, List<Drone> drones) {
+        double outAndBack = 2 * distance(BASE, shippingPackage.getDeliveryLocation());
+        return drones.stream().anyMatch(drone -> drone.getStatus() == DroneStatus.IDLE
+                && shippingPackage.getWeight() <= drone.getMaxPayload()
+                && outAndBack <= drone.getMileage());
+    }
+
+    private static double length(DeliveryRoute route) {
+        double length = 0;
+        Location previous = BASE;
+        for (Location stop : route.getStopLocations()) {
+            length += distance(previous, stop);
+            previous = stop;
+        }
+        return length + distance(previous, BASE);
+    }
+
+    private static double distance(Location from, Location to) {
+        return DeliveryManager.haversineDistance(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+    }
+
+    private static ShippingPackage shippingPackage(double weight, Location delivery) {
+        Customer sender = new Customer("Sender", "sender@gmail.com", "200-200-2000", "password", BASE);
+        Customer recipient = new Customer("Recipient", "recipient@gmail.com", "200-200-2000", "password", delivery);
+        return new ShippingPackage(weight, "Package", sender, recipient);
+    }
+
+    private static Location location(float latitude, float longitude) {
+        return new Location("1 Test St", "", "Hannover", "NRW", "22459", "Germany", latitude, longitude);
+    }
+}
@@ -0,0 +1,136 @@
+package com.huyvo.dronedeliverymanagementapp.eventlog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DroneEventLogTest {
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void eventsAreDroppedWhenTheBufferIsFull() throws IOException {
+        Path file = directory.resolve("events.jsonl");
+        int events = 100_000;
+        long recorded = 0;
+        DroneEventLog log = new DroneEventLog(file, 1, DroneEventLog.DEFAULT_MAX_FILE_BYTES, 0);
+        for (int i = 0; i < events; i++) {
+            if (log.record(DroneEventType.MOVED, "DR_1", null, i, 0)) {
+                recorded++;
+            }
+        }
+        log.close();
+
+        assertEquals(1, log.getCapacity());
+        assertTrue(log.getDroppedEvents() > 0);
+        assertEquals(events, recorded + log.getDroppedEvents());
+        assertEquals(recorded, lines(file).size());
+        assertFalse(log.record(DroneEventType.MOVED, "DR_1", null, 0, 0));
+    }
+
+    @Test
+    void eventsOfEachDroneAreWrittenInOrder() throws Exception {
+        Path file = directory.resolve("events.jsonl");
+        int drones = 8;
+        int eventsPerDrone = 2000;
+        DroneEventLog log = new DroneEventLog(file, drones * eventsPerDrone, DroneEventLog.DEFAULT_MAX_FILE_BYTES, 0);
+        try (ExecutorService threads = Executors.newFixedThreadPool(drones)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> recorders = new ArrayList<>();
+            for (int d = 0; d < drones; d++) {
+                String droneId = "DR_" + d;
+                recorders.add(threads.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < eventsPerDrone; i++) {
+                        assertTrue(log.record(DroneEventType.MOVED, droneId, null, i, 0));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> recorder : recorders) {
+                recorder.get();
+            }
+        }
+        log.close();
+
+        Map<String, Integer> nextByDrone = new HashMap<>();
+        for (String line : lines(file)) {
+            JsonNode event = JSON.readTree(line);
+            int expected = nextByDrone.getOrDefault(event.get("drone").asText(), 0);
+            assertEquals(expected, event.get("lat").asInt());
+            nextByDrone.put(event.get("drone").asText(), expected + 1);
+        }
+        assertEquals(0, log.getDroppedEvents());
+        assertEquals(drones, nextByDrone.size());
+        nextByDrone.values().forEach(count -> assertEquals(eventsPerDrone, count));
+    }
+
+    @Test
+    void theFileRollsOverAndKeepsTheNewestBackups() throws IOException {
+        Path file = directory.resolve("events.jsonl");
+        long maxFileBytes = 1000;
+        int events = 100;
+        DroneEventLog log = new DroneEventLog(file, 1024, maxFileBytes, 2);
+        for (int i = 0; i < events; i++) {
+            assertTrue(log.record(DroneEventType.MOVED, "DR_1", "PK_1", i, 0));
+        }
+        log.close();
+
+        Path first = file.resolveSibling("events.jsonl.1");
+        Path second = file.resolveSibling("events.jsonl.2");
+        assertFalse(Files.exists(file.resolveSibling("events.jsonl.3")));
+        List<String> kept = new ArrayList<>(lines(second));
+        kept.addAll(lines(first));
+        kept.addAll(lines(file));
+        for (Path path : List.of(file, first, second)) {
+            assertTrue(Files.size(path) <= maxFileBytes);
+        }
+
+        // The oldest events were deleted with the oldest backup; the rest follow on from each other
+        assertTrue(kept.size() < events);
+        for (int i = 0; i < kept.size(); i++) {
+            assertEquals(events - kept.size() + i, JSON.readTree(kept.get(i)).get("lat").asInt());
+        }
+    }
+
+    @Test
+    void reasonsAndIdsAreEscaped() throws IOException {
+        Path file = directory.resolve("events.jsonl");
+        String reason = "Drone \"DR_1\" said \\ no\nat 5°C\u0001";
+        DroneEventLog log = new DroneEventLog(file, 16, DroneEventLog.DEFAULT_MAX_FILE_BYTES, 0);
+        log.record(DroneEventType.LOAD_FAILED, "DR_\"1\\", null, 52.5f, 9.75f, reason);
+        log.close();
+
+        List<String> lines = lines(file);
+        assertEquals(1, lines.size());
+        JsonNode event = JSON.readTree(lines.getFirst());
+        assertEquals("LOAD_FAILED", event.get("type").asText());
+        assertEquals("DR_?1?", event.get("drone").asText());
+        assertTrue(event.get("package").isNull());
+        assertEquals(reason, event.get("reason").asText());
+    }
+
+    // Private Methods
+    private static List<String> lines(Path file) throws IOException {
+        return Files.readAllLines(file);
+    }
+}
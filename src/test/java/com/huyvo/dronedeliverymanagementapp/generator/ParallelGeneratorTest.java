@@ -0,0 +1,81 @@
+package com.huyvo.dronedeliverymanagementapp.generator;
+
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelGeneratorTest {
+    private static final int ROWS = 10 * ParallelGenerator.CHUNK_SIZE + 123;
+
+    @Test
+    void sameSeedGivesSameRowsForAnyParallelism() {
+        List<Long> sequential = generateOn(1);
+
+        assertEquals(ROWS, sequential.size());
+        for (int parallelism : new int[]{2, 3, 8}) {
+            assertEquals(sequential, generateOn(parallelism), "parallelism " + parallelism);
+        }
+        assertEquals(sequential, ParallelGenerator.generate(ROWS, 42L, (index, random) -> random.nextLong()));
+        assertNotEquals(sequential, ParallelGenerator.generate(ROWS, 43L, (index, random) -> random.nextLong()));
+    }
+
+    @Test
+    void streamYieldsTheGeneratedRowsLazily() {
+        List<Long> generated = generateOn(4);
+        AtomicInteger created = new AtomicInteger();
+
+        List<Long> firstRows = ParallelGenerator.stream(ROWS, 42L, (index, random) -> {
+            created.incrementAndGet();
+            return random.nextLong();
+        }).limit(10).toList();
+
+        assertEquals(generated.subList(0, 10), firstRows);
+        assertEquals(10, created.get());
+        assertEquals(generated, ParallelGenerator.stream(ROWS, 42L, (index, random) -> random.nextLong()).toList());
+        assertEquals(generated, ParallelGenerator.stream(ROWS, 42L, (index, random) -> random.nextLong()).parallel().toList());
+    }
+
+    @Test
+    void seededRandomReproducesCustomers() {
+        List<Customer> first = new CustomerGenerator(5_000, new Random(7)).getCustomerList();
+        List<Customer> second = new CustomerGenerator(5_000, new Random(7)).getCustomerList();
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            Customer expected = first.get(i);
+            Customer actual = second.get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getEmail(), actual.getEmail());
+            assertEquals(expected.getPhone(), actual.getPhone());
+            assertEquals(expected.getAddress().getLatitude(), actual.getAddress().getLatitude());
+            assertEquals(expected.getAddress().getLongitude(), actual.getAddress().getLongitude());
+        }
+    }
+
+    @Test
+    void firstFactoryExceptionIsRethrown() {
+        Exception thrown = assertThrows(Exception.class, () -> ParallelGenerator.generate(ROWS, 1L, (index, random) -> {
+            if (index == ROWS - 1) {
+                throw new Exception("row " + index);
+            }
+            return index;
+        }));
+        assertEquals("row " + (ROWS - 1), thrown.getMessage());
+    }
+
+    // Private Methods
+    private static List<Long> generateOn(int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return ParallelGenerator.generate(ROWS, 42L, (index, random) -> random.nextLong(), pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.huyvo.dronedeliverymanagementapp.geofence;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.DroneBase;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.services.AssignmentResult;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DeliveryManager;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DistanceCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeofenceTest {
+
+    @Test
+    void indexFindsTheSameZonesAsAScan() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<NoFlyZone> zones = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            zones.add(randomZone("z" + i, random));
+        }
+        GeofenceIndex index = GeofenceIndex.build(zones);
+        assertEquals(zones.size(), index.size());
+
+        for (int i = 0; i < 2000; i++) {
+            double fromLatitude = random.nextDouble(52, 53), fromLongitude = random.nextDouble(9, 10);
+            double toLatitude = fromLatitude + random.nextDouble(-0.1, 0.1), toLongitude = fromLongitude + random.nextDouble(-0.1, 0.1);
+            List<NoFlyZone> expected = zones.stream()
+                    .filter(zone -> zone.crosses(fromLatitude, fromLongitude, toLatitude, toLongitude))
+                    .sorted(Comparator.comparing(NoFlyZone::getZoneId))
+                    .toList();
+            List<NoFlyZone> found = index.crossings(fromLatitude, fromLongitude, toLatitude, toLongitude).stream()
+                    .sorted(Comparator.comparing(NoFlyZone::getZoneId))
+                    .toList();
+            assertEquals(expected, found);
+            assertEquals(expected.isEmpty(), index.firstCrossing(fromLatitude, fromLongitude, toLatitude, toLongitude) == null);
+            assertEquals(zones.stream().anyMatch(zone -> zone.contains(fromLatitude, fromLongitude)),
+                         index.zoneContaining(fromLatitude, fromLongitude) != null);
+        }
+    }
+
+    @Test
+    void blockedFlightsAreReroutedOrRejected() {
+        Geofence geofence = new Geofence();
+        NoFlyZone airport = square("HAJ", 52.45, 9.65, 0.02);
+        geofence.setIndex(GeofenceIndex.build(List.of(airport)));
+
+        AirspaceRoute clear = geofence.route(52.40, 9.60, 52.40, 9.70);
+        assertEquals(AirspaceRoute.Verdict.CLEAR, clear.verdict());
+
+        AirspaceRoute detour = geofence.route(52.45, 9.60, 52.45, 9.70);
+        assertEquals(AirspaceRoute.Verdict.REROUTED, detour.verdict());
+        assertSame(airport, detour.blockingZone());
+        assertTrue(detour.getWaypointCount() > 2);
+        for (int i = 1; i < detour.getWaypointCount(); i++) {
+            assertNull(geofence.firstCrossing(detour.getLatitude(i - 1), detour.getLongitude(i - 1),
+                                              detour.getLatitude(i), detour.getLongitude(i)));
+        }
+
+        AirspaceRoute inside = geofence.route(52.40, 9.60, 52.45, 9.65);
+        assertEquals(AirspaceRoute.Verdict.REJECTED, inside.verdict());
+        assertFalse(inside.isFlyable());
+
+        geofence.setIndex(GeofenceIndex.EMPTY);
+        assertEquals(AirspaceRoute.Verdict.CLEAR, geofence.route(52.40, 9.60, 52.45, 9.65).verdict());
+    }
+
+    @Test
+    void detoursBeyondTheFleetsRangeAreNotDispatched() throws ValidationException {
+        Drone drone = new Drone(10f, 100, 20f);
+        Location base = drone.getBase();
+        Geofence geofence = new Geofence();
+        // A wall west of the base, about 28 km long
+        geofence.setIndex(GeofenceIndex.build(List.of(new NoFlyZone("WALL",
+                new double[]{52.25, 52.25, 52.50, 52.50},
+                new double[]{9.66, 9.68, 9.68, 9.66}))));
+        Customer sender = customer(base);
+        ShippingPackage near = new ShippingPackage(1.0, "near", sender, customer(location(52.38f, 9.72f)));
+        // 7.6 km away straight across the wall, so 15 km there and back, but 60 km around it
+        ShippingPackage behindWall = new ShippingPackage(1.0, "behind the wall", sender, customer(location(52.37f, 9.62f)));
+        assertEquals(AirspaceRoute.Verdict.REROUTED,
+                     geofence.route(base.getLatitude(), base.getLongitude(), 52.37f, 9.62f).verdict());
+
+        DeliveryManager deliveryManager = new DeliveryManager(new DroneBase(base, "base1", 10),
+                                                              List.of(drone),
+                                                              List.of(near, behindWall),
+                                                              new DistanceCache(16),
+                                                              geofence);
+        AssignmentResult assignment = deliveryManager.assignPackages(Duration.ofSeconds(5));
+        assertSame(drone, assignment.getAssignments().get(near));
+        assertEquals(List.of(behindWall), assignment.getUnassignedPackages());
+        assertEquals(List.of(behindWall), deliveryManager.planRoutes().getUnplannedPackages());
+    }
+
+    @Test
+    void changedFileIsReloaded(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("zones.geojson");
+        Files.writeString(file, featureCollection("HAJ", 9.66, 52.45));
+        Geofence geofence = new Geofence();
+        try (GeofenceFileWatcher watcher = new GeofenceFileWatcher(geofence, file)) {
+            assertEquals("HAJ", geofence.getIndex().zoneContaining(52.46, 9.67).getZoneId());
+
+            Path next = directory.resolve("zones.geojson.tmp");
+            Files.writeString(next, featureCollection("EDDV-EVENT", 9.76, 52.35));
+            Files.move(next, file, StandardCopyOption.ATOMIC_MOVE);
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (geofence.getIndex().zoneContaining(52.36, 9.77) == null) {
+                assertTrue(System.nanoTime() < deadline, "Timed out");
+                Thread.sleep(10);
+            }
+            assertNull(geofence.getIndex().zoneContaining(52.46, 9.67));
+
+            Files.writeString(file, "{\"type\":\"FeatureCollection\",\"features\":[{\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[9,52]]]}}]}");
+            assertFalse(watcher.reload());
+            assertEquals("EDDV-EVENT", geofence.getIndex().zoneContaining(52.36, 9.77).getZoneId());
+        }
+    }
+
+    // Private Methods
+    private static NoFlyZone randomZone(String zoneId, SplittableRandom random) {
+        double centerLatitude = random.nextDouble(52, 53);
+        double centerLongitude = random.nextDouble(9, 10);
+        int vertices = 3 + random.nextInt(6);
+        double[] latitudes = new double[vertices];
+        double[] longitudes = new double[vertices];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            double radius = random.nextDouble(0.001, 0.01);
+            latitudes[i] = centerLatitude + radius * Math.sin(angle);
+            longitudes[i] = centerLongitude + radius * Math.cos(angle);
+        }
+        return new NoFlyZone(zoneId, latitudes, longitudes);
+    }
+
+    private static NoFlyZone square(String zoneId, double centerLatitude, double centerLongitude, double halfSide) {
+        return new NoFlyZone(zoneId,
+                             new double[]{centerLatitude - halfSide, centerLatitude - halfSide, centerLatitude + halfSide, centerLatitude + halfSide},
+                             new double[]{centerLongitude - halfSide, centerLongitude + halfSide, centerLongitude + halfSide, centerLongitude - halfSide});
+    }
+
+    private static Location location(float latitude, float longitude) {
+        return new Location("1 Test St", null, "Hannover", "NDS", "30159", "Germany", latitude, longitude);
+    }
+
+    private static Customer customer(Location address) {
+        return new Customer("Customer", "customer@gmail.com", "200-200-2000", "password", address);
+    }
+
+    private static String featureCollection(String zoneId, double west, double south) {
+        return """
+                {"type":"FeatureCollection","features":[{"type":"Feature","id":"%s","geometry":{"type":"Polygon",
+                 "coordinates":[[[%s,%s],[%s,%s],[%s,%s],[%s,%s],[%s,%s]]]}}]}
+                """.formatted(zoneId,
+                              west, south, west + 0.05, south, west + 0.05, south + 0.02, west, south + 0.02, west, south);
+    }
+}
@@ -0,0 +1,103 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import com.huyvo.dronedeliverymanagementapp.BadRequestException;
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvPackageRowReaderTest {
+    private static final String HEADER = Arrays.stream(PackageIngestColumn.values())
+            .map(PackageIngestColumn::getColumnName)
+            .collect(Collectors.joining(","));
+
+    @Test
+    void malformedRowsAreCountedBeforeTheyAreParsed() throws IOException, ValidationException {
+        PackageRowReader reader = open(HEADER + "\n"
+                                       + row("one") + "\n"
+                                       + "1.5,short\n"
+                                       + "\n"
+                                       + "\"unterminated\n");
+        PackageIngestRow row = new PackageIngestRow();
+
+        assertTrue(reader.next(row));
+        assertEquals(1, reader.getRowsRead());
+        assertThrows(ValidationException.class, () -> reader.next(row));
+        assertEquals(2, reader.getRowsRead());
+        assertThrows(ValidationException.class, () -> reader.next(row));
+        assertEquals(3, reader.getRowsRead());
+        assertFalse(reader.next(row));
+        assertEquals(3, reader.getRowsRead());
+    }
+
+    @Test
+    void quotedFieldsAndLineNumbersAreRead() throws IOException, ValidationException {
+        PackageRowReader reader = open(HEADER + "\r\n"
+                                       + row("\"a, \"\"b\"\"\r\nc\"") + "\r\n"
+                                       + "\r\n"
+                                       + row("  plain  ") + "\r\n"
+                                       + "1.5,short\r\n"
+                                       + row("\"unterminated\n") + "\n"
+                                       + row("last"));
+        PackageIngestRow row = new PackageIngestRow();
+
+        assertTrue(reader.next(row));
+        assertEquals(2, row.getLineNumber());
+        assertEquals("a, \"b\"\r\nc", row.get(PackageIngestColumn.DESCRIPTION));
+        assertEquals("weight", row.get(PackageIngestColumn.WEIGHT));
+
+        assertTrue(reader.next(row));
+        assertEquals(5, row.getLineNumber());
+        assertEquals("plain", row.get(PackageIngestColumn.DESCRIPTION));
+
+        ValidationException e = assertThrows(ValidationException.class, () -> reader.next(row));
+        assertEquals("Expected " + PackageIngestColumn.count() + " fields but found 2.", e.getMessage());
+        assertEquals(6, row.getLineNumber());
+
+        e = assertThrows(ValidationException.class, () -> reader.next(row));
+        assertEquals("Unterminated quoted field.", e.getMessage());
+        assertEquals(7, row.getLineNumber());
+        assertFalse(reader.next(row));
+    }
+
+    @Test
+    void unknownColumnsAreIgnoredAndBlankValuesAreNull() throws IOException, ValidationException {
+        PackageRowReader reader = open("notes," + HEADER + "\n"
+                                       + "ignored," + row(" ") + "\n");
+        PackageIngestRow row = new PackageIngestRow();
+
+        assertTrue(reader.next(row));
+        assertNull(row.get(PackageIngestColumn.DESCRIPTION));
+        assertEquals("sender_name", row.get(PackageIngestColumn.SENDER_NAME));
+        assertFalse(reader.next(row));
+    }
+
+    @Test
+    void aBadHeaderRejectsTheBody() {
+        assertEquals("The CSV body has no header row",
+                     assertThrows(BadRequestException.class, () -> open("")).getMessage());
+        assertTrue(assertThrows(BadRequestException.class, () -> open("description,weight\n"))
+                           .getMessage().startsWith("Missing CSV columns: [sender_name"));
+        assertEquals("Duplicate CSV column: weight",
+                     assertThrows(BadRequestException.class, () -> open(HEADER + ", WEIGHT\n")).getMessage());
+    }
+
+    // Private Methods
+    private static PackageRowReader open(String body) throws IOException {
+        return PackageRowReader.open(PackageRowReader.Format.CSV, new StringReader(body));
+    }
+
+    /**
+     * @return a CSV row with the given description and the column's name in every other field
+     */
+    static String row(String description) {
+        return Arrays.stream(PackageIngestColumn.values())
+                .map(column -> column == PackageIngestColumn.DESCRIPTION ? description : column.getColumnName())
+                .collect(Collectors.joining(","));
+    }
+}
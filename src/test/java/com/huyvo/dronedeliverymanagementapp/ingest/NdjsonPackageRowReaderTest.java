@@ -0,0 +1,81 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonPackageRowReaderTest {
+
+    @Test
+    void malformedRowsAreCountedBeforeTheyAreParsed() throws IOException, ValidationException {
+        PackageRowReader reader = open("{\"weight\": 1.5}\n"
+                                       + "{\"weight\": \n"
+                                       + "   \n"
+                                       + "[1.5]\n");
+        PackageIngestRow row = new PackageIngestRow();
+
+        assertTrue(reader.next(row));
+        assertEquals(1, reader.getRowsRead());
+        assertThrows(ValidationException.class, () -> reader.next(row));
+        assertEquals(2, reader.getRowsRead());
+        assertThrows(ValidationException.class, () -> reader.next(row));
+        assertEquals(3, reader.getRowsRead());
+        assertFalse(reader.next(row));
+        assertEquals(3, reader.getRowsRead());
+    }
+
+    @Test
+    void valuesAreReadByColumnName() throws IOException, ValidationException {
+        PackageRowReader reader = open("{\"weight\": 1.5, \"description\": \" box \", \"sender_phone\": null,"
+                                       + " \"notes\": {\"tags\": [1, 2]}, \"SENDER_NAME\": \"Ann\"}");
+        PackageIngestRow row = new PackageIngestRow();
+
+        assertTrue(reader.next(row));
+        assertEquals(1, row.getLineNumber());
+        assertEquals("1.5", row.get(PackageIngestColumn.WEIGHT));
+        assertEquals("box", row.get(PackageIngestColumn.DESCRIPTION));
+        assertNull(row.get(PackageIngestColumn.SENDER_PHONE));
+        assertEquals("Ann", row.get(PackageIngestColumn.SENDER_NAME));
+        assertFalse(reader.next(row));
+    }
+
+    @Test
+    void malformedLinesAreReportedOnTheirLine() throws IOException, ValidationException {
+        PackageRowReader reader = open("{\"weight\": 1}\n"
+                                       + "\n"
+                                       + "[1]\n"
+                                       + "{\"weight\": {\"kg\": 1}}\n"
+                                       + "{\"weight\": 1} {}\n"
+                                       + "{\"weight\": \n"
+                                       + "{\"description\": \"last\"}\n");
+        PackageIngestRow row = new PackageIngestRow();
+
+        assertTrue(reader.next(row));
+        assertEquals(1, row.getLineNumber());
+        assertMalformed(reader, row, 3, "Expected a JSON object.");
+        assertMalformed(reader, row, 4, "weight must be a string or a number.");
+        assertMalformed(reader, row, 5, "Unexpected content after the JSON object.");
+        assertTrue(assertThrows(ValidationException.class, () -> reader.next(row)).getMessage().startsWith("Malformed JSON: "));
+        assertEquals(6, row.getLineNumber());
+
+        assertTrue(reader.next(row));
+        assertEquals(7, row.getLineNumber());
+        assertNull(row.get(PackageIngestColumn.WEIGHT));
+        assertEquals("last", row.get(PackageIngestColumn.DESCRIPTION));
+        assertFalse(reader.next(row));
+    }
+
+    // Private Methods
+    private static void assertMalformed(PackageRowReader reader, PackageIngestRow row, long line, String message) {
+        assertEquals(message, assertThrows(ValidationException.class, () -> reader.next(row)).getMessage());
+        assertEquals(line, row.getLineNumber());
+    }
+
+    private static PackageRowReader open(String body) throws IOException {
+        return PackageRowReader.open(PackageRowReader.Format.NDJSON, new StringReader(body));
+    }
+}
@@ -0,0 +1,42 @@
+package com.huyvo.dronedeliverymanagementapp.ingest;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackageIngestRowValidatorTest {
+    private final PackageIngestRowValidator validator = new PackageIngestRowValidator();
+
+    @Test
+    void controlCharactersAreRejected() throws ValidationException {
+        PackageIngestRow row = validRow();
+        row.set(PackageIngestColumn.DESCRIPTION, "fragile\tup this side\nhandle with care");
+        validator.validate(row);
+
+        row.set(PackageIngestColumn.SENDER_NAME, "Ann\u0000Smith");
+        ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(row));
+        assertEquals("sender_name must not contain control characters.", e.getMessage());
+
+        row.set(PackageIngestColumn.SENDER_NAME, "Ann Smith");
+        row.set(PackageIngestColumn.RECIPIENT_EMAIL, "bob\u0007@example.com");
+        assertThrows(ValidationException.class, () -> validator.validate(row));
+    }
+
+    // Private Methods
+    static PackageIngestRow validRow() {
+        PackageIngestRow row = new PackageIngestRow();
+        row.reset(2);
+        row.set(PackageIngestColumn.WEIGHT, "1.5");
+        for (String party : new String[]{"SENDER", "RECIPIENT"}) {
+            row.set(PackageIngestColumn.valueOf(party + "_NAME"), party.toLowerCase());
+            row.set(PackageIngestColumn.valueOf(party + "_EMAIL"), party.toLowerCase() + "@example.com");
+            row.set(PackageIngestColumn.valueOf(party + "_ADDRESS_LINE1"), "1 Main St");
+            row.set(PackageIngestColumn.valueOf(party + "_CITY"), "Hannover");
+            row.set(PackageIngestColumn.valueOf(party + "_COUNTRY"), "Germany");
+            row.set(PackageIngestColumn.valueOf(party + "_LATITUDE"), "52.37");
+            row.set(PackageIngestColumn.valueOf(party + "_LONGITUDE"), "9.73");
+        }
+        return row;
+    }
+}
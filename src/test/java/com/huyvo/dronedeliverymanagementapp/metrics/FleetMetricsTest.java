@@ -0,0 +1,75 @@
+package com.huyvo.dronedeliverymanagementapp.metrics;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Delivery;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DeliveryStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DeliveryManager;
+import com.huyvo.dronedeliverymanagementapp.simulation.FleetSimulation;
+import com.huyvo.dronedeliverymanagementapp.simulation.SimulationConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetMetricsTest {
+
+    @Test
+    void aDeliveryIsCountedAndTimed() throws ValidationException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FleetMetrics.bindTo(registry);
+        double started = deliveries(registry, DeliveryStatus.STARTED);
+        double completed = deliveries(registry, DeliveryStatus.COMPLETED);
+        double failed = deliveries(registry, DeliveryStatus.FAILED);
+
+        Drone drone = new Drone(10f, 100, 50f);
+        Customer recipient = customer(new Location("2 Recipient St", "", "Hannover", "NRW", "22459", "Germany", 52.38f, 9.74f));
+        drone.setAssignedPackage(new ShippingPackage(1.0, "metrics", customer(drone.getBase()), recipient));
+        drone.performDelivery(recipient);
+
+        assertEquals(DroneStatus.IDLE, drone.getStatus());
+        assertEquals(started + 1, deliveries(registry, DeliveryStatus.STARTED));
+        assertEquals(completed + 1, deliveries(registry, DeliveryStatus.COMPLETED));
+        assertEquals(failed, deliveries(registry, DeliveryStatus.FAILED));
+        assertEquals(1, registry.get("delivery.duration").timer().count());
+    }
+
+    @Test
+    void aSimulatedDeliveryIsTimedInSimulatedTime() throws ValidationException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FleetMetrics.bindTo(registry);
+        double completed = deliveries(registry, DeliveryStatus.COMPLETED);
+
+        Drone drone = new Drone(10f, 100, 50f);
+        Location base = drone.getBase();
+        Location address = new Location("2 Recipient St", "", "Hannover", "NRW", "22459", "Germany", 52.40f, 9.76f);
+        ShippingPackage shippingPackage = new ShippingPackage(1.0, "metrics", customer(base), customer(address));
+        LocalDateTime now = LocalDateTime.now();
+        SimulationConfig config = SimulationConfig.defaults();
+        new FleetSimulation(List.of(drone), List.of(new Delivery(shippingPackage, now, now)), base, config).run();
+
+        double legKm = DeliveryManager.haversineDistance(base.getLatitude(), base.getLongitude(),
+                                                         address.getLatitude(), address.getLongitude());
+        double expectedSeconds = legKm / config.cruiseSpeedKmh() * 3600 + config.unloadSeconds();
+        assertEquals(completed + 1, deliveries(registry, DeliveryStatus.COMPLETED));
+        assertEquals(1, registry.get("delivery.duration").timer().count());
+        assertEquals(expectedSeconds, registry.get("delivery.duration").timer().totalTime(TimeUnit.SECONDS), 0.001);
+    }
+
+    // Private Methods
+    private static double deliveries(SimpleMeterRegistry registry, DeliveryStatus status) {
+        return registry.get("deliveries").tag("status", status.name()).functionCounter().count();
+    }
+
+    private static Customer customer(Location address) {
+        return new Customer("Customer", "customer@gmail.com", "200-200-2000", "password", address);
+    }
+}
@@ -0,0 +1,147 @@
+package com.huyvo.dronedeliverymanagementapp.simulation;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Delivery;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Location;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.ShippingPackage;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.user.Customer;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DeliveryStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.services.DeliveryManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetSimulationTest {
+    private static final SimulationConfig CONFIG = SimulationConfig.defaults();
+    private static final LocalDateTime MORNING = LocalDateTime.of(2021, 1, 1, 8, 0);
+
+    @Test
+    void aSeededScenarioRunsTheSameEveryTime() throws ValidationException {
+        FleetSimulation first = FleetSimulation.generateScenario(20, 2000, 10f, 50f, 0.1f, new Random(42), CONFIG);
+        FleetSimulation second = FleetSimulation.generateScenario(20, 2000, 10f, 50f, 0.1f, new Random(42), CONFIG);
+        List<Delivery> firstDeliveries = first.getDeliveries();
+        List<Delivery> secondDeliveries = second.getDeliveries();
+        List<Drone> firstDrones = first.getDrones();
+        List<Drone> secondDrones = second.getDrones();
+        List<LocalDateTime> readyTimes = firstDeliveries.stream().map(Delivery::getStartTime).toList();
+
+        SimulationReport report = first.run();
+        SimulationReport again = second.run();
+
+        assertEquals(report.getEventsProcessed(), again.getEventsProcessed());
+        assertEquals(report.getSimulatedTime(), again.getSimulatedTime());
+        assertEquals(report.getDeliveriesCompleted(), again.getDeliveriesCompleted());
+        assertEquals(report.getDeliveriesFailed(), again.getDeliveriesFailed());
+        assertEquals(report.getTotalFlightKm(), again.getTotalFlightKm());
+        for (int i = 0; i < firstDeliveries.size(); i++) {
+            Delivery delivery = firstDeliveries.get(i);
+            Delivery same = secondDeliveries.get(i);
+            assertEquals(delivery.getStatus(), same.getStatus());
+            assertEquals(delivery.getStartTime(), same.getStartTime());
+            assertEquals(delivery.getEndTime(), same.getEndTime());
+            assertEquals(firstDrones.indexOf(delivery.getDrones()), secondDrones.indexOf(same.getDrones()));
+        }
+
+        assertEquals(2000, report.getDeliveriesCompleted() + report.getDeliveriesFailed());
+        assertTrue(report.getDeliveriesCompleted() > 0);
+        // Every delivery takes off after it is ready and loaded, and a drone flies one at a time
+        Duration loadAndTakeOff = seconds(CONFIG.loadSeconds() + CONFIG.takeOffSeconds());
+        Map<Drone, List<Delivery>> byDrone = new HashMap<>();
+        for (int i = 0; i < firstDeliveries.size(); i++) {
+            Delivery delivery = firstDeliveries.get(i);
+            if (delivery.getStatus() != DeliveryStatus.COMPLETED) {
+                assertEquals(DeliveryStatus.FAILED, delivery.getStatus());
+                continue;
+            }
+            assertFalse(delivery.getStartTime().isBefore(readyTimes.get(i).plus(loadAndTakeOff)));
+            assertTrue(delivery.getEndTime().isAfter(delivery.getStartTime()));
+            assertTrue(delivery.getPackages().getWeight() <= delivery.getDrones().getMaxPayload());
+            byDrone.computeIfAbsent(delivery.getDrones(), drone -> new ArrayList<>()).add(delivery);
+        }
+        for (List<Delivery> flights : byDrone.values()) {
+            flights.sort(Comparator.comparing(Delivery::getStartTime));
+            for (int i = 1; i < flights.size(); i++) {
+                assertTrue(flights.get(i).getStartTime().isAfter(flights.get(i - 1).getEndTime()));
+            }
+        }
+    }
+
+    @Test
+    void aSmallScenarioFollowsTheExpectedTimeline() throws ValidationException {
+        // 20 km of range: a 6 km delivery uses 60% of the battery there and back
+        Drone drone = new Drone(10f, 100, 20f);
+        Location base = drone.getBase();
+        Location customer = new Location("1 Test St", "", "Hannover", "NRW", "22459", "Germany",
+                                         base.getLatitude() + 0.054f, base.getLongitude());
+        Delivery first = delivery(2, base, customer);
+        Delivery second = delivery(3, base, customer);
+        Delivery tooHeavy = delivery(11, base, customer);
+
+        SimulationReport report = new FleetSimulation(List.of(drone), List.of(first, second, tooHeavy), base, CONFIG).run();
+
+        double legKm = DeliveryManager.haversineDistance(base.getLatitude(), base.getLongitude(),
+                                                         customer.getLatitude(), customer.getLongitude());
+        double flight = legKm / CONFIG.cruiseSpeedKmh() * 3600;
+        double loadAndTakeOff = CONFIG.loadSeconds() + CONFIG.takeOffSeconds();
+        double firstTakeOff = loadAndTakeOff;
+        double firstUnloaded = firstTakeOff + flight + CONFIG.unloadSeconds();
+        double firstBack = firstUnloaded + flight;
+        // Back above the recharge threshold but too low for the second trip, so the drone charges first
+        double battery = 100 - 2 * legKm * (100.0 / 20);
+        double charged = firstBack + (100 - battery) / CONFIG.chargePercentPerMinute() * 60;
+        double secondTakeOff = charged + loadAndTakeOff;
+        double secondUnloaded = secondTakeOff + flight + CONFIG.unloadSeconds();
+        double secondBack = secondUnloaded + flight;
+
+        assertEquals(DeliveryStatus.COMPLETED, first.getStatus());
+        assertSame(drone, first.getDrones());
+        assertEquals(at(firstTakeOff), first.getStartTime());
+        assertEquals(at(firstUnloaded), first.getEndTime());
+        assertEquals(DeliveryStatus.COMPLETED, second.getStatus());
+        assertEquals(at(secondTakeOff), second.getStartTime());
+        assertEquals(at(secondUnloaded), second.getEndTime());
+        assertEquals(DeliveryStatus.FAILED, tooHeavy.getStatus());
+        assertNull(tooHeavy.getDrones());
+
+        assertEquals(2, report.getDeliveriesCompleted());
+        assertEquals(1, report.getDeliveriesFailed());
+        // Six steps per delivery, one charge and the release of the delivery that failed
+        assertEquals(14, report.getEventsProcessed());
+        assertEquals(secondBack, report.getSimulatedTime().toNanos() / 1e9, 1e-6);
+        assertEquals(4 * legKm, report.getTotalFlightKm(), 1e-9);
+        // The simulation leaves the drone entity as it was
+        assertEquals(100, drone.getBatteryLevel());
+    }
+
+    @Test
+    void aSimulationRunsOnlyOnce() throws ValidationException {
+        FleetSimulation simulation = FleetSimulation.generateScenario(2, 10, 10f, 50f, 0.1f, new Random(1), CONFIG);
+        simulation.run();
+        assertThrows(IllegalStateException.class, simulation::run);
+    }
+
+    // Private Methods
+    private static Delivery delivery(double weight, Location pickup, Location destination) {
+        Customer sender = new Customer("Sender", "sender@gmail.com", "200-200-2000", "password", pickup);
+        Customer recipient = new Customer("Recipient", "recipient@gmail.com", "200-200-2000", "password", destination);
+        return new Delivery(new ShippingPackage(weight, "Package", sender, recipient), MORNING, null);
+    }
+
+    private static LocalDateTime at(double secondsAfterMorning) {
+        return MORNING.plusNanos((long) (secondsAfterMorning * 1e9));
+    }
+
+    private static Duration seconds(double seconds) {
+        return Duration.ofNanos((long) (seconds * 1e9));
+    }
+}
@@ -0,0 +1,98 @@
+package com.huyvo.dronedeliverymanagementapp.telemetry;
+
+import com.huyvo.dronedeliverymanagementapp.classes.classValidator.ValidationException;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.Drone;
+import com.huyvo.dronedeliverymanagementapp.classes.domains.IdentificationNumber;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.DroneStatus;
+import com.huyvo.dronedeliverymanagementapp.classes.enums.IdType;
+import com.huyvo.dronedeliverymanagementapp.classes.services.FleetStateStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SocketChannel;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TelemetryFrameListenerTest {
+    private FleetStateStore store;
+    private Drone drone;
+    private long droneId;
+    private TelemetryFrameListener listener;
+    private InetSocketAddress address;
+
+    @BeforeEach
+    void startListener() throws IOException, ValidationException {
+        store = new FleetStateStore();
+        drone = new Drone(10f, 100, 30f);
+        store.load(drone);
+        droneId = IdentificationNumber.parse(drone.getDroneId()).getValue();
+        listener = new TelemetryFrameListener(store, 0, 1);
+        address = new InetSocketAddress("localhost", listener.getPort());
+    }
+
+    @AfterEach
+    void stopListener() throws IOException {
+        listener.close();
+    }
+
+    @Test
+    void datagramFramesAreApplied() throws Exception {
+        ByteBuffer datagram = ByteBuffer.allocate(3 * TelemetryFrame.SIZE);
+        TelemetryFrame.encode(datagram, droneId, 52.5, 9.75, 64, DroneStatus.IN_TRANSIT);
+        TelemetryFrame.encode(datagram, new IdentificationNumber(IdType.DRONE).getValue(), 52.5, 9.75, 64, DroneStatus.IN_TRANSIT);
+        TelemetryFrame.encode(datagram, droneId, 95, 9.75, 64, DroneStatus.IN_TRANSIT);
+        try (DatagramChannel channel = DatagramChannel.open()) {
+            channel.send(datagram.flip(), address);
+        }
+
+        awaitUntil(() -> listener.getAppliedFrames() + listener.getUnknownDrones() + listener.getMalformedFrames() == 3);
+        assertEquals(1, listener.getAppliedFrames());
+        assertEquals(1, listener.getUnknownDrones());
+        assertEquals(1, listener.getMalformedFrames());
+        int handle = store.handleOf(droneId);
+        assertEquals(52.5f, store.latitudeOf(handle));
+        assertEquals(9.75f, store.longitudeOf(handle));
+        assertEquals(64, store.batteryLevelOf(handle));
+        assertEquals(DroneStatus.IN_TRANSIT, store.statusOf(handle));
+    }
+
+    @Test
+    void streamFramesSplitAcrossWritesAreApplied() throws Exception {
+        ByteBuffer stream = ByteBuffer.allocate(2 * TelemetryFrame.SIZE);
+        TelemetryFrame.encode(stream, droneId, 52.1, 9.1, 50, DroneStatus.IN_TRANSIT);
+        TelemetryFrame.encode(stream, droneId, 52.2, 9.2, 49, DroneStatus.CHARGING);
+        stream.flip();
+        try (SocketChannel first = SocketChannel.open(address)) {
+            first.socket().setTcpNoDelay(true);
+            first.write(stream.limit(TelemetryFrame.SIZE + 7));
+            awaitUntil(() -> listener.getAppliedFrames() == 1);
+            first.write(stream.limit(2 * TelemetryFrame.SIZE));
+            awaitUntil(() -> listener.getAppliedFrames() == 2);
+
+            // The only pooled buffer is lent to the first connection
+            try (SocketChannel second = SocketChannel.open(address)) {
+                awaitUntil(() -> listener.getRefusedConnections() == 1);
+            }
+        }
+
+        int handle = store.handleOf(droneId);
+        assertEquals(52.2f, store.latitudeOf(handle));
+        assertEquals(49, store.batteryLevelOf(handle));
+        assertEquals(DroneStatus.CHARGING, store.statusOf(handle));
+    }
+
+    // Private Methods
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(5);
+        }
+    }
+}